@@ -22,8 +22,13 @@ public class DebugPanel implements IsWidget, DebugPanelListener {
     private GwtDebugStatisticsModel sm;
     private GwtExceptionModel em;
     private DebugPanelWidget widget;
+    private DebugPanelWidget.Component[] components;
 
-    public DebugPanel() {
+    /**
+     * @param components additional components which are shown after the default components
+     */
+    public DebugPanel(DebugPanelWidget.Component... components) {
+        this.components = components;
         sys = new GwtStatisticsEventSystem();
         panelComponent = new DefaultDebugStatisticsDebugPanelComponent(null);
         //xmlComponent = panelComponent.xmlComponent();
@@ -34,14 +39,16 @@ public class DebugPanel implements IsWidget, DebugPanelListener {
     @Override
     public Widget asWidget() {
 
-        widget = new DebugPanelWidget(
-                this,
-                true,
-                new DebugPanelWidget.Component[] {
-                        panelComponent,
-                        new DefaultExceptionDebugPanelComponent(em),
-                        logComponent
-                });
+        DebugPanelWidget.Component[] defaults = new DebugPanelWidget.Component[] {
+                panelComponent,
+                new DefaultExceptionDebugPanelComponent(em),
+                logComponent
+        };
+        DebugPanelWidget.Component[] all = new DebugPanelWidget.Component[defaults.length + components.length];
+        System.arraycopy(defaults, 0, all, 0, defaults.length);
+        System.arraycopy(components, 0, all, defaults.length, components.length);
+
+        widget = new DebugPanelWidget(this, true, all);
         widget.show(true);
         return widget;
     }
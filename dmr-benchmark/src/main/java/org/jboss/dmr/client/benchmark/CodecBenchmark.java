@@ -0,0 +1,96 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011 Red Hat Inc. and/or its affiliates and other contributors
+ * as indicated by the @author tags. All rights reserved.
+ * See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This copyrighted material is made available to anyone wishing to use,
+ * modify, copy, or redistribute it subject to the terms and conditions
+ * of the GNU Lesser General Public License, v. 2.1.
+ * This program is distributed in the hope that it will be useful, but WITHOUT A
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License,
+ * v.2.1 along with this distribution; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA  02110-1301, USA.
+ */
+
+package org.jboss.dmr.client.benchmark;
+
+import org.jboss.dmr.client.Base64;
+import org.jboss.dmr.client.DataInput;
+import org.jboss.dmr.client.DataOutput;
+import org.jboss.dmr.client.ModelNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the DMR codec: the binary format and its base64 encoding as used by the dispatcher.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    @Benchmark
+    public DataOutput writeExternal(PayloadState state) throws IOException {
+        DataOutput out = new DataOutput();
+        state.node.writeExternal(out);
+        return out;
+    }
+
+    @Benchmark
+    public ModelNode readExternal(PayloadState state) throws IOException {
+        ModelNode node = new ModelNode();
+        node.readExternal(new DataInput(state.bytes));
+        return node;
+    }
+
+    @Benchmark
+    public String toBase64String(PayloadState state) {
+        return state.node.toBase64String();
+    }
+
+    @Benchmark
+    public ModelNode fromBase64(PayloadState state) {
+        return ModelNode.fromBase64(state.base64);
+    }
+
+    /**
+     * The decoding path used before {@link ModelNode#fromBase64(String)} decoded on the fly: Decode the base64 string
+     * into a byte array, then parse the byte array.
+     */
+    @Benchmark
+    public ModelNode fromBase64ByteArray(PayloadState state) throws IOException {
+        ModelNode node = new ModelNode();
+        node.readExternal(new DataInput(Base64.decode(state.base64)));
+        return node;
+    }
+
+    @Benchmark
+    public ModelNode fromBase64Lazy(PayloadState state) {
+        return ModelNode.fromBase64Lazy(state.base64);
+    }
+
+    @Benchmark
+    public String encodeBytes(PayloadState state) {
+        return Base64.encodeBytes(state.bytes);
+    }
+
+    @Benchmark
+    public byte[] decode(PayloadState state) throws IOException {
+        return Base64.decode(state.base64);
+    }
+}
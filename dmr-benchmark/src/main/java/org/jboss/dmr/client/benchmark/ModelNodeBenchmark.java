@@ -0,0 +1,76 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011 Red Hat Inc. and/or its affiliates and other contributors
+ * as indicated by the @author tags. All rights reserved.
+ * See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This copyrighted material is made available to anyone wishing to use,
+ * modify, copy, or redistribute it subject to the terms and conditions
+ * of the GNU Lesser General Public License, v. 2.1.
+ * This program is distributed in the hope that it will be useful, but WITHOUT A
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License,
+ * v.2.1 along with this distribution; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA  02110-1301, USA.
+ */
+
+package org.jboss.dmr.client.benchmark;
+
+import org.jboss.dmr.client.ModelNode;
+import org.jboss.dmr.client.Property;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.jboss.dmr.client.ModelDescriptionConstants.RESULT;
+
+/**
+ * Benchmarks for model node operations which are heavily used by the console when processing DMR responses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ModelNodeBenchmark {
+
+    @Benchmark
+    public ModelNode cloneNode(PayloadState state) {
+        return state.node.clone();
+    }
+
+    @Benchmark
+    public List<Property> asPropertyList(PayloadState state) {
+        return state.node.get(RESULT).asPropertyList();
+    }
+
+    @Benchmark
+    public String toStringNode(PayloadState state) {
+        return state.node.toString();
+    }
+
+    @Benchmark
+    public String toJSONString(PayloadState state) {
+        return state.node.toJSONString(false);
+    }
+
+    @Benchmark
+    public String toJSONStringCompact(PayloadState state) {
+        return state.node.toJSONString(true);
+    }
+
+    @Benchmark
+    public ModelNode deepGet(PayloadState state) {
+        return state.node.get(state.deepPath);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011 Red Hat Inc. and/or its affiliates and other contributors
+ * as indicated by the @author tags. All rights reserved.
+ * See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This copyrighted material is made available to anyone wishing to use,
+ * modify, copy, or redistribute it subject to the terms and conditions
+ * of the GNU Lesser General Public License, v. 2.1.
+ * This program is distributed in the hope that it will be useful, but WITHOUT A
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License,
+ * v.2.1 along with this distribution; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA  02110-1301, USA.
+ */
+
+package org.jboss.dmr.client.benchmark;
+
+import org.jboss.dmr.client.Base64;
+import org.jboss.dmr.client.DataOutput;
+import org.jboss.dmr.client.ModelNode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+
+/**
+ * Holds a payload in all representations used by the benchmarks: as model node, as DMR bytes and base64 encoded.
+ */
+@State(Scope.Benchmark)
+public class PayloadState {
+
+    @Param({Payloads.FULL_PROFILE, Payloads.RESOURCE_DESCRIPTION, Payloads.COMPOSITE})
+    public String payload;
+
+    ModelNode node;
+    byte[] bytes;
+    String base64;
+    String[] deepPath;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        node = Payloads.load(payload);
+        DataOutput out = new DataOutput();
+        node.writeExternal(out);
+        bytes = out.getBytes();
+        base64 = Base64.encodeBytes(bytes);
+        deepPath = Payloads.deepPath(node);
+
+        System.out.printf("%n%s: %,d bytes, %,d base64 chars, path %s%n", payload, bytes.length, base64.length(),
+                String.join("/", deepPath));
+    }
+}
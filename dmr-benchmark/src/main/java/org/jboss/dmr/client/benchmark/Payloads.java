@@ -0,0 +1,266 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011 Red Hat Inc. and/or its affiliates and other contributors
+ * as indicated by the @author tags. All rights reserved.
+ * See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This copyrighted material is made available to anyone wishing to use,
+ * modify, copy, or redistribute it subject to the terms and conditions
+ * of the GNU Lesser General Public License, v. 2.1.
+ * This program is distributed in the hope that it will be useful, but WITHOUT A
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License,
+ * v.2.1 along with this distribution; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA  02110-1301, USA.
+ */
+
+package org.jboss.dmr.client.benchmark;
+
+import org.jboss.dmr.client.ModelNode;
+import org.jboss.dmr.client.ModelType;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.jboss.dmr.client.ModelDescriptionConstants.*;
+
+/**
+ * DMR payloads used by the benchmarks. Each payload is read from {@code <name>.dmr} in the directory given by the
+ * system property {@value #PAYLOAD_DIR} if present. These files contain base64 encoded DMR as returned by the
+ * management endpoint for {@code Accept: application/dmr-encoded}, so responses recorded against a real server can
+ * be used. Otherwise a payload with the same shape is generated:
+ * <dl>
+ * <dt>{@value #FULL_PROFILE}</dt>
+ * <dd>response of {@code read-resource(recursive=true)} for a profile like "full"</dd>
+ * <dt>{@value #RESOURCE_DESCRIPTION}</dt>
+ * <dd>response of {@code read-resource-description(recursive=true, operations=true)}</dd>
+ * <dt>{@value #COMPOSITE}</dt>
+ * <dd>response of a composite with one {@code read-resource(include-runtime=true)} step per resource</dd>
+ * </dl>
+ * <p>
+ * The generated payloads don't use {@link ModelType#DOUBLE} since the IEEE 754 conversion of the DMR codec is
+ * implemented in JavaScript and not available on the JVM.
+ */
+public final class Payloads {
+
+    public static final String PAYLOAD_DIR = "dmr.payloads";
+
+    public static final String FULL_PROFILE = "full-profile";
+    public static final String RESOURCE_DESCRIPTION = "description";
+    public static final String COMPOSITE = "composite";
+
+    private static final String[] SUBSYSTEMS = {
+            "batch-jberet", "bean-validation", "datasources", "ee", "ejb3", "iiop-openjdk", "infinispan", "io",
+            "jaxrs", "jca", "jdr", "jgroups", "jmx", "jpa", "jsf", "logging", "mail", "messaging-activemq",
+            "modcluster", "naming", "remoting", "request-controller", "resource-adapters", "sar",
+            "security", "security-manager", "singleton", "transactions", "undertow", "webservices", "weld"
+    };
+
+    private static final String[] CHILD_TYPES = {
+            "server", "handler", "connector", "cache-container", "stack", "data-source", "queue", "pool",
+            "listener", "mail-session", "thread-pool", "filter"
+    };
+
+    private Payloads() {}
+
+    /**
+     * Returns the recorded payload if available, otherwise a generated one.
+     */
+    public static ModelNode load(String name) throws IOException {
+        String dir = System.getProperty(PAYLOAD_DIR);
+        if (dir != null) {
+            File file = new File(dir, name + ".dmr");
+            if (file.isFile()) {
+                String encoded = new String(Files.readAllBytes(file.toPath()), StandardCharsets.US_ASCII).trim();
+                return ModelNode.fromBase64(encoded);
+            }
+        }
+        switch (name) {
+            case FULL_PROFILE:
+                return fullProfile();
+            case RESOURCE_DESCRIPTION:
+                return description();
+            case COMPOSITE:
+                return composite();
+            default:
+                throw new IllegalArgumentException("Unknown payload " + name);
+        }
+    }
+
+    /**
+     * Returns the path to a leaf of the payload which is found by following the last key of each object. Works for
+     * generated and recorded payloads.
+     */
+    public static String[] deepPath(ModelNode payload) {
+        List<String> path = new ArrayList<>();
+        ModelNode node = payload;
+        while (node.getType() == ModelType.OBJECT && !node.keys().isEmpty()) {
+            String last = null;
+            for (String key : node.keys()) {
+                last = key;
+            }
+            path.add(last);
+            node = node.get(last);
+        }
+        return path.toArray(new String[path.size()]);
+    }
+
+
+    // ------------------------------------------------------ generated payloads
+
+    static ModelNode fullProfile() {
+        Random random = new Random(42);
+        ModelNode response = new ModelNode();
+        response.get(OUTCOME).set(SUCCESS);
+        ModelNode result = response.get(RESULT);
+        for (String subsystem : SUBSYSTEMS) {
+            resource(result.get(SUBSYSTEM, subsystem), subsystem, 0, random);
+        }
+        return response;
+    }
+
+    static ModelNode description() {
+        Random random = new Random(42);
+        ModelNode response = new ModelNode();
+        response.get(OUTCOME).set(SUCCESS);
+        resourceDescription(response.get(RESULT), "subsystem", 0, random);
+        return response;
+    }
+
+    static ModelNode composite() {
+        Random random = new Random(42);
+        ModelNode response = new ModelNode();
+        response.get(OUTCOME).set(SUCCESS);
+        ModelNode result = response.get(RESULT);
+        for (int i = 0; i < 200; i++) {
+            ModelNode step = result.get("step-" + (i + 1));
+            step.get(OUTCOME).set(SUCCESS);
+            attributes(step.get(RESULT), "resource-" + i, 12, random);
+            step.get(RESULT).get("runtime").get("active-count").set(random.nextInt(100));
+            step.get(RESULT).get("runtime").get("available-count").set(random.nextInt(100));
+            step.get(RESULT).get("runtime").get("created-count").set(random.nextLong() & 0xffffffL);
+            step.get(RESULT).get("runtime").get("in-use-count").set(random.nextInt(20));
+        }
+        response.get("server-groups").get("main-server-group").get("host").get("master").get("server-one")
+                .get("response").get(OUTCOME).set(SUCCESS);
+        return response;
+    }
+
+    private static void resource(ModelNode node, String name, int depth, Random random) {
+        attributes(node, name, 8 + random.nextInt(12), random);
+        if (depth < 3) {
+            int childTypes = depth == 0 ? 2 + random.nextInt(3) : random.nextInt(3);
+            for (int i = 0; i < childTypes; i++) {
+                String type = CHILD_TYPES[random.nextInt(CHILD_TYPES.length)];
+                int children = 1 + random.nextInt(depth == 0 ? 5 : 3);
+                for (int j = 0; j < children; j++) {
+                    resource(node.get(type, type + "-" + j), type + "-" + j, depth + 1, random);
+                }
+            }
+        }
+    }
+
+    private static void resourceDescription(ModelNode node, String name, int depth, Random random) {
+        node.get(DESCRIPTION).set("The configuration of the " + name + " resource.");
+        node.get("capabilities").setEmptyList();
+
+        ModelNode attributes = node.get(ATTRIBUTES);
+        int count = 10 + random.nextInt(20);
+        for (int i = 0; i < count; i++) {
+            attributeDescription(attributes.get(name + "-attribute-" + i), random);
+        }
+
+        ModelNode operations = node.get(OPERATIONS);
+        String[] names = {ADD, REMOVE, READ_RESOURCE_OPERATION, READ_ATTRIBUTE_OPERATION, WRITE_ATTRIBUTE_OPERATION,
+                "undefine-attribute", "read-resource-description", "read-operation-names", "read-children-names"};
+        for (String operation : names) {
+            ModelNode description = operations.get(operation);
+            description.get(OPERATION_NAME).set(operation);
+            description.get(DESCRIPTION).set("The " + operation + " operation of the " + name + " resource.");
+            int parameters = ADD.equals(operation) ? count : random.nextInt(4);
+            for (int i = 0; i < parameters; i++) {
+                attributeDescription(description.get(REQUEST_PROPERTIES).get(name + "-parameter-" + i), random);
+            }
+            description.get(REPLY_PROPERTIES).setEmptyObject();
+            description.get("read-only").set(operation.startsWith("read"));
+            description.get("runtime-only").set(false);
+        }
+
+        ModelNode children = node.get(CHILDREN);
+        children.setEmptyObject();
+        if (depth < 3) {
+            int childTypes = depth == 0 ? 8 + random.nextInt(4) : random.nextInt(4);
+            for (int i = 0; i < childTypes; i++) {
+                String type = CHILD_TYPES[(i + depth) % CHILD_TYPES.length];
+                ModelNode child = children.get(type);
+                child.get(DESCRIPTION).set("The " + type + " resources.");
+                resourceDescription(child.get(MODEL_DESCRIPTION, "*"), type, depth + 1, random);
+            }
+        }
+    }
+
+    private static void attributeDescription(ModelNode node, Random random) {
+        ModelType[] types = {ModelType.STRING, ModelType.INT, ModelType.LONG, ModelType.BOOLEAN, ModelType.LIST,
+                ModelType.OBJECT};
+        ModelType type = types[random.nextInt(types.length)];
+        node.get(TYPE).set(type);
+        node.get(DESCRIPTION).set("Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor " +
+                "incididunt ut labore et dolore magna aliqua.");
+        node.get("expressions-allowed").set(random.nextBoolean());
+        node.get(NILLABLE).set(random.nextBoolean());
+        if (type == ModelType.INT || type == ModelType.LONG) {
+            node.get("min").set(0);
+            node.get("max").set(Integer.MAX_VALUE);
+            node.get(DEFAULT).set(random.nextInt(1000));
+            node.get("unit").set("MILLISECONDS");
+        } else if (type == ModelType.LIST || type == ModelType.OBJECT) {
+            node.get(VALUE_TYPE).set(ModelType.STRING);
+        } else if (type == ModelType.STRING) {
+            node.get("min-length").set(1L);
+            node.get("max-length").set(Integer.MAX_VALUE);
+        }
+        node.get("access-type").set("read-write");
+        node.get("storage").set("configuration");
+        node.get("restart-required").set("resource-services");
+    }
+
+    private static void attributes(ModelNode node, String name, int count, Random random) {
+        for (int i = 0; i < count; i++) {
+            String attribute = name + "-attribute-" + i;
+            switch (i % 8) {
+                case 0:
+                    node.get(attribute).set("java:jboss/" + name + "/" + Long.toHexString(random.nextLong()));
+                    break;
+                case 1:
+                    node.get(attribute).set(random.nextInt(10000));
+                    break;
+                case 2:
+                    node.get(attribute).set(random.nextLong());
+                    break;
+                case 3:
+                    node.get(attribute).set(random.nextBoolean());
+                    break;
+                case 4:
+                    node.get(attribute).setExpression("${jboss." + name + "." + i + ":default}");
+                    break;
+                case 5:
+                    node.get(attribute).add("value-" + random.nextInt(100)).add("value-" + random.nextInt(100));
+                    break;
+                case 6:
+                    node.get(attribute).get("key").set("value-" + random.nextInt(100));
+                    break;
+                default:
+                    node.get(attribute); // undefined
+                    break;
+            }
+        }
+    }
+}
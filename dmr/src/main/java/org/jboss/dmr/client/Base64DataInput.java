@@ -0,0 +1,127 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011 Red Hat Inc. and/or its affiliates and other contributors
+ * as indicated by the @author tags. All rights reserved.
+ * See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This copyrighted material is made available to anyone wishing to use,
+ * modify, copy, or redistribute it subject to the terms and conditions
+ * of the GNU Lesser General Public License, v. 2.1.
+ * This program is distributed in the hope that it will be useful, but WITHOUT A
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License,
+ * v.2.1 along with this distribution; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA  02110-1301, USA.
+ */
+
+package org.jboss.dmr.client;
+
+import java.io.IOException;
+
+/**
+ * A {@link DataInput} which decodes a base64 encoded string on the fly. The DMR binary parser reads directly from
+ * the encoded string without creating an intermediate decoded string or byte array. Whitespace is ignored.
+ */
+public class Base64DataInput extends DataInput {
+
+    private static final int WHITESPACE = -2;
+    private static final int PADDING = -3;
+    private static final int[] DECODABET = new int[128];
+
+    static {
+        for (int i = 0; i < DECODABET.length; i++) {
+            DECODABET[i] = -1;
+        }
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < alphabet.length(); i++) {
+            DECODABET[alphabet.charAt(i)] = i;
+        }
+        DECODABET[' '] = WHITESPACE;
+        DECODABET['\t'] = WHITESPACE;
+        DECODABET['\n'] = WHITESPACE;
+        DECODABET['\r'] = WHITESPACE;
+        DECODABET['='] = PADDING;
+    }
+
+    private final String encoded;
+    private final int length;
+    private int index;
+
+    // the decoded bytes of the current quantum
+    private int quantum;
+    private int available;
+
+    public Base64DataInput(String encoded) {
+        this.encoded = encoded;
+        this.length = encoded.length();
+    }
+
+    /**
+     * Decodes the whole string into a byte array.
+     */
+    public static byte[] decode(String encoded) throws IOException {
+        Base64DataInput in = new Base64DataInput(encoded);
+        byte[] bytes = new byte[encoded.length() / 4 * 3 + 3];
+        int length = 0;
+        int b;
+        while ((b = in.read()) != -1) {
+            bytes[length++] = (byte) b;
+        }
+        if (length == bytes.length) {
+            return bytes;
+        }
+        byte[] trimmed = new byte[length];
+        System.arraycopy(bytes, 0, trimmed, 0, length);
+        return trimmed;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (available == 0 && !nextQuantum()) {
+            return -1;
+        }
+        available--;
+        return (quantum >> (available << 3)) & 0xFF;
+    }
+
+    /**
+     * Decodes the next four significant characters into up to three bytes.
+     */
+    private boolean nextQuantum() throws IOException {
+        int bits = 0;
+        int sextets = 0;
+        while (sextets < 4 && index < length) {
+            char c = encoded.charAt(index++);
+            int value = c < 128 ? DECODABET[c] : -1;
+            if (value >= 0) {
+                bits = (bits << 6) | value;
+                sextets++;
+            } else if (value == PADDING) {
+                index = length;
+            } else if (value != WHITESPACE) {
+                throw new IOException("Invalid base64 character '" + c + "' at position " + (index - 1));
+            }
+        }
+        switch (sextets) {
+            case 4:
+                quantum = bits;
+                available = 3;
+                return true;
+            case 3:
+                quantum = bits >> 2;
+                available = 2;
+                return true;
+            case 2:
+                quantum = bits >> 4;
+                available = 1;
+                return true;
+            case 0:
+                return false;
+            default:
+                throw new IOException("Invalid base64 input: Truncated quantum at position " + index);
+        }
+    }
+}
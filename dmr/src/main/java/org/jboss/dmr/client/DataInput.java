@@ -23,15 +23,44 @@ import java.io.IOException;
 
 /**
  * see also http://quake2-gwt-port.googlecode.com/hg/src/com/google/gwt/corp/emul/java/io/DataInputStream.java?r=5c7c4b545ff4a8875b4cab5d77492d37e150d46b
+ * <p>
+ * All methods are based on {@link #read()}, so subclasses can provide other sources than a byte array by overriding
+ * {@link #read()}. Values are read without temporary arrays. Strings are decoded into a reusable char buffer.
  */
 public class DataInput {
     private int pos = 0;
     private byte[] bytes;
+    private char[] chars;
 
     public DataInput(byte[] bytes) {
         this.bytes = bytes;
     }
 
+    /**
+     * Reads from the given position
+     */
+    DataInput(byte[] bytes, int pos) {
+        this.bytes = bytes;
+        this.pos = pos;
+    }
+
+    /**
+     * For subclasses which override {@link #read()}
+     */
+    protected DataInput() {
+    }
+
+    /**
+     * @return the current position in the underlying byte array
+     */
+    int position() {
+        return pos;
+    }
+
+    void seek(int pos) {
+        this.pos = pos;
+    }
+
     public int read() throws IOException {
         if (pos >= bytes.length)
             return -1;
@@ -59,23 +88,12 @@ public class DataInput {
 
     public double readDouble() throws IOException {
         // See  https://issues.jboss.org/browse/AS7-4126
-        //return IEEE754.toDouble(bytes[pos++], bytes[pos++], bytes[pos++], bytes[pos++], bytes[pos++], bytes[pos++], bytes[pos++], bytes[pos++]);
-        byte doubleBytes[] = new byte[8];
-        readFully(doubleBytes);
-
-        return IEEE754.toDouble(
-                doubleBytes[0],
-                doubleBytes[1],
-                doubleBytes[2],
-                doubleBytes[3],
-                doubleBytes[4],
-                doubleBytes[5],
-                doubleBytes[6],
-                doubleBytes[7]);
+        return IEEE754.toDouble(readByte(), readByte(), readByte(), readByte(),
+                readByte(), readByte(), readByte(), readByte());
     }
 
     public float readFloat() throws IOException {
-        return IEEE754.toFloat(bytes[pos++], bytes[pos++], bytes[pos++], bytes[pos++]);
+        return IEEE754.toFloat(readByte(), readByte(), readByte(), readByte());
     }
 
     public int readInt() throws IOException {
@@ -92,18 +110,9 @@ public class DataInput {
 
     public long readLong() throws IOException
     {
-        byte longBytes[] = new byte[8];
-        readFully(longBytes);
-
-        return (((long)longBytes[0] << 56) +
-                ((long)(longBytes[1] & 255) << 48) +
-                ((long)(longBytes[2] & 255) << 40) +
-                ((long)(longBytes[3] & 255) << 32) +
-                ((long)(longBytes[4] & 255) << 24) +
-                ((longBytes[5] & 255) << 16) +
-                ((longBytes[6] & 255) <<  8) +
-                ((longBytes[7] & 255) <<  0));
-
+        long high = readInt();
+        long low = readInt() & 0xFFFFFFFFL;
+        return (high << 32) | low;
     }
 
     public short readShort() throws IOException {
@@ -114,53 +123,55 @@ public class DataInput {
 
     public String readUTF() throws IOException {
         int bytes = readUnsignedShort();
-        StringBuilder sb = new StringBuilder();
 
-        while (bytes > 0) {
-            bytes -= readUtfChar(sb);
+        // decoding never produces more chars than bytes. Invalid sequences at the end
+        // might read up to two bytes beyond the declared length.
+        if (chars == null || chars.length < bytes + 2) {
+            chars = new char[Math.max(bytes + 2, 64)];
         }
+        final char[] chars = this.chars;
 
-        return sb.toString();
-    }
-
-    private int readUtfChar(StringBuilder sb) throws IOException {
-        int a = readUnsignedByte();
-        if (a < 0x80) {
-            sb.append((char) a);
-            return 1;
-        } else if (a < 0xc0) {
-            sb.append('?');
-            return 1;
-        } else if (a < 0xe0) {
-            int b = readUnsignedByte();
-            if ((b & 0xc0) != 0x80) {
-                sb.append('?');
-                // probably a US-ASCII char after a Latin-1 char
-                sb.append((char) b);
-            } else {
-                sb.append((char) ((a & 0x1F) << 6 | b & 0x3F));
-            }
-            return 2;
-        } else if (a < 0xf0) {
-            int b = readUnsignedByte();
-            if ((b & 0xc0) != 0x80) {
-                sb.append('?');
-                sb.append((char) b);
-                return 2;
-            }
-            int c = readUnsignedByte();
-            if ((c & 0xc0) != 0x80) {
-                // probably a US-ASCII char after two Latin-1 chars?
-                sb.append('?').append('?');
-                sb.append((char) c);
+        int length = 0;
+        while (bytes > 0) {
+            int a = readUnsignedByte();
+            bytes--;
+            if (a < 0x80) {
+                chars[length++] = (char) a;
+            } else if (a < 0xc0) {
+                chars[length++] = '?';
+            } else if (a < 0xe0) {
+                int b = readUnsignedByte();
+                bytes--;
+                if ((b & 0xc0) != 0x80) {
+                    chars[length++] = '?';
+                    // probably a US-ASCII char after a Latin-1 char
+                    chars[length++] = (char) b;
+                } else {
+                    chars[length++] = (char) ((a & 0x1F) << 6 | b & 0x3F);
+                }
+            } else if (a < 0xf0) {
+                int b = readUnsignedByte();
+                bytes--;
+                if ((b & 0xc0) != 0x80) {
+                    chars[length++] = '?';
+                    chars[length++] = (char) b;
+                    continue;
+                }
+                int c = readUnsignedByte();
+                bytes--;
+                if ((c & 0xc0) != 0x80) {
+                    // probably a US-ASCII char after two Latin-1 chars?
+                    chars[length++] = '?';
+                    chars[length++] = '?';
+                    chars[length++] = (char) c;
+                } else {
+                    chars[length++] = (char) ((a & 0x0F) << 12 | (b & 0x3F) << 6 | c & 0x3F);
+                }
             } else {
-                sb.append((char) ((a & 0x0F) << 12 | (b & 0x3F) << 6 | c & 0x3F));
+                chars[length++] = '?';
             }
-            return 3;
-        } else {
-            sb.append('?');
-            return 1;
         }
+        return new String(chars, 0, length);
     }
 
     public int readUnsignedByte() throws IOException {
@@ -178,13 +189,26 @@ public class DataInput {
     }
 
     public int skipBytes(int n) throws IOException {
-        // note: This is actually a valid implementation of this method, rendering it quite useless...
-        return 0;
+        if (bytes != null) {
+            int skipped = Math.max(0, Math.min(n, bytes.length - pos));
+            pos += skipped;
+            return skipped;
+        }
+        int skipped = 0;
+        while (skipped < n && read() != -1) {
+            skipped++;
+        }
+        return skipped;
     }
 
-    public void readFully(byte[] b) {
-        for (int i = 0; i < b.length; i++) {
-            b[i] = bytes[pos++];
+    public void readFully(byte[] b) throws IOException {
+        if (bytes != null) {
+            System.arraycopy(bytes, pos, b, 0, b.length);
+            pos += b.length;
+        } else {
+            for (int i = 0; i < b.length; i++) {
+                b[i] = readByte();
+            }
         }
     }
 
@@ -25,6 +25,9 @@ import java.io.IOException;
 
 public class DataOutput {
 
+    private static final char[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+
     private byte[] bytes;
     private int pos;
 
@@ -33,24 +36,56 @@ public class DataOutput {
     }
 
     public String getEncoded() {
-        return Base64.encodeBytes(bytes, 0, pos);
+        return toBase64String();
     }
 
     public byte[] getBytes() {
         byte[] array = new byte[pos];
-        for (int i = 0; i < pos; i++)
-            array[i] = bytes[i];
-
+        System.arraycopy(bytes, 0, array, 0, pos);
         return array;
     }
 
-    private void growToFit(int size) {
-        if (pos + size >= bytes.length) {
-            byte[] array = new byte[bytes.length + size];
-            for (int i = 0; i < bytes.length; i++) {
-                array[i] = bytes[i];
-            }
+    public int size() {
+        return pos;
+    }
+
+    /**
+     * Encodes the written bytes as base64 (w/o line breaks). Reads the internal buffer directly, no copies are made.
+     */
+    public String toBase64String() {
+        final byte[] bytes = this.bytes;
+        final int length = pos;
+        final char[] encoded = new char[(length + 2) / 3 * 4];
+
+        int d = 0;
+        int e = 0;
+        for (int full = length - length % 3; d < full; d += 3) {
+            int bits = (bytes[d] & 0xFF) << 16 | (bytes[d + 1] & 0xFF) << 8 | bytes[d + 2] & 0xFF;
+            encoded[e++] = ALPHABET[bits >>> 18];
+            encoded[e++] = ALPHABET[(bits >>> 12) & 0x3F];
+            encoded[e++] = ALPHABET[(bits >>> 6) & 0x3F];
+            encoded[e++] = ALPHABET[bits & 0x3F];
+        }
+
+        int remaining = length - d;
+        if (remaining > 0) {
+            int bits = (bytes[d] & 0xFF) << 16 | (remaining == 2 ? (bytes[d + 1] & 0xFF) << 8 : 0);
+            encoded[e++] = ALPHABET[bits >>> 18];
+            encoded[e++] = ALPHABET[(bits >>> 12) & 0x3F];
+            encoded[e++] = remaining == 2 ? ALPHABET[(bits >>> 6) & 0x3F] : '=';
+            encoded[e] = '=';
+        }
+        return new String(encoded);
+    }
 
+    /**
+     * Grows the buffer by doubling its size, so that writing n bytes costs amortized O(n).
+     */
+    private void growToFit(int size) {
+        int required = pos + size;
+        if (required > bytes.length) {
+            byte[] array = new byte[Math.max(bytes.length << 1, required)];
+            System.arraycopy(bytes, 0, array, 0, pos);
             bytes = array;
         }
     }
@@ -117,36 +152,47 @@ public class DataOutput {
 
     public void writeUTF(String s) throws IOException {
         final int length = s.length();
-        final byte[] bytes = new byte[length * 3];
         int bl = 0;
         char c;
-        for (int i = 0; i < length; i ++) {
+        for (int i = 0; i < length; i++) {
             c = s.charAt(i);
             if (c > 0 && c <= 0x7f) {
-                bytes[bl ++] = (byte) c;
+                bl++;
             } else if (c <= 0x07ff) {
-                bytes[bl ++] = (byte)(0xc0 | 0x1f & c >> 6);
-                bytes[bl ++] = (byte)(0x80 | 0x3f & c);
+                bl += 2;
             } else {
-                bytes[bl ++] = (byte)(0xe0 | 0x0f & c >> 12);
-                bytes[bl ++] = (byte)(0x80 | 0x3f & c >> 6);
-                bytes[bl ++] = (byte)(0x80 | 0x3f & c);
+                bl += 3;
             }
         }
         writeShort(bl);
-        write(bytes, 0, bl);
+
+        // encode directly into the buffer
+        growToFit(bl);
+        final byte[] bytes = this.bytes;
+        int pos = this.pos;
+        for (int i = 0; i < length; i++) {
+            c = s.charAt(i);
+            if (c > 0 && c <= 0x7f) {
+                bytes[pos++] = (byte) c;
+            } else if (c <= 0x07ff) {
+                bytes[pos++] = (byte) (0xc0 | 0x1f & c >> 6);
+                bytes[pos++] = (byte) (0x80 | 0x3f & c);
+            } else {
+                bytes[pos++] = (byte) (0xe0 | 0x0f & c >> 12);
+                bytes[pos++] = (byte) (0x80 | 0x3f & c >> 6);
+                bytes[pos++] = (byte) (0x80 | 0x3f & c);
+            }
+        }
+        this.pos = pos;
     }
 
     public void write(byte[] bits) {
-        growToFit(bits.length);
-        for (int i = 0; i < bits.length; i++)
-            bytes[pos++] = bits[i];
+        write(bits, 0, bits.length);
     }
 
     public void write(byte[] b, int off, int len) {
         growToFit(len);
-        for (int i = 0; i < len; i ++) {
-            bytes[pos++] = b[off + i];
-        }
+        System.arraycopy(b, off, bytes, pos, len);
+        pos += len;
     }
 }
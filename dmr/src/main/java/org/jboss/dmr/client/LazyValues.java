@@ -0,0 +1,125 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011 Red Hat Inc. and/or its affiliates and other contributors
+ * as indicated by the @author tags. All rights reserved.
+ * See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This copyrighted material is made available to anyone wishing to use,
+ * modify, copy, or redistribute it subject to the terms and conditions
+ * of the GNU Lesser General Public License, v. 2.1.
+ * This program is distributed in the hope that it will be useful, but WITHOUT A
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License,
+ * v.2.1 along with this distribution; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA  02110-1301, USA.
+ */
+
+package org.jboss.dmr.client;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads model nodes lazily from a byte array: Objects are skipped and only remember their offset. They're
+ * materialized when accessed for the first time. All other values are read as usual, but objects nested in lists
+ * and properties are lazy again.
+ * <p>
+ * Materializing an object needs to skip over its nested objects. So each level of a tree is scanned once per
+ * ancestor, but that's much cheaper than creating the nodes which are never accessed.
+ */
+final class LazyValues {
+
+    private LazyValues() {}
+
+    static ModelNode read(final byte[] source, final DataInput in) throws IOException {
+        final int start = in.position();
+        final ModelType type = ModelType.forChar((char) (in.readByte() & 0xff));
+        switch (type) {
+            case OBJECT: {
+                final int offset = in.position();
+                skipObject(in);
+                return new ModelNode(new ObjectModelValue(source, offset));
+            }
+            case LIST: {
+                final int count = in.readInt();
+                final List<ModelNode> list = new ArrayList<ModelNode>(count);
+                for (int i = 0; i < count; i++) {
+                    list.add(read(source, in));
+                }
+                return new ModelNode(new ListModelValue(list));
+            }
+            case PROPERTY: {
+                final String name = in.readUTF();
+                return new ModelNode(new PropertyModelValue(name, read(source, in)));
+            }
+            default: {
+                in.seek(start);
+                final ModelNode node = new ModelNode();
+                node.readExternal(in);
+                return node;
+            }
+        }
+    }
+
+    /**
+     * Skips a value including its type
+     */
+    static void skip(final DataInput in) throws IOException {
+        final ModelType type = ModelType.forChar((char) (in.readByte() & 0xff));
+        switch (type) {
+            case UNDEFINED:
+                break;
+            case BIG_DECIMAL:
+            case EXPRESSION:
+            case STRING:
+                in.skipBytes(in.readUnsignedShort());
+                break;
+            case BIG_INTEGER:
+            case BYTES:
+                in.skipBytes(in.readInt());
+                break;
+            case BOOLEAN:
+            case TYPE:
+                in.skipBytes(1);
+                break;
+            case INT:
+                in.skipBytes(4);
+                break;
+            case DOUBLE:
+            case LONG:
+                in.skipBytes(8);
+                break;
+            case LIST: {
+                final int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    skip(in);
+                }
+                break;
+            }
+            case OBJECT:
+                skipObject(in);
+                break;
+            case PROPERTY:
+                in.skipBytes(in.readUnsignedShort());
+                skip(in);
+                break;
+            default:
+                throw new IllegalStateException("Invalid type read: " + type);
+        }
+    }
+
+    /**
+     * Skips the content of an object (w/o the type)
+     */
+    static void skipObject(final DataInput in) throws IOException {
+        final int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            in.skipBytes(in.readUnsignedShort());
+            skip(in);
+        }
+    }
+}
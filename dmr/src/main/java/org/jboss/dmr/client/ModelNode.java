@@ -19,7 +19,6 @@
 
 package org.jboss.dmr.client;
 
-import com.google.gwt.core.client.GWT;
 import org.timepedia.exporter.client.Export;
 import org.timepedia.exporter.client.ExportPackage;
 import org.timepedia.exporter.client.ExportStaticMethod;
@@ -27,7 +26,6 @@ import org.timepedia.exporter.client.Exportable;
 import org.timepedia.exporter.client.NoExport;
 
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -450,7 +448,13 @@ public class ModelNode implements Cloneable, Exportable {
         return this;
     }
 
-    void setNoCopy(final ModelNode child) {
+    /**
+     * Set the value of this node to the value of the given node w/o copying it. Both nodes share the value
+     * afterwards, so this should only be used if the other node is not used anymore.
+     *
+     * @param child the node
+     */
+    public void setNoCopy(final ModelNode child) {
         value = child.value;
     }
 
@@ -1234,22 +1238,28 @@ public class ModelNode implements Cloneable, Exportable {
     public static ModelNode fromBase64(String encoded) {
         ModelNode node = new ModelNode();
         try {
-
-            if(hasNativeBase64Support())
-            {
-                String s = nativeDecode(encoded);
-                node.readExternal(new DataInput(toBytes(s)));
-            }
-            else
-            {
-                node.readExternal(new DataInput(Base64.decode(encoded)));
-            }
+            // decode on the fly w/o intermediate strings or byte arrays
+            node.readExternal(new Base64DataInput(encoded));
         } catch (IOException e) {
             throw new IllegalArgumentException(e);
         }
         return node;
     }
 
+    /**
+     * Decodes the base64 encoded string into a lazy model node: Objects keep a reference to the decoded bytes and
+     * are only materialized when they're accessed. Use this for large payloads when only parts of the model are
+     * read.
+     */
+    public static ModelNode fromBase64Lazy(String encoded) {
+        try {
+            byte[] bytes = Base64DataInput.decode(encoded);
+            return LazyValues.read(bytes, new DataInput(bytes));
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
     @Export()
     public String toBase64String() {
         DataOutput out = new DataOutput();
@@ -1259,55 +1269,15 @@ public class ModelNode implements Cloneable, Exportable {
             throw new IllegalStateException(e);
         }
 
-        if(hasNativeBase64Support())
-        {
-            try {
-                return nativeEncode(new String(out.getBytes(), "ISO-8859-1"));
-            } catch (UnsupportedEncodingException e) {
-                throw new RuntimeException("Failed to encode string:"+e.getMessage());
-            }
-        }
-        else
-        {
-            return Base64.encodeBytes(out.getBytes());
-        }
+        return out.toBase64String();
     }
 
-    public static boolean hasNativeBase64Support() {
-
-        //TODO: there is a problem with the hosted call to nativeBase64()
-        return !GWT.isScript() ?  false : nativeBase64();
-    }
-
-    public static native boolean nativeBase64() /*-{
-
-        return (window.atob && window.btoa);
-
-    }-*/;
-
-    public static native String nativeDecode(String encoded) /*-{
-
-        return atob(encoded.replace(/\s/g, ''));
-
-    }-*/;
-
     public static native String nativeEncode(String plain) /*-{
 
         return btoa(plain);
 
     }-*/;
 
-    public static native byte[] toBytes(String str) /*-{
-
-        var bytes = [];
-        for (var i = 0; i < str.length; ++i)
-        {
-            bytes.push(str.charCodeAt(i));
-        }
-        return bytes;
-
-    }-*/;
-
     /*
       function ab2str(buf) {
         return String.fromCharCode.apply(null, new Uint16Array(buf));
@@ -33,7 +33,11 @@ import java.util.Set;
  * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
  */
 final class ObjectModelValue extends ModelValue {
-    private final Map<String, ModelNode> map;
+    private Map<String, ModelNode> map;
+
+    // the encoded source of a lazy object and the offset of its content. null once materialized.
+    private byte[] source;
+    private int offset;
 
     protected ObjectModelValue() {
         super(ModelType.OBJECT);
@@ -58,8 +62,50 @@ final class ObjectModelValue extends ModelValue {
         this.map = map;
     }
 
+    /**
+     * Creates a lazy object which is read from the given source when it's accessed for the first time.
+     */
+    ObjectModelValue(final byte[] source, final int offset) {
+        super(ModelType.OBJECT);
+        this.source = source;
+        this.offset = offset;
+    }
+
+    private Map<String, ModelNode> map() {
+        if (source != null) {
+            materialize();
+        }
+        return map;
+    }
+
+    /**
+     * Reads the keys of this object. Nested objects are lazy again.
+     */
+    private void materialize() {
+        final DataInput in = new DataInput(source, offset);
+        final LinkedHashMap<String, ModelNode> map = new LinkedHashMap<String, ModelNode>();
+        try {
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                final String key = in.readUTF();
+                map.put(key, LazyValues.read(source, in));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e.getMessage());
+        }
+        this.map = map;
+        this.source = null;
+    }
+
     @Override
     void writeExternal(final DataOutput out) throws IOException {
+        if (source != null) {
+            // still encoded: copy the raw bytes
+            final DataInput in = new DataInput(source, offset);
+            LazyValues.skipObject(in);
+            out.write(source, offset, in.position() - offset);
+            return;
+        }
         final Map<String, ModelNode> map = this.map;
         final int size = map.size();
         out.writeInt(size);
@@ -71,7 +117,7 @@ final class ObjectModelValue extends ModelValue {
 
     @Override
     ModelValue protect() {
-        final Map<String, ModelNode> map = this.map;
+        final Map<String, ModelNode> map = map();
         for (final ModelNode node : map.values()) {
             node.protect();
         }
@@ -88,6 +134,7 @@ final class ObjectModelValue extends ModelValue {
         if (name == null) {
             return null;
         }
+        final Map<String, ModelNode> map = map();
         final ModelNode node = map.get(name);
         if (node != null) {
             return node;
@@ -102,12 +149,12 @@ final class ObjectModelValue extends ModelValue {
         if (name == null) {
             return null;
         }
-        return map.remove(name);
+        return map().remove(name);
     }
 
     @Override
     int asInt() {
-        return map.size();
+        return map().size();
     }
 
     @Override
@@ -127,16 +174,17 @@ final class ObjectModelValue extends ModelValue {
 
     @Override
     boolean asBoolean() {
-        return ! map.isEmpty();
+        return ! map().isEmpty();
     }
 
     @Override
     boolean asBoolean(final boolean defVal) {
-        return ! map.isEmpty();
+        return ! map().isEmpty();
     }
 
     @Override
     Property asProperty() {
+        final Map<String, ModelNode> map = map();
         if (map.size() == 1) {
             final Map.Entry<String, ModelNode> entry = map.entrySet().iterator().next();
             return new Property(entry.getKey(), entry.getValue());
@@ -147,7 +195,7 @@ final class ObjectModelValue extends ModelValue {
     @Override
     List<Property> asPropertyList() {
         final List<Property> propertyList = new ArrayList<Property>();
-        for (final Map.Entry<String, ModelNode> entry : map.entrySet()) {
+        for (final Map.Entry<String, ModelNode> entry : map().entrySet()) {
             propertyList.add(new Property(entry.getKey(), entry.getValue()));
         }
         return propertyList;
@@ -164,6 +212,11 @@ final class ObjectModelValue extends ModelValue {
     }
 
     ModelValue copy(final boolean resolve) {
+        if (source != null && !resolve) {
+            // the source is never modified and can be shared
+            return new ObjectModelValue(source, offset);
+        }
+        final Map<String, ModelNode> map = map();
         final LinkedHashMap<String, ModelNode> newMap = new LinkedHashMap<String, ModelNode>();
         for (final Map.Entry<String, ModelNode> entry : map.entrySet()) {
             newMap.put(entry.getKey(), resolve ? entry.getValue().resolve() : entry.getValue().clone());
@@ -174,7 +227,7 @@ final class ObjectModelValue extends ModelValue {
     @Override
     List<ModelNode> asList() {
         final ArrayList<ModelNode> nodes = new ArrayList<ModelNode>();
-        for (final Map.Entry<String, ModelNode> entry : map.entrySet()) {
+        for (final Map.Entry<String, ModelNode> entry : map().entrySet()) {
             final ModelNode node = new ModelNode();
             node.set(entry.getKey(), entry.getValue());
             nodes.add(node);
@@ -184,7 +237,7 @@ final class ObjectModelValue extends ModelValue {
 
     @Override
     Set<String> getKeys() {
-        return map.keySet();
+        return map().keySet();
     }
 
     @Override
@@ -197,6 +250,7 @@ final class ObjectModelValue extends ModelValue {
     @Override
     void format(final StringBuilder builder, final int indent, final boolean multiLineRequested) {
         builder.append('{');
+        final Map<String, ModelNode> map = map();
         final boolean multiLine = multiLineRequested && map.size() > 1;
         if (multiLine) {
             indent(builder.append('\n'), indent + 1);
@@ -225,6 +279,7 @@ final class ObjectModelValue extends ModelValue {
     @Override
     void formatAsJSON(final StringBuilder builder, final int indent, final boolean multiLineRequested) {
         builder.append('{');
+        final Map<String, ModelNode> map = map();
         final boolean multiLine = multiLineRequested && map.size() > 1;
         if(multiLine) {
             indent(builder.append('\n'), indent + 1);
@@ -268,22 +323,22 @@ final class ObjectModelValue extends ModelValue {
      * @return {@code true} if they are equal, {@code false} otherwise
      */
     public boolean equals(final ObjectModelValue other) {
-        return this == other || other != null && other.map.equals(map);
+        return this == other || other != null && other.map().equals(map());
     }
 
     @Override
     public int hashCode() {
-        return map.hashCode();
+        return map().hashCode();
     }
 
     @Override
     boolean has(final String key) {
-        return map.containsKey(key);
+        return map().containsKey(key);
     }
 
     @Override
     ModelNode requireChild(final String name) throws NoSuchElementException {
-        final ModelNode node = map.get(name);
+        final ModelNode node = map().get(name);
         if (node != null) {
             return node;
         }
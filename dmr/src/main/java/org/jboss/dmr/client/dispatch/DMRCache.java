@@ -1,39 +1,124 @@
 package org.jboss.dmr.client.dispatch;
 
-import com.google.gwt.core.client.Scheduler;
+import org.jboss.dmr.client.Property;
+import org.jboss.dmr.client.dispatch.impl.DMROperations;
 import org.jboss.dmr.client.dispatch.impl.DMRResponse;
 
-import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
+ * Size bounded LRU cache for DMR responses. Each entry carries its own time to live and the addresses of the
+ * operation which produced the response, so that writes can invalidate overlapping entries.
+ *
  * @author Heiko Braun
  * @date 8/29/12
  */
 public class DMRCache {
 
-    private static Map<String, DMRResponse> values = new HashMap<String, DMRResponse>();
-    private static int expiryTimeMs = 5*1000;
+    private final int maxSize;
+    private final LinkedHashMap<String, Entry> values;
 
-    public void put(final String key, DMRResponse response)
-    {
-        values.put(key, response);
-        Scheduler.get().scheduleFixedPeriod(
-                new Scheduler.RepeatingCommand() {
-                    @Override
-                    public boolean execute() {
-                        values.remove(key);
-                        return false;
-                    }
-                }, expiryTimeMs
-        );
+    private long hits;
+    private long misses;
+    private long evictions;
+    private int generation;
+
+    public DMRCache(final int maxSize) {
+        this.maxSize = maxSize;
+        this.values = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                boolean evict = size() > DMRCache.this.maxSize;
+                if (evict) {
+                    evictions++;
+                }
+                return evict;
+            }
+        };
+    }
+
+    public void put(String key, DMRResponse response, long ttlMs, List<List<Property>> addresses) {
+        values.put(key, new Entry(response, System.currentTimeMillis() + ttlMs, addresses));
     }
 
     public DMRResponse get(String key) {
-      return values.get(key);
+        Entry entry = values.get(key);
+        if (entry != null && entry.expires < System.currentTimeMillis()) {
+            values.remove(key);
+            entry = null;
+        }
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.response;
+    }
+
+    /**
+     * Removes all entries whose addresses overlap with the given address.
+     */
+    public void invalidate(List<Property> address) {
+        generation++;
+        for (Iterator<Entry> iterator = values.values().iterator(); iterator.hasNext(); ) {
+            Entry entry = iterator.next();
+            for (List<Property> entryAddress : entry.addresses) {
+                if (DMROperations.overlaps(address, entryAddress)) {
+                    iterator.remove();
+                    break;
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        generation++;
+        values.clear();
+    }
+
+    /**
+     * The generation is incremented on every invalidation. Responses of requests which were sent in an older
+     * generation must not be cached.
+     */
+    public int getGeneration() {
+        return generation;
     }
 
     public int size() {
         return values.size();
     }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    @Override
+    public String toString() {
+        return "DMRCache(size=" + values.size() + ", hits=" + hits + ", misses=" + misses + ", evictions=" +
+                evictions + ")";
+    }
+
+    private static class Entry {
+
+        final DMRResponse response;
+        final long expires;
+        final List<List<Property>> addresses;
+
+        Entry(DMRResponse response, long expires, List<List<Property>> addresses) {
+            this.response = response;
+            this.expires = expires;
+            this.addresses = addresses;
+        }
+    }
 }
@@ -0,0 +1,569 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011 Red Hat Inc. and/or its affiliates and other contributors
+ * as indicated by the @author tags. All rights reserved.
+ * See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This copyrighted material is made available to anyone wishing to use,
+ * modify, copy, or redistribute it subject to the terms and conditions
+ * of the GNU Lesser General Public License, v. 2.1.
+ * This program is distributed in the hope that it will be useful, but WITHOUT A
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License,
+ * v.2.1 along with this distribution; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA  02110-1301, USA.
+ */
+
+package org.jboss.dmr.client.dispatch;
+
+import com.google.gwt.core.client.Duration;
+import org.jboss.dmr.client.ModelNode;
+import org.jboss.dmr.client.Property;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.jboss.dmr.client.ModelDescriptionConstants.*;
+
+/**
+ * Counts DMR requests, transferred characters and decode time. The numbers are collected in total and per scope:
+ * Code which wants to attribute requests to a scope {@linkplain #enter(String) enters} the scope before it
+ * dispatches. The scope of a request is restored while its callback runs, so requests which are dispatched from
+ * within the callback are attributed to the same scope.
+ * <p>
+ * In addition the latency, size and decode time of each request are kept in rolling histograms per operation name
+ * and address template, e.g. {@code read-resource /subsystem=datasources/data-source=*}, and the slowest requests
+ * are kept in a top-N log. Recording a request costs a few array writes, so the statistics are always on.
+ * Percentiles are only computed when the numbers are read.
+ * <p>
+ * Sizes are measured in characters of the (base64 encoded) payload, not in bytes.
+ */
+public class DispatchStatistics {
+
+    public static final DispatchStatistics INSTANCE = new DispatchStatistics();
+
+    /**
+     * The number of recent samples kept per histogram.
+     */
+    static final int WINDOW = 128;
+
+    /**
+     * The number of entries in the slow operation log.
+     */
+    static final int SLOW_OPERATIONS = 25;
+
+    /**
+     * The maximum number of operation / address template combinations. The least recently used one is dropped.
+     */
+    static final int MAX_SERIES = 250;
+
+    /**
+     * Address segments which keep their value in the address template. All other values are replaced by '*'.
+     */
+    private static final Set<String> TYPED_SEGMENTS = new LinkedHashSet<String>(
+            Arrays.asList(SUBSYSTEM, "core-service"));
+
+    private static final int MAX_COMPOSITE_STEPS = 3;
+
+    private final Counter total = new Counter();
+    private final Map<String, Counter> scopes = new HashMap<String, Counter>();
+    private final Map<String, Series> series;
+    private final List<Sample> slowOperations;
+    private String scope;
+
+    DispatchStatistics() {
+        this.series = new LinkedHashMap<String, Series>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Series> eldest) {
+                return size() > MAX_SERIES;
+            }
+        };
+        this.slowOperations = new ArrayList<Sample>();
+    }
+
+    /**
+     * Enters the given scope.
+     *
+     * @return the previous scope which must be passed to {@link #leave(String)}
+     */
+    public String enter(String scope) {
+        String previous = this.scope;
+        this.scope = scope;
+        return previous;
+    }
+
+    public void leave(String previous) {
+        this.scope = previous;
+    }
+
+    public String getScope() {
+        return scope;
+    }
+
+    /**
+     * Counts a request and starts a sample for it. Call {@link Sample#received(int)} once the response is received.
+     *
+     * @param scope        the scope of the request
+     * @param requestChars the length of the request payload
+     */
+    public Sample begin(String scope, ModelNode operation, int requestChars) {
+        return begin(scope, operation, requestChars, now());
+    }
+
+    Sample begin(String scope, ModelNode operation, int requestChars, double start) {
+        total.requests++;
+        if (scope != null) {
+            counter(scope).requests++;
+        }
+
+        String name = operation.get(OP).asString();
+        String template;
+        String address;
+        if (COMPOSITE.equals(name)) {
+            template = compositeTemplate(operation);
+            address = operation.get(STEPS).asList().size() + " steps";
+        } else {
+            template = path(operation.get(ADDRESS), true);
+            address = path(operation.get(ADDRESS), false);
+        }
+        return new Sample(this, scope, name, template, address, requestChars, start);
+    }
+
+    void received(Sample sample) {
+        total.chars += sample.responseChars;
+        if (sample.scope != null) {
+            counter(sample.scope).chars += sample.responseChars;
+        }
+
+        String key = sample.getKey();
+        Series s = series.get(key);
+        if (s == null) {
+            s = new Series(sample.operation, sample.template);
+            series.put(key, s);
+        }
+        s.latency.record(sample.latency);
+        s.responseChars.record(sample.responseChars);
+        s.requestChars.record(sample.requestChars);
+        sample.series = s;
+
+        if (slowOperations.size() < SLOW_OPERATIONS ||
+                sample.latency > slowOperations.get(slowOperations.size() - 1).latency) {
+            int index = 0;
+            while (index < slowOperations.size() && slowOperations.get(index).latency >= sample.latency) {
+                index++;
+            }
+            slowOperations.add(index, sample);
+            if (slowOperations.size() > SLOW_OPERATIONS) {
+                slowOperations.remove(slowOperations.size() - 1);
+            }
+        }
+    }
+
+    /**
+     * Records the time needed to decode a response which does not belong to a {@link Sample}, e.g. a cached
+     * response. The time is attributed to the current scope.
+     */
+    public void decoded(double millis) {
+        decoded(scope, millis);
+    }
+
+    void decoded(Sample sample) {
+        decoded(sample.scope, sample.decodeMillis);
+        if (sample.series != null) {
+            sample.series.decode.record(sample.decodeMillis);
+        }
+    }
+
+    private void decoded(String scope, double millis) {
+        total.decodeMillis += millis;
+        if (scope != null) {
+            counter(scope).decodeMillis += millis;
+        }
+    }
+
+    public Counter getTotal() {
+        return total.copy();
+    }
+
+    /**
+     * @return a snapshot of the numbers of the given scope
+     */
+    public Counter getScope(String scope) {
+        Counter counter = scopes.get(scope);
+        return counter != null ? counter.copy() : new Counter();
+    }
+
+    /**
+     * @return all series ordered by the given comparator
+     */
+    public List<Series> getSeries(Comparator<Series> order) {
+        List<Series> result = new ArrayList<Series>(series.values());
+        Collections.sort(result, order);
+        return result;
+    }
+
+    /**
+     * @return the slowest requests, the slowest first
+     */
+    public List<Sample> getSlowOperations() {
+        return new ArrayList<Sample>(slowOperations);
+    }
+
+    /**
+     * Clears the series and the slow operation log. The counters are kept, since scopes and snapshots refer to them.
+     */
+    public void reset() {
+        series.clear();
+        slowOperations.clear();
+    }
+
+    public static double now() {
+        return Duration.currentTimeMillis();
+    }
+
+    private Counter counter(String scope) {
+        Counter counter = scopes.get(scope);
+        if (counter == null) {
+            counter = new Counter();
+            scopes.put(scope, counter);
+        }
+        return counter;
+    }
+
+    /**
+     * Turns an address into a path like {@code /subsystem=datasources/data-source=ExampleDS} or into a template
+     * like {@code /subsystem=datasources/data-source=*}.
+     */
+    static String path(ModelNode address, boolean template) {
+        List<Property> segments = address.isDefined() ? address.asPropertyList() : Collections.<Property>emptyList();
+        if (segments.isEmpty()) {
+            return "/";
+        }
+        StringBuilder builder = new StringBuilder();
+        for (Property segment : segments) {
+            builder.append('/').append(segment.getName()).append('=');
+            if (template && !TYPED_SEGMENTS.contains(segment.getName())) {
+                builder.append('*');
+            } else {
+                builder.append(segment.getValue().asString());
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String compositeTemplate(ModelNode operation) {
+        Set<String> steps = new LinkedHashSet<String>();
+        for (ModelNode step : operation.get(STEPS).asList()) {
+            steps.add(step.get(OP).asString() + " " + path(step.get(ADDRESS), true));
+        }
+        StringBuilder builder = new StringBuilder("[");
+        int index = 0;
+        for (String step : steps) {
+            if (index == MAX_COMPOSITE_STEPS) {
+                builder.append(", +").append(steps.size() - MAX_COMPOSITE_STEPS);
+                break;
+            }
+            if (index > 0) {
+                builder.append(", ");
+            }
+            builder.append(step);
+            index++;
+        }
+        return builder.append("]").toString();
+    }
+
+
+    public static class Counter {
+
+        private int requests;
+        private long chars;
+        private double decodeMillis;
+
+        public int getRequests() {
+            return requests;
+        }
+
+        /**
+         * @return the number of characters of all response payloads
+         */
+        public long getChars() {
+            return chars;
+        }
+
+        public double getDecodeMillis() {
+            return decodeMillis;
+        }
+
+        /**
+         * @return the difference between this and an earlier snapshot
+         */
+        public Counter since(Counter earlier) {
+            Counter counter = new Counter();
+            counter.requests = requests - earlier.requests;
+            counter.chars = chars - earlier.chars;
+            counter.decodeMillis = decodeMillis - earlier.decodeMillis;
+            return counter;
+        }
+
+        Counter copy() {
+            Counter counter = new Counter();
+            counter.requests = requests;
+            counter.chars = chars;
+            counter.decodeMillis = decodeMillis;
+            return counter;
+        }
+
+        @Override
+        public String toString() {
+            return "Counter(requests=" + requests + ", chars=" + chars + ", decode=" + decodeMillis + "ms)";
+        }
+    }
+
+
+    /**
+     * A single request.
+     */
+    public static class Sample {
+
+        private final DispatchStatistics statistics;
+        private final String scope;
+        private final String operation;
+        private final String template;
+        private final String address;
+        private final int requestChars;
+        private final double start;
+        private double latency;
+        private int responseChars;
+        private double decodeMillis;
+        private double decodedAt;
+        private Series series;
+
+        Sample(DispatchStatistics statistics, String scope, String operation, String template, String address,
+                int requestChars, double start) {
+            this.statistics = statistics;
+            this.scope = scope;
+            this.operation = operation;
+            this.template = template;
+            this.address = address;
+            this.requestChars = requestChars;
+            this.start = start;
+            this.latency = -1;
+            this.decodeMillis = -1;
+        }
+
+        /**
+         * Records the latency and the length of the response payload. Must be called once per sample.
+         */
+        public void received(int responseChars) {
+            received(responseChars, now());
+        }
+
+        void received(int responseChars, double end) {
+            this.latency = end - start;
+            this.responseChars = responseChars;
+            statistics.received(this);
+        }
+
+        /**
+         * Records the time needed to decode the response. Only the first call is recorded.
+         */
+        public void decoded(double millis) {
+            decoded(millis, now());
+        }
+
+        void decoded(double millis, double at) {
+            if (decodeMillis < 0) {
+                this.decodeMillis = millis;
+                this.decodedAt = at;
+                statistics.decoded(this);
+            }
+        }
+
+        public boolean isDecoded() {
+            return decodeMillis >= 0;
+        }
+
+        public String getKey() {
+            return operation + " " + template;
+        }
+
+        public String getOperation() {
+            return operation;
+        }
+
+        public String getAddress() {
+            return address;
+        }
+
+        public double getStart() {
+            return start;
+        }
+
+        public double getLatency() {
+            return latency;
+        }
+
+        public String getScope() {
+            return scope;
+        }
+
+        public int getRequestChars() {
+            return requestChars;
+        }
+
+        public int getResponseChars() {
+            return responseChars;
+        }
+
+        /**
+         * @return the decode time or -1 if the response was not decoded (yet)
+         */
+        public double getDecodeMillis() {
+            return decodeMillis;
+        }
+
+        /**
+         * @return the point in time when the response was decoded
+         */
+        public double getDecodedAt() {
+            return decodedAt;
+        }
+
+        @Override
+        public String toString() {
+            return "Sample(" + operation + " " + address + ", " + latency + "ms, " + responseChars + " chars)";
+        }
+    }
+
+
+    /**
+     * The histograms of one operation / address template combination.
+     */
+    public static class Series {
+
+        private final String operation;
+        private final String template;
+        private final Histogram latency;
+        private final Histogram requestChars;
+        private final Histogram responseChars;
+        private final Histogram decode;
+
+        Series(String operation, String template) {
+            this.operation = operation;
+            this.template = template;
+            this.latency = new Histogram(WINDOW);
+            this.requestChars = new Histogram(WINDOW);
+            this.responseChars = new Histogram(WINDOW);
+            this.decode = new Histogram(WINDOW);
+        }
+
+        public String getOperation() {
+            return operation;
+        }
+
+        public String getTemplate() {
+            return template;
+        }
+
+        public Histogram getLatency() {
+            return latency;
+        }
+
+        public Histogram getRequestChars() {
+            return requestChars;
+        }
+
+        public Histogram getResponseChars() {
+            return responseChars;
+        }
+
+        public Histogram getDecode() {
+            return decode;
+        }
+
+        @Override
+        public String toString() {
+            return "Series(" + operation + " " + template + ", latency " + latency + ")";
+        }
+    }
+
+
+    /**
+     * Rolling histogram over the last {@code n} values. Count and sum cover all recorded values.
+     */
+    public static class Histogram {
+
+        private final double[] values;
+        private int next;
+        private int size;
+        private long count;
+        private double sum;
+        private double max;
+
+        Histogram(int window) {
+            this.values = new double[window];
+        }
+
+        void record(double value) {
+            values[next] = value;
+            next = (next + 1) % values.length;
+            if (size < values.length) {
+                size++;
+            }
+            count++;
+            sum += value;
+            max = Math.max(max, value);
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getSum() {
+            return sum;
+        }
+
+        public double getMean() {
+            return count == 0 ? 0 : sum / count;
+        }
+
+        /**
+         * @return the maximum of all recorded values
+         */
+        public double getMax() {
+            return max;
+        }
+
+        /**
+         * @param percentile a value between 0 and 100
+         *
+         * @return the percentile of the values in the window using the nearest rank method
+         */
+        public double getPercentile(double percentile) {
+            if (size == 0) {
+                return 0;
+            }
+            double[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percentile / 100.0 * size);
+            return sorted[Math.max(0, Math.min(size, rank) - 1)];
+        }
+
+        @Override
+        public String toString() {
+            return "Histogram(count=" + count + ", mean=" + getMean() + ", p95=" + getPercentile(95) + ", max=" +
+                    max + ")";
+        }
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011 Red Hat Inc. and/or its affiliates and other contributors
+ * as indicated by the @author tags. All rights reserved.
+ * See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This copyrighted material is made available to anyone wishing to use,
+ * modify, copy, or redistribute it subject to the terms and conditions
+ * of the GNU Lesser General Public License, v. 2.1.
+ * This program is distributed in the hope that it will be useful, but WITHOUT A
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License,
+ * v.2.1 along with this distribution; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA  02110-1301, USA.
+ */
+
+package org.jboss.dmr.client.dispatch.impl;
+
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import org.jboss.dmr.client.ModelNode;
+import org.jboss.dmr.client.dispatch.Action;
+import org.jboss.dmr.client.dispatch.DispatchAsync;
+import org.jboss.dmr.client.dispatch.DispatchRequest;
+import org.jboss.dmr.client.dispatch.Result;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.jboss.dmr.client.ModelDescriptionConstants.*;
+
+/**
+ * A dispatcher which collects independent read operations and sends them as one composite operation. Operations
+ * are collected until the end of the current event loop (window = 0) or for the configured window in ms.
+ * <p>
+ * Only non-composite read operations are batched. Descriptions are excluded since they're read using cacheable GET
+ * requests. Reads which would be served by the response cache of the {@link CachingDMRHandler} are excluded as
+ * well, so they still hit the cache and are coalesced with identical in-flight reads. All other actions are passed to
+ * the delegate as is. Identical reads within one batch share one step. The results of the composite are split and
+ * passed to the original callbacks. Steps without a usable result (e.g. because the composite failed before
+ * executing them) are executed again as single operations.
+ */
+public class BatchingDispatchAsync implements DispatchAsync {
+
+    private final DispatchAsync delegate;
+    private final int window;
+    private List<Batched> queue;
+
+    public BatchingDispatchAsync(DispatchAsync delegate, int window) {
+        this.delegate = delegate;
+        this.window = window;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <A extends Action<R>, R extends Result> DispatchRequest execute(A action, AsyncCallback<R> callback) {
+        if (action instanceof DMRAction && isBatchable((DMRAction) action)) {
+            Batched batched = new Batched((DMRAction) action, (AsyncCallback<DMRResponse>) callback);
+            enqueue(batched);
+            return batched;
+        }
+        return delegate.execute(action, callback);
+    }
+
+    @Override
+    public <A extends Action<R>, R extends Result> DispatchRequest undo(A action, R result,
+            AsyncCallback<Void> callback) {
+        return delegate.undo(action, result, callback);
+    }
+
+    @Override
+    public void setProperty(String key, String value) {
+        delegate.setProperty(key, value);
+    }
+
+    @Override
+    public void clearProperty(String key) {
+        delegate.clearProperty(key);
+    }
+
+    static boolean isBatchable(DMRAction action) {
+        ModelNode operation = action.getOperation();
+        String name = operation.get(OP).asString();
+        boolean cached = action.isCachable() && CachingDMRHandler.ttl(operation) > 0;
+        return !COMPOSITE.equals(name) && !READ_RESOURCE_DESCRIPTION_OPERATION.equals(name) &&
+                DMROperations.isReadOnly(operation) && !cached;
+    }
+
+    private void enqueue(Batched batched) {
+        if (queue == null) {
+            queue = new ArrayList<Batched>();
+            scheduleFlush();
+        }
+        queue.add(batched);
+    }
+
+    void scheduleFlush() {
+        if (window > 0) {
+            Scheduler.get().scheduleFixedDelay(new Scheduler.RepeatingCommand() {
+                @Override
+                public boolean execute() {
+                    flush();
+                    return false;
+                }
+            }, window);
+        } else {
+            Scheduler.get().scheduleFinally(new Scheduler.ScheduledCommand() {
+                @Override
+                public void execute() {
+                    flush();
+                }
+            });
+        }
+    }
+
+    void flush() {
+        List<Batched> batch = new ArrayList<Batched>();
+        if (queue != null) {
+            for (Batched batched : queue) {
+                if (!batched.cancelled) {
+                    batch.add(batched);
+                }
+            }
+            queue = null;
+        }
+
+        if (batch.size() == 1) {
+            batch.get(0).executeSingle();
+        } else if (batch.size() > 1) {
+            executeComposite(batch);
+        }
+    }
+
+    private void executeComposite(final List<Batched> batch) {
+        // identical reads share one step
+        Map<String, Integer> keys = new HashMap<String, Integer>();
+        final int[] stepIndex = new int[batch.size()];
+        List<ModelNode> steps = new ArrayList<ModelNode>();
+        boolean cachable = true;
+        for (int i = 0; i < batch.size(); i++) {
+            DMRAction action = batch.get(i).action;
+            String key = DMROperations.canonicalKey(action.getOperation(), Collections.<String, String>emptyMap());
+            Integer index = keys.get(key);
+            if (index == null) {
+                steps.add(action.getOperation());
+                index = steps.size();
+                keys.put(key, index);
+            }
+            stepIndex[i] = index;
+            cachable &= action.isCachable();
+        }
+
+        ModelNode composite = new ModelNode();
+        composite.get(OP).set(COMPOSITE);
+        composite.get(ADDRESS).setEmptyList();
+        composite.get(STEPS).set(steps);
+
+        delegate.execute(new DMRAction(composite, cachable), new AsyncCallback<DMRResponse>() {
+            @Override
+            public void onFailure(Throwable caught) {
+                for (Batched batched : batch) {
+                    batched.onFailure(caught);
+                }
+            }
+
+            @Override
+            public void onSuccess(DMRResponse result) {
+                ModelNode response = result.get();
+
+                // callbacks sharing a step get their own copy: all but the last one get a clone, which is taken
+                // before any callback runs and might modify its step
+                ModelNode[] results = new ModelNode[batch.size()];
+                Set<Integer> shared = new HashSet<Integer>();
+                for (int i = batch.size() - 1; i >= 0; i--) {
+                    ModelNode step = response.get(RESULT).get("step-" + stepIndex[i]);
+                    results[i] = shared.add(stepIndex[i]) ? step : step.clone();
+                }
+
+                for (int i = 0; i < batch.size(); i++) {
+                    Batched batched = batch.get(i);
+                    if (isConclusive(results[i])) {
+                        batched.onSuccess(new DMRResponse(results[i]));
+                    } else {
+                        // the step was not executed or rolled back w/o failure of its own
+                        batched.executeSingle();
+                    }
+                }
+            }
+        });
+    }
+
+    private static boolean isConclusive(ModelNode step) {
+        if (!step.hasDefined(OUTCOME)) {
+            return false;
+        }
+        return SUCCESS.equals(step.get(OUTCOME).asString()) || step.hasDefined(FAILURE_DESCRIPTION);
+    }
+
+
+    private class Batched implements DispatchRequest {
+
+        private final DMRAction action;
+        private final AsyncCallback<DMRResponse> callback;
+        private DispatchRequest single;
+        private boolean cancelled;
+        private boolean done;
+
+        Batched(DMRAction action, AsyncCallback<DMRResponse> callback) {
+            this.action = action;
+            this.callback = callback;
+        }
+
+        void executeSingle() {
+            single = delegate.execute(action, new AsyncCallback<DMRResponse>() {
+                @Override
+                public void onFailure(Throwable caught) {
+                    Batched.this.onFailure(caught);
+                }
+
+                @Override
+                public void onSuccess(DMRResponse result) {
+                    Batched.this.onSuccess(result);
+                }
+            });
+        }
+
+        void onFailure(Throwable caught) {
+            if (!cancelled) {
+                done = true;
+                callback.onFailure(caught);
+            }
+        }
+
+        void onSuccess(DMRResponse result) {
+            if (!cancelled) {
+                done = true;
+                callback.onSuccess(result);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            // the composite is shared with other operations and keeps running
+            cancelled = true;
+            if (single != null) {
+                single.cancel();
+            }
+        }
+
+        @Override
+        public boolean isPending() {
+            return !cancelled && !done;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011 Red Hat Inc. and/or its affiliates and other contributors
+ * as indicated by the @author tags. All rights reserved.
+ * See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This copyrighted material is made available to anyone wishing to use,
+ * modify, copy, or redistribute it subject to the terms and conditions
+ * of the GNU Lesser General Public License, v. 2.1.
+ * This program is distributed in the hope that it will be useful, but WITHOUT A
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License,
+ * v.2.1 along with this distribution; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA  02110-1301, USA.
+ */
+
+package org.jboss.dmr.client.dispatch.impl;
+
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import com.google.inject.Inject;
+import org.jboss.dmr.client.ModelNode;
+import org.jboss.dmr.client.Property;
+import org.jboss.dmr.client.dispatch.ActionHandler;
+import org.jboss.dmr.client.dispatch.DMRCache;
+import org.jboss.dmr.client.dispatch.DispatchRequest;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.jboss.dmr.client.ModelDescriptionConstants.*;
+
+/**
+ * Decorates the {@link DMRHandler} with a response cache for read operations of {@linkplain DMRAction#isCachable()
+ * cachable} actions.
+ * <p>
+ * The time to live depends on the operation: Descriptions are cached for several minutes, configuration reads for
+ * some seconds and runtime reads ({@code include-runtime=true}, {@code read-attribute}, ...) are not cached at all.
+ * {@code read-resource-description} is not cached here: Single descriptions are read using GET requests and cached
+ * by the {@link DMRHandler} according to their ETag and cache control headers.
+ * Writes invalidate all entries with an overlapping address. Operations with an unknown scope like
+ * {@code reload} or {@code start} flush the whole cache.
+ */
+public class CachingDMRHandler implements ActionHandler<DMRAction, DMRResponse> {
+
+    static final int MAX_ENTRIES = 250;
+    static final long DESCRIPTION_TTL = 5 * 60 * 1000;
+    static final long CONFIGURATION_TTL = 5 * 1000;
+
+    private static final Set<String> DESCRIPTION_OPS = new HashSet<String>(Arrays.asList(
+            READ_OPERATION_DESCRIPTION_OPERATION,
+            READ_OPERATION_NAMES_OPERATION,
+            READ_CHILDREN_TYPES_OPERATION));
+
+    private static final Set<String> CONFIGURATION_OPS = new HashSet<String>(Arrays.asList(
+            READ_RESOURCE_OPERATION,
+            READ_CHILDREN_NAMES_OPERATION,
+            READ_CHILDREN_RESOURCES_OPERATION));
+
+    /**
+     * Writes which affect the addressed resource (and its children) only.
+     */
+    private static final Set<String> SCOPED_WRITE_OPS = new HashSet<String>(Arrays.asList(
+            ADD, REMOVE, WRITE_ATTRIBUTE_OPERATION, "undefine-attribute",
+            "map-put", "map-remove", "map-clear", "list-add", "list-remove", "list-clear"));
+
+    private final DMRHandler delegate;
+    private final DMRCache cache;
+
+    @Inject
+    public CachingDMRHandler(DMRHandler delegate) {
+        this.delegate = delegate;
+        this.cache = new DMRCache(MAX_ENTRIES);
+    }
+
+    @Override
+    public DispatchRequest execute(final DMRAction action, final AsyncCallback<DMRResponse> resultCallback,
+            final Map<String, String> properties) {
+
+        final ModelNode operation = action.getOperation();
+        if (!DMROperations.isReadOnly(operation)) {
+            invalidate(operation);
+            return delegate.execute(action, new AsyncCallback<DMRResponse>() {
+                @Override
+                public void onFailure(Throwable caught) {
+                    invalidate(operation);
+                    resultCallback.onFailure(caught);
+                }
+
+                @Override
+                public void onSuccess(DMRResponse result) {
+                    invalidate(operation);
+                    resultCallback.onSuccess(result);
+                }
+            }, properties);
+        }
+
+        final long ttl = action.isCachable() ? ttl(operation) : 0;
+        if (ttl <= 0) {
+            return delegate.execute(action, resultCallback, properties);
+        }
+
+        final String key = DMROperations.canonicalKey(operation, properties);
+        final DMRResponse cached = cache.get(key);
+        if (cached != null) {
+            // the cached response has already been processed when it was delivered the first time
+            return new CachedRequest(cached.replay(), resultCallback);
+        }
+
+        final int generation = cache.getGeneration();
+        return delegate.execute(action, new AsyncCallback<DMRResponse>() {
+            @Override
+            public void onFailure(Throwable caught) {
+                resultCallback.onFailure(caught);
+            }
+
+            @Override
+            public void onSuccess(DMRResponse result) {
+                // don't cache responses which might be outdated by writes in the meantime
+                if (generation == cache.getGeneration()) {
+                    cache.put(key, result, ttl, DMROperations.addresses(operation));
+                }
+                resultCallback.onSuccess(result);
+            }
+        }, properties);
+    }
+
+    @Override
+    public DispatchRequest undo(DMRAction action, DMRResponse result, AsyncCallback<Void> callback) {
+        return delegate.undo(action, result, callback);
+    }
+
+    public DMRCache getCache() {
+        return cache;
+    }
+
+    private void invalidate(ModelNode operation) {
+        if (isScopedWrite(operation)) {
+            for (List<Property> address : DMROperations.addresses(operation)) {
+                cache.invalidate(address);
+            }
+        } else {
+            cache.clear();
+        }
+    }
+
+    private static boolean isScopedWrite(ModelNode operation) {
+        String name = operation.get(OP).asString();
+        if (COMPOSITE.equals(name)) {
+            if (!operation.hasDefined(STEPS)) {
+                return false;
+            }
+            for (ModelNode step : operation.get(STEPS).asList()) {
+                if (!isScopedWrite(step) && !DMROperations.isReadOnly(step)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return SCOPED_WRITE_OPS.contains(name);
+    }
+
+    /**
+     * @return the time to live in ms or 0 if the operation must not be cached
+     */
+    static long ttl(ModelNode operation) {
+        String name = operation.get(OP).asString();
+        if (COMPOSITE.equals(name)) {
+            if (!operation.hasDefined(STEPS)) {
+                return 0;
+            }
+            long ttl = Long.MAX_VALUE;
+            for (ModelNode step : operation.get(STEPS).asList()) {
+                ttl = Math.min(ttl, ttl(step));
+            }
+            return ttl == Long.MAX_VALUE ? 0 : ttl;
+        }
+        if (DESCRIPTION_OPS.contains(name)) {
+            return DESCRIPTION_TTL;
+        }
+        if (CONFIGURATION_OPS.contains(name)) {
+            boolean runtime = operation.hasDefined(INCLUDE_RUNTIME) && operation.get(INCLUDE_RUNTIME).asBoolean();
+            return runtime ? 0 : CONFIGURATION_TTL;
+        }
+        return 0;
+    }
+
+
+    /**
+     * Delivers a cached response asynchronously, like a real request would do.
+     */
+    static class CachedRequest implements DispatchRequest, Scheduler.ScheduledCommand {
+
+        private final DMRResponse response;
+        private final AsyncCallback<DMRResponse> callback;
+        private boolean pending;
+
+        CachedRequest(DMRResponse response, AsyncCallback<DMRResponse> callback) {
+            this.response = response;
+            this.callback = callback;
+            this.pending = true;
+            Scheduler.get().scheduleDeferred(this);
+        }
+
+        @Override
+        public void execute() {
+            if (pending) {
+                pending = false;
+                callback.onSuccess(response);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            pending = false;
+        }
+
+        @Override
+        public boolean isPending() {
+            return pending;
+        }
+    }
+}
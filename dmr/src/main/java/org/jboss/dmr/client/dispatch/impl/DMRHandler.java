@@ -32,7 +32,9 @@ import org.jboss.dmr.client.dispatch.ActionHandler;
 import org.jboss.dmr.client.dispatch.Diagnostics;
 import org.jboss.dmr.client.dispatch.DispatchError;
 import org.jboss.dmr.client.dispatch.DispatchRequest;
+import org.jboss.dmr.client.dispatch.DispatchStatistics;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -49,6 +51,22 @@ public class DMRHandler implements ActionHandler<DMRAction, DMRResponse> {
     private static final String DMR_ENCODED = "application/dmr-encoded";
     private static final String HEADER_CONNECTION = "Connection";
     private static final String KEEP_ALIVE = "Keep-Alive";
+    private static final String HEADER_ETAG = "ETag";
+    private static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+    private static final String HEADER_CACHE_CONTROL = "Cache-Control";
+
+    /**
+     * Dispatcher property which holds the management model version of the server. It's part of the description
+     * URLs, so that the browser cache is invalidated when the server is updated.
+     */
+    public static final String MANAGEMENT_VERSION = "management_version";
+
+    /**
+     * Description URLs are versioned using an operation header, which is ignored by the description operation.
+     */
+    private static final String VERSION_PARAMETER = "operation-header-management-version";
+
+    private static final int MAX_DESCRIPTIONS = 100;
 
     /**
      * The read resource description supports the following parameters:
@@ -66,6 +84,15 @@ public class DMRHandler implements ActionHandler<DMRAction, DMRResponse> {
     private boolean trackInvocations = diagnostics.isEnabled();
     private DMREndpointConfig endpointConfig = GWT.create(DMREndpointConfig.class);
     private ResourceAccessLog resourceLog = ResourceAccessLog.INSTANCE;
+    private DispatchStatistics statistics = DispatchStatistics.INSTANCE;
+
+    // ETags and payloads of description responses by URL. Used to revalidate descriptions using conditional requests.
+    private final Map<String, Description> descriptions = new LinkedHashMap<String, Description>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Description> eldest) {
+            return size() > MAX_DESCRIPTIONS;
+        }
+    };
 
     private RequestBuilder postRequestBuilder() {
         // lazy init, because endpointConfig.getUrl() is not initialized at construction time
@@ -137,8 +164,23 @@ public class DMRHandler implements ActionHandler<DMRAction, DMRResponse> {
 
         //Request request = executeRequest(resultCallback, GWT.isScript() ? operation : runAsRole(operation));
         // TODO: https://issues.jboss.org/browse/HAL-100
-        Request request = executeRequest(resultCallback, runAsRole(operation, properties));
-        return new DispatchRequestHandle(request);
+        String scope = statistics.getScope();
+        ModelNode runAs = runAsRole(operation, properties);
+        String managementVersion = properties.get(MANAGEMENT_VERSION);
+        if (READ_RESOURCE_DESCRIPTION_OPERATION.equals(runAs.get(OP).asString()))
+        {
+            Description description = descriptions.get(descriptionUrl(runAs, managementVersion));
+            if (description != null && description.isFresh())
+            {
+                // still fresh according to max-age: no need to revalidate
+                return new CachingDMRHandler.CachedRequest(description.response(),
+                        new ScopedCallback(scope, resultCallback));
+            }
+        }
+
+        DispatchRequestHandle handle = new DispatchRequestHandle();
+        executeRequest(handle, new ScopedCallback(scope, resultCallback), runAs, managementVersion, scope);
+        return handle;
     }
 
     private ModelNode runAsRole(final ModelNode operation, final Map<String, String> properties) {
@@ -187,21 +229,23 @@ public class DMRHandler implements ActionHandler<DMRAction, DMRResponse> {
         throw new RuntimeException("Not implemented yet.");
     }
 
-    private Request executeRequest(final AsyncCallback<DMRResponse> resultCallback, final ModelNode operation)
+    private void executeRequest(final DispatchRequestHandle handle, final AsyncCallback<DMRResponse> resultCallback,
+            final ModelNode operation, final String managementVersion, final String scope)
     {
         if (idCounter == Long.MAX_VALUE)
         {
             idCounter = 0;
         }
 
-        Request request = null;
         try
         {
             final String id = String.valueOf(idCounter++);
             trace(Type.BEGIN, id, operation);
 
-            final RequestBuilder requestBuilder = chooseRequestBuilder(operation);
+            final RequestBuilder requestBuilder = chooseRequestBuilder(operation, managementVersion);
+            final boolean conditional = requestBuilder.getHeader(HEADER_IF_NONE_MATCH) != null;
             trace(Type.SERIALIZED, id, operation);
+            final DispatchStatistics.Sample sample = statistics.begin(scope, operation, requestSize(requestBuilder));
 
             final RequestCallback requestCallback = new RequestCallback()
             {
@@ -209,17 +253,39 @@ public class DMRHandler implements ActionHandler<DMRAction, DMRResponse> {
                 public void onResponseReceived(Request request, Response response)
                 {
                     trace(Type.RECEIVE, id, operation);
+                    sample.received(response.getText().length());
 
                     int statusCode = response.getStatusCode();
-                    if (200 == statusCode)
+                    if (304 == statusCode && conditional)
+                    {
+                        Description description = descriptions.get(requestBuilder.getUrl());
+                        if (description != null)
+                        {
+                            // not modified: use the payload of the previous response
+                            description.revalidated(response.getHeader(HEADER_CACHE_CONTROL));
+                            DMRResponse dmrResponse = description.response();
+                            dmrResponse.setSample(sample);
+                            resultCallback.onSuccess(dmrResponse);
+                        }
+                        else
+                        {
+                            // the payload was evicted in the meantime: request it again w/o If-None-Match
+                            executeRequest(handle, resultCallback, operation, managementVersion, scope);
+                        }
+                    }
+                    else if (200 == statusCode)
                     {
-                        resultCallback.onSuccess(
-                                new DMRResponse(
-                                        requestBuilder.getHTTPMethod(),
-                                        response.getText(),
-                                        response.getHeader(HEADER_CONTENT_TYPE)
-                                )
+                        if ("GET".equals(requestBuilder.getHTTPMethod()))
+                        {
+                            remember(requestBuilder.getUrl(), response);
+                        }
+                        DMRResponse dmrResponse = new DMRResponse(
+                                requestBuilder.getHTTPMethod(),
+                                response.getText(),
+                                response.getHeader(HEADER_CONTENT_TYPE)
                         );
+                        dmrResponse.setSample(sample);
+                        resultCallback.onSuccess(dmrResponse);
                     }
                     else if (401 == statusCode || 0 == statusCode)
                     {
@@ -254,6 +320,10 @@ public class DMRHandler implements ActionHandler<DMRAction, DMRResponse> {
                         sb.append(payload);
                         resultCallback.onFailure(new DispatchError(sb.toString(), statusCode));
                     }
+                    if (sample.isDecoded())
+                    {
+                        trace(Type.DESERIALIZED, id, sample.getDecodedAt());
+                    }
                     trace(Type.END, id, operation);
                 }
 
@@ -261,19 +331,19 @@ public class DMRHandler implements ActionHandler<DMRAction, DMRResponse> {
                 public void onError(Request request, Throwable e)
                 {
                     trace(Type.RECEIVE, id, operation);
+                    sample.received(0);
                     resultCallback.onFailure(e);
                     trace(Type.END, id, operation);
                 }
             };
             requestBuilder.setCallback(requestCallback);
-            request = requestBuilder.send();
+            handle.request = requestBuilder.send();
             trace(Type.SEND, id, operation);
         }
         catch (RequestException e)
         {
             resultCallback.onFailure(e);
         }
-        return request;
     }
 
 
@@ -292,22 +362,20 @@ public class DMRHandler implements ActionHandler<DMRAction, DMRResponse> {
         return false;
     }
 
-    private RequestBuilder chooseRequestBuilder(final ModelNode operation)
+    private RequestBuilder chooseRequestBuilder(final ModelNode operation, final String managementVersion)
     {
         RequestBuilder requestBuilder;
         final String op = operation.get(OP).asString();
         if (READ_RESOURCE_DESCRIPTION_OPERATION.equals(op))
         {
-            String endpoint = endpointConfig.getUrl();
-            if (endpoint.endsWith("/"))
-            {
-                endpoint = endpoint.substring(0, endpoint.length() - 1);
-            }
-            String descriptionUrl = endpoint + descriptionOperationToUrl(operation);
-            requestBuilder = new RequestBuilder(RequestBuilder.GET,
-                    com.google.gwt.http.client.URL.encode(descriptionUrl));
+            requestBuilder = new RequestBuilder(RequestBuilder.GET, descriptionUrl(operation, managementVersion));
             requestBuilder.setHeader(HEADER_ACCEPT, DMR_ENCODED);
             requestBuilder.setHeader(HEADER_CONTENT_TYPE, DMR_ENCODED);
+            Description description = descriptions.get(requestBuilder.getUrl());
+            if (description != null)
+            {
+                requestBuilder.setHeader(HEADER_IF_NONE_MATCH, description.etag);
+            }
             requestBuilder.setIncludeCredentials(true);
             requestBuilder.setRequestData(null);
         }
@@ -319,7 +387,17 @@ public class DMRHandler implements ActionHandler<DMRAction, DMRResponse> {
         return requestBuilder;
     }
 
-    private String descriptionOperationToUrl(final ModelNode operation)
+    private String descriptionUrl(final ModelNode operation, final String managementVersion)
+    {
+        String endpoint = endpointConfig.getUrl();
+        if (endpoint.endsWith("/"))
+        {
+            endpoint = endpoint.substring(0, endpoint.length() - 1);
+        }
+        return com.google.gwt.http.client.URL.encode(endpoint + descriptionOperationToUrl(operation, managementVersion));
+    }
+
+    private String descriptionOperationToUrl(final ModelNode operation, final String managementVersion)
     {
         StringBuilder url = new StringBuilder();
         final List<Property> address = operation.get(ADDRESS).asPropertyList();
@@ -336,9 +414,93 @@ public class DMRHandler implements ActionHandler<DMRAction, DMRResponse> {
                 url.append("&").append(parameter).append("=").append(operation.get(parameter).asString());
             }
         }
+        if (managementVersion != null)
+        {
+            url.append("&").append(VERSION_PARAMETER).append("=").append(managementVersion);
+        }
         return url.toString();
     }
 
+    /**
+     * Remembers the ETag and payload of a description response unless the server forbids to store it.
+     */
+    private void remember(final String url, final Response response)
+    {
+        String etag = response.getHeader(HEADER_ETAG);
+        String cacheControl = response.getHeader(HEADER_CACHE_CONTROL);
+        if (etag == null || etag.length() == 0 || hasDirective(cacheControl, "no-store"))
+        {
+            descriptions.remove(url);
+        }
+        else
+        {
+            Description description = new Description(etag, response.getText(),
+                    response.getHeader(HEADER_CONTENT_TYPE));
+            description.revalidated(cacheControl);
+            descriptions.put(url, description);
+        }
+    }
+
+    static boolean hasDirective(final String cacheControl, final String directive)
+    {
+        return directive(cacheControl, directive) != null;
+    }
+
+    /**
+     * @return the value of the directive, an empty string for directives w/o value or null if the directive is
+     * not part of the cache control header
+     */
+    static String directive(final String cacheControl, final String directive)
+    {
+        if (cacheControl != null)
+        {
+            for (String part : cacheControl.split(","))
+            {
+                String[] nameValue = part.trim().split("=", 2);
+                if (directive.equalsIgnoreCase(nameValue[0].trim()))
+                {
+                    return nameValue.length == 2 ? nameValue[1].trim().replace("\"", "") : "";
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the max age in ms or 0 if the response must be revalidated before it's used again
+     */
+    static long maxAge(final String cacheControl)
+    {
+        String maxAge = directive(cacheControl, "max-age");
+        if (maxAge == null || hasDirective(cacheControl, "no-cache"))
+        {
+            return 0;
+        }
+        try
+        {
+            return Math.max(0, Long.parseLong(maxAge)) * 1000;
+        }
+        catch (NumberFormatException e)
+        {
+            return 0;
+        }
+    }
+
+    /**
+     * @return the length of the request payload or 0 for GET requests which don't have a payload
+     */
+    private static int requestSize(RequestBuilder requestBuilder)
+    {
+        String data = requestBuilder.getRequestData();
+        return data != null ? data.length() : 0;
+    }
+
+    private void trace(Type type, String id, double millis)
+    {
+        if(!trackInvocations) return;
+        diagnostics.logRpc(type.getClassifier(), id, millis);
+    }
+
     private void trace(Type type, String id, ModelNode operation)
     {
         if(!trackInvocations) return;
@@ -374,28 +536,102 @@ public class DMRHandler implements ActionHandler<DMRAction, DMRResponse> {
     }
 
 
-    class DispatchRequestHandle implements DispatchRequest
+    private static class Description
+    {
+        final String etag;
+        final String text;
+        final String contentType;
+        long expires;
+
+        Description(String etag, String text, String contentType)
+        {
+            this.etag = etag;
+            this.text = text;
+            this.contentType = contentType;
+        }
+
+        /**
+         * Updates the expiry using the cache control header of the last (conditional) response.
+         */
+        void revalidated(String cacheControl)
+        {
+            expires = System.currentTimeMillis() + maxAge(cacheControl);
+        }
+
+        boolean isFresh()
+        {
+            return System.currentTimeMillis() < expires;
+        }
+
+        DMRResponse response()
+        {
+            return new DMRResponse("GET", text, contentType);
+        }
+    }
+
+
+    /**
+     * Restores the statistics scope of the request while the callback runs.
+     */
+    private class ScopedCallback implements AsyncCallback<DMRResponse>
     {
-        private Request delegate;
+        private final String scope;
+        private final AsyncCallback<DMRResponse> delegate;
 
-        DispatchRequestHandle(Request delegate)
+        ScopedCallback(String scope, AsyncCallback<DMRResponse> delegate)
         {
+            this.scope = scope;
             this.delegate = delegate;
         }
 
+        @Override
+        public void onFailure(Throwable caught)
+        {
+            String previous = statistics.enter(scope);
+            try
+            {
+                delegate.onFailure(caught);
+            }
+            finally
+            {
+                statistics.leave(previous);
+            }
+        }
+
+        @Override
+        public void onSuccess(DMRResponse result)
+        {
+            String previous = statistics.enter(scope);
+            try
+            {
+                delegate.onSuccess(result);
+            }
+            finally
+            {
+                statistics.leave(previous);
+            }
+        }
+    }
+
+
+    class DispatchRequestHandle implements DispatchRequest
+    {
+        // the current request, replaced if the request is sent again
+        private Request request;
+
         @Override
         public void cancel()
         {
-            if (delegate != null)
+            if (request != null)
             {
-                delegate.cancel();
+                request.cancel();
             }
         }
 
         @Override
         public boolean isPending()
         {
-            return delegate != null ? delegate.isPending() : false;
+            return request != null ? request.isPending() : false;
         }
     }
 }
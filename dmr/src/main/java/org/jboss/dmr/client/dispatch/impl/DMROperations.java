@@ -0,0 +1,163 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011 Red Hat Inc. and/or its affiliates and other contributors
+ * as indicated by the @author tags. All rights reserved.
+ * See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This copyrighted material is made available to anyone wishing to use,
+ * modify, copy, or redistribute it subject to the terms and conditions
+ * of the GNU Lesser General Public License, v. 2.1.
+ * This program is distributed in the hope that it will be useful, but WITHOUT A
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License,
+ * v.2.1 along with this distribution; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA  02110-1301, USA.
+ */
+
+package org.jboss.dmr.client.dispatch.impl;
+
+import org.jboss.dmr.client.ModelNode;
+import org.jboss.dmr.client.ModelType;
+import org.jboss.dmr.client.Property;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.jboss.dmr.client.ModelDescriptionConstants.*;
+
+/**
+ * Static helpers to classify and compare DMR operations in the dispatch pipeline.
+ */
+public final class DMROperations {
+
+    private static final String READ_PREFIX = "read-";
+    private static final String WILDCARD = "*";
+    private static final String RUN_AS = "run_as";
+
+    private DMROperations() {}
+
+    /**
+     * An operation is considered read-only if it's a {@code read-*} operation or a composite which consists of
+     * read-only steps only.
+     */
+    public static boolean isReadOnly(ModelNode operation) {
+        String name = operation.get(OP).asString();
+        if (COMPOSITE.equals(name)) {
+            if (!operation.hasDefined(STEPS)) {
+                return false;
+            }
+            for (ModelNode step : operation.get(STEPS).asList()) {
+                if (!isReadOnly(step)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return name.startsWith(READ_PREFIX);
+    }
+
+    /**
+     * Returns the addresses of the operation. For composite operations the addresses of all (nested) steps are
+     * returned.
+     */
+    public static List<List<Property>> addresses(ModelNode operation) {
+        List<List<Property>> addresses = new ArrayList<List<Property>>();
+        collectAddresses(operation, addresses);
+        return addresses;
+    }
+
+    private static void collectAddresses(ModelNode operation, List<List<Property>> addresses) {
+        if (COMPOSITE.equals(operation.get(OP).asString()) && operation.hasDefined(STEPS)) {
+            for (ModelNode step : operation.get(STEPS).asList()) {
+                collectAddresses(step, addresses);
+            }
+        } else {
+            addresses.add(address(operation));
+        }
+    }
+
+    public static List<Property> address(ModelNode operation) {
+        if (operation.hasDefined(ADDRESS)) {
+            return operation.get(ADDRESS).asPropertyList();
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Two addresses overlap if one is a prefix of the other. Wildcard values match any value.
+     */
+    public static boolean overlaps(List<Property> first, List<Property> second) {
+        int length = Math.min(first.size(), second.size());
+        for (int i = 0; i < length; i++) {
+            Property a = first.get(i);
+            Property b = second.get(i);
+            if (!a.getName().equals(b.getName())) {
+                return false;
+            }
+            String valueA = a.getValue().asString();
+            String valueB = b.getValue().asString();
+            if (!WILDCARD.equals(valueA) && !WILDCARD.equals(valueB) && !valueA.equals(valueB)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Builds a canonical key for the operation: object keys are sorted, so that operations which differ only in
+     * the order of their parameters share the same key. Operation headers are not part of the key, but the
+     * {@code run_as} role from the dispatch properties is.
+     */
+    public static String canonicalKey(ModelNode operation, Map<String, String> properties) {
+        StringBuilder builder = new StringBuilder();
+        String role = properties != null ? properties.get(RUN_AS) : null;
+        if (role != null) {
+            builder.append(role);
+        }
+        builder.append('|');
+        canonicalize(operation, builder, true);
+        return builder.toString();
+    }
+
+    private static void canonicalize(ModelNode node, StringBuilder builder, boolean skipHeaders) {
+        ModelType type = node.getType();
+        switch (type) {
+            case OBJECT:
+                List<String> keys = new ArrayList<String>(node.keys());
+                Collections.sort(keys);
+                builder.append('{');
+                for (String key : keys) {
+                    if (skipHeaders && OPERATION_HEADERS.equals(key)) {
+                        continue;
+                    }
+                    builder.append(key).append("=>");
+                    canonicalize(node.get(key), builder, false);
+                    builder.append(',');
+                }
+                builder.append('}');
+                break;
+            case LIST:
+                builder.append('[');
+                for (ModelNode item : node.asList()) {
+                    canonicalize(item, builder, false);
+                    builder.append(',');
+                }
+                builder.append(']');
+                break;
+            case PROPERTY:
+                Property property = node.asProperty();
+                builder.append('(').append(property.getName()).append("=>");
+                canonicalize(property.getValue(), builder, false);
+                builder.append(')');
+                break;
+            default:
+                builder.append(type.ordinal()).append(node.toString());
+                break;
+        }
+    }
+}
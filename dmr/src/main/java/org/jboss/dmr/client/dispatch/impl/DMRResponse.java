@@ -22,6 +22,7 @@ package org.jboss.dmr.client.dispatch.impl;
 
 import org.jboss.as.console.client.shared.state.ResponseProcessorDelegate;
 import org.jboss.dmr.client.ModelNode;
+import org.jboss.dmr.client.dispatch.DispatchStatistics;
 import org.jboss.dmr.client.dispatch.Result;
 
 import static org.jboss.dmr.client.ModelDescriptionConstants.*;
@@ -36,26 +37,78 @@ public class DMRResponse implements Result<ModelNode> {
     private static final String ABSOLUTE_ADDRESS = "absolute-address";
     private static final String RELATIVE_ADDRESS = "relative-address";
 
+    /**
+     * Responses larger than this (in base64 characters) are decoded lazily: Nested objects are only materialized
+     * when they're accessed.
+     */
+    static final int LAZY_THRESHOLD = 256 * 1024;
+
     private String method;
     private String responseText;
     private String contentType;
 
+    private ModelNode decoded;
     private ResponseProcessorDelegate processor;
+    private DispatchStatistics.Sample sample;
 
     public DMRResponse(String method, String responseText, String contentType) {
+        this(method, responseText, contentType, new ResponseProcessorDelegate());
+    }
+
+    DMRResponse(String method, String responseText, String contentType, ResponseProcessorDelegate processor) {
         this.method = method;
         this.responseText = responseText;
         this.contentType = contentType;
+        this.processor = processor;
+    }
 
-        this.processor = new ResponseProcessorDelegate();
+    /**
+     * Wraps an already decoded response, e.g. a single step of a composite operation. The response is returned as
+     * is and not processed again.
+     */
+    public DMRResponse(ModelNode decoded) {
+        this.decoded = decoded;
+    }
+
+    /**
+     * Returns a copy of this response which is decoded again, but not passed to the response processors again. Used
+     * to deliver a response more than once (e.g. from a cache) without processing the same payload twice.
+     */
+    DMRResponse replay() {
+        if (decoded != null) {
+            return new DMRResponse(decoded.clone());
+        }
+        DMRResponse replay = new DMRResponse(method, responseText, contentType);
+        replay.processor = null;
+        return replay;
+    }
+
+    /**
+     * Attributes the decode time to the statistics sample of the request.
+     */
+    void setSample(DispatchStatistics.Sample sample) {
+        this.sample = sample;
     }
 
     @Override
     public ModelNode get() {
 
+        if (decoded != null) {
+            return decoded;
+        }
+
         ModelNode response = null;
         try {
-            response = ModelNode.fromBase64(responseText);
+            double start = DispatchStatistics.now();
+            response = responseText.length() > LAZY_THRESHOLD
+                    ? ModelNode.fromBase64Lazy(responseText)
+                    : ModelNode.fromBase64(responseText);
+            double millis = DispatchStatistics.now() - start;
+            if (sample != null) {
+                sample.decoded(millis);
+            } else {
+                DispatchStatistics.INSTANCE.decoded(millis);
+            }
 
             /*if(response.hasDefined("response-headers"))
             {
@@ -95,10 +148,10 @@ public class DMRResponse implements Result<ModelNode> {
                 // For GET request the response is purely the model nodes result. The outcome
                 // is not send as part of the response but expressed with the HTTP status code.
                 // In order to not break existing code, we repackage the payload into a
-                // new model node with an "outcome" and "result" key.
+                // new model node with an "outcome" and "result" key. The payload is not copied.
                 ModelNode repackaged = new ModelNode();
                 repackaged.get(OUTCOME).set(SUCCESS);
-                repackaged.get(RESULT).set(response);
+                repackaged.get(RESULT).setNoCopy(response);
                 response = repackaged;
             }
 
@@ -112,7 +165,9 @@ public class DMRResponse implements Result<ModelNode> {
             response = err;
         }
 
-        processor.process(response);
+        if (processor != null) {
+            processor.process(response);
+        }
 
         return response;
     }
@@ -21,6 +21,7 @@ package org.jboss.dmr.client.dispatch.impl;
 
 import com.google.gwt.user.client.rpc.AsyncCallback;
 import com.google.inject.Inject;
+import org.jboss.dmr.client.ModelNode;
 import org.jboss.dmr.client.dispatch.Action;
 import org.jboss.dmr.client.dispatch.ActionHandler;
 import org.jboss.dmr.client.dispatch.DispatchAsync;
@@ -28,8 +29,10 @@ import org.jboss.dmr.client.dispatch.DispatchRequest;
 import org.jboss.dmr.client.dispatch.HandlerMapping;
 import org.jboss.dmr.client.dispatch.Result;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -41,6 +44,12 @@ public class DispatchAsyncImpl implements DispatchAsync {
     private static HandlerMapping registry;
     private static Map<String, String> properties = new HashMap<String,String>();
 
+    /**
+     * Pending read operations by their canonical key. Identical reads issued while one of them is pending are
+     * attached to the outstanding request instead of sending another one.
+     */
+    private final Map<String, InFlight> inFlight = new HashMap<String, InFlight>();
+
     @Inject
     public DispatchAsyncImpl(HandlerMapping registry) {
         this.registry = registry;
@@ -54,9 +63,40 @@ public class DispatchAsyncImpl implements DispatchAsync {
         if(null==handler)
             callback.onFailure(new IllegalStateException("No handler for type "+action.getType()));
 
+        if(action instanceof DMRAction)
+        {
+            ModelNode operation = ((DMRAction) action).getOperation();
+            if(DMROperations.isReadOnly(operation))
+            {
+                return coalesce(handler, action, callback, DMROperations.canonicalKey(operation, properties));
+            }
+            else
+            {
+                // reads issued after a write must not join reads which were sent before the write
+                inFlight.clear();
+            }
+        }
+
         return handler.execute(action, callback, Collections.unmodifiableMap(properties));
     }
 
+    @SuppressWarnings("unchecked")
+    private <A extends Action<R>, R extends Result> DispatchRequest coalesce(ActionHandler<A, R> handler, A action,
+            AsyncCallback<R> callback, final String key) {
+
+        InFlight pending = inFlight.get(key);
+        if(pending != null)
+        {
+            return pending.join((AsyncCallback<Result>) callback);
+        }
+
+        final InFlight request = new InFlight(key);
+        inFlight.put(key, request);
+        DispatchRequest handle = request.join((AsyncCallback<Result>) callback);
+        request.delegate = handler.execute(action, (AsyncCallback<R>) request, Collections.unmodifiableMap(properties));
+        return handle;
+    }
+
     @Override
     public <A extends Action<R>, R extends Result> DispatchRequest undo(A action, R result, AsyncCallback<Void> callback) {
         return null;
@@ -71,4 +111,104 @@ public class DispatchAsyncImpl implements DispatchAsync {
     public void clearProperty(String key) {
         properties.remove(key);
     }
+
+
+    /**
+     * An outstanding read operation which fans out its result to all attached callbacks.
+     */
+    private class InFlight implements AsyncCallback<Result> {
+
+        private final String key;
+        private final List<Joined> joined;
+        private DispatchRequest delegate;
+        private boolean done;
+
+        InFlight(String key) {
+            this.key = key;
+            this.joined = new ArrayList<Joined>();
+        }
+
+        DispatchRequest join(AsyncCallback<Result> callback) {
+            Joined handle = new Joined(this, callback);
+            joined.add(handle);
+            return handle;
+        }
+
+        void leave(Joined handle) {
+            joined.remove(handle);
+            if (joined.isEmpty()) {
+                finish();
+                if (delegate != null) {
+                    delegate.cancel();
+                }
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable caught) {
+            finish();
+            for (Joined handle : new ArrayList<Joined>(joined)) {
+                handle.callback.onFailure(caught);
+            }
+        }
+
+        /**
+         * A DMR response which is shared by several callers is decoded and processed once. Each caller gets its own
+         * copy of the decoded node. The copies are taken before any callback runs, so callbacks which modify their
+         * node don't affect the others.
+         */
+        @Override
+        public void onSuccess(Result result) {
+            finish();
+            List<Joined> callers = new ArrayList<Joined>(joined);
+            List<Result> results = new ArrayList<Result>(callers.size());
+            if (result instanceof DMRResponse && callers.size() > 1) {
+                ModelNode decoded = ((DMRResponse) result).get();
+                results.add(new DMRResponse(decoded));
+                for (int i = 1; i < callers.size(); i++) {
+                    results.add(new DMRResponse(decoded.clone()));
+                }
+            } else {
+                for (int i = 0; i < callers.size(); i++) {
+                    results.add(result);
+                }
+            }
+            for (int i = 0; i < callers.size(); i++) {
+                callers.get(i).callback.onSuccess(results.get(i));
+            }
+        }
+
+        private void finish() {
+            done = true;
+            if (inFlight.get(key) == this) {
+                inFlight.remove(key);
+            }
+        }
+    }
+
+
+    private static class Joined implements DispatchRequest {
+
+        private final InFlight request;
+        private final AsyncCallback<Result> callback;
+        private boolean cancelled;
+
+        Joined(InFlight request, AsyncCallback<Result> callback) {
+            this.request = request;
+            this.callback = callback;
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                request.leave(this);
+            }
+        }
+
+        @Override
+        public boolean isPending() {
+            return !cancelled && !request.done;
+        }
+    }
 }
@@ -37,7 +37,7 @@ public class HandlerRegistry implements HandlerMapping {
     private Map<ActionType, ActionHandler> registry = new HashMap<ActionType, ActionHandler>();
 
     @Inject
-    public HandlerRegistry(DMRHandler dmrhandler) {
+    public HandlerRegistry(CachingDMRHandler dmrhandler) {
         register(ActionType.DMR, dmrhandler);
     }
 
@@ -0,0 +1,112 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011 Red Hat Inc. and/or its affiliates and other contributors
+ * as indicated by the @author tags. All rights reserved.
+ * See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This copyrighted material is made available to anyone wishing to use,
+ * modify, copy, or redistribute it subject to the terms and conditions
+ * of the GNU Lesser General Public License, v. 2.1.
+ * This program is distributed in the hope that it will be useful, but WITHOUT A
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License,
+ * v.2.1 along with this distribution; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA  02110-1301, USA.
+ */
+
+package org.jboss.dmr.client;
+
+import org.junit.Test;
+
+import static org.jboss.dmr.client.ModelDescriptionConstants.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class Base64DataInputTest {
+
+    @Test
+    public void primitives() throws Exception {
+        ModelNode node = new ModelNode();
+        node.get("int").set(-42);
+        node.get("long").set(Long.MIN_VALUE + 17);
+        node.get("boolean").set(true);
+        node.get("string").set("");
+        node.get("ascii").set("read-resource");
+        node.get("latin1").set("K\u00f6nigsstra\u00dfe");
+        node.get("unicode").set("\u65e5\u672c\u8a9e \u20ac");
+        node.get("expression").setExpression("${jboss.bind.address:127.0.0.1}");
+        node.get("type").set(ModelType.OBJECT);
+        node.get("undefined");
+
+        assertDecoded(node);
+    }
+
+    @Test
+    public void nested() throws Exception {
+        ModelNode operation = new ModelNode();
+        operation.get(OP).set(COMPOSITE);
+        operation.get(ADDRESS).setEmptyList();
+        for (int i = 0; i < 50; i++) {
+            ModelNode step = new ModelNode();
+            step.get(ADDRESS).add(SUBSYSTEM, "datasources").add("data-source", "DS" + i);
+            step.get(OP).set(READ_RESOURCE_OPERATION);
+            step.get(INCLUDE_RUNTIME).set(i % 2 == 0);
+            step.get("properties").add("key" + i, "value" + i);
+            operation.get(STEPS).add(step);
+        }
+
+        assertDecoded(operation);
+    }
+
+    @Test
+    public void longString() throws Exception {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            builder.append((char) ('a' + i % 26));
+            if (i % 100 == 0) {
+                builder.append('\u00e4');
+            }
+        }
+        ModelNode node = new ModelNode();
+        node.get("text").set(builder.toString());
+
+        assertDecoded(node);
+    }
+
+    @Test
+    public void whitespace() throws Exception {
+        ModelNode node = new ModelNode();
+        node.get(OUTCOME).set(SUCCESS);
+        node.get(RESULT).set("some result which is long enough to span multiple lines when encoded");
+        String encoded = node.toBase64String();
+
+        StringBuilder wrapped = new StringBuilder();
+        for (int i = 0; i < encoded.length(); i += 76) {
+            wrapped.append(encoded, i, Math.min(i + 76, encoded.length())).append("\r\n");
+        }
+        assertEquals(node, ModelNode.fromBase64(wrapped.toString()));
+    }
+
+    @Test
+    public void invalidInput() throws Exception {
+        try {
+            ModelNode.fromBase64("bw!AAAA");
+            fail("Invalid base64 input not detected");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    private void assertDecoded(ModelNode node) throws Exception {
+        String encoded = node.toBase64String();
+
+        ModelNode legacy = new ModelNode();
+        legacy.readExternal(new DataInput(Base64.decode(encoded)));
+
+        ModelNode streamed = ModelNode.fromBase64(encoded);
+        assertEquals(legacy, streamed);
+        assertEquals(node, streamed);
+    }
+}
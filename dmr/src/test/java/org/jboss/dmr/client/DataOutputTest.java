@@ -0,0 +1,136 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011 Red Hat Inc. and/or its affiliates and other contributors
+ * as indicated by the @author tags. All rights reserved.
+ * See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This copyrighted material is made available to anyone wishing to use,
+ * modify, copy, or redistribute it subject to the terms and conditions
+ * of the GNU Lesser General Public License, v. 2.1.
+ * This program is distributed in the hope that it will be useful, but WITHOUT A
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License,
+ * v.2.1 along with this distribution; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA  02110-1301, USA.
+ */
+
+package org.jboss.dmr.client;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.util.Random;
+
+import static org.jboss.dmr.client.ModelDescriptionConstants.*;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that {@link DataOutput} produces exactly the same bytes and base64 strings as the previous encoder. The
+ * expected bytes are produced by {@link java.io.DataOutputStream} which uses the same (modified UTF-8) encoding.
+ */
+public class DataOutputTest {
+
+    @Test
+    public void primitives() throws Exception {
+        DataOutput out = new DataOutput();
+        ByteArrayOutputStream expectedBytes = new ByteArrayOutputStream();
+        DataOutputStream expected = new DataOutputStream(expectedBytes);
+
+        for (int i = 0; i < 1000; i++) {
+            out.writeBoolean(i % 2 == 0);
+            expected.writeBoolean(i % 2 == 0);
+            out.writeByte(i);
+            expected.writeByte(i);
+            out.writeShort(i * 31);
+            expected.writeShort(i * 31);
+            out.writeChar(i * 17);
+            expected.writeChar(i * 17);
+            out.writeInt(i * 1000003);
+            expected.writeInt(i * 1000003);
+            out.writeLong(i * 1000000007L);
+            expected.writeLong(i * 1000000007L);
+        }
+
+        assertArrayEquals(expectedBytes.toByteArray(), out.getBytes());
+        assertEquals(expectedBytes.size(), out.size());
+    }
+
+    @Test
+    public void utf() throws Exception {
+        String[] values = new String[]{"", "a", "read-resource", "K\u00f6nigsstra\u00dfe", "\u65e5\u672c\u8a9e \u20ac",
+                "nul\u0000char", "\ud83d\ude00", longString()};
+        for (String value : values) {
+            DataOutput out = new DataOutput();
+            ByteArrayOutputStream expectedBytes = new ByteArrayOutputStream();
+            new DataOutputStream(expectedBytes).writeUTF(value);
+
+            out.writeUTF(value);
+            assertArrayEquals(value, expectedBytes.toByteArray(), out.getBytes());
+        }
+    }
+
+    @Test
+    public void bulkWrite() throws Exception {
+        byte[] data = new byte[100000];
+        new Random(42).nextBytes(data);
+
+        DataOutput out = new DataOutput();
+        out.write(data, 0, 10);
+        out.write(data);
+        out.write(data, 10, data.length - 10);
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        expected.write(data, 0, 10);
+        expected.write(data);
+        expected.write(data, 10, data.length - 10);
+        assertArrayEquals(expected.toByteArray(), out.getBytes());
+    }
+
+    @Test
+    public void base64() throws Exception {
+        // all remainders of length % 3
+        for (int length = 0; length < 300; length++) {
+            byte[] data = new byte[length];
+            new Random(length).nextBytes(data);
+            DataOutput out = new DataOutput();
+            out.write(data);
+
+            assertEquals(Base64.encodeBytes(data), out.toBase64String());
+        }
+    }
+
+    @Test
+    public void modelNode() throws Exception {
+        ModelNode operation = new ModelNode();
+        operation.get(OP).set(COMPOSITE);
+        operation.get(ADDRESS).setEmptyList();
+        for (int i = 0; i < 500; i++) {
+            ModelNode step = new ModelNode();
+            step.get(ADDRESS).add("deployment", "app-" + i + ".war");
+            step.get(OP).set(ADD);
+            step.get("runtime-name").set("app-" + i + ".war");
+            step.get("enabled").set(true);
+            step.get("content").add().get("url").set("file:///deployments/app-" + i + ".war");
+            operation.get(STEPS).add(step);
+        }
+
+        DataOutput out = new DataOutput();
+        operation.writeExternal(out);
+
+        assertEquals(Base64.encodeBytes(out.getBytes()), operation.toBase64String());
+        assertEquals(operation, ModelNode.fromBase64(operation.toBase64String()));
+    }
+
+    private String longString() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            builder.append((char) (i % 0x3000));
+        }
+        return builder.toString();
+    }
+}
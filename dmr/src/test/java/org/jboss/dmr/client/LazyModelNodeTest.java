@@ -0,0 +1,92 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011 Red Hat Inc. and/or its affiliates and other contributors
+ * as indicated by the @author tags. All rights reserved.
+ * See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This copyrighted material is made available to anyone wishing to use,
+ * modify, copy, or redistribute it subject to the terms and conditions
+ * of the GNU Lesser General Public License, v. 2.1.
+ * This program is distributed in the hope that it will be useful, but WITHOUT A
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License,
+ * v.2.1 along with this distribution; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA  02110-1301, USA.
+ */
+
+package org.jboss.dmr.client;
+
+import org.junit.Test;
+
+import static org.jboss.dmr.client.ModelDescriptionConstants.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LazyModelNodeTest {
+
+    @Test
+    public void equalsEager() {
+        ModelNode node = sample();
+        String encoded = node.toBase64String();
+
+        ModelNode lazy = ModelNode.fromBase64Lazy(encoded);
+        assertEquals(ModelNode.fromBase64(encoded), lazy);
+        assertEquals(node.toString(), lazy.toString());
+    }
+
+    @Test
+    public void partialAccess() {
+        ModelNode lazy = ModelNode.fromBase64Lazy(sample().toBase64String());
+
+        assertEquals(SUCCESS, lazy.get(OUTCOME).asString());
+        assertEquals(20, lazy.get(RESULT, "data-source").keys().size());
+        assertEquals("java:/DS7", lazy.get(RESULT, "data-source", "DS7", "jndi-name").asString());
+        assertTrue(lazy.get(RESULT, "data-source", "DS7", "enabled").asBoolean());
+        assertEquals(3, lazy.get(RESULT, "data-source", "DS7", "connection-properties").asList().size());
+        assertFalse(lazy.get(RESULT).hasDefined("xa-data-source"));
+    }
+
+    @Test
+    public void roundTrip() {
+        ModelNode node = sample();
+        ModelNode lazy = ModelNode.fromBase64Lazy(node.toBase64String());
+
+        // unmaterialized objects are written as raw bytes
+        assertEquals(node.toBase64String(), lazy.toBase64String());
+
+        lazy.get(RESULT, "data-source", "DS3");
+        assertEquals(node.toBase64String(), lazy.toBase64String());
+    }
+
+    @Test
+    public void cloneIsIndependent() {
+        ModelNode lazy = ModelNode.fromBase64Lazy(sample().toBase64String());
+        ModelNode clone = lazy.clone();
+
+        clone.get(RESULT, "data-source", "DS0", "jndi-name").set("java:/changed");
+        assertEquals("java:/DS0", lazy.get(RESULT, "data-source", "DS0", "jndi-name").asString());
+        assertEquals("java:/changed", clone.get(RESULT, "data-source", "DS0", "jndi-name").asString());
+    }
+
+    private ModelNode sample() {
+        ModelNode response = new ModelNode();
+        response.get(OUTCOME).set(SUCCESS);
+        for (int i = 0; i < 20; i++) {
+            ModelNode ds = response.get(RESULT, "data-source", "DS" + i);
+            ds.get("jndi-name").set("java:/DS" + i);
+            ds.get("enabled").set(i % 2 == 1);
+            ds.get("max-pool-size").set(20 + i);
+            ds.get("blocking-timeout").set(30000L * i);
+            ds.get("connection-url").setExpression("${ds.url:jdbc:h2:mem:test" + i + "}");
+            ds.get("connection-properties").add("user", "sa").add("password", "sa").add(new ModelNode().set("x", i));
+            ds.get("statistics").setEmptyObject();
+            ds.get("driver-name");
+        }
+        response.get(RESULT, "xa-data-source");
+        return response;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011 Red Hat Inc. and/or its affiliates and other contributors
+ * as indicated by the @author tags. All rights reserved.
+ * See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This copyrighted material is made available to anyone wishing to use,
+ * modify, copy, or redistribute it subject to the terms and conditions
+ * of the GNU Lesser General Public License, v. 2.1.
+ * This program is distributed in the hope that it will be useful, but WITHOUT A
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License,
+ * v.2.1 along with this distribution; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA  02110-1301, USA.
+ */
+
+package org.jboss.dmr.client.dispatch;
+
+import org.jboss.dmr.client.ModelNode;
+import org.jboss.dmr.client.dispatch.impl.DMROperations;
+import org.jboss.dmr.client.dispatch.impl.DMRResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.jboss.dmr.client.ModelDescriptionConstants.*;
+import static org.junit.Assert.*;
+
+public class DMRCacheTest {
+
+    private DMRCache cache;
+
+    @Before
+    public void setUp() {
+        cache = new DMRCache(2);
+    }
+
+    @Test
+    public void canonicalKey() {
+        ModelNode first = new ModelNode();
+        first.get(ADDRESS).add("subsystem", "datasources");
+        first.get(OP).set(READ_CHILDREN_NAMES_OPERATION);
+        first.get(CHILD_TYPE).set("data-source");
+
+        ModelNode second = new ModelNode();
+        second.get(CHILD_TYPE).set("data-source");
+        second.get(OP).set(READ_CHILDREN_NAMES_OPERATION);
+        second.get(ADDRESS).add("subsystem", "datasources");
+        second.get(OPERATION_HEADERS).get("roles").set("Monitor");
+
+        assertEquals(DMROperations.canonicalKey(first, null), DMROperations.canonicalKey(second, null));
+        assertNotEquals(DMROperations.canonicalKey(first, null),
+                DMROperations.canonicalKey(first, Collections.singletonMap("run_as", "Monitor")));
+    }
+
+    @Test
+    public void readOnly() {
+        ModelNode read = operation(READ_RESOURCE_OPERATION, "subsystem", "datasources");
+        ModelNode write = operation(WRITE_ATTRIBUTE_OPERATION, "subsystem", "datasources");
+        ModelNode composite = new ModelNode();
+        composite.get(OP).set(COMPOSITE);
+        composite.get(ADDRESS).setEmptyList();
+        composite.get(STEPS).add(read);
+
+        assertTrue(DMROperations.isReadOnly(read));
+        assertFalse(DMROperations.isReadOnly(write));
+        assertTrue(DMROperations.isReadOnly(composite));
+        composite.get(STEPS).add(write);
+        assertFalse(DMROperations.isReadOnly(composite));
+    }
+
+    @Test
+    public void hitsAndMisses() {
+        put("a", 1000, "subsystem", "datasources");
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void expiry() {
+        put("a", -1, "subsystem", "datasources");
+
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void lruEviction() {
+        put("a", 1000, "subsystem", "a");
+        put("b", 1000, "subsystem", "b");
+        cache.get("a");
+        put("c", 1000, "subsystem", "c");
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+    }
+
+    @Test
+    public void invalidateOverlapping() {
+        put("parent", 1000, "subsystem", "datasources");
+        put("child", 1000, "subsystem", "datasources", "data-source", "ExampleDS");
+        put("other", 1000, "subsystem", "logging");
+        int generation = cache.getGeneration();
+
+        cache.invalidate(DMROperations.address(
+                operation(WRITE_ATTRIBUTE_OPERATION, "subsystem", "datasources", "data-source", "*")));
+
+        assertNull(cache.get("parent"));
+        assertNull(cache.get("child"));
+        assertNotNull(cache.get("other"));
+        assertTrue(cache.getGeneration() > generation);
+    }
+
+    private void put(String key, long ttl, String... address) {
+        ModelNode operation = operation(READ_RESOURCE_OPERATION, address);
+        cache.put(key, new DMRResponse("POST", "", "application/dmr-encoded"), ttl,
+                DMROperations.addresses(operation));
+    }
+
+    private ModelNode operation(String name, String... address) {
+        ModelNode operation = new ModelNode();
+        operation.get(OP).set(name);
+        for (int i = 0; i < address.length; i += 2) {
+            operation.get(ADDRESS).add(address[i], address[i + 1]);
+        }
+        return operation;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011 Red Hat Inc. and/or its affiliates and other contributors
+ * as indicated by the @author tags. All rights reserved.
+ * See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This copyrighted material is made available to anyone wishing to use,
+ * modify, copy, or redistribute it subject to the terms and conditions
+ * of the GNU Lesser General Public License, v. 2.1.
+ * This program is distributed in the hope that it will be useful, but WITHOUT A
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License,
+ * v.2.1 along with this distribution; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA  02110-1301, USA.
+ */
+
+package org.jboss.dmr.client.dispatch;
+
+import org.jboss.dmr.client.ModelNode;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.jboss.dmr.client.ModelDescriptionConstants.*;
+import static org.junit.Assert.*;
+
+public class DispatchStatisticsTest {
+
+    private static final Comparator<DispatchStatistics.Series> BY_COUNT = new Comparator<DispatchStatistics.Series>() {
+        @Override
+        public int compare(DispatchStatistics.Series s1, DispatchStatistics.Series s2) {
+            return Long.compare(s2.getLatency().getCount(), s1.getLatency().getCount());
+        }
+    };
+
+    private DispatchStatistics statistics;
+
+    @Before
+    public void setUp() {
+        statistics = new DispatchStatistics();
+    }
+
+    @Test
+    public void template() {
+        ModelNode address = new ModelNode();
+        address.add("profile", "full").add("subsystem", "datasources").add("data-source", "ExampleDS");
+
+        assertEquals("/profile=*/subsystem=datasources/data-source=*", DispatchStatistics.path(address, true));
+        assertEquals("/profile=full/subsystem=datasources/data-source=ExampleDS",
+                DispatchStatistics.path(address, false));
+        assertEquals("/", DispatchStatistics.path(new ModelNode(), true));
+    }
+
+    @Test
+    public void seriesPerTemplate() {
+        record(readResource("ExampleDS"), 0, 10, 1000);
+        record(readResource("OtherDS"), 0, 30, 3000);
+        record(readChildrenNames(), 0, 5, 100);
+
+        List<DispatchStatistics.Series> series = statistics.getSeries(BY_COUNT);
+        assertEquals(2, series.size());
+
+        DispatchStatistics.Series first = series.get(0);
+        assertEquals(READ_RESOURCE_OPERATION, first.getOperation());
+        assertEquals("/subsystem=datasources/data-source=*", first.getTemplate());
+        assertEquals(2, first.getLatency().getCount());
+        assertEquals(20, first.getLatency().getMean(), 0.001);
+        assertEquals(30, first.getLatency().getMax(), 0.001);
+        assertEquals(2000, first.getResponseChars().getMean(), 0.001);
+    }
+
+    @Test
+    public void composite() {
+        ModelNode composite = new ModelNode();
+        composite.get(OP).set(COMPOSITE);
+        composite.get(ADDRESS).setEmptyList();
+        composite.get(STEPS).add(readResource("ExampleDS"));
+        composite.get(STEPS).add(readResource("OtherDS"));
+        composite.get(STEPS).add(readChildrenNames());
+
+        DispatchStatistics.Sample sample = statistics.begin(null, composite, 100, 0);
+        assertEquals("composite [read-resource /subsystem=datasources/data-source=*, " +
+                "read-children-names /subsystem=datasources]", sample.getKey());
+        assertEquals("3 steps", sample.getAddress());
+    }
+
+    @Test
+    public void decoded() {
+        DispatchStatistics.Sample sample = record(readResource("ExampleDS"), 0, 10, 1000);
+        assertFalse(sample.isDecoded());
+
+        sample.decoded(4, 12);
+        sample.decoded(8, 20); // only the first decode counts
+        assertTrue(sample.isDecoded());
+        assertEquals(4, sample.getDecodeMillis(), 0.001);
+        assertEquals(12, sample.getDecodedAt(), 0.001);
+
+        DispatchStatistics.Series series = statistics.getSeries(BY_COUNT).get(0);
+        assertEquals(1, series.getDecode().getCount());
+        assertEquals(4, series.getDecode().getMax(), 0.001);
+    }
+
+    @Test
+    public void scopes() {
+        DispatchStatistics.Sample sample = statistics.begin("bootstrap", readResource("ExampleDS"), 100, 0);
+        sample.received(1000, 10);
+        sample.decoded(4, 12);
+        record(readChildrenNames(), 0, 5, 100);
+
+        DispatchStatistics.Counter bootstrap = statistics.getScope("bootstrap");
+        assertEquals(1, bootstrap.getRequests());
+        assertEquals(1000, bootstrap.getChars());
+        assertEquals(4, bootstrap.getDecodeMillis(), 0.001);
+
+        DispatchStatistics.Counter total = statistics.getTotal();
+        assertEquals(2, total.getRequests());
+        assertEquals(1100, total.getChars());
+        assertEquals(0, statistics.getScope("unknown").getRequests());
+    }
+
+    @Test
+    public void slowOperations() {
+        for (int i = 0; i < DispatchStatistics.SLOW_OPERATIONS * 2; i++) {
+            record(readResource("DS" + i), 0, i, 100);
+        }
+
+        List<DispatchStatistics.Sample> slow = statistics.getSlowOperations();
+        assertEquals(DispatchStatistics.SLOW_OPERATIONS, slow.size());
+        assertEquals(DispatchStatistics.SLOW_OPERATIONS * 2 - 1, slow.get(0).getLatency(), 0.001);
+        assertEquals(DispatchStatistics.SLOW_OPERATIONS, slow.get(slow.size() - 1).getLatency(), 0.001);
+        assertEquals("/subsystem=datasources/data-source=DS" + (DispatchStatistics.SLOW_OPERATIONS * 2 - 1),
+                slow.get(0).getAddress());
+    }
+
+    @Test
+    public void rollingPercentiles() {
+        DispatchStatistics.Histogram histogram = new DispatchStatistics.Histogram(10);
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        // window holds 91..100
+        assertEquals(100, histogram.getCount());
+        assertEquals(50.5, histogram.getMean(), 0.001);
+        assertEquals(95, histogram.getPercentile(50), 0.001);
+        assertEquals(100, histogram.getPercentile(95), 0.001);
+        assertEquals(91, histogram.getPercentile(1), 0.001);
+    }
+
+
+    // ------------------------------------------------------ helper methods
+
+    private DispatchStatistics.Sample record(ModelNode operation, double start, double end, int chars) {
+        DispatchStatistics.Sample sample = statistics.begin(null, operation, 100, start);
+        sample.received(chars, end);
+        return sample;
+    }
+
+    private ModelNode readResource(String name) {
+        ModelNode operation = new ModelNode();
+        operation.get(ADDRESS).add("subsystem", "datasources").add("data-source", name);
+        operation.get(OP).set(READ_RESOURCE_OPERATION);
+        return operation;
+    }
+
+    private ModelNode readChildrenNames() {
+        ModelNode operation = new ModelNode();
+        operation.get(ADDRESS).add("subsystem", "datasources");
+        operation.get(OP).set(READ_CHILDREN_NAMES_OPERATION);
+        operation.get(CHILD_TYPE).set("data-source");
+        return operation;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011 Red Hat Inc. and/or its affiliates and other contributors
+ * as indicated by the @author tags. All rights reserved.
+ * See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This copyrighted material is made available to anyone wishing to use,
+ * modify, copy, or redistribute it subject to the terms and conditions
+ * of the GNU Lesser General Public License, v. 2.1.
+ * This program is distributed in the hope that it will be useful, but WITHOUT A
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License,
+ * v.2.1 along with this distribution; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA  02110-1301, USA.
+ */
+
+package org.jboss.dmr.client.dispatch.impl;
+
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import org.jboss.dmr.client.ModelNode;
+import org.jboss.dmr.client.dispatch.Action;
+import org.jboss.dmr.client.dispatch.DispatchAsync;
+import org.jboss.dmr.client.dispatch.DispatchRequest;
+import org.jboss.dmr.client.dispatch.Result;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.jboss.dmr.client.ModelDescriptionConstants.*;
+import static org.junit.Assert.*;
+
+public class BatchingDispatchAsyncTest {
+
+    private RecordingDispatcher delegate;
+    private BatchingDispatchAsync dispatcher;
+
+    @Before
+    public void setUp() {
+        delegate = new RecordingDispatcher();
+        dispatcher = new BatchingDispatchAsync(delegate, 0) {
+            @Override
+            void scheduleFlush() {
+                // flushed explicitly by the tests
+            }
+        };
+    }
+
+    @Test
+    public void stepsMappedToCallbacks() {
+        Callback first = new Callback();
+        Callback second = new Callback();
+        dispatcher.execute(new DMRAction(readAttribute("datasources")), first);
+        dispatcher.execute(new DMRAction(readAttribute("logging")), second);
+        assertTrue(delegate.actions.isEmpty());
+
+        dispatcher.flush();
+        assertEquals(1, delegate.actions.size());
+        DMRAction composite = delegate.actions.get(0);
+        assertEquals(COMPOSITE, composite.getOperation().get(OP).asString());
+        assertTrue(composite.isCachable());
+        List<ModelNode> steps = composite.getOperation().get(STEPS).asList();
+        assertEquals(2, steps.size());
+        assertEquals("datasources", steps.get(0).get(ADDRESS).asPropertyList().get(0).getValue().asString());
+        assertEquals("logging", steps.get(1).get(ADDRESS).asPropertyList().get(0).getValue().asString());
+
+        delegate.respond(0, compositeResponse(success("ds"), success("log")));
+        assertEquals("ds", first.result.get().get(RESULT).asString());
+        assertEquals("log", second.result.get().get(RESULT).asString());
+    }
+
+    @Test
+    public void stepFailures() {
+        Callback failed = new Callback();
+        Callback notExecuted = new Callback();
+        dispatcher.execute(new DMRAction(readAttribute("datasources")), failed);
+        dispatcher.execute(new DMRAction(readAttribute("logging")), notExecuted);
+        dispatcher.flush();
+
+        ModelNode failure = new ModelNode();
+        failure.get(OUTCOME).set(FAILED);
+        failure.get(FAILURE_DESCRIPTION).set("WFLYCTL0216: not found");
+        ModelNode rolledBack = new ModelNode();
+        rolledBack.get(OUTCOME).set(FAILED);
+        delegate.respond(0, compositeResponse(failure, rolledBack));
+
+        // the failed step is reported with its own failure description
+        assertNotNull(failed.result);
+        assertEquals(FAILED, failed.result.get().get(OUTCOME).asString());
+        assertEquals("WFLYCTL0216: not found", failed.result.get().get(FAILURE_DESCRIPTION).asString());
+
+        // the step without failure of its own is executed again as single operation
+        assertNull(notExecuted.result);
+        assertEquals(2, delegate.actions.size());
+        assertEquals(READ_ATTRIBUTE_OPERATION, delegate.actions.get(1).getOperation().get(OP).asString());
+        delegate.respond(1, new DMRResponse(success("log")));
+        assertEquals("log", notExecuted.result.get().get(RESULT).asString());
+    }
+
+    @Test
+    public void compositeFailure() {
+        Callback first = new Callback();
+        Callback second = new Callback();
+        dispatcher.execute(new DMRAction(readAttribute("datasources")), first);
+        dispatcher.execute(new DMRAction(readAttribute("logging")), second);
+        dispatcher.flush();
+
+        RuntimeException error = new RuntimeException("connection refused");
+        delegate.callbacks.get(0).onFailure(error);
+        assertSame(error, first.caught);
+        assertSame(error, second.caught);
+    }
+
+    @Test
+    public void identicalReadsShareStep() {
+        Callback first = new Callback();
+        Callback second = new Callback();
+        Callback third = new Callback();
+        dispatcher.execute(new DMRAction(readAttribute("datasources")), first);
+        dispatcher.execute(new DMRAction(readAttribute("logging")), second);
+        dispatcher.execute(new DMRAction(readAttribute("datasources")), third);
+        dispatcher.flush();
+
+        assertEquals(2, delegate.actions.get(0).getOperation().get(STEPS).asList().size());
+        delegate.respond(0, compositeResponse(success("ds"), success("log")));
+        assertEquals("ds", first.result.get().get(RESULT).asString());
+        assertEquals("log", second.result.get().get(RESULT).asString());
+        assertEquals("ds", third.result.get().get(RESULT).asString());
+        assertNotSame(first.result.get(), third.result.get());
+    }
+
+    @Test
+    public void sharedStepModifiedByCallback() {
+        Callback first = new Callback() {
+            @Override
+            public void onSuccess(DMRResponse result) {
+                super.onSuccess(result);
+                result.get().get(RESULT).set("modified");
+            }
+        };
+        Callback second = new Callback();
+        dispatcher.execute(new DMRAction(readAttribute("datasources")), first);
+        dispatcher.execute(new DMRAction(readAttribute("datasources")), second);
+        dispatcher.flush();
+
+        delegate.respond(0, compositeResponse(success("ds")));
+        assertEquals("modified", first.result.get().get(RESULT).asString());
+        assertEquals("ds", second.result.get().get(RESULT).asString());
+    }
+
+    @Test
+    public void cachedReadsNotBatched() {
+        ModelNode readResource = new ModelNode();
+        readResource.get(ADDRESS).add(SUBSYSTEM, "datasources");
+        readResource.get(OP).set(READ_RESOURCE_OPERATION);
+        dispatcher.execute(new DMRAction(readResource), new Callback());
+        dispatcher.execute(new DMRAction(readResource.clone()), new Callback());
+
+        // passed to the delegate as is, so they can be served by the response cache
+        assertEquals(2, delegate.actions.size());
+        assertEquals(READ_RESOURCE_OPERATION, delegate.actions.get(0).getOperation().get(OP).asString());
+
+        // unless they're not cachable
+        dispatcher.execute(new DMRAction(readResource.clone(), false), new Callback());
+        assertEquals(2, delegate.actions.size());
+    }
+
+    private ModelNode readAttribute(String subsystem) {
+        ModelNode operation = new ModelNode();
+        operation.get(ADDRESS).add(SUBSYSTEM, subsystem);
+        operation.get(OP).set(READ_ATTRIBUTE_OPERATION);
+        operation.get(NAME).set("name");
+        return operation;
+    }
+
+    private ModelNode success(String result) {
+        ModelNode step = new ModelNode();
+        step.get(OUTCOME).set(SUCCESS);
+        step.get(RESULT).set(result);
+        return step;
+    }
+
+    private DMRResponse compositeResponse(ModelNode... steps) {
+        ModelNode response = new ModelNode();
+        response.get(OUTCOME).set(SUCCESS);
+        for (int i = 0; i < steps.length; i++) {
+            response.get(RESULT).get("step-" + (i + 1)).set(steps[i]);
+        }
+        return new DMRResponse(response);
+    }
+
+
+    private static class RecordingDispatcher implements DispatchAsync {
+
+        final List<DMRAction> actions = new ArrayList<DMRAction>();
+        final List<AsyncCallback<DMRResponse>> callbacks = new ArrayList<AsyncCallback<DMRResponse>>();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A extends Action<R>, R extends Result> DispatchRequest execute(A action, AsyncCallback<R> callback) {
+            actions.add((DMRAction) action);
+            callbacks.add((AsyncCallback<DMRResponse>) callback);
+            return null;
+        }
+
+        void respond(int index, DMRResponse response) {
+            callbacks.get(index).onSuccess(response);
+        }
+
+        @Override
+        public <A extends Action<R>, R extends Result> DispatchRequest undo(A action, R result,
+                AsyncCallback<Void> callback) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setProperty(String key, String value) {}
+
+        @Override
+        public void clearProperty(String key) {}
+    }
+
+
+    private static class Callback implements AsyncCallback<DMRResponse> {
+
+        DMRResponse result;
+        Throwable caught;
+
+        @Override
+        public void onFailure(Throwable caught) {
+            this.caught = caught;
+        }
+
+        @Override
+        public void onSuccess(DMRResponse result) {
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011 Red Hat Inc. and/or its affiliates and other contributors
+ * as indicated by the @author tags. All rights reserved.
+ * See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This copyrighted material is made available to anyone wishing to use,
+ * modify, copy, or redistribute it subject to the terms and conditions
+ * of the GNU Lesser General Public License, v. 2.1.
+ * This program is distributed in the hope that it will be useful, but WITHOUT A
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License,
+ * v.2.1 along with this distribution; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA  02110-1301, USA.
+ */
+
+package org.jboss.dmr.client.dispatch.impl;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class DMRHandlerTest {
+
+    @Test
+    public void directives() {
+        assertEquals("", DMRHandler.directive("private, no-cache", "no-cache"));
+        assertEquals("60", DMRHandler.directive("private, max-age=60", "max-age"));
+        assertEquals("60", DMRHandler.directive("MAX-AGE=\"60\"", "max-age"));
+        assertNull(DMRHandler.directive("private", "no-store"));
+        assertNull(DMRHandler.directive(null, "no-store"));
+        assertTrue(DMRHandler.hasDirective("no-store", "no-store"));
+    }
+
+    @Test
+    public void maxAge() {
+        assertEquals(60000, DMRHandler.maxAge("private, max-age=60"));
+        assertEquals(0, DMRHandler.maxAge("max-age=60, no-cache"));
+        assertEquals(0, DMRHandler.maxAge("max-age=foo"));
+        assertEquals(0, DMRHandler.maxAge("max-age=-1"));
+        assertEquals(0, DMRHandler.maxAge("private"));
+        assertEquals(0, DMRHandler.maxAge(null));
+    }
+}
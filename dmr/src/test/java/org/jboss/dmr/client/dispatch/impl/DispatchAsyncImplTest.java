@@ -0,0 +1,183 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011 Red Hat Inc. and/or its affiliates and other contributors
+ * as indicated by the @author tags. All rights reserved.
+ * See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This copyrighted material is made available to anyone wishing to use,
+ * modify, copy, or redistribute it subject to the terms and conditions
+ * of the GNU Lesser General Public License, v. 2.1.
+ * This program is distributed in the hope that it will be useful, but WITHOUT A
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License,
+ * v.2.1 along with this distribution; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA  02110-1301, USA.
+ */
+
+package org.jboss.dmr.client.dispatch.impl;
+
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import org.jboss.as.console.client.shared.state.ResponseProcessorDelegate;
+import org.jboss.dmr.client.ModelNode;
+import org.jboss.dmr.client.dispatch.Action;
+import org.jboss.dmr.client.dispatch.ActionHandler;
+import org.jboss.dmr.client.dispatch.ActionType;
+import org.jboss.dmr.client.dispatch.DispatchRequest;
+import org.jboss.dmr.client.dispatch.HandlerMapping;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.jboss.dmr.client.ModelDescriptionConstants.*;
+import static org.junit.Assert.*;
+
+public class DispatchAsyncImplTest {
+
+    private RecordingHandler handler;
+    private DispatchAsyncImpl dispatcher;
+
+    @Before
+    public void setUp() {
+        handler = new RecordingHandler();
+        dispatcher = new DispatchAsyncImpl(new HandlerMapping() {
+            @Override
+            public ActionHandler resolve(Action action) {
+                return handler;
+            }
+
+            @Override
+            public void register(ActionType actionType, ActionHandler handler) {}
+        });
+    }
+
+    @Test
+    public void coalesceIdenticalReads() {
+        Callback first = new Callback();
+        Callback second = new Callback();
+        dispatcher.execute(new DMRAction(read("datasources")), first);
+        dispatcher.execute(new DMRAction(read("datasources")), second);
+        assertEquals(1, handler.callbacks.size());
+
+        ModelNode payload = new ModelNode();
+        payload.get(OUTCOME).set(SUCCESS);
+        payload.get(RESULT).get("name").set("datasources");
+        CountingProcessor processor = new CountingProcessor();
+        handler.callbacks.get(0).onSuccess(
+                new DMRResponse("POST", payload.toBase64String(), "application/dmr-encoded", processor));
+        assertEquals(1, processor.processed);
+
+        ModelNode firstNode = first.result.get();
+        ModelNode secondNode = second.result.get();
+        assertNotSame(firstNode, secondNode);
+        assertEquals(payload, firstNode);
+        assertEquals(payload, secondNode);
+        assertEquals(1, processor.processed);
+
+        // no longer in flight
+        dispatcher.execute(new DMRAction(read("datasources")), new Callback());
+        assertEquals(2, handler.callbacks.size());
+    }
+
+    @Test
+    public void differentReads() {
+        dispatcher.execute(new DMRAction(read("datasources")), new Callback());
+        dispatcher.execute(new DMRAction(read("logging")), new Callback());
+        assertEquals(2, handler.callbacks.size());
+    }
+
+    @Test
+    public void writeIsBarrier() {
+        dispatcher.execute(new DMRAction(read("datasources")), new Callback());
+        ModelNode write = read("datasources");
+        write.get(OP).set(WRITE_ATTRIBUTE_OPERATION);
+        dispatcher.execute(new DMRAction(write), new Callback());
+        dispatcher.execute(new DMRAction(read("datasources")), new Callback());
+        assertEquals(3, handler.callbacks.size());
+    }
+
+    @Test
+    public void cancelJoined() {
+        Callback first = new Callback();
+        Callback second = new Callback();
+        DispatchRequest firstRequest = dispatcher.execute(new DMRAction(read("datasources")), first);
+        DispatchRequest secondRequest = dispatcher.execute(new DMRAction(read("datasources")), second);
+
+        firstRequest.cancel();
+        assertFalse(firstRequest.isPending());
+        assertTrue(secondRequest.isPending());
+        assertEquals(0, handler.cancelled);
+
+        secondRequest.cancel();
+        assertEquals(1, handler.cancelled);
+    }
+
+    private ModelNode read(String subsystem) {
+        ModelNode operation = new ModelNode();
+        operation.get(ADDRESS).add(SUBSYSTEM, subsystem);
+        operation.get(OP).set(READ_RESOURCE_OPERATION);
+        return operation;
+    }
+
+
+    private static class RecordingHandler implements ActionHandler<DMRAction, DMRResponse> {
+
+        final List<AsyncCallback<DMRResponse>> callbacks = new ArrayList<AsyncCallback<DMRResponse>>();
+        int cancelled;
+
+        @Override
+        public DispatchRequest execute(DMRAction action, AsyncCallback<DMRResponse> resultCallback,
+                Map<String, String> properties) {
+            callbacks.add(resultCallback);
+            return new DispatchRequest() {
+                @Override
+                public void cancel() {
+                    cancelled++;
+                }
+
+                @Override
+                public boolean isPending() {
+                    return true;
+                }
+            };
+        }
+
+        @Override
+        public DispatchRequest undo(DMRAction action, DMRResponse result, AsyncCallback<Void> callback) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+
+    private static class CountingProcessor extends ResponseProcessorDelegate {
+
+        int processed;
+
+        @Override
+        public void process(ModelNode response) {
+            processed++;
+        }
+    }
+
+
+    private static class Callback implements AsyncCallback<DMRResponse> {
+
+        DMRResponse result;
+        Throwable caught;
+
+        @Override
+        public void onFailure(Throwable caught) {
+            this.caught = caught;
+        }
+
+        @Override
+        public void onSuccess(DMRResponse result) {
+            this.result = result;
+        }
+    }
+}
@@ -30,13 +30,31 @@ public class Async<C> {
 
     private final static Object EMPTY_CONTEXT = new Object();
     private final Progress progress;
+    private final Scheduler scheduler;
+    private int timeout;
 
     public Async() {
         this(new Progress.Nop());
     }
 
     public Async(final Progress progress) {
+        this(progress, Scheduler.get());
+    }
+
+    public Async(final Progress progress, final Scheduler scheduler) {
         this.progress = progress;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Sets a timeout in milliseconds which applies to each function executed by {@link #series(Outcome,
+     * Function[])}, {@link #waterfall(Object, Outcome, Function[])} and {@link #parallel(Object, Outcome,
+     * Function[])}. If a function neither proceeds nor aborts in time, the flow is aborted. Calls to the control of
+     * a function which timed out are ignored. A value &lt;= 0 (the default) disables the timeout.
+     */
+    public Async<C> timeout(final int timeout) {
+        this.timeout = timeout;
+        return this;
     }
 
     /**
@@ -63,42 +81,7 @@ public class Async<C> {
     @SuppressWarnings("unchecked")
     private final void _series(C context, final Outcome<C> outcome, final Function<C>... functions) {
         final C finalContext = context != null ? context : (C) EMPTY_CONTEXT;
-        final SequentialControl<C> ctrl = new SequentialControl<C>(finalContext, functions);
-
-        // reset progress
-        progress.reset(functions.length);
-
-        // select first function and start
-        ctrl.proceed();
-        Scheduler.get().scheduleIncremental(new Scheduler.RepeatingCommand() {
-            @Override
-            public boolean execute() {
-                if (ctrl.isDrained()) {
-                    // schedule deferred so that 'return false' executes first!
-                    Scheduler.get().scheduleDeferred(new Scheduler.ScheduledCommand() {
-                        @Override
-                        public void execute() {
-                            progress.finish();
-                            outcome.onSuccess(finalContext);
-                        }
-                    });
-                    return false;
-                } else if (ctrl.isAborted()) {
-                    // schedule deferred so that 'return false' executes first!
-                    Scheduler.get().scheduleDeferred(new Scheduler.ScheduledCommand() {
-                        @Override
-                        public void execute() {
-                            progress.finish();
-                            outcome.onFailure(finalContext);
-                        }
-                    });
-                    return false;
-                } else {
-                    ctrl.nextUnlessPending();
-                    return true;
-                }
-            }
-        });
+        start(new Flow<C>(finalContext, outcome, functions, null, 1));
     }
 
     /**
@@ -108,35 +91,44 @@ public class Async<C> {
      */
     @SuppressWarnings("unchecked")
     public void parallel(C context, final Outcome<C> outcome, final Function<C>... functions) {
+        parallel(functions.length, context, outcome, functions);
+    }
+
+    /**
+     * Same as {@link #parallel(Object, Outcome, Function[])} but runs at most {@code maxInFlight} functions at the
+     * same time. The next function is started as soon as a running function has completed.
+     */
+    @SuppressWarnings("unchecked")
+    public void parallel(int maxInFlight, C context, final Outcome<C> outcome, final Function<C>... functions) {
         final C finalContext = context != null ? context : (C) EMPTY_CONTEXT;
-        final CountingControl<C> ctrl = new CountingControl<C>(finalContext, functions);
-        progress.reset(functions.length);
+        start(new Flow<C>(finalContext, outcome, functions, null, Math.max(1, maxInFlight)));
+    }
 
-        Scheduler.get().scheduleIncremental(new Scheduler.RepeatingCommand() {
-            @Override
-            public boolean execute() {
-                if (ctrl.isAborted() || ctrl.allFinished()) {
-                    // schedule deferred so that 'return false' executes first!
-                    Scheduler.get().scheduleDeferred(new Scheduler.ScheduledCommand() {
-                        @Override
-                        @SuppressWarnings("unchecked")
-                        public void execute() {
-                            if (ctrl.isAborted()) {
-                                progress.finish();
-                                outcome.onFailure(finalContext);
-                            } else {
-                                progress.finish();
-                                outcome.onSuccess(finalContext);
-                            }
+    /**
+     * Runs functions as a dependency graph: A function is started as soon as all of its prerequisites have
+     * proceeded, so independent functions run concurrently. {@code prerequisites[i]} contains the indexes of the
+     * functions which must proceed before {@code functions[i]} is started. If any of the functions pass an error to
+     * its callback, no more functions are started and the outcome is immediately called with the error.
+     * <p>
+     * The prerequisites must not contain cycles, otherwise the outcome is never called.
+     */
+    @SuppressWarnings("unchecked")
+    public void graph(C context, final Outcome<C> outcome, final int[][] prerequisites,
+            final Function<C>... functions) {
+        if (prerequisites.length != functions.length) {
+            throw new IllegalArgumentException("Prerequisites don't match functions");
+        }
+        final C finalContext = context != null ? context : (C) EMPTY_CONTEXT;
+        start(new Flow<C>(finalContext, outcome, functions, prerequisites, functions.length));
+    }
 
-                        }
-                    });
-                    return false;
-                } else {
-                    // one after the other until all are active
-                    ctrl.next();
-                    return true;
-                }
+    private void start(final Flow<C> flow) {
+        progress.reset(flow.functions.length);
+        // start deferred, so that the caller returns first
+        scheduler.scheduleDeferred(new Scheduler.ScheduledCommand() {
+            @Override
+            public void execute() {
+                flow.next();
             }
         });
     }
@@ -164,7 +156,7 @@ public class Async<C> {
             public boolean execute() {
                 if (!ctrl.shouldProceed()) {
                     // schedule deferred so that 'return false' executes first!
-                    Scheduler.get().scheduleDeferred(new Scheduler.ScheduledCommand() {
+                    scheduler.scheduleDeferred(new Scheduler.ScheduledCommand() {
                         @Override
                         public void execute() {
                             if (ctrl.isAborted()) {
@@ -186,124 +178,175 @@ public class Async<C> {
         };
 
         if (period > 100) {
-            Scheduler.get().scheduleFixedPeriod(repeatingCommand, period);
+            scheduler.scheduleFixedPeriod(repeatingCommand, period);
         } else {
-            Scheduler.get().scheduleIncremental(repeatingCommand);
+            scheduler.scheduleIncremental(repeatingCommand);
         }
     }
 
-    private class SequentialControl<C> implements Control<C> {
+    /**
+     * Runs functions and pushes the completion of each function through its {@link Control}. No polling is
+     * involved: Whenever a function proceeds, the next function is started (or the outcome is called). Runs at most
+     * {@code maxInFlight} functions at the same time; {@code 1} means series. If prerequisites are given, a function
+     * is started only after its prerequisites have proceeded.
+     */
+    private class Flow<C> {
 
         private final C context;
+        private final Outcome<C> outcome;
         private final Function<C>[] functions;
-        private Function<C> next;
-        private int index;
-        private boolean drained;
-        private boolean aborted;
-        private boolean pending;
+        private final int[][] prerequisites;
+        private final int maxInFlight;
+        private final boolean[] started;
+        private final boolean[] proceeded;
+        private int first; // the first function which was not started yet
+        private int inFlight;
+        private int finished;
+        private boolean done;
+        private boolean starting;
 
-        @SafeVarargs
-        SequentialControl(final C context, final Function<C>... functions) {
+        Flow(final C context, final Outcome<C> outcome, final Function<C>[] functions, final int[][] prerequisites,
+                final int maxInFlight) {
             this.context = context;
+            this.outcome = outcome;
             this.functions = functions;
+            this.prerequisites = prerequisites;
+            this.maxInFlight = maxInFlight;
+            this.started = new boolean[functions.length];
+            this.proceeded = new boolean[functions.length];
         }
 
-        @Override
-        public C getContext() {
-            return context;
+        /**
+         * Starts as many functions as allowed. Functions which proceed synchronously don't start their successor
+         * recursively, but return to this loop.
+         */
+        void next() {
+            if (starting) {
+                return;
+            }
+            starting = true;
+            try {
+                int index;
+                while (!done && inFlight < maxInFlight && (index = nextReady()) != -1) {
+                    started[index] = true;
+                    inFlight++;
+                    new Step(index).execute();
+                }
+                if (!done && finished >= functions.length) {
+                    finish(true);
+                }
+            } finally {
+                starting = false;
+            }
         }
 
-        @Override
-        public void proceed() {
-            if (index > 0) {
-                // start ticking *after* the first function has finished
-                progress.tick();
+        /**
+         * @return the index of the first function which was not started and whose prerequisites have proceeded or
+         * -1 if there's no such function
+         */
+        private int nextReady() {
+            while (first < functions.length && started[first]) {
+                first++;
             }
-            if (index >= functions.length) {
-                next = null;
-                drained = true;
-            } else {
-                next = functions[index];
-                index++;
+            for (int i = first; i < functions.length; i++) {
+                if (!started[i] && ready(i)) {
+                    return i;
+                }
+                if (prerequisites == null) {
+                    break;
+                }
             }
-            this.pending = false;
+            return -1;
         }
 
-        @Override
-        public void abort() {
-            new RuntimeException("").printStackTrace();
-            this.aborted = true;
-            this.pending = false;
+        private boolean ready(final int index) {
+            if (prerequisites != null && prerequisites[index] != null) {
+                for (int prerequisite : prerequisites[index]) {
+                    if (!proceeded[prerequisite]) {
+                        return false;
+                    }
+                }
+            }
+            return true;
         }
 
-        public boolean isAborted() {
-            return aborted;
+        void proceeded(final int index) {
+            proceeded[index] = true;
+            inFlight--;
+            finished++;
+            progress.tick();
+            next();
         }
 
-        public boolean isDrained() {
-            return drained;
+        void aborted() {
+            inFlight--;
+            finish(false);
         }
 
-        public void nextUnlessPending() {
-            if (!pending) {
-                pending = true;
-                next.execute(this);
-            }
+        private void finish(final boolean success) {
+            done = true;
+            // schedule deferred so that the last function returns first
+            scheduler.scheduleDeferred(new Scheduler.ScheduledCommand() {
+                @Override
+                public void execute() {
+                    progress.finish();
+                    if (success) {
+                        outcome.onSuccess(context);
+                    } else {
+                        outcome.onFailure(context);
+                    }
+                }
+            });
         }
-    }
 
-    private class CountingControl<C> implements Control<C> {
+        /**
+         * The control of one function execution. Only the first call to {@link #proceed()} or {@link #abort()}
+         * counts.
+         */
+        private class Step implements Control<C> {
 
-        private final C context;
-        private final Function<C>[] functions;
-        protected boolean aborted;
-        private int index;
-        private int finished;
-
-        @SafeVarargs
-        CountingControl(final C context, Function<C>... functions) {
-            this.context = context;
-            this.functions = functions;
-        }
+            private final int index;
+            private boolean completed;
 
-        @Override
-        public C getContext() {
-            return context;
-        }
+            Step(final int index) {
+                this.index = index;
+            }
 
-        @SuppressWarnings("unchecked")
-        public void next() {
-            if (index < functions.length) {
+            void execute() {
+                if (timeout > 0) {
+                    scheduler.scheduleFixedDelay(new Scheduler.RepeatingCommand() {
+                        @Override
+                        public boolean execute() {
+                            if (!completed) {
+                                abort();
+                            }
+                            return false;
+                        }
+                    }, timeout);
+                }
                 functions[index].execute(this);
-                index++;
             }
-        }
 
-        @Override
-        public void proceed() {
-            if (index > 0) {
-                // start ticking *after* the first function has finished
-                progress.tick();
+            @Override
+            public void proceed() {
+                if (!completed && !done) {
+                    completed = true;
+                    proceeded(index);
+                }
             }
-            increment();
-        }
 
-        private void increment() {
-            ++finished;
-        }
-
-        @Override
-        public void abort() {
-            increment();
-            aborted = true;
-        }
-
-        public boolean isAborted() {
-            return aborted;
-        }
+            @Override
+            public void abort() {
+                if (!completed && !done) {
+                    completed = true;
+                    aborted();
+                }
+            }
 
-        public boolean allFinished() {
-            return finished >= functions.length;
+            @Override
+            public C getContext() {
+                return context;
+            }
         }
     }
 
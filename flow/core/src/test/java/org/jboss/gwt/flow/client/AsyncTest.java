@@ -0,0 +1,276 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011 Red Hat Inc. and/or its affiliates and other contributors
+ * as indicated by the @author tags. All rights reserved.
+ * See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This copyrighted material is made available to anyone wishing to use,
+ * modify, copy, or redistribute it subject to the terms and conditions
+ * of the GNU Lesser General Public License, v. 2.1.
+ * This program is distributed in the hope that it will be useful, but WITHOUT A
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License,
+ * v.2.1 along with this distribution; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA  02110-1301, USA.
+ */
+package org.jboss.gwt.flow.client;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class AsyncTest {
+
+    /**
+     * Logs its execution and either completes synchronously or keeps its control for the test to complete it.
+     */
+    private static class Recorder implements Function<List<String>> {
+
+        final String name;
+        final Boolean proceed; // null: don't complete
+        Control<List<String>> control;
+
+        Recorder(final String name, final Boolean proceed) {
+            this.name = name;
+            this.proceed = proceed;
+        }
+
+        @Override
+        public void execute(final Control<List<String>> control) {
+            this.control = control;
+            control.getContext().add(name);
+            if (proceed == Boolean.TRUE) {
+                control.proceed();
+            } else if (proceed == Boolean.FALSE) {
+                control.abort();
+            }
+        }
+
+        boolean started() {
+            return control != null;
+        }
+    }
+
+
+    private static class CountingOutcome implements Outcome<List<String>> {
+
+        int success;
+        int failure;
+
+        @Override
+        public void onFailure(final List<String> context) {
+            failure++;
+        }
+
+        @Override
+        public void onSuccess(final List<String> context) {
+            success++;
+        }
+    }
+
+
+    private TestScheduler scheduler;
+    private Async<List<String>> async;
+    private List<String> context;
+    private CountingOutcome outcome;
+
+    @Before
+    public void setUp() {
+        scheduler = new TestScheduler();
+        async = new Async<>(new Progress.Nop(), scheduler);
+        context = new ArrayList<>();
+        outcome = new CountingOutcome();
+    }
+
+
+    // ------------------------------------------------------ test methods
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void waterfallOrder() {
+        Recorder a = new Recorder("a", null);
+        Recorder b = new Recorder("b", null);
+        Recorder c = new Recorder("c", true);
+        async.waterfall(context, outcome, a, b, c);
+        assertFalse("flow must start deferred", a.started());
+
+        scheduler.flush();
+        assertTrue(a.started());
+        assertFalse(b.started());
+
+        a.control.proceed();
+        assertTrue(b.started());
+        assertFalse(c.started());
+
+        b.control.proceed();
+        scheduler.flush();
+        assertEquals(Arrays.asList("a", "b", "c"), context);
+        assertEquals(1, outcome.success);
+        assertEquals(0, outcome.failure);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void synchronousFunctionsDontRecurse() {
+        Function<List<String>>[] functions = new Function[10000];
+        for (int i = 0; i < functions.length; i++) {
+            functions[i] = new Recorder(String.valueOf(i), true);
+        }
+        async.waterfall(context, outcome, functions);
+        scheduler.flush();
+        assertEquals(functions.length, context.size());
+        assertEquals(1, outcome.success);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void parallelMaxInFlight() {
+        Recorder[] recorders = new Recorder[5];
+        for (int i = 0; i < recorders.length; i++) {
+            recorders[i] = new Recorder(String.valueOf(i), null);
+        }
+        async.parallel(2, context, outcome, recorders);
+        scheduler.flush();
+        assertEquals(Arrays.asList("0", "1"), context);
+
+        recorders[1].control.proceed();
+        assertEquals(Arrays.asList("0", "1", "2"), context);
+
+        // repeated calls to proceed() must not free another slot
+        recorders[1].control.proceed();
+        assertEquals(3, context.size());
+
+        recorders[0].control.proceed();
+        recorders[2].control.proceed();
+        assertEquals(5, context.size());
+        recorders[3].control.proceed();
+        recorders[4].control.proceed();
+        scheduler.flush();
+        assertEquals(1, outcome.success);
+        assertEquals(0, outcome.failure);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void parallelWithoutLimit() {
+        Recorder a = new Recorder("a", null);
+        Recorder b = new Recorder("b", null);
+        async.parallel(context, outcome, a, b);
+        scheduler.flush();
+        assertTrue(a.started());
+        assertTrue(b.started());
+
+        b.control.proceed();
+        a.control.proceed();
+        scheduler.flush();
+        assertEquals(1, outcome.success);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void graphOrder() {
+        Recorder a = new Recorder("a", null);
+        Recorder b = new Recorder("b", null);
+        Recorder c = new Recorder("c", true);
+        Recorder d = new Recorder("d", null);
+        // c depends on a and b, d depends on c
+        int[][] prerequisites = {{}, {}, {0, 1}, {2}};
+        async.graph(context, outcome, prerequisites, a, b, c, d);
+        scheduler.flush();
+        assertEquals(Arrays.asList("a", "b"), context);
+
+        b.control.proceed();
+        assertFalse(c.started());
+        a.control.proceed();
+        assertEquals(Arrays.asList("a", "b", "c", "d"), context);
+
+        d.control.proceed();
+        scheduler.flush();
+        assertEquals(1, outcome.success);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void failurePropagation() {
+        Recorder a = new Recorder("a", true);
+        Recorder b = new Recorder("b", false);
+        Recorder c = new Recorder("c", true);
+        async.waterfall(context, outcome, a, b, c);
+        scheduler.flush();
+
+        assertFalse(c.started());
+        assertEquals(Arrays.asList("a", "b"), context);
+        assertEquals(0, outcome.success);
+        assertEquals(1, outcome.failure);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void parallelFailure() {
+        Recorder a = new Recorder("a", null);
+        Recorder b = new Recorder("b", null);
+        Recorder c = new Recorder("c", null);
+        async.parallel(2, context, outcome, a, b, c);
+        scheduler.flush();
+
+        a.control.abort();
+        // the flow is done: no further function is started and late completions are ignored
+        b.control.proceed();
+        scheduler.flush();
+        assertFalse(c.started());
+        assertEquals(0, outcome.success);
+        assertEquals(1, outcome.failure);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void timeoutFiresOnce() {
+        Recorder a = new Recorder("a", null);
+        Recorder b = new Recorder("b", null);
+        async.timeout(100).parallel(context, outcome, a, b);
+        scheduler.flush();
+
+        scheduler.advance(99);
+        assertEquals(0, outcome.failure);
+
+        // both functions time out, but the outcome is called once
+        scheduler.advance(1);
+        assertEquals(0, outcome.success);
+        assertEquals(1, outcome.failure);
+
+        // late completions are ignored
+        a.control.proceed();
+        b.control.abort();
+        scheduler.advance(1000);
+        assertEquals(0, outcome.success);
+        assertEquals(1, outcome.failure);
+        assertEquals(0, scheduler.pendingTimers());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void noTimeoutIfCompletedInTime() {
+        Recorder a = new Recorder("a", null);
+        Recorder b = new Recorder("b", null);
+        async.timeout(100).waterfall(context, outcome, a, b);
+        scheduler.flush();
+
+        scheduler.advance(60);
+        a.control.proceed();
+        scheduler.advance(60);
+        assertEquals(0, outcome.failure);
+
+        b.control.proceed();
+        scheduler.advance(1000);
+        assertEquals(1, outcome.success);
+        assertEquals(0, outcome.failure);
+    }
+}
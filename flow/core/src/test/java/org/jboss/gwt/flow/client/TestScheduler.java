@@ -0,0 +1,139 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011 Red Hat Inc. and/or its affiliates and other contributors
+ * as indicated by the @author tags. All rights reserved.
+ * See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This copyrighted material is made available to anyone wishing to use,
+ * modify, copy, or redistribute it subject to the terms and conditions
+ * of the GNU Lesser General Public License, v. 2.1.
+ * This program is distributed in the hope that it will be useful, but WITHOUT A
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License,
+ * v.2.1 along with this distribution; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA  02110-1301, USA.
+ */
+package org.jboss.gwt.flow.client;
+
+import com.google.gwt.core.client.Scheduler;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Scheduler for unit tests which runs commands on a simulated clock. Deferred, finally and entry commands are run
+ * by {@link #flush()}, timed commands by {@link #advance(int)}.
+ */
+public class TestScheduler extends Scheduler {
+
+    private static class Timer {
+
+        final RepeatingCommand command;
+        final int delay;
+        long due;
+
+        Timer(final RepeatingCommand command, final int delay, final long due) {
+            this.command = command;
+            this.delay = delay;
+            this.due = due;
+        }
+    }
+
+
+    private final LinkedList<ScheduledCommand> deferred = new LinkedList<>();
+    private final List<Timer> timers = new ArrayList<>();
+    private long now;
+
+    /**
+     * Runs all deferred commands, incl. the ones which are scheduled while flushing.
+     */
+    public void flush() {
+        while (!deferred.isEmpty()) {
+            deferred.removeFirst().execute();
+        }
+    }
+
+    /**
+     * Advances the clock and runs the timed commands which become due in the order of their due time.
+     */
+    public void advance(final int millis) {
+        long end = now + millis;
+        flush();
+        Timer next;
+        while ((next = nextDue(end)) != null) {
+            now = next.due;
+            if (next.command.execute()) {
+                next.due = now + Math.max(1, next.delay);
+            } else {
+                timers.remove(next);
+            }
+            flush();
+        }
+        now = end;
+    }
+
+    private Timer nextDue(final long end) {
+        Timer next = null;
+        for (Timer timer : timers) {
+            if (timer.due <= end && (next == null || timer.due < next.due)) {
+                next = timer;
+            }
+        }
+        return next;
+    }
+
+    public int pendingTimers() {
+        return timers.size();
+    }
+
+    @Override
+    public void scheduleDeferred(final ScheduledCommand cmd) {
+        deferred.add(cmd);
+    }
+
+    @Override
+    public void scheduleEntry(final RepeatingCommand cmd) {
+        scheduleIncremental(cmd);
+    }
+
+    @Override
+    public void scheduleEntry(final ScheduledCommand cmd) {
+        deferred.add(cmd);
+    }
+
+    @Override
+    public void scheduleFinally(final RepeatingCommand cmd) {
+        scheduleIncremental(cmd);
+    }
+
+    @Override
+    public void scheduleFinally(final ScheduledCommand cmd) {
+        deferred.add(cmd);
+    }
+
+    @Override
+    public void scheduleFixedDelay(final RepeatingCommand cmd, final int delayMs) {
+        timers.add(new Timer(cmd, delayMs, now + delayMs));
+    }
+
+    @Override
+    public void scheduleFixedPeriod(final RepeatingCommand cmd, final int delayMs) {
+        timers.add(new Timer(cmd, delayMs, now + delayMs));
+    }
+
+    @Override
+    public void scheduleIncremental(final RepeatingCommand cmd) {
+        deferred.add(new ScheduledCommand() {
+            @Override
+            public void execute() {
+                if (cmd.execute()) {
+                    scheduleIncremental(cmd);
+                }
+            }
+        });
+    }
+}
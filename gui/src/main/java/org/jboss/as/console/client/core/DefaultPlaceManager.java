@@ -27,6 +27,7 @@ import com.gwtplatform.mvp.client.proxy.PlaceManagerImpl;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 import com.gwtplatform.mvp.shared.proxy.TokenFormatter;
 import org.jboss.as.console.client.Console;
+import org.jboss.as.console.client.core.bootstrap.StartupMetrics;
 import org.jboss.as.console.client.rbac.UnauthorizedEvent;
 import org.jboss.ballroom.client.layout.LHSHighlightEvent;
 
@@ -40,16 +41,21 @@ import java.util.List;
 public class DefaultPlaceManager extends PlaceManagerImpl {
 
     private final RequiredResourcesProcessor requiredResourcesProcessor;
+    private final RequiredResourcesPrefetcher requiredResourcesPrefetcher;
+    private final StartupMetrics startupMetrics;
     private BootstrapContext bootstrap;
     private EventBus eventBus;
 
     @Inject
     public DefaultPlaceManager(EventBus eventBus, TokenFormatter tokenFormatter, BootstrapContext bootstrap,
-            RequiredResourcesProcessor requiredResourcesProcessor) {
+            RequiredResourcesProcessor requiredResourcesProcessor,
+            RequiredResourcesPrefetcher requiredResourcesPrefetcher, StartupMetrics startupMetrics) {
         super(eventBus, tokenFormatter);
         this.bootstrap = bootstrap;
         this.eventBus = eventBus;
         this.requiredResourcesProcessor = requiredResourcesProcessor;
+        this.requiredResourcesPrefetcher = requiredResourcesPrefetcher;
+        this.startupMetrics = startupMetrics;
     }
 
     @Override
@@ -65,9 +71,18 @@ public class DefaultPlaceManager extends PlaceManagerImpl {
 
     @Override
     protected void doRevealPlace(final PlaceRequest request, final boolean updateBrowserUrl) {
+        // the user navigates elsewhere: places predicted for the previous place are obsolete
+        requiredResourcesPrefetcher.cancel();
+        // the startup ends with the first reveal
+        final StartupMetrics.Mark mark = startupMetrics.begin(StartupMetrics.REVEAL, request.getNameToken());
         requiredResourcesProcessor.process(request.getNameToken(), new AsyncCallback<Void>() {
             @Override
             public void onFailure(Throwable caught) {
+                if (mark != null) {
+                    // the startup ends with the first reveal, even if it fails
+                    startupMetrics.end(mark);
+                    startupMetrics.finish();
+                }
                 unlock();
                 revealDefaultPlace();
                 Console.error("Failed to create security context", caught.getMessage());
@@ -82,6 +97,10 @@ public class DefaultPlaceManager extends PlaceManagerImpl {
                         if (updateBrowserUrl) {
                             eventBus.fireEvent(new LHSHighlightEvent(request.getNameToken()));
                         }
+                        if (mark != null) {
+                            startupMetrics.end(mark);
+                            startupMetrics.finish();
+                        }
                     }
                 });
             }
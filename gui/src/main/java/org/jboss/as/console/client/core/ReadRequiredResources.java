@@ -26,6 +26,7 @@ import com.google.gwt.user.client.rpc.AsyncCallback;
 import org.jboss.as.console.client.rbac.Constraints;
 import org.jboss.as.console.client.rbac.ResourceRef;
 import org.jboss.as.console.client.rbac.SecurityContextImpl;
+import org.jboss.as.console.client.v3.ResourceDescriptionRegistry;
 import org.jboss.as.console.client.v3.dmr.AddressTemplate;
 import org.jboss.as.console.mbui.dmr.ResourceAddress;
 import org.jboss.as.console.mbui.dmr.ResourceDefinition;
@@ -56,6 +57,7 @@ public class ReadRequiredResources implements Function<RequiredResourcesContext>
     private static final String EXCEPTIONS = "exceptions";
     private static final String ACCESS_CONTROL = "access-control";
     private static final String COMBINED_DESCRIPTIONS = "combined-descriptions";
+    private static final String TRIM_DESCRIPTIONS = "trim-descriptions";
 
     private final DispatchAsync dispatcher;
     private final StatementContext statementContext;
@@ -81,11 +83,13 @@ public class ReadRequiredResources implements Function<RequiredResourcesContext>
         operation.get(INCLUDE_ALIASES).set(true); // TODO Test if this is still necessary once WFLY-2738 is fixed
         // TODO What about notifications?
 
-        input.add(new Input(requiredResource, ref, address, description, operation));
+        String storageKey = operation.get(ADDRESS).asString() + (recursive ? "#recursive" : "");
+        input.add(new Input(requiredResource, ref, address, description, operation, storageKey));
     }
 
     @Override
     public void execute(Control<RequiredResourcesContext> control) {
+        ResourceDescriptionRegistry registry = control.getContext().getResourceDescriptionRegistry();
         ModelNode comp = new ModelNode();
         comp.get(OP).set(COMPOSITE);
         comp.get(ADDRESS).setEmptyList();
@@ -93,13 +97,25 @@ public class ReadRequiredResources implements Function<RequiredResourcesContext>
         int index = 1;
         List<ModelNode> steps = new ArrayList<>();
         Map<String, Input> stepToInput = new HashMap<>();
-        for (Iterator<Input> iterator = input.iterator(); iterator.hasNext(); index++) {
-            Input in = iterator.next();
-            steps.add(in.operation);
+        Map<Input, ModelNode> stored = new HashMap<>();
+        for (Input in : input) {
+            // descriptions persisted in an earlier session only need the access control meta data,
+            // which is never persisted
+            ModelNode payload = registry.restore(in.storageKey);
+            if (payload != null) {
+                stored.put(in, payload);
+                ModelNode operation = in.operation.clone();
+                operation.get(ACCESS_CONTROL).set(TRIM_DESCRIPTIONS);
+                steps.add(operation);
+            } else {
+                steps.add(in.operation);
+            }
             stepToInput.put("step-" + index, in);
+            index++;
         }
+
         comp.get(STEPS).set(steps);
-        dispatcher.execute(new DMRAction(comp), new Parser(control, steps, stepToInput));
+        dispatcher.execute(new DMRAction(comp), new Parser(control, steps, stepToInput, stored));
     }
 
 
@@ -112,15 +128,17 @@ public class ReadRequiredResources implements Function<RequiredResourcesContext>
         final ResourceAddress address;
         final ResourceDescription description;
         final ModelNode operation;
+        final String storageKey;
 
         public Input(String requiredResource, ResourceRef ref, ResourceAddress address, ResourceDescription description,
-                     ModelNode operation) {
+                     ModelNode operation, String storageKey) {
             this.requiredResource = requiredResource;
             this.addressTemplate = AddressTemplate.of(requiredResource);
             this.ref = ref;
             this.address = address;
             this.description = description;
             this.operation = operation;
+            this.storageKey = storageKey;
         }
     }
 
@@ -129,12 +147,15 @@ public class ReadRequiredResources implements Function<RequiredResourcesContext>
         private final Control<RequiredResourcesContext> control;
         private final List<ModelNode> steps;
         private final Map<String, Input> stepToInput;
+        private final Map<Input, ModelNode> stored;
         private final Set<ResourceRef> references;
 
-        private Parser(Control<RequiredResourcesContext> control, List<ModelNode> steps, Map<String, Input> stepToInput) {
+        private Parser(Control<RequiredResourcesContext> control, List<ModelNode> steps, Map<String, Input> stepToInput,
+                       Map<Input, ModelNode> stored) {
             this.control = control;
             this.steps = steps;
             this.stepToInput = stepToInput;
+            this.stored = stored;
 
             this.references = new HashSet<>();
             for (Input in : stepToInput.values()) {
@@ -197,23 +218,51 @@ public class ReadRequiredResources implements Function<RequiredResourcesContext>
                             payload = stepResult;
                         }
 
-                        // TODO extract the functions to parse and process the
-                        // resource descriptions and the security related metadata
-
-                        // update & store description
-                        in.description.setDefinition(new ResourceDefinition(payload));
-//                        control.getContext().getResourceDescriptionRegistry().add(in.description);
-                        control.getContext().getResourceDescriptionRegistry().add(in.addressTemplate, new org.jboss.as.console.client.v3.dmr.ResourceDescription(payload));
-
-                        // break down into root resource and children
-                        parseAccessControlChildren(in.ref, references, control.getContext().getSecurityContextImpl(),
-                                payload);
+                        ModelNode description = stored.get(in);
+                        if (description != null) {
+                            // add the current access control meta data to the persisted description
+                            mergeAccessControl(description, payload);
+                            payload = description;
+                        } else {
+                            control.getContext().getResourceDescriptionRegistry().store(in.storageKey, payload);
+                        }
+                        process(in, payload);
                     }
                 }
             }
             control.proceed();
         }
 
+        private void process(Input in, ModelNode payload) {
+            // TODO extract the functions to parse and process the
+            // resource descriptions and the security related metadata
+
+            // update & store description
+            in.description.setDefinition(new ResourceDefinition(payload));
+//            control.getContext().getResourceDescriptionRegistry().add(in.description);
+            control.getContext().getResourceDescriptionRegistry().add(in.addressTemplate, new org.jboss.as.console.client.v3.dmr.ResourceDescription(payload));
+
+            // break down into root resource and children
+            parseAccessControlChildren(in.ref, references, control.getContext().getSecurityContextImpl(),
+                    payload);
+        }
+
+        /**
+         * Copies all {@code access-control} nodes of {@code source} to the same position in {@code target}.
+         */
+        private void mergeAccessControl(ModelNode target, ModelNode source) {
+            if (source.getType() != ModelType.OBJECT || target.getType() != ModelType.OBJECT) {
+                return;
+            }
+            for (String key : source.keys()) {
+                if (ACCESS_CONTROL.equals(key)) {
+                    target.get(ACCESS_CONTROL).set(source.get(ACCESS_CONTROL));
+                } else if (target.has(key)) {
+                    mergeAccessControl(target.get(key), source.get(key));
+                }
+            }
+        }
+
         private boolean matchingAddress(List<ModelNode> responseAddress, List<ModelNode> inquiryAddress) {
             int numMatchingTokens = 0;
             int offset = inquiryAddress.size() - responseAddress.size();
@@ -0,0 +1,136 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2010, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.console.client.core;
+
+import com.allen_sauer.gwt.log.client.Log;
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import com.google.inject.Inject;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Warms the required resources and security contexts of places which are likely to be revealed next, e.g. the
+ * subsystems of the selected profile. The places are processed one after another when the console is idle: As long
+ * as the required resources of a place which is about to be revealed are processed, the prefetcher waits.
+ * <p>
+ * Each call to {@link #prefetch(List)} replaces the queued places. {@link #cancel()} is called when the user
+ * navigates elsewhere. Places which are already processed are skipped.
+ */
+public class RequiredResourcesPrefetcher {
+
+    /**
+     * Delay in ms between two checks whether the console is idle.
+     */
+    private static final int IDLE_DELAY = 300;
+
+    private final RequiredResourcesProcessor processor;
+    private final LinkedList<String> queue;
+    private boolean scheduled;
+    private boolean prefetching;
+
+    @Inject
+    public RequiredResourcesPrefetcher(RequiredResourcesProcessor processor) {
+        this.processor = processor;
+        this.queue = new LinkedList<>();
+    }
+
+    /**
+     * Replaces the queued places with the specified tokens.
+     */
+    public void prefetch(List<String> tokens) {
+        queue.clear();
+        for (String token : tokens) {
+            if (token != null && !processor.wasProcessed(token) && !queue.contains(token)) {
+                queue.add(token);
+            }
+        }
+        schedule();
+    }
+
+    /**
+     * Moves the specified token to the front of the queue, e.g. when a finder item is selected.
+     */
+    public void prefetchFirst(String token) {
+        if (token != null && !processor.wasProcessed(token)) {
+            queue.remove(token);
+            queue.addFirst(token);
+            schedule();
+        }
+    }
+
+    /**
+     * Removes all queued places. A place which is currently processed is not interrupted, but its result is
+     * used once the place is revealed.
+     */
+    public void cancel() {
+        queue.clear();
+    }
+
+    private void schedule() {
+        if (!scheduled && !queue.isEmpty()) {
+            scheduled = true;
+            Scheduler.get().scheduleFixedDelay(new Scheduler.RepeatingCommand() {
+                @Override
+                public boolean execute() {
+                    if (prefetching || processor.isRevealPending()) {
+                        return true; // not idle
+                    }
+                    String token = next();
+                    if (token == null) {
+                        scheduled = false;
+                        return false;
+                    }
+                    prefetch(token);
+                    return true;
+                }
+            }, IDLE_DELAY);
+        }
+    }
+
+    private String next() {
+        while (!queue.isEmpty()) {
+            String token = queue.removeFirst();
+            if (!processor.wasProcessed(token)) {
+                return token;
+            }
+        }
+        return null;
+    }
+
+    private void prefetch(final String token) {
+        prefetching = true;
+        processor.prefetch(token, new AsyncCallback<Void>() {
+            @Override
+            public void onFailure(Throwable caught) {
+                prefetching = false;
+                Log.debug("Failed to prefetch required resources for " + token + ": " + caught.getMessage());
+            }
+
+            @Override
+            public void onSuccess(Void result) {
+                prefetching = false;
+            }
+        });
+    }
+}
@@ -23,6 +23,7 @@ package org.jboss.as.console.client.core;
 
 import com.google.gwt.user.client.rpc.AsyncCallback;
 import com.google.inject.Inject;
+import org.jboss.as.console.client.core.bootstrap.StartupMetrics;
 import org.jboss.as.console.client.plugins.RequiredResourcesRegistry;
 import org.jboss.as.console.client.rbac.NoGatekeeperContext;
 import org.jboss.as.console.client.rbac.SecurityFramework;
@@ -36,8 +37,10 @@ import org.useware.kernel.gui.behaviour.FilteringStatementContext;
 import org.useware.kernel.gui.behaviour.StatementContext;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -56,6 +59,11 @@ public class RequiredResourcesProcessor {
     private final ResourceDescriptionRegistry resourceDescriptionRegistry;
     private final SecurityFramework securityFramework;
     private final StatementContext statementContext;
+    private final StartupMetrics startupMetrics;
+
+    // callbacks of tokens which are currently processed
+    private final Map<String, List<AsyncCallback<Void>>> pending;
+    private int pendingReveals;
 
     @Inject
     protected RequiredResourcesProcessor(DispatchAsync dispatcher,
@@ -64,16 +72,90 @@ public class RequiredResourcesProcessor {
                                          RequiredResourcesRegistry requiredResourcesRegistry,
                                          ResourceDescriptionRegistry resourceDescriptionRegistry,
                                          SecurityFramework securityFramework,
-                                         CoreGUIContext statementContext) {
+                                         CoreGUIContext statementContext,
+                                         StartupMetrics startupMetrics) {
         this.dispatcher = dispatcher;
         this.nameTokenRegistry = nameTokenRegistry;
         this.requiredResourcesRegistry = requiredResourcesRegistry;
         this.resourceDescriptionRegistry = resourceDescriptionRegistry;
         this.securityFramework = securityFramework;
         this.statementContext = new FilteringStatementContext(statementContext, new RequiredResourcesFilter(bootstrap));
+        this.startupMetrics = startupMetrics;
+        this.pending = new HashMap<>();
     }
 
     public void process(final String token, final AsyncCallback<Void> callback) {
+        process(token, false, callback);
+    }
+
+    /**
+     * Processes the required resources of a token which is not yet revealed. Used by the
+     * {@link RequiredResourcesPrefetcher}: No progress is shown.
+     */
+    void prefetch(final String token, final AsyncCallback<Void> callback) {
+        process(token, true, callback);
+    }
+
+    /**
+     * @return {@code true} if the required resources of a place which is about to be revealed are processed.
+     */
+    boolean isRevealPending() {
+        return pendingReveals > 0;
+    }
+
+    boolean wasProcessed(final String token) {
+        return nameTokenRegistry.wasRevealed(token);
+    }
+
+    private void process(final String token, final boolean prefetch, final AsyncCallback<Void> callback) {
+        if (!prefetch) {
+            pendingReveals++;
+        }
+        final AsyncCallback<Void> countingCallback = new AsyncCallback<Void>() {
+            @Override
+            public void onFailure(Throwable caught) {
+                if (!prefetch) {
+                    pendingReveals--;
+                }
+                callback.onFailure(caught);
+            }
+
+            @Override
+            public void onSuccess(Void result) {
+                if (!prefetch) {
+                    pendingReveals--;
+                }
+                callback.onSuccess(result);
+            }
+        };
+
+        // join a pending request for the same token
+        List<AsyncCallback<Void>> callbacks = pending.get(token);
+        if (callbacks != null) {
+            callbacks.add(countingCallback);
+            return;
+        }
+        callbacks = new ArrayList<>();
+        callbacks.add(countingCallback);
+        pending.put(token, callbacks);
+        processToken(token, prefetch, new AsyncCallback<Void>() {
+            @Override
+            public void onFailure(Throwable caught) {
+                for (AsyncCallback<Void> callback : pending.remove(token)) {
+                    callback.onFailure(caught);
+                }
+            }
+
+            @Override
+            public void onSuccess(Void result) {
+                for (AsyncCallback<Void> callback : pending.remove(token)) {
+                    callback.onSuccess(result);
+                }
+            }
+        });
+    }
+
+    private void processToken(final String token, final boolean prefetch, final AsyncCallback<Void> callback) {
         if (!nameTokenRegistry.wasRevealed(token)) {
             Set<String> requiredResources = requiredResourcesRegistry.getResources(token);
             boolean recursive = requiredResourcesRegistry.isRecursive(token);
@@ -87,22 +169,28 @@ public class RequiredResourcesProcessor {
 
                 RequiredResourcesContext context = new RequiredResourcesContext(token, requiredResources,
                         resourceDescriptionRegistry);
+                // prefetches are not part of the startup
+                final StartupMetrics.Mark mark = prefetch ? null
+                        : startupMetrics.begin(StartupMetrics.REQUIRED_RESOURCES, token);
                 Outcome<RequiredResourcesContext> outcome = new Outcome<RequiredResourcesContext>() {
                     @Override
                     public void onFailure(RequiredResourcesContext context) {
+                        startupMetrics.end(mark);
                         callback.onFailure(context.getError());
                     }
 
                     @Override
                     public void onSuccess(RequiredResourcesContext context) {
+                        startupMetrics.end(mark);
                         finishWithContext(token, context.getSecurityContext(), callback);
                     }
                 };
                 //noinspection unchecked
                 // Unfortunately we cannot use Async.parallel() here unless someone finds a way
                 // to unambiguously map parallel r-r-d operations to their results (multiple "step-1" results)
-                new Async<RequiredResourcesContext>(Footer.PROGRESS_ELEMENT).waterfall(context, outcome,
-                        functions.toArray(new ReadRequiredResources[functions.size()]));
+                Async<RequiredResourcesContext> async = prefetch ? new Async<RequiredResourcesContext>()
+                        : new Async<RequiredResourcesContext>(Footer.PROGRESS_ELEMENT);
+                async.waterfall(context, outcome, functions.toArray(new ReadRequiredResources[functions.size()]));
             }
         } else {
             callback.onSuccess(null);
@@ -420,6 +420,10 @@ public interface UIConstants extends Constants {
 
     String subsys_naming_selectedURI();
 
+    String subsys_naming_searchBinding();
+
+    String subsys_naming_bindingNotRevealed();
+
     String subsys_configadmin();
 
     String subsys_configadmin_add();
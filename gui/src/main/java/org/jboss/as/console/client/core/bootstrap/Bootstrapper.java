@@ -26,10 +26,10 @@ import com.google.gwt.user.client.rpc.AsyncCallback;
 import com.google.inject.Inject;
 import org.jboss.as.console.client.core.BootstrapContext;
 import org.jboss.as.console.client.core.bootstrap.cors.BootstrapServerSetup;
+import org.jboss.as.console.client.core.bootstrap.hal.BootstrapGraph;
 import org.jboss.as.console.client.core.bootstrap.hal.BootstrapSteps;
 import org.jboss.as.console.client.rbac.SecurityFramework;
 import org.jboss.ballroom.client.rbac.SecurityContext;
-import org.jboss.gwt.flow.client.Async;
 import org.jboss.gwt.flow.client.Outcome;
 
 import java.util.Collections;
@@ -45,23 +45,50 @@ public class Bootstrapper {
     private final BootstrapContext bootstrapContext;
     private final SecurityFramework securityFramework;
     private final BootstrapSteps bootstrapSteps;
+    private final StartupMetrics startupMetrics;
 
     @Inject
     public Bootstrapper(BootstrapServerSetup serverSetup,
                         BootstrapContext bootstrapContext,
                         SecurityFramework securityFramework,
-                        BootstrapSteps bootstrapSteps) {
+                        BootstrapSteps bootstrapSteps,
+                        StartupMetrics startupMetrics) {
 
         this.serverSetup = serverSetup;
         this.bootstrapContext = bootstrapContext;
         this.securityFramework = securityFramework;
         this.bootstrapSteps = bootstrapSteps;
+        this.startupMetrics = startupMetrics;
     }
 
     public void go(final Outcome<BootstrapContext> outcome) {
+        StartupMetrics.Mark mark = startupMetrics.begin(StartupMetrics.BOOTSTRAP, "bootstrap");
         prepareSecurityContext(
                 () -> serverSetup.select(
-                        () -> new Async<BootstrapContext>().waterfall(bootstrapContext, outcome, bootstrapSteps.steps())));
+                        () -> execute(mark, outcome)));
+    }
+
+    private void execute(final StartupMetrics.Mark mark, final Outcome<BootstrapContext> outcome) {
+        BootstrapGraph graph = bootstrapSteps.graph();
+        graph.execute(bootstrapContext, new Outcome<BootstrapContext>() {
+            @Override
+            public void onFailure(BootstrapContext context) {
+                bootstrapped(mark, graph);
+                startupMetrics.finish();
+                outcome.onFailure(context);
+            }
+
+            @Override
+            public void onSuccess(BootstrapContext context) {
+                bootstrapped(mark, graph);
+                outcome.onSuccess(context);
+            }
+        });
+    }
+
+    private void bootstrapped(final StartupMetrics.Mark mark, final BootstrapGraph graph) {
+        startupMetrics.end(mark);
+        startupMetrics.bootstrapped(graph);
     }
 
     private void prepareSecurityContext(Scheduler.ScheduledCommand andThen) {
@@ -0,0 +1,261 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2010, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.console.client.core.bootstrap;
+
+import com.allen_sauer.gwt.log.client.Log;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.json.client.JSONArray;
+import com.google.gwt.json.client.JSONBoolean;
+import com.google.gwt.json.client.JSONNumber;
+import com.google.gwt.json.client.JSONObject;
+import com.google.gwt.json.client.JSONString;
+import com.google.inject.Inject;
+import org.jboss.as.console.client.core.BootstrapContext;
+import org.jboss.as.console.client.core.bootstrap.hal.BootstrapGraph;
+import org.jboss.dmr.client.dispatch.Diagnostics;
+import org.jboss.dmr.client.dispatch.DispatchStatistics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects timing marks of the console startup: The bootstrap as a whole, each bootstrap step, the required
+ * resources of the first place and the first reveal. Each mark contains the number of DMR requests, the transferred
+ * characters and the decode time while the mark was open.
+ * <p>
+ * The recording ends with the first reveal. Afterwards the marks are published to the diagnostics debug panel and
+ * are available as JSON report.
+ */
+public class StartupMetrics {
+
+    public static final String BOOTSTRAP = "bootstrap";
+    public static final String BOOTSTRAP_STEP = "bootstrap-step";
+    public static final String REQUIRED_RESOURCES = "required-resources";
+    public static final String REVEAL = "reveal";
+
+    private static final String MODULE = "hal";
+    private static final String SUB_SYSTEM = "startup";
+
+    private final BootstrapContext context;
+    private final Diagnostics diagnostics;
+    private final List<Mark> marks;
+    private final double origin;
+    private boolean finished;
+
+    @Inject
+    public StartupMetrics(BootstrapContext context) {
+        this.context = context;
+        this.diagnostics = GWT.create(Diagnostics.class);
+        this.marks = new ArrayList<>();
+        this.origin = DispatchStatistics.now();
+    }
+
+    /**
+     * @return a new mark or {@code null} if the recording has already finished
+     */
+    public Mark begin(String category, String name) {
+        if (finished) {
+            return null;
+        }
+        Mark mark = new Mark(category, name, DispatchStatistics.now() - origin,
+                DispatchStatistics.INSTANCE.getTotal());
+        marks.add(mark);
+        return mark;
+    }
+
+    /**
+     * Ends the given mark. Does nothing if the mark is {@code null}.
+     */
+    public void end(Mark mark) {
+        if (mark != null && mark.end < 0) {
+            mark.end = DispatchStatistics.now() - origin;
+            mark.dispatch = DispatchStatistics.INSTANCE.getTotal().since(mark.snapshot);
+        }
+    }
+
+    /**
+     * Adds the timings of the bootstrap steps.
+     */
+    public void bootstrapped(BootstrapGraph graph) {
+        if (finished) {
+            return;
+        }
+        double offset = graph.getBegin() - origin;
+        for (BootstrapGraph.Timing timing : graph.getTimings()) {
+            Mark mark = new Mark(BOOTSTRAP_STEP, timing.getStep(), offset + timing.getStart(), null);
+            if (timing.getEnd() >= 0) {
+                mark.end = offset + timing.getEnd();
+                mark.dispatch = timing.getDispatch();
+            }
+            marks.add(mark);
+        }
+    }
+
+    /**
+     * Ends the recording, logs the marks and publishes them to the diagnostics debug panel.
+     */
+    public void finish() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        Log.info("Startup finished after " + Math.round(DispatchStatistics.now() - origin) + " ms: " + marks);
+        if (diagnostics.isEnabled()) {
+            for (Mark mark : marks) {
+                if (mark.end >= 0) {
+                    String group = mark.category + ": " + mark.name;
+                    diagnostics.logEvent(MODULE, SUB_SYSTEM, group, origin + mark.start, "begin");
+                    diagnostics.logEvent(MODULE, SUB_SYSTEM, group, origin + mark.end, "end");
+                }
+            }
+        }
+    }
+
+    public boolean isRecording() {
+        return !finished;
+    }
+
+    public List<Mark> getMarks() {
+        return marks;
+    }
+
+    /**
+     * @return a JSON report of the startup containing the marks and some context information
+     */
+    public String toJson() {
+        JSONObject report = new JSONObject();
+        report.put("product", string(context.getProductName()));
+        report.put("productVersion", string(context.getProductVersion()));
+        report.put("managementVersion", string(context.getManagementVersion()));
+        report.put("standalone", JSONBoolean.getInstance(context.isStandalone()));
+        report.put("finished", JSONBoolean.getInstance(finished));
+        if (!context.isStandalone()) {
+            report.put("hosts", new JSONNumber(context.getAddressableHosts().size()));
+            report.put("serverGroups", new JSONNumber(context.getAddressableGroups().size()));
+        }
+        report.put("total", counter(DispatchStatistics.INSTANCE.getTotal()));
+
+        JSONArray array = new JSONArray();
+        for (Mark mark : marks) {
+            JSONObject json = new JSONObject();
+            json.put("category", new JSONString(mark.category));
+            json.put("name", new JSONString(mark.name));
+            json.put("start", new JSONNumber(mark.start));
+            if (mark.end >= 0) {
+                json.put("end", new JSONNumber(mark.end));
+                json.put("duration", new JSONNumber(mark.getDuration()));
+            }
+            if (mark.dispatch != null) {
+                json.put("dispatch", counter(mark.dispatch));
+            }
+            array.set(array.size(), json);
+        }
+        report.put("marks", array);
+        return report.toString();
+    }
+
+    /**
+     * Offers the {@linkplain #toJson() JSON report} as a download.
+     */
+    public void download() {
+        download(toJson(), "startup-report.json");
+    }
+
+    private static native void download(String json, String filename) /*-{
+        var blob = new Blob([json], {type: 'application/json'});
+        var url = $wnd.URL.createObjectURL(blob);
+        var a = $doc.createElement('a');
+        a.href = url;
+        a.download = filename;
+        $doc.body.appendChild(a);
+        a.click();
+        $doc.body.removeChild(a);
+        $wnd.URL.revokeObjectURL(url);
+    }-*/;
+
+    private JSONObject counter(DispatchStatistics.Counter counter) {
+        JSONObject json = new JSONObject();
+        json.put("requests", new JSONNumber(counter.getRequests()));
+        json.put("chars", new JSONNumber(counter.getChars()));
+        json.put("decodeMillis", new JSONNumber(counter.getDecodeMillis()));
+        return json;
+    }
+
+    private JSONString string(String value) {
+        return new JSONString(value != null ? value : "");
+    }
+
+
+    /**
+     * A named interval in ms relative to the start of the console.
+     */
+    public static class Mark {
+
+        private final String category;
+        private final String name;
+        private final double start;
+        private final DispatchStatistics.Counter snapshot;
+        private double end;
+        private DispatchStatistics.Counter dispatch;
+
+        Mark(String category, String name, double start, DispatchStatistics.Counter snapshot) {
+            this.category = category;
+            this.name = name;
+            this.start = start;
+            this.snapshot = snapshot;
+            this.end = -1;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getStart() {
+            return start;
+        }
+
+        public double getEnd() {
+            return end;
+        }
+
+        public double getDuration() {
+            return end < 0 ? -1 : end - start;
+        }
+
+        /**
+         * @return the dispatch numbers or {@code null} as long as the mark is open
+         */
+        public DispatchStatistics.Counter getDispatch() {
+            return dispatch;
+        }
+
+        @Override
+        public String toString() {
+            return category + ":" + name + "[" + Math.round(start) + "+" + Math.round(getDuration()) +
+                    (dispatch != null ? ", " + dispatch.getRequests() + " requests" : "") + "]";
+        }
+    }
+}
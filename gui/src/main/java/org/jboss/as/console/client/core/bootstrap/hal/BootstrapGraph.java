@@ -0,0 +1,294 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2010, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.console.client.core.bootstrap.hal;
+
+import com.allen_sauer.gwt.log.client.Log;
+import com.google.gwt.core.client.Scheduler;
+import org.jboss.as.console.client.core.BootstrapContext;
+import org.jboss.dmr.client.dispatch.DispatchStatistics;
+import org.jboss.gwt.flow.client.Async;
+import org.jboss.gwt.flow.client.Control;
+import org.jboss.gwt.flow.client.Function;
+import org.jboss.gwt.flow.client.Outcome;
+import org.jboss.gwt.flow.client.Progress;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Executes the bootstrap steps as a dependency graph using {@link Async#graph(Object, Outcome, int[][],
+ * Function[])}: A step is started as soon as all of its {@linkplain BootstrapStep#prerequisites() prerequisites}
+ * have finished, so independent steps run concurrently. If a step aborts, no further steps are started and the
+ * outcome fails.
+ * <p>
+ * The start and end time of each step are recorded and logged once the bootstrap has finished. Each step runs in its
+ * own {@linkplain DispatchStatistics dispatch scope}, so the timings also contain the number of DMR requests, the
+ * transferred characters and the decode time of each step.
+ */
+public class BootstrapGraph {
+
+    public static final String SCOPE_PREFIX = "bootstrap/";
+
+    private final Scheduler scheduler;
+    private final List<BootstrapStep> steps;
+    private final Map<BootstrapStep, String> names;
+    private final Map<BootstrapStep, Timing> timings;
+    private long begin;
+
+    public BootstrapGraph() {
+        this(Scheduler.get());
+    }
+
+    BootstrapGraph(Scheduler scheduler) {
+        this.scheduler = scheduler;
+        this.steps = new ArrayList<>();
+        this.names = new HashMap<>();
+        this.timings = new HashMap<>();
+    }
+
+    /**
+     * Adds a step. The name is used for the timings (class names are not available in compiled mode).
+     */
+    public BootstrapGraph add(String name, BootstrapStep step) {
+        steps.add(step);
+        names.put(step, name);
+        return this;
+    }
+
+    /**
+     * Resolves the prerequisites of each step to the indexes of the steps.
+     *
+     * @throws IllegalArgumentException if a prerequisite is unknown or if the prerequisites contain cycles
+     */
+    int[][] prerequisites() {
+        Map<Class<? extends BootstrapStep>, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < steps.size(); i++) {
+            indexes.put(steps.get(i).getClass(), i);
+        }
+        int[][] prerequisites = new int[steps.size()][];
+        for (int i = 0; i < steps.size(); i++) {
+            List<Class<? extends BootstrapStep>> classes = steps.get(i).prerequisites();
+            prerequisites[i] = new int[classes.size()];
+            for (int j = 0; j < classes.size(); j++) {
+                Integer index = indexes.get(classes.get(j));
+                if (index == null) {
+                    throw new IllegalArgumentException("Unknown prerequisite of bootstrap step " +
+                            names.get(steps.get(i)));
+                }
+                prerequisites[i][j] = index;
+            }
+        }
+
+        // detect cycles: repeatedly resolve steps whose prerequisites are resolved
+        boolean[] resolved = new boolean[steps.size()];
+        int remaining = steps.size();
+        boolean progress = true;
+        while (remaining > 0 && progress) {
+            progress = false;
+            for (int i = 0; i < steps.size(); i++) {
+                if (!resolved[i] && allResolved(prerequisites[i], resolved)) {
+                    resolved[i] = true;
+                    remaining--;
+                    progress = true;
+                }
+            }
+        }
+        if (remaining > 0) {
+            List<String> cyclic = new ArrayList<>();
+            for (int i = 0; i < steps.size(); i++) {
+                if (!resolved[i]) {
+                    cyclic.add(names.get(steps.get(i)));
+                }
+            }
+            throw new IllegalArgumentException("Cyclic prerequisites in bootstrap steps " + cyclic);
+        }
+        return prerequisites;
+    }
+
+    private static boolean allResolved(int[] prerequisites, boolean[] resolved) {
+        for (int prerequisite : prerequisites) {
+            if (!resolved[prerequisite]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void execute(final BootstrapContext context, final Outcome<BootstrapContext> outcome) {
+        int[][] prerequisites = prerequisites();
+        Function<BootstrapContext>[] functions = new Function[steps.size()];
+        for (int i = 0; i < functions.length; i++) {
+            functions[i] = new TimedStep(steps.get(i));
+        }
+
+        this.begin = System.currentTimeMillis();
+        new Async<BootstrapContext>(new Progress.Nop(), scheduler).graph(context, new Outcome<BootstrapContext>() {
+            @Override
+            public void onFailure(BootstrapContext context) {
+                log(false);
+                outcome.onFailure(context);
+            }
+
+            @Override
+            public void onSuccess(BootstrapContext context) {
+                log(true);
+                outcome.onSuccess(context);
+            }
+        }, prerequisites, functions);
+    }
+
+    private void log(boolean success) {
+        Log.info("Bootstrap " + (success ? "finished" : "failed") + " after " +
+                (System.currentTimeMillis() - begin) + " ms: " + getTimings());
+    }
+
+
+    /**
+     * Records the timing of a step and runs it in its own dispatch scope.
+     */
+    private class TimedStep implements Function<BootstrapContext> {
+
+        private final BootstrapStep step;
+
+        TimedStep(BootstrapStep step) {
+            this.step = step;
+        }
+
+        @Override
+        public void execute(final Control<BootstrapContext> control) {
+            final Timing timing = new Timing(names.get(step), System.currentTimeMillis() - begin);
+            timings.put(step, timing);
+            String previous = DispatchStatistics.INSTANCE.enter(SCOPE_PREFIX + timing.step);
+            try {
+                step.execute(new Control<BootstrapContext>() {
+                    @Override
+                    public void proceed() {
+                        if (timing.end < 0) {
+                            timing.end(System.currentTimeMillis() - begin);
+                        }
+                        control.proceed();
+                    }
+
+                    @Override
+                    public void abort() {
+                        if (timing.end < 0) {
+                            timing.end(System.currentTimeMillis() - begin);
+                            timing.aborted = true;
+                        }
+                        control.abort();
+                    }
+
+                    @Override
+                    public BootstrapContext getContext() {
+                        return control.getContext();
+                    }
+                });
+            } finally {
+                DispatchStatistics.INSTANCE.leave(previous);
+            }
+        }
+    }
+
+
+    /**
+     * @return the timings of the started steps in the order of the steps
+     */
+    public List<Timing> getTimings() {
+        List<Timing> result = new ArrayList<>();
+        for (BootstrapStep step : steps) {
+            Timing timing = timings.get(step);
+            if (timing != null) {
+                result.add(timing);
+            }
+        }
+        return result;
+    }
+
+
+    /**
+     * @return the begin of the bootstrap in ms since the epoch
+     */
+    public long getBegin() {
+        return begin;
+    }
+
+
+    /**
+     * Start and end of a step in ms relative to the start of the bootstrap. The end is -1 as long as the step is
+     * running. The dispatch numbers cover the requests which were sent by the step until it finished.
+     */
+    public static class Timing {
+
+        private final String step;
+        private final long start;
+        private long end;
+        private boolean aborted;
+        private DispatchStatistics.Counter dispatch;
+
+        Timing(final String step, final long start) {
+            this.step = step;
+            this.start = start;
+            this.end = -1;
+        }
+
+        void end(final long end) {
+            this.end = end;
+            this.dispatch = DispatchStatistics.INSTANCE.getScope(SCOPE_PREFIX + step);
+        }
+
+        public String getStep() {
+            return step;
+        }
+
+        public long getStart() {
+            return start;
+        }
+
+        public long getEnd() {
+            return end;
+        }
+
+        public long getDuration() {
+            return end < 0 ? -1 : end - start;
+        }
+
+        public boolean isAborted() {
+            return aborted;
+        }
+
+        /**
+         * @return the dispatch numbers or {@code null} as long as the step is running
+         */
+        public DispatchStatistics.Counter getDispatch() {
+            return dispatch;
+        }
+
+        @Override
+        public String toString() {
+            return step + "[" + start + "+" + getDuration() + (dispatch != null ? ", " + dispatch.getRequests() +
+                    " requests" : "") + (aborted ? ", aborted" : "") + "]";
+        }
+    }
+}
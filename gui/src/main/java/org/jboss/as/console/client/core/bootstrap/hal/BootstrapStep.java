@@ -24,10 +24,21 @@ package org.jboss.as.console.client.core.bootstrap.hal;
 import org.jboss.as.console.client.core.BootstrapContext;
 import org.jboss.gwt.flow.client.Function;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
- * Just a marker interface for HAL's bootstrap steps.
+ * Interface for HAL's bootstrap steps. Steps are started as soon as their prerequisites have finished.
  *
  * @author Harald Pehl
  */
 public interface BootstrapStep extends Function<BootstrapContext> {
+
+    /**
+     * @return the steps which need to finish before this step is started. Steps w/o prerequisites are started
+     * right away.
+     */
+    default List<Class<? extends BootstrapStep>> prerequisites() {
+        return Collections.emptyList();
+    }
 }
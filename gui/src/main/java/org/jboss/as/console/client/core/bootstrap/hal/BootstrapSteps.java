@@ -24,7 +24,7 @@ package org.jboss.as.console.client.core.bootstrap.hal;
 import com.google.inject.Inject;
 
 /**
- * Simple wrapper around an ordered array of HAL's bootstrap steps.
+ * Simple wrapper around HAL's bootstrap steps.
  *
  * @author Harald Pehl
  */
@@ -62,17 +62,19 @@ public class BootstrapSteps {
         this.eagerLoadGroups = eagerLoadGroups;
     }
 
-    public BootstrapStep[] steps() {
-        return new BootstrapStep[] {
-                loadGoogleViz,
-                executionMode,
-                trackExecutionMode,
-                loadCompatMatrix,
-                registerSubsystems,
-                eagerLoadProfiles,
-                hostStoreInit,
-                serverStoreInit,
-                eagerLoadGroups
-        };
+    /**
+     * @return the bootstrap steps as dependency graph. Independent steps are executed concurrently.
+     */
+    public BootstrapGraph graph() {
+        return new BootstrapGraph()
+                .add("LoadGoogleViz", loadGoogleViz)
+                .add("ExecutionMode", executionMode)
+                .add("TrackExecutionMode", trackExecutionMode)
+                .add("LoadCompatMatrix", loadCompatMatrix)
+                .add("RegisterSubsystems", registerSubsystems)
+                .add("EagerLoadProfiles", eagerLoadProfiles)
+                .add("HostStoreInit", hostStoreInit)
+                .add("ServerStoreInit", serverStoreInit)
+                .add("EagerLoadGroups", eagerLoadGroups);
     }
 }
@@ -7,6 +7,7 @@ import org.jboss.as.console.client.domain.model.ServerGroupRecord;
 import org.jboss.as.console.client.domain.model.ServerGroupDAO;
 import org.jboss.gwt.flow.client.Control;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
@@ -45,4 +46,9 @@ public class EagerLoadGroups implements BootstrapStep {
             control.proceed();
         }
     }
+
+    @Override
+    public List<Class<? extends BootstrapStep>> prerequisites() {
+        return Collections.<Class<? extends BootstrapStep>>singletonList(ExecutionMode.class);
+    }
 }
@@ -11,6 +11,7 @@ import org.jboss.as.console.client.v3.stores.domain.actions.RefreshProfiles;
 import org.jboss.as.console.client.v3.stores.domain.actions.RefreshSocketBindings;
 import org.jboss.gwt.flow.client.Control;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -83,4 +84,9 @@ public class EagerLoadProfiles implements BootstrapStep {
             profileSelection.setName(match);
         }
     }
+
+    @Override
+    public List<Class<? extends BootstrapStep>> prerequisites() {
+        return Collections.<Class<? extends BootstrapStep>>singletonList(ExecutionMode.class);
+    }
 }
@@ -27,6 +27,7 @@ import org.jboss.as.console.client.shared.Preferences;
 import org.jboss.dmr.client.ModelNode;
 import org.jboss.dmr.client.dispatch.DispatchAsync;
 import org.jboss.dmr.client.dispatch.impl.DMRAction;
+import org.jboss.dmr.client.dispatch.impl.DMRHandler;
 import org.jboss.dmr.client.dispatch.impl.DMRResponse;
 import org.jboss.gwt.flow.client.Control;
 import org.jboss.gwt.flow.client.Function;
@@ -112,6 +113,16 @@ public class ExecutionMode implements BootstrapStep {
         step.get(ADDRESS).setEmptyList();
         steps.add(step);
 
+        // management version (used to version the description URLs)
+        for (String version : new String[]{"management-major-version", "management-minor-version",
+                "management-micro-version"}) {
+            step = new ModelNode();
+            step.get(OP).set(READ_ATTRIBUTE_OPERATION);
+            step.get(NAME).set(version);
+            step.get(ADDRESS).setEmptyList();
+            steps.add(step);
+        }
+
         operation.get(STEPS).set(steps);
 
         dispatcher.execute(new DMRAction(operation), new AsyncCallback<DMRResponse>() {
@@ -184,6 +195,16 @@ public class ExecutionMode implements BootstrapStep {
                         context.setServerName(serverName.get(RESULT).asString());
                     }
 
+                    ModelNode major = response.get(RESULT).get("step-8");
+                    ModelNode minor = response.get(RESULT).get("step-9");
+                    ModelNode micro = response.get(RESULT).get("step-10");
+                    if (major.get(RESULT).isDefined()) {
+                        String managementVersion = major.get(RESULT).asString() + "." +
+                                minor.get(RESULT).asString() + "." + micro.get(RESULT).asString();
+                        context.setManagementVersion(managementVersion);
+                        dispatcher.setProperty(DMRHandler.MANAGEMENT_VERSION, managementVersion);
+                    }
+
                     control.proceed();
                 }
             }
@@ -7,6 +7,8 @@ import org.jboss.as.console.client.domain.model.SimpleCallback;
 import org.jboss.as.console.client.v3.stores.domain.HostStore;
 import org.jboss.gwt.flow.client.Control;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -59,4 +61,9 @@ public class HostStoreInit implements BootstrapStep {
             control.proceed();
         }
     }
+
+    @Override
+    public List<Class<? extends BootstrapStep>> prerequisites() {
+        return Collections.<Class<? extends BootstrapStep>>singletonList(ExecutionMode.class);
+    }
 }
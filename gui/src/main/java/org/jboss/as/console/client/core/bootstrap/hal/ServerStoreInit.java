@@ -8,6 +8,7 @@ import org.jboss.as.console.client.v3.stores.domain.HostStore;
 import org.jboss.as.console.client.v3.stores.domain.ServerStore;
 import org.jboss.gwt.flow.client.Control;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -47,5 +48,9 @@ public class ServerStoreInit implements BootstrapStep {
             control.proceed();
         }
     }
-}
 
+    @Override
+    public List<Class<? extends BootstrapStep>> prerequisites() {
+        return Collections.<Class<? extends BootstrapStep>>singletonList(HostStoreInit.class);
+    }
+}
@@ -7,6 +7,9 @@ import org.jboss.as.console.client.ProductConfig;
 import org.jboss.as.console.client.core.BootstrapContext;
 import org.jboss.gwt.flow.client.Control;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * @author Heiko Braun
  * @date 1/17/12
@@ -37,4 +40,9 @@ public class TrackExecutionMode implements BootstrapStep {
             control.abort();
         }
     }
+
+    @Override
+    public List<Class<? extends BootstrapStep>> prerequisites() {
+        return Collections.<Class<? extends BootstrapStep>>singletonList(ExecutionMode.class);
+    }
 }
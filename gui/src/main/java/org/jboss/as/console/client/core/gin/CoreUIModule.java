@@ -54,9 +54,11 @@ import org.jboss.as.console.client.core.MainLayoutPresenter;
 import org.jboss.as.console.client.core.MainLayoutViewImpl;
 import org.jboss.as.console.client.core.NameTokenRegistry;
 import org.jboss.as.console.client.core.NewTokenFormatter;
+import org.jboss.as.console.client.core.RequiredResourcesPrefetcher;
 import org.jboss.as.console.client.core.RequiredResourcesProcessor;
 import org.jboss.as.console.client.core.ToplevelTabs;
 import org.jboss.as.console.client.core.bootstrap.Bootstrapper;
+import org.jboss.as.console.client.core.bootstrap.StartupMetrics;
 import org.jboss.as.console.client.core.bootstrap.cors.BootstrapServerSetup;
 import org.jboss.as.console.client.core.bootstrap.hal.BootstrapSteps;
 import org.jboss.as.console.client.core.bootstrap.hal.EagerLoadGroups;
@@ -109,6 +111,7 @@ import org.jboss.as.console.client.domain.runtime.DomainRuntimeView;
 import org.jboss.as.console.client.domain.runtime.DomainRuntimegateKeeper;
 import org.jboss.as.console.client.domain.runtime.NoServerPresenter;
 import org.jboss.as.console.client.domain.runtime.NoServerView;
+import org.jboss.as.console.client.domain.topology.ServerLifecycleMonitor;
 import org.jboss.as.console.client.domain.topology.TopologyPresenter;
 import org.jboss.as.console.client.domain.topology.TopologyView;
 import org.jboss.as.console.client.plugins.RequiredResourcesRegistry;
@@ -271,6 +274,7 @@ import org.jboss.as.console.mbui.behaviour.CoreGUIContext;
 import org.jboss.as.console.spi.GinExtensionBinding;
 import org.jboss.dmr.client.dispatch.DispatchAsync;
 import org.jboss.dmr.client.dispatch.HandlerMapping;
+import org.jboss.dmr.client.dispatch.impl.CachingDMRHandler;
 import org.jboss.dmr.client.dispatch.impl.DMRHandler;
 import org.jboss.dmr.client.dispatch.impl.DispatchAsyncImpl;
 import org.jboss.dmr.client.dispatch.impl.HandlerRegistry;
@@ -748,6 +752,7 @@ public class CoreUIModule extends AbstractPresenterModule {
         bind(EagerLoadGroups.class).in(Singleton.class);
         bind(BootstrapSteps.class).in(Singleton.class);
         bind(Bootstrapper.class).in(Singleton.class);
+        bind(StartupMetrics.class).in(Singleton.class);
 
         bind(StatementContext.class).to(CoreGUIContext.class).in(Singleton.class);
         bind(SecurityFramework.class).to(SecurityFrameworkImpl.class).in(Singleton.class);
@@ -755,6 +760,8 @@ public class CoreUIModule extends AbstractPresenterModule {
 
         bind(StandaloneEndpointStrategy.class).in(Singleton.class);
         bind(RequiredResourcesProcessor.class).in(Singleton.class);
+        bind(RequiredResourcesPrefetcher.class).in(Singleton.class);
+        bind(ServerLifecycleMonitor.class).in(Singleton.class);
 
         /* use this to test against 6.x until the RBAC facilities are available */
         //bind(SecurityFramework.class).to(MockSecurityFramework.class).in(Singleton.class);
@@ -763,7 +770,9 @@ public class CoreUIModule extends AbstractPresenterModule {
         bind(Index.class).toProvider(IndexProvider.class).in(Singleton.class);
 
         bind(DMRHandler.class).in(Singleton.class);
-        bind(DispatchAsync.class).to(DispatchAsyncImpl.class).in(Singleton.class);
+        bind(CachingDMRHandler.class).in(Singleton.class);
+        bind(DispatchAsyncImpl.class).in(Singleton.class);
+        bind(DispatchAsync.class).toProvider(DispatchAsyncProvider.class).in(Singleton.class);
         bind(HandlerMapping.class).to(HandlerRegistry.class).in(Singleton.class);
 
         bind(ReloadState.class).in(Singleton.class);
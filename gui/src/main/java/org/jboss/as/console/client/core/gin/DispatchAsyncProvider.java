@@ -0,0 +1,53 @@
+
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011 Red Hat Inc. and/or its affiliates and other contributors
+ * as indicated by the @author tags. All rights reserved.
+ * See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This copyrighted material is made available to anyone wishing to use,
+ * modify, copy, or redistribute it subject to the terms and conditions
+ * of the GNU Lesser General Public License, v. 2.1.
+ * This program is distributed in the hope that it will be useful, but WITHOUT A
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License,
+ * v.2.1 along with this distribution; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA  02110-1301, USA.
+ */
+package org.jboss.as.console.client.core.gin;
+
+import com.google.inject.Provider;
+import org.jboss.as.console.client.shared.Preferences;
+import org.jboss.dmr.client.dispatch.DispatchAsync;
+import org.jboss.dmr.client.dispatch.impl.BatchingDispatchAsync;
+import org.jboss.dmr.client.dispatch.impl.DispatchAsyncImpl;
+
+import javax.inject.Inject;
+
+/**
+ * Provides the dispatcher. Batching of read operations into composites is an opt-in which can be enabled in the
+ * settings.
+ */
+public class DispatchAsyncProvider implements Provider<DispatchAsync> {
+
+    /**
+     * Collect read operations until the end of the current event loop.
+     */
+    private static final int BATCH_WINDOW = 0;
+
+    private final DispatchAsyncImpl dispatcher;
+
+    @Inject
+    public DispatchAsyncProvider(DispatchAsyncImpl dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public DispatchAsync get() {
+        boolean batching = Boolean.valueOf(Preferences.get(Preferences.Key.DMR_BATCHING, "false"));
+        return batching ? new BatchingDispatchAsync(dispatcher, BATCH_WINDOW) : dispatcher;
+    }
+}
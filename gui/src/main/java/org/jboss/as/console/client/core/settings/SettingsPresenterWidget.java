@@ -85,6 +85,7 @@ public class SettingsPresenterWidget extends PresenterWidget<SettingsPresenterWi
         String analyticsDefault = ProductConfig.Profile.PRODUCT.equals(prodConfig.getProfile()) ? "false" : "true";
         settings.setAnalytics(Boolean.valueOf(Preferences.get(Preferences.Key.ANALYTICS, analyticsDefault)));
         settings.setSecurityCache(Boolean.valueOf(Preferences.get(Preferences.Key.SECURITY_CONTEXT, "true")));
+        settings.setDmrBatching(Boolean.valueOf(Preferences.get(Preferences.Key.DMR_BATCHING, "false")));
         return settings;
     }
 }
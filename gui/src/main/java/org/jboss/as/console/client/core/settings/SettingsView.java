@@ -84,6 +84,10 @@ public class SettingsView extends PopupViewImpl implements SettingsPresenterWidg
                 Preferences.Key.ANALYTICS.getTitle());
         fields.add(enableAnalytics);
 
+        CheckBoxItem enableBatching = new CheckBoxItem(Preferences.Key.DMR_BATCHING.getToken(),
+                Preferences.Key.DMR_BATCHING.getTitle());
+        fields.add(enableBatching);
+
         if (featureSet.isSearchEnabled()) {
             clear = new ButtonItem("clear-search-index", Console.CONSTANTS.search_index_reset(),
                     Console.CONSTANTS.common_label_reset());
@@ -176,6 +180,9 @@ public class SettingsView extends PopupViewImpl implements SettingsPresenterWidg
             html.appendEscaped("disabled, but you can enable collection of this data by checking the Enable Usage Data Collection box.");
         }
         html.appendHtmlConstant("</li>");
+        html.appendHtmlConstant("<li>").appendEscaped(
+                "Batch Read Operations: Independent read operations are sent as one composite operation. This reduces the number of requests, which helps on slow connections to the domain controller.")
+                .appendHtmlConstant("</li>");
         if (featureSet.isSearchEnabled()) {
             html.appendHtmlConstant("<li>").
                     appendEscaped("Clear Search Index: Removes the local search index in case the search does not work as expected. The index is re-generated automatically the next time you'll enter the search.").
@@ -188,7 +195,7 @@ public class SettingsView extends PopupViewImpl implements SettingsPresenterWidg
         layout.add(form.asWidget());
 
         window.setWidth(480);
-        window.setHeight(360);
+        window.setHeight(400);
         window.trapWidget(new WindowContentBuilder(layout, options).build());
         window.setGlassEnabled(true);
         window.center();
@@ -16,6 +16,7 @@ import com.google.gwt.view.client.SelectionChangeEvent;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 import org.jboss.as.console.client.Console;
 import org.jboss.as.console.client.core.NameTokens;
+import org.jboss.as.console.client.core.RequiredResourcesPrefetcher;
 import org.jboss.as.console.client.core.SuspendableViewImpl;
 import org.jboss.as.console.client.domain.model.ServerGroupRecord;
 import org.jboss.as.console.client.domain.model.impl.LifecycleOperation;
@@ -50,6 +51,13 @@ public class ColumnHostView extends SuspendableViewImpl
     private final Widget hostColWidget;
     private final Widget groupsColWidget;
     private final FinderColumn<FinderItem> browseColumn;
+    private final RequiredResourcesPrefetcher prefetcher;
+
+    // the places reachable from the items of the host and server group columns
+    private final List<String> hostPlaces;
+    private final List<String> groupPlaces;
+    private boolean hostsAvailable;
+    private boolean groupsAvailable;
 
     private SplitLayoutPanel layout;
     private LayoutPanel contentCanvas;
@@ -72,8 +80,12 @@ public class ColumnHostView extends SuspendableViewImpl
     private static final StatusTemplate STATUS_TEMPLATE = GWT.create(StatusTemplate.class);
 
     @Inject
-    public ColumnHostView(final HostStore hostStore, final ServerStore serverStore) {
+    public ColumnHostView(final HostStore hostStore, final ServerStore serverStore,
+            final RequiredResourcesPrefetcher prefetcher) {
         super();
+        this.prefetcher = prefetcher;
+        this.hostPlaces = new ArrayList<>();
+        this.groupPlaces = new ArrayList<>();
 
         Console.getEventBus().addHandler(ClearFinderSelectionEvent.TYPE, this);
 
@@ -266,6 +278,7 @@ public class ColumnHostView extends SuspendableViewImpl
         layout.add(contentCanvas);
 
         // selection handling
+        hostPlaces.add(NameTokens.DomainRuntimePresenter);
         hosts.addSelectionChangeHandler(new SelectionChangeEvent.Handler() {
             @Override
             public void onSelectionChange(SelectionChangeEvent event) {
@@ -293,37 +306,13 @@ public class ColumnHostView extends SuspendableViewImpl
         });
 
         hosts.setMenuItems(
-                new MenuDelegate<String>(          // TODO permissions
-                        "JVM", new ContextualCommand<String>() {
-                    @Override
-                    public void executeOn(final String host) {
-                        Console.getPlaceManager().revealRelativePlace(
-                                new PlaceRequest(NameTokens.HostJVMPresenter)
-                        );
-                    }
-                }),
-                new MenuDelegate<String>(          // TODO permissions
-                        "Properties", new ContextualCommand<String>() {
-                    @Override
-                    public void executeOn(final String host) {
-                        Console.getPlaceManager().revealRelativePlace(
-                                new PlaceRequest(NameTokens.HostPropertiesPresenter)
-                        );
-                    }
-                }),
-                new MenuDelegate<String>(          // TODO permissions
-                        "Interfaces", new ContextualCommand<String>() {
-                    @Override
-                    public void executeOn(final String host) {
-                        Console.getPlaceManager().revealRelativePlace(
-                                new PlaceRequest(NameTokens.HostInterfacesPresenter)
-                        );
-                    }
-                })
-
-
+                hostPlaceItem("JVM", NameTokens.HostJVMPresenter),                  // TODO permissions
+                hostPlaceItem("Properties", NameTokens.HostPropertiesPresenter),    // TODO permissions
+                hostPlaceItem("Interfaces", NameTokens.HostInterfacesPresenter)     // TODO permissions
         );
 
+        groupPlaces.add(NameTokens.DomainRuntimePresenter);
+        groupPlaces.add(NameTokens.ServerGroupPresenter); // "Edit"
         groups.addSelectionChangeHandler(new SelectionChangeEvent.Handler() {
             @Override
             public void onSelectionChange(SelectionChangeEvent event) {
@@ -486,6 +475,9 @@ public class ColumnHostView extends SuspendableViewImpl
     public void updateHosts(String selectedHost, Set<String> hostNames) {
         // TODO API Compatibility: remove need for list wrapper
         hosts.updateFrom(new ArrayList<String>(hostNames), false);
+
+        hostsAvailable = !hostNames.isEmpty();
+        prefetchPlaces();
     }
 
 
@@ -493,6 +485,36 @@ public class ColumnHostView extends SuspendableViewImpl
     @Override
     public void updateServerGroups(List<ServerGroupRecord> serverGroups) {
         groups.updateFrom(serverGroups, false);
+
+        groupsAvailable = !serverGroups.isEmpty();
+        prefetchPlaces();
+    }
+
+    /**
+     * Prefetches the places reachable from the columns which actually contain items.
+     */
+    private void prefetchPlaces() {
+        List<String> tokens = new ArrayList<>();
+        if (hostsAvailable) {
+            tokens.addAll(hostPlaces);
+        }
+        if (groupsAvailable) {
+            tokens.addAll(groupPlaces);
+        }
+        prefetcher.prefetch(tokens);
+    }
+
+    private MenuDelegate<String> hostPlaceItem(String title, final String token) {
+        hostPlaces.add(token);
+        return new MenuDelegate<String>(
+                title, new ContextualCommand<String>() {
+            @Override
+            public void executeOn(final String host) {
+                Console.getPlaceManager().revealRelativePlace(
+                        new PlaceRequest(token)
+                );
+            }
+        });
     }
 
     @Override
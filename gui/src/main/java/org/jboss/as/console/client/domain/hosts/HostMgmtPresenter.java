@@ -51,6 +51,7 @@ import org.jboss.as.console.client.domain.model.SimpleCallback;
 import org.jboss.as.console.client.domain.model.impl.LifecycleOperation;
 import org.jboss.as.console.client.domain.topology.LifecycleCallback;
 import org.jboss.as.console.client.domain.topology.ServerGroupOpV3;
+import org.jboss.as.console.client.domain.topology.ServerLifecycleMonitor;
 import org.jboss.as.console.client.rbac.UnauthorisedPresenter;
 import org.jboss.as.console.client.shared.BeanFactory;
 import org.jboss.as.console.client.shared.properties.CreatePropertyCmd;
@@ -105,6 +106,7 @@ public class HostMgmtPresenter extends PerspectivePresenter<HostMgmtPresenter.My
     private BeanFactory factory;
 
     private final ServerGroupDAO serverGroupDAO;
+    private final ServerLifecycleMonitor lifecycleMonitor;
     private final ServerGroupStore serverGroupStore;
     private final SocketBindingStore socketBindingStore;
 
@@ -150,7 +152,8 @@ public class HostMgmtPresenter extends PerspectivePresenter<HostMgmtPresenter.My
                              BootstrapContext bootstrap, Header header, HostStore hostStore, Dispatcher circuit,
                              UnauthorisedPresenter unauthorisedPresenter,  ServerStore serverStore,
                              ProfileStore profileStore, DispatchAsync dispatcher, BeanFactory factory,
-                             ServerGroupDAO serverGroupDAO, ServerGroupStore serverGroupStore, SocketBindingStore socketBindingStore) {
+                             ServerGroupDAO serverGroupDAO, ServerGroupStore serverGroupStore, SocketBindingStore socketBindingStore,
+                             ServerLifecycleMonitor lifecycleMonitor) {
 
         super(eventBus, view, proxy, placeManager, header, NameTokens.HostMgmtPresenter, unauthorisedPresenter,
                 TYPE_MainContent);
@@ -163,6 +166,7 @@ public class HostMgmtPresenter extends PerspectivePresenter<HostMgmtPresenter.My
 
         this.profileStore = profileStore;
         this.dispatcher = dispatcher;
+        this.lifecycleMonitor = lifecycleMonitor;
         this.factory = factory;
         this.serverGroupDAO = serverGroupDAO;
         this.serverGroupStore = serverGroupStore;
@@ -463,7 +467,7 @@ public class HostMgmtPresenter extends PerspectivePresenter<HostMgmtPresenter.My
                 Console.error("Server " + op.name() + " failed", caught.getMessage());
                 circuit.dispatch(new RefreshServer());
             }
-        }, dispatcher, serverGroupDAO, group,  serverStore.getServerForGroup(group));
+        }, lifecycleMonitor, serverGroupDAO, group,  serverStore.getServerForGroup(group));
 
         serverGroupOp.run();
 
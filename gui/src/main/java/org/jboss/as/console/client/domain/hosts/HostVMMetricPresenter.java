@@ -19,7 +19,10 @@ import org.jboss.as.console.client.shared.jvm.LoadJVMMetricsCmd;
 import org.jboss.as.console.client.shared.jvm.model.CompositeVMMetric;
 import org.jboss.as.console.client.shared.runtime.Metric;
 import org.jboss.as.console.client.shared.runtime.RuntimeBaseAddress;
+import org.jboss.as.console.client.shared.runtime.sampling.MetricSampler;
+import org.jboss.as.console.client.shared.runtime.sampling.MetricSeries;
 import org.jboss.as.console.client.shared.runtime.vm.VMMetricsManagement;
+import org.jboss.as.console.client.shared.runtime.vm.VMTrends;
 import org.jboss.as.console.client.shared.runtime.vm.VMView;
 import org.jboss.as.console.client.v3.stores.domain.HostStore;
 import org.jboss.as.console.client.widgets.forms.ApplicationMetaData;
@@ -31,6 +34,8 @@ import org.jboss.dmr.client.dispatch.DispatchAsync;
 import org.jboss.gwt.circuit.Action;
 import org.jboss.gwt.circuit.Dispatcher;
 
+import java.util.List;
+
 import static org.jboss.as.console.spi.OperationMode.Mode.DOMAIN;
 
 /**
@@ -60,6 +65,7 @@ public class HostVMMetricPresenter extends CircuitPresenter<VMView, HostVMMetric
     private ApplicationMetaData metaData;
     private BeanFactory factory;
     private final HostStore hostStore;
+    private final MetricSampler sampler;
 
     @Inject
     public HostVMMetricPresenter(
@@ -73,6 +79,14 @@ public class HostVMMetricPresenter extends CircuitPresenter<VMView, HostVMMetric
         this.dispatcher = dispatcher;
         this.factory = factory;
         this.metaData = metaData;
+
+        this.sampler = new MetricSampler(dispatcher);
+        this.sampler.addListener(new MetricSampler.Listener() {
+            @Override
+            public void onSample(List<MetricSeries> series) {
+                getView().setTrend(series);
+            }
+        });
     }
 
     @Override
@@ -98,11 +112,22 @@ public class HostVMMetricPresenter extends CircuitPresenter<VMView, HostVMMetric
         refresh();
     }
 
+    @Override
+    protected void onHide() {
+        super.onHide();
+        sampler.stop();
+    }
+
     @Override
     public void refresh() {
 
         getView().clearSamples();
         loadVMStatus();
+
+        // the selected server might have changed
+        VMTrends.register(sampler, RuntimeBaseAddress.get());
+        getView().setTrend(sampler.getSeries());
+        sampler.start();
     }
 
     private LoadJVMMetricsCmd createLoadMetricCmd() {
@@ -64,4 +64,8 @@ public interface ServerInstance {
     String getProfile();
     void setProfile(String name);
 
+    @Binding(skip = true)
+    String getSuspendState();
+    void setSuspendState(String suspendState);
+
 }
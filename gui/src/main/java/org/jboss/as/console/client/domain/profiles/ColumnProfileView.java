@@ -20,6 +20,7 @@ import com.gwtplatform.mvp.client.proxy.PlaceManager;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 import org.jboss.as.console.client.Console;
 import org.jboss.as.console.client.core.NameTokens;
+import org.jboss.as.console.client.core.RequiredResourcesPrefetcher;
 import org.jboss.as.console.client.core.SuspendableViewImpl;
 import org.jboss.as.console.client.domain.events.ProfileSelectionEvent;
 import org.jboss.as.console.client.domain.model.ProfileRecord;
@@ -57,6 +58,9 @@ public class ColumnProfileView extends SuspendableViewImpl
     private static final String PATHS = "Paths";
     private static final String SYSTEM_PROPERTIES = "System Properties";
 
+    // max. number of subsystems which are prefetched when a profile is selected
+    private static final int MAX_PREFETCH = 5;
+
     private final FinderColumn<ProfileRecord> profiles;
     private final FinderColumn<FinderItem> config;
     private final FinderColumn<SubsystemLink> subsystems;
@@ -68,6 +72,7 @@ public class ColumnProfileView extends SuspendableViewImpl
     private final Widget configColWidget;
     private final PlaceManager placeManager;
     private final PreviewContentFactory contentFactory;
+    private final RequiredResourcesPrefetcher prefetcher;
 
     private SplitLayoutPanel splitlayout;
     private LayoutPanel contentCanvas;
@@ -89,10 +94,12 @@ public class ColumnProfileView extends SuspendableViewImpl
 
 
     @Inject
-    public ColumnProfileView(final PlaceManager placeManager, PreviewContentFactory contentFactory) {
+    public ColumnProfileView(final PlaceManager placeManager, PreviewContentFactory contentFactory,
+            RequiredResourcesPrefetcher prefetcher) {
         super();
         this.placeManager = placeManager;
         this.contentFactory = contentFactory;
+        this.prefetcher = prefetcher;
 
         contentCanvas = new LayoutPanel();
 
@@ -427,6 +434,8 @@ public class ColumnProfileView extends SuspendableViewImpl
                     else
                     {
                         clearNestedPresenter();
+                        // most likely the user is going to view the selected subsystem
+                        prefetcher.prefetchFirst(link.getToken());
                     }
 
                 }
@@ -483,7 +492,18 @@ public class ColumnProfileView extends SuspendableViewImpl
     @Override
     public void setSubsystems(List<SubsystemRecord> subsystemRecords)
     {
-        subsystems.updateFrom(matchSubsystems(subsystemRecords), false);
+        List<SubsystemLink> links = matchSubsystems(subsystemRecords);
+        subsystems.updateFrom(links, false);
+
+        // only the first visible subsystems, the selected subsystem is moved to the front of the queue
+        List<String> tokens = new ArrayList<>();
+        for (SubsystemLink link : subsystems.getVisibleItems()) {
+            if (tokens.size() == MAX_PREFETCH) {
+                break;
+            }
+            tokens.add(link.getToken());
+        }
+        prefetcher.prefetch(tokens);
     }
 
     @Override
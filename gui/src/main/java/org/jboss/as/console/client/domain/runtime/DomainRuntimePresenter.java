@@ -34,6 +34,7 @@ import org.jboss.as.console.client.domain.model.SimpleCallback;
 import org.jboss.as.console.client.domain.model.impl.LifecycleOperation;
 import org.jboss.as.console.client.domain.topology.LifecycleCallback;
 import org.jboss.as.console.client.domain.topology.ServerInstanceOp;
+import org.jboss.as.console.client.domain.topology.ServerLifecycleMonitor;
 import org.jboss.as.console.client.rbac.UnauthorisedPresenter;
 import org.jboss.as.console.client.rbac.UnauthorizedEvent;
 import org.jboss.as.console.client.shared.flow.FunctionContext;
@@ -109,6 +110,7 @@ public class DomainRuntimePresenter
     private final ServerStore serverStore;
     private final HostInformationStore hostInfoStore;
     private final DispatchAsync dispatcher;
+    private final ServerLifecycleMonitor lifecycleMonitor;
     private HandlerRegistration handlerRegistration;
     private final HostStore hostStore;
     private final PlaceManager placeManager;
@@ -119,7 +121,8 @@ public class DomainRuntimePresenter
     public DomainRuntimePresenter(EventBus eventBus, MyView view, MyProxy proxy, PlaceManager placeManager,
                                   HostStore hostStore, SubsystemLoader subsysStore,
                                   ServerGroupDAO serverGroupStore, Header header, UnauthorisedPresenter unauthorisedPresenter,
-                                  Dispatcher circuit, ServerStore serverStore, HostInformationStore hostInfoStore, DispatchAsync dispatcher) {
+                                  Dispatcher circuit, ServerStore serverStore, HostInformationStore hostInfoStore, DispatchAsync dispatcher,
+                                  ServerLifecycleMonitor lifecycleMonitor) {
 
         super(eventBus, view, proxy, placeManager, header, NameTokens.DomainRuntimePresenter, unauthorisedPresenter,
                 TYPE_MainContent);
@@ -133,6 +136,7 @@ public class DomainRuntimePresenter
         this.serverStore = serverStore;
         this.hostInfoStore = hostInfoStore;
         this.dispatcher = dispatcher;
+        this.lifecycleMonitor = lifecycleMonitor;
     }
 
     @Override
@@ -316,7 +320,7 @@ public class DomainRuntimePresenter
                 Console.error("Server " + op.name() + " failed", caught.getMessage());
                 circuit.dispatch(new RefreshServer());
             }
-        }, dispatcher, hostInfoStore,
+        }, lifecycleMonitor, hostInfoStore,
                 host, server
         );
         serverInstanceOp.run();
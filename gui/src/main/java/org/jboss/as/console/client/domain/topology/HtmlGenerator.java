@@ -68,6 +68,8 @@ final class HtmlGenerator {
     static final String STOP_GROUP_ID = "stop_group_";
     static final String RESTART_GROUP_ID = "restart_group_";
 
+    static final String SERVER_CELL_ID = "server_cell_";
+
     static Framework FRAMEWORK = GWT.create(Framework.class);
     static SecurityService SECURITY_SERVICE = FRAMEWORK.getSecurityService();
 
@@ -124,34 +126,28 @@ final class HtmlGenerator {
     }
 
     HtmlGenerator appendServer(final ServerGroup group, final String host, final ServerInstance server) {
-        ImageResource icon;
-        String tooltip = "";
-        if (server.isRunning()) {
-            if (server.getFlag() != null) {
-                icon = Icons.INSTANCE.status_warn();
-                if (server.getFlag() == RELOAD_REQUIRED) {
-                    tooltip = "Server has to be reloaded";
-                } else if (server.getFlag() == RESTART_REQUIRED) {
-                    tooltip = "Server has to be restarted";
-                }
-            } else {
-                tooltip = "Server is up and running";
-                icon = Icons.INSTANCE.status_good();
-            }
-        } else {
-            tooltip = "Server is stopped";
-            icon = Icons.INSTANCE.status_bad();
-        }
-        appendHtmlConstant("<td class='cellTableCell domainOverviewCell " + group.cssClassname + "_light" +
-                "' title='" + tooltip + "'>");
+        appendHtmlConstant("<td id='" + serverCellId(host, server.getName()) + "' class='cellTableCell " +
+                "domainOverviewCell " + group.cssClassname + "_light" + "' title='" + tooltip(server) + "'>");
+        appendServerContent(host, server);
+        appendHtmlConstant("</td>");
+        return this;
+    }
 
-        startLine().appendIcon(icon, tooltip).appendEscaped(server.getName()).endLine();
+    /**
+     * Appends the content of a server cell. Used to render a single cell again when the server has changed.
+     */
+    HtmlGenerator appendServerContent(final String host, final ServerInstance server) {
+        String tooltip = tooltip(server);
+        startLine().appendIcon(icon(server), tooltip).appendEscaped(server.getName()).endLine();
         if (server.getSocketBindings().size() > 0) {
             Set<String> sockets = server.getSocketBindings().keySet();
             String first = sockets.iterator().next();
             startLine().appendHtmlConstant("Socket Binding: ").appendEscaped(first).endLine();
             startLine().appendHtmlConstant("Ports: +").appendEscaped(server.getSocketBindings().get(first)).endLine();
         }
+        if (server.isRunning() && server.getSuspendState() != null) {
+            startLine().appendHtmlConstant("Suspend State: ").appendEscaped(server.getSuspendState()).endLine();
+        }
 
         SecurityContext securityContext = findContext("/host=" + host + "/server-config=" + server.getName());
         startLinks(securityContext, false);
@@ -168,11 +164,36 @@ final class HtmlGenerator {
             appendLifecycleLink(START_SERVER_ID + uniqueServerName, null, host, server.getName(), "Start Server");
         }
         endLinks();
-
-        appendHtmlConstant("</td>");
         return this;
     }
 
+    static String serverCellId(final String host, final String server) {
+        return SERVER_CELL_ID + host + "_" + server;
+    }
+
+    static String tooltip(final ServerInstance server) {
+        String tooltip = "";
+        if (server.isRunning()) {
+            if (server.getFlag() == RELOAD_REQUIRED) {
+                tooltip = "Server has to be reloaded";
+            } else if (server.getFlag() == RESTART_REQUIRED) {
+                tooltip = "Server has to be restarted";
+            } else {
+                tooltip = "Server is up and running";
+            }
+        } else {
+            tooltip = "Server is stopped";
+        }
+        return tooltip;
+    }
+
+    static ImageResource icon(final ServerInstance server) {
+        if (server.isRunning()) {
+            return server.getFlag() != null ? Icons.INSTANCE.status_warn() : Icons.INSTANCE.status_good();
+        }
+        return Icons.INSTANCE.status_bad();
+    }
+
     SecurityContext findContext(final String resourceAddress) {
         SecurityContext securityContext = SECURITY_SERVICE.getSecurityContext(NameTokens.Topology); // TODO: pass presenter
         if (securityContext.hasChildContext(resourceAddress)) {
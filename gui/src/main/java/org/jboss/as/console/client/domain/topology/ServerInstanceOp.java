@@ -18,102 +18,55 @@
  */
 package org.jboss.as.console.client.domain.topology;
 
-import com.google.gwt.user.client.rpc.AsyncCallback;
-import org.jboss.as.console.client.core.Footer;
 import org.jboss.as.console.client.domain.model.HostInformationStore;
 import org.jboss.as.console.client.domain.model.impl.LifecycleOperation;
-import org.jboss.dmr.client.ModelNode;
-import org.jboss.dmr.client.dispatch.DispatchAsync;
-import org.jboss.dmr.client.dispatch.impl.DMRAction;
-import org.jboss.dmr.client.dispatch.impl.DMRResponse;
-import org.jboss.gwt.flow.client.Async;
-import org.jboss.gwt.flow.client.Control;
-import org.jboss.gwt.flow.client.Function;
+import org.jboss.as.console.client.v3.stores.domain.ServerRef;
 
-import static org.jboss.dmr.client.ModelDescriptionConstants.*;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * @author Harald Pehl
  */
 public class ServerInstanceOp extends TopologyOp {
 
-    private final DispatchAsync dispatcher;
     private final HostInformationStore hostInfoStore;
     private final String host;
     private final String server;
-    private final ModelNode node;
 
     public ServerInstanceOp(final LifecycleOperation op, final LifecycleCallback callback,
-            final DispatchAsync dispatcher, final HostInformationStore hostInfoStore, final String host,
+            final ServerLifecycleMonitor monitor, final HostInformationStore hostInfoStore, final String host,
             final String server) {
-        super(op, callback);
+        super(op, callback, monitor);
 
-        this.dispatcher = dispatcher;
         this.hostInfoStore = hostInfoStore;
         this.host = host;
         this.server = server;
-
-        this.node = new ModelNode();
-        this.node.get(OP).set(READ_ATTRIBUTE_OPERATION);
-        this.node.get(ADDRESS).setEmptyList();
-        this.node.get(ADDRESS).add("host", host);
-        this.node.get(ADDRESS).add("server-config", server);
-        this.node.get(NAME).set("status");
     }
 
     public void run() {
         BooleanCallback bc = new BooleanCallback();
+        List<ServerRef> servers = Collections.singletonList(new ServerRef(host, server));
         switch (op) {
             case START:
+                await(servers);
                 hostInfoStore.startServer(host, server, true, bc);
                 break;
             case STOP:
+                await(servers);
                 hostInfoStore.startServer(host, server, false, bc);
                 break;
             case KILL:
+                await(servers);
                 hostInfoStore.killServer(host, server, true, bc);
                 break;
             case RELOAD:
+                await(servers);
                 hostInfoStore.reloadServer(host, server, bc);
                 break;
             case RESTART:
-                // not supported for server instances
+                unsupported("server instances");
                 break;
         }
-        new Async(Footer.PROGRESS_ELEMENT).whilst(new KeepGoing(), new Finish(), new QueryStatus(), 5000);
-    }
-
-    class QueryStatus implements Function<Object> {
-
-        @Override
-        public void execute(final Control<Object> control) {
-            dispatcher.execute(new DMRAction(node, false), new AsyncCallback<DMRResponse>() {
-                @Override
-                public void onFailure(Throwable caught) {
-                    // ignore
-                }
-
-                @Override
-                public void onSuccess(DMRResponse dmrResponse) {
-                    ModelNode response = dmrResponse.get();
-                    if (!response.isFailure()) {
-                        String status = response.get(RESULT).asString();
-                        switch (op) {
-                            case START:
-                            case RELOAD:
-                                lifecycleReached = "started".equalsIgnoreCase(status);
-                                break;
-                            case STOP:
-                            case KILL:
-                                lifecycleReached = "stopped".equalsIgnoreCase(status);
-                                break;
-                            case RESTART:
-                                // not supported for server instances
-                                break;
-                        }
-                    }
-                }
-            });
-        }
     }
 }
@@ -0,0 +1,299 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011 Red Hat Inc. and/or its affiliates and other contributors
+ * as indicated by the @author tags. All rights reserved.
+ * See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This copyrighted material is made available to anyone wishing to use,
+ * modify, copy, or redistribute it subject to the terms and conditions
+ * of the GNU Lesser General Public License, v. 2.1.
+ * This program is distributed in the hope that it will be useful, but WITHOUT A
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License,
+ * v.2.1 along with this distribution; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA  02110-1301, USA.
+ */
+package org.jboss.as.console.client.domain.topology;
+
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import com.google.inject.Inject;
+import org.jboss.as.console.client.core.Footer;
+import org.jboss.as.console.client.domain.model.impl.LifecycleOperation;
+import org.jboss.as.console.client.v3.stores.domain.ServerRef;
+import org.jboss.dmr.client.ModelNode;
+import org.jboss.dmr.client.dispatch.DispatchAsync;
+import org.jboss.dmr.client.dispatch.impl.DMRAction;
+import org.jboss.dmr.client.dispatch.impl.DMRResponse;
+import org.jboss.gwt.flow.client.Progress;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.jboss.dmr.client.ModelDescriptionConstants.*;
+
+/**
+ * Tracks servers which are started, stopped, restarted, reloaded or killed until they reach the target status.
+ * <p>
+ * Instead of polling each server on its own, the status of all pending servers is read using one composite
+ * operation per tick. The delay between two ticks starts at {@link #MIN_DELAY} and grows up to {@link #MAX_DELAY} as
+ * long as no server changes its status. Each waiter completes as soon as all of its servers have reached the target
+ * status or when the {@linkplain LifecycleOperation#limit() limit} of its operation is exceeded.
+ */
+public class ServerLifecycleMonitor {
+
+    static final int MIN_DELAY = 1000;
+    static final int MAX_DELAY = 8000;
+    static final double BACKOFF = 1.5;
+
+    /**
+     * Servers which are restarted or reloaded report the target status until the operation kicks in: Their status
+     * is not checked before the grace period is over.
+     */
+    static final int GRACE_PERIOD = 5000;
+
+    private final DispatchAsync dispatcher;
+    private final Progress progress;
+    private final Scheduler scheduler;
+    private final List<Waiter> waiters;
+    private final Map<String, Reading> status;
+    private int delay;
+    private boolean scheduled;
+    private boolean reading;
+
+    @Inject
+    public ServerLifecycleMonitor(DispatchAsync dispatcher) {
+        this(dispatcher, Footer.PROGRESS_ELEMENT, Scheduler.get());
+    }
+
+    ServerLifecycleMonitor(DispatchAsync dispatcher, Progress progress, Scheduler scheduler) {
+        this.dispatcher = dispatcher;
+        this.progress = progress;
+        this.scheduler = scheduler;
+        this.waiters = new ArrayList<>();
+        this.status = new HashMap<>();
+        this.delay = MIN_DELAY;
+    }
+
+    /**
+     * Waits until all given servers have reached the target status of the operation.
+     *
+     * @return the waiter which can be used to cancel waiting
+     */
+    public Waiter await(LifecycleOperation op, List<ServerRef> servers, LifecycleCallback callback) {
+        Waiter waiter = new Waiter(op, servers, callback);
+        if (waiters.isEmpty()) {
+            progress.reset();
+        }
+        waiters.add(waiter);
+        delay = MIN_DELAY;
+        schedule();
+        return waiter;
+    }
+
+    private void schedule() {
+        if (scheduled || reading) {
+            return;
+        }
+        scheduled = true;
+        scheduler.scheduleFixedDelay(new Scheduler.RepeatingCommand() {
+            @Override
+            public boolean execute() {
+                scheduled = false;
+                tick();
+                return false;
+            }
+        }, delay);
+    }
+
+    /**
+     * Completes settled and timed out waiters.
+     *
+     * @return {@code true} if there are waiters left
+     */
+    private boolean evaluate() {
+        long now = System.currentTimeMillis();
+        for (Iterator<Waiter> iterator = waiters.iterator(); iterator.hasNext(); ) {
+            Waiter waiter = iterator.next();
+            if (waiter.done) {
+                iterator.remove();
+            } else if (waiter.settled()) {
+                iterator.remove();
+                waiter.done = true;
+                waiter.callback.onSuccess();
+            } else if (now - waiter.started > waiter.op.limit() * 1000L) {
+                iterator.remove();
+                waiter.done = true;
+                waiter.callback.onTimeout();
+            }
+        }
+        if (waiters.isEmpty()) {
+            status.clear();
+            progress.finish();
+            return false;
+        }
+        return true;
+    }
+
+    private void tick() {
+        if (!evaluate()) {
+            return;
+        }
+
+        // collect the servers of all waiters which are past their grace period
+        long now = System.currentTimeMillis();
+        Map<String, ServerRef> servers = new LinkedHashMap<>();
+        for (Waiter waiter : waiters) {
+            if (now - waiter.started >= waiter.gracePeriod()) {
+                for (ServerRef server : waiter.servers) {
+                    servers.put(key(server), server);
+                }
+            }
+        }
+        status.keySet().retainAll(servers.keySet());
+        if (servers.isEmpty()) {
+            schedule();
+        } else {
+            read(new ArrayList<>(servers.values()));
+        }
+    }
+
+    private void read(final List<ServerRef> servers) {
+        ModelNode composite = new ModelNode();
+        composite.get(OP).set(COMPOSITE);
+        composite.get(ADDRESS).setEmptyList();
+        List<ModelNode> steps = new ArrayList<>();
+        for (ServerRef server : servers) {
+            ModelNode op = new ModelNode();
+            op.get(ADDRESS).add("host", server.getHostName());
+            op.get(ADDRESS).add("server-config", server.getServerName());
+            op.get(OP).set(READ_ATTRIBUTE_OPERATION);
+            op.get(NAME).set("status");
+            steps.add(op);
+        }
+        composite.get(STEPS).set(steps);
+
+        final long time = System.currentTimeMillis();
+        reading = true;
+        progress.tick();
+        dispatcher.execute(new DMRAction(composite, false), new AsyncCallback<DMRResponse>() {
+            @Override
+            public void onFailure(Throwable caught) {
+                // ignore, the domain controller might be busy: try again later
+                reading = false;
+                backoff();
+                if (evaluate()) {
+                    schedule();
+                }
+            }
+
+            @Override
+            public void onSuccess(DMRResponse dmrResponse) {
+                reading = false;
+                ModelNode response = dmrResponse.get();
+                boolean changed = false;
+                if (!response.isFailure()) {
+                    ModelNode result = response.get(RESULT);
+                    for (int i = 0; i < servers.size(); i++) {
+                        ModelNode stepResult = result.get("step-" + (i + 1));
+                        if (stepResult.get(RESULT).isDefined()) {
+                            String value = stepResult.get(RESULT).asString();
+                            Reading previous = status.put(key(servers.get(i)), new Reading(value, time));
+                            changed |= previous == null || !value.equalsIgnoreCase(previous.value);
+                        }
+                    }
+                }
+                if (changed) {
+                    delay = MIN_DELAY;
+                } else {
+                    backoff();
+                }
+                if (evaluate()) {
+                    schedule();
+                }
+            }
+        });
+    }
+
+    private void backoff() {
+        delay = (int) Math.min(MAX_DELAY, delay * BACKOFF);
+    }
+
+    private static String key(ServerRef server) {
+        return server.getHostName() + "/" + server.getServerName();
+    }
+
+    int getDelay() {
+        return delay;
+    }
+
+
+    public class Waiter {
+
+        private final LifecycleOperation op;
+        private final List<ServerRef> servers;
+        private final LifecycleCallback callback;
+        private final long started;
+        private boolean done;
+
+        Waiter(LifecycleOperation op, List<ServerRef> servers, LifecycleCallback callback) {
+            this.op = op;
+            this.servers = servers;
+            this.callback = callback;
+            this.started = System.currentTimeMillis();
+        }
+
+        public void cancel() {
+            if (!done) {
+                done = true;
+                callback.onAbort();
+            }
+        }
+
+        /**
+         * Stops waiting because the lifecycle operation failed. The error is reported instead of the status.
+         */
+        public void fail(Throwable caught) {
+            if (!done) {
+                done = true;
+                callback.onError(caught);
+            }
+        }
+
+        int gracePeriod() {
+            return op == LifecycleOperation.RESTART || op == LifecycleOperation.RELOAD ? GRACE_PERIOD : 0;
+        }
+
+        boolean settled() {
+            String target = op == LifecycleOperation.STOP || op == LifecycleOperation.KILL ? "stopped" : "started";
+            for (ServerRef server : servers) {
+                // readings from before the grace period are not significant
+                Reading reading = status.get(key(server));
+                if (reading == null || reading.time < started + gracePeriod() ||
+                        !target.equalsIgnoreCase(reading.value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+
+    private static class Reading {
+
+        final String value;
+        final long time;
+
+        Reading(String value, long time) {
+            this.value = value;
+            this.time = time;
+        }
+    }
+}
@@ -13,10 +13,11 @@ import org.jboss.gwt.flow.client.Control;
 import org.jboss.gwt.flow.client.Function;
 
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.jboss.dmr.client.ModelDescriptionConstants.*;
 
@@ -28,6 +29,7 @@ public final class TopologyFunctions {
     public static final String HOSTS_KEY = "hosts";
     public static final String GROUPS_KEY = "groups";
     public static final String GROUP_TO_PROFILE_KEY = "groupToProfile";
+    public static final String DELTA_KEY = "delta";
 
     private TopologyFunctions() {}
 
@@ -167,12 +169,20 @@ public final class TopologyFunctions {
         }
     }
 
+    /**
+     * Reads the server state, the socket bindings and (if supported) the suspend state of the running servers.
+     */
     public static class RunningServerInstances implements Function<FunctionContext> {
 
         private final DispatchAsync dispatcher;
+        private final boolean suspendState;
 
-        public RunningServerInstances(final DispatchAsync dispatcher) {
+        /**
+         * @param suspendState whether the suspend state is supported by the domain
+         */
+        public RunningServerInstances(final DispatchAsync dispatcher, final boolean suspendState) {
             this.dispatcher = dispatcher;
+            this.suspendState = suspendState;
         }
 
         @Override
@@ -183,7 +193,9 @@ public final class TopologyFunctions {
             List<ModelNode> steps = new LinkedList<ModelNode>();
 
             int step = 1;
-            final Map<String, ServerInstance> stepToServer = new HashMap<String, ServerInstance>();
+            final Map<String, ServerInstance> serverStateSteps = new HashMap<String, ServerInstance>();
+            final Map<String, ServerInstance> socketBindingSteps = new HashMap<String, ServerInstance>();
+            final Map<String, ServerInstance> suspendStateSteps = new HashMap<String, ServerInstance>();
             final List<HostInfo> hosts = control.getContext().get(HOSTS_KEY);
             for (HostInfo hostInfo : hosts) {
                 for (ServerInstance serverInstance : hostInfo.getServerInstances()) {
@@ -194,7 +206,7 @@ public final class TopologyFunctions {
                         serverStateOp.get(ADDRESS).add("host", hostInfo.getName());
                         serverStateOp.get(ADDRESS).add("server", serverInstance.getName());
                         steps.add(serverStateOp);
-                        stepToServer.put("step-" + step, serverInstance);
+                        serverStateSteps.put("step-" + step, serverInstance);
                         step++;
 
                         ModelNode socketBindingOp = new ModelNode();
@@ -204,8 +216,19 @@ public final class TopologyFunctions {
                         socketBindingOp.get(ADDRESS).add("server", serverInstance.getName());
                         socketBindingOp.get(CHILD_TYPE).set("socket-binding-group");
                         steps.add(socketBindingOp);
-                        stepToServer.put("step-" + step, serverInstance);
+                        socketBindingSteps.put("step-" + step, serverInstance);
                         step++;
+
+                        if (suspendState) {
+                            ModelNode suspendStateOp = new ModelNode();
+                            suspendStateOp.get(OP).set(READ_ATTRIBUTE_OPERATION);
+                            suspendStateOp.get(NAME).set("suspend-state");
+                            suspendStateOp.get(ADDRESS).add("host", hostInfo.getName());
+                            suspendStateOp.get(ADDRESS).add("server", serverInstance.getName());
+                            steps.add(suspendStateOp);
+                            suspendStateSteps.put("step-" + step, serverInstance);
+                            step++;
+                        }
                     }
                 }
             }
@@ -216,33 +239,31 @@ public final class TopologyFunctions {
                 protected void onSuccess(final ModelNode result) {
                     ModelNode stepsResult = result.get(RESULT);
                     if (stepsResult.isDefined()) {
-                        List<Property> properties = stepsResult.asPropertyList();
-                        for (Iterator<Property> iterator = properties.iterator(); iterator.hasNext(); ) {
-                            Property property = iterator.next();
+                        for (Property property : stepsResult.asPropertyList()) {
                             String step = property.getName();
                             ModelNode node = property.getValue();
-                            ServerInstance serverInstance = stepToServer.get(step);
-                            if (serverInstance != null) {
-                                // step-n: server state
-                                if (node.get(RESULT).isDefined()) {
-                                    String state = node.get(RESULT).asString();
-                                    if (state.equals("reload-required")) {
-                                        serverInstance.setFlag(ServerFlag.RELOAD_REQUIRED);
-                                    } else if (state.equals("restart-required")) {
-                                        serverInstance.setFlag(ServerFlag.RESTART_REQUIRED);
-                                    }
+                            if (!node.get(RESULT).isDefined()) {
+                                continue;
+                            }
+                            if (serverStateSteps.containsKey(step)) {
+                                String state = node.get(RESULT).asString();
+                                if (state.equals(TopologyModel.RELOAD_REQUIRED)) {
+                                    serverStateSteps.get(step).setFlag(ServerFlag.RELOAD_REQUIRED);
+                                } else if (state.equals(TopologyModel.RESTART_REQUIRED)) {
+                                    serverStateSteps.get(step).setFlag(ServerFlag.RESTART_REQUIRED);
                                 }
 
-                                // step-n + 1: socket binding groups
-                                property = iterator.next();
-                                node = property.getValue();
-                                if (node.get(RESULT).isDefined()) {
-                                    List<Property> sockets = node.get(RESULT).asPropertyList();
-                                    for (Property socket : sockets) {
-                                        serverInstance.getSocketBindings()
-                                                .put(socket.getName(), socket.getValue().get("port-offset").asString());
-                                    }
+                            } else if (socketBindingSteps.containsKey(step)) {
+                                ServerInstance serverInstance = socketBindingSteps.get(step);
+                                List<Property> sockets = node.get(RESULT).asPropertyList();
+                                for (Property socket : sockets) {
+                                    serverInstance.getSocketBindings()
+                                            .put(socket.getName(), socket.getValue().get("port-offset").asString());
                                 }
+
+                            } else if (suspendStateSteps.containsKey(step)) {
+                                suspendStateSteps.get(step).setSuspendState(
+                                        TopologyModel.suspendState(node.get(RESULT).asString()));
                             }
                         }
                     } // else no running servers!
@@ -251,4 +272,175 @@ public final class TopologyFunctions {
             });
         }
     }
+
+    /**
+     * Reads the attributes which change at runtime (status, group assignment, server state and suspend state) using wildcard
+     * operations and applies them to the {@link TopologyModel}. Puts the {@link TopologyModel.Delta} into the context
+     * or {@code null} if the topology has to be loaded from scratch.
+     */
+    public static class RuntimeStates implements Function<FunctionContext> {
+
+        private final DispatchAsync dispatcher;
+        private final TopologyModel model;
+        private final boolean suspendState;
+
+        /**
+         * @param suspendState whether the suspend state is supported by the domain
+         */
+        RuntimeStates(final DispatchAsync dispatcher, final TopologyModel model, final boolean suspendState) {
+            this.dispatcher = dispatcher;
+            this.model = model;
+            this.suspendState = suspendState;
+        }
+
+        @Override
+        public void execute(final Control<FunctionContext> control) {
+            final ModelNode node = new ModelNode();
+            node.get(ADDRESS).setEmptyList();
+            node.get(OP).set(COMPOSITE);
+            List<ModelNode> steps = new LinkedList<ModelNode>();
+
+            ModelNode hostsOp = new ModelNode();
+            hostsOp.get(OP).set(READ_CHILDREN_NAMES_OPERATION);
+            hostsOp.get(CHILD_TYPE).set("host");
+            hostsOp.get(ADDRESS).setEmptyList();
+            steps.add(hostsOp);
+
+            ModelNode groupsOp = new ModelNode();
+            groupsOp.get(OP).set(READ_CHILDREN_NAMES_OPERATION);
+            groupsOp.get(CHILD_TYPE).set("server-group");
+            groupsOp.get(ADDRESS).setEmptyList();
+            steps.add(groupsOp);
+
+            ModelNode statusOp = new ModelNode();
+            statusOp.get(OP).set(READ_ATTRIBUTE_OPERATION);
+            statusOp.get(NAME).set("status");
+            statusOp.get(ADDRESS).add("host", "*");
+            statusOp.get(ADDRESS).add("server-config", "*");
+            steps.add(statusOp);
+
+            ModelNode assignmentOp = new ModelNode();
+            assignmentOp.get(OP).set(READ_ATTRIBUTE_OPERATION);
+            assignmentOp.get(NAME).set("group");
+            assignmentOp.get(ADDRESS).add("host", "*");
+            assignmentOp.get(ADDRESS).add("server-config", "*");
+            steps.add(assignmentOp);
+
+            ModelNode serverStateOp = new ModelNode();
+            serverStateOp.get(OP).set(READ_ATTRIBUTE_OPERATION);
+            serverStateOp.get(NAME).set("server-state");
+            serverStateOp.get(ADDRESS).add("host", "*");
+            serverStateOp.get(ADDRESS).add("server", "*");
+            steps.add(serverStateOp);
+
+            if (suspendState) {
+                ModelNode suspendStateOp = new ModelNode();
+                suspendStateOp.get(OP).set(READ_ATTRIBUTE_OPERATION);
+                suspendStateOp.get(NAME).set("suspend-state");
+                suspendStateOp.get(ADDRESS).add("host", "*");
+                suspendStateOp.get(ADDRESS).add("server", "*");
+                steps.add(suspendStateOp);
+            }
+
+            node.get(STEPS).set(steps);
+            dispatcher.execute(new DMRAction(node, false), new FunctionCallback(control) {
+                @Override
+                protected void onSuccess(final ModelNode result) {
+                    ModelNode stepsResult = result.get(RESULT);
+                    Set<String> hosts = names(stepsResult.get("step-1"));
+                    Set<String> groups = names(stepsResult.get("step-2"));
+                    Map<String, String> status = values(stepsResult.get("step-3"));
+                    Map<String, String> assignments = values(stepsResult.get("step-4"));
+                    Map<String, String> serverStates = values(stepsResult.get("step-5"));
+                    Map<String, String> suspendStates = suspendState ? values(stepsResult.get("step-6"))
+                            : new HashMap<String, String>();
+                    control.getContext().set(DELTA_KEY,
+                            model.apply(hosts, groups, status, assignments, serverStates, suspendStates));
+                }
+            });
+        }
+
+        private Set<String> names(final ModelNode step) {
+            Set<String> names = new HashSet<String>();
+            if (step.get(RESULT).isDefined()) {
+                for (ModelNode name : step.get(RESULT).asList()) {
+                    names.add(name.asString());
+                }
+            }
+            return names;
+        }
+
+        /**
+         * Maps the results of a wildcard operation to {@code host/server}.
+         */
+        private Map<String, String> values(final ModelNode step) {
+            Map<String, String> values = new HashMap<String, String>();
+            if (step.get(RESULT).isDefined()) {
+                for (ModelNode entry : step.get(RESULT).asList()) {
+                    if (SUCCESS.equals(entry.get(OUTCOME).asString()) && entry.get(RESULT).isDefined()) {
+                        List<Property> address = entry.get(ADDRESS).asPropertyList();
+                        if (address.size() == 2) {
+                            values.put(TopologyModel.key(address.get(0).getValue().asString(),
+                                    address.get(1).getValue().asString()), entry.get(RESULT).asString());
+                        }
+                    }
+                }
+            }
+            return values;
+        }
+    }
+
+    /**
+     * Reads the socket bindings of the servers which were started since the last refresh.
+     */
+    public static class StartedServerSockets implements Function<FunctionContext> {
+
+        private final DispatchAsync dispatcher;
+
+        StartedServerSockets(final DispatchAsync dispatcher) {
+            this.dispatcher = dispatcher;
+        }
+
+        @Override
+        public void execute(final Control<FunctionContext> control) {
+            TopologyModel.Delta delta = control.getContext().get(DELTA_KEY);
+            if (delta == null || delta.started.isEmpty()) {
+                control.proceed();
+                return;
+            }
+
+            final ModelNode node = new ModelNode();
+            node.get(ADDRESS).setEmptyList();
+            node.get(OP).set(COMPOSITE);
+            List<ModelNode> steps = new LinkedList<ModelNode>();
+            final List<ServerInstance> servers = delta.started;
+            for (ServerInstance serverInstance : servers) {
+                ModelNode socketBindingOp = new ModelNode();
+                socketBindingOp.get(OP).set(READ_CHILDREN_RESOURCES_OPERATION);
+                socketBindingOp.get(INCLUDE_RUNTIME).set(true);
+                socketBindingOp.get(ADDRESS).add("host", serverInstance.getHost());
+                socketBindingOp.get(ADDRESS).add("server", serverInstance.getName());
+                socketBindingOp.get(CHILD_TYPE).set("socket-binding-group");
+                steps.add(socketBindingOp);
+            }
+
+            node.get(STEPS).set(steps);
+            dispatcher.execute(new DMRAction(node, false), new FunctionCallback(control) {
+                @Override
+                protected void onSuccess(final ModelNode result) {
+                    ModelNode stepsResult = result.get(RESULT);
+                    for (int i = 0; i < servers.size(); i++) {
+                        ModelNode currentStep = stepsResult.get("step-" + (i + 1));
+                        if (currentStep.get(RESULT).isDefined()) {
+                            ServerInstance serverInstance = servers.get(i);
+                            for (Property socket : currentStep.get(RESULT).asPropertyList()) {
+                                serverInstance.getSocketBindings()
+                                        .put(socket.getName(), socket.getValue().get("port-offset").asString());
+                            }
+                        }
+                    }
+                }
+            });
+        }
+    }
 }
@@ -0,0 +1,164 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011 Red Hat Inc. and/or its affiliates and other contributors
+ * as indicated by the @author tags. All rights reserved.
+ * See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This copyrighted material is made available to anyone wishing to use,
+ * modify, copy, or redistribute it subject to the terms and conditions
+ * of the GNU Lesser General Public License, v. 2.1.
+ * This program is distributed in the hope that it will be useful, but WITHOUT A
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License,
+ * v.2.1 along with this distribution; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA  02110-1301, USA.
+ */
+package org.jboss.as.console.client.domain.topology;
+
+import org.jboss.as.console.client.domain.model.ServerFlag;
+import org.jboss.as.console.client.domain.model.ServerInstance;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Snapshot of the topology which was loaded last. The runtime states of a refresh are applied to the existing
+ * {@link ServerInstance}s, so that only the changed servers need to be rendered again.
+ */
+class TopologyModel {
+
+    static final String STARTED = "STARTED";
+    static final String RUNNING = "RUNNING";
+    static final String RELOAD_REQUIRED = "reload-required";
+    static final String RESTART_REQUIRED = "restart-required";
+
+    private final Set<String> hosts;
+    private final Set<String> groups;
+    private final Map<String, ServerInstance> servers;
+    private boolean snapshot;
+
+    TopologyModel() {
+        this.hosts = new HashSet<String>();
+        this.groups = new HashSet<String>();
+        this.servers = new HashMap<String, ServerInstance>();
+    }
+
+    void reset(List<HostInfo> hosts, Collection<String> groups) {
+        clear();
+        for (HostInfo host : hosts) {
+            this.hosts.add(host.getName());
+            for (ServerInstance server : host.getServerInstances()) {
+                servers.put(key(host.getName(), server.getName()), server);
+            }
+        }
+        this.groups.addAll(groups);
+        snapshot = true;
+    }
+
+    void clear() {
+        hosts.clear();
+        groups.clear();
+        servers.clear();
+        snapshot = false;
+    }
+
+    boolean hasSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Applies the runtime states to the snapshot.
+     *
+     * @param hosts         the names of all hosts
+     * @param groups        the names of all server groups
+     * @param status        the status of all server configs by {@link #key(String, String)}
+     * @param assignments   the server group of all server configs by {@link #key(String, String)}
+     * @param serverStates  the server state of the running servers
+     * @param suspendStates the suspend state of the running servers
+     *
+     * @return the changes or {@code null} if hosts, groups or servers were added or removed or if servers were
+     * assigned to other groups and the topology has to be loaded from scratch
+     */
+    Delta apply(Set<String> hosts, Set<String> groups, Map<String, String> status, Map<String, String> assignments,
+            Map<String, String> serverStates, Map<String, String> suspendStates) {
+        if (!snapshot || !this.hosts.equals(hosts) || !this.groups.equals(groups) ||
+                !servers.keySet().equals(status.keySet())) {
+            return null;
+        }
+        for (Map.Entry<String, ServerInstance> entry : servers.entrySet()) {
+            String group = entry.getValue().getGroup();
+            if (group == null ? assignments.get(entry.getKey()) != null :
+                    !group.equals(assignments.get(entry.getKey()))) {
+                return null;
+            }
+        }
+
+        Delta delta = new Delta();
+        for (Map.Entry<String, ServerInstance> entry : servers.entrySet()) {
+            ServerInstance server = entry.getValue();
+            boolean running = STARTED.equalsIgnoreCase(status.get(entry.getKey()));
+            ServerFlag flag = null;
+            String suspendState = null;
+            if (running) {
+                String serverState = serverStates.get(entry.getKey());
+                if (RELOAD_REQUIRED.equals(serverState)) {
+                    flag = ServerFlag.RELOAD_REQUIRED;
+                } else if (RESTART_REQUIRED.equals(serverState)) {
+                    flag = ServerFlag.RESTART_REQUIRED;
+                }
+                suspendState = suspendState(suspendStates.get(entry.getKey()));
+            }
+
+            boolean changed = false;
+            if (server.isRunning() != running) {
+                if (running) {
+                    delta.started.add(server);
+                } else {
+                    server.getSocketBindings().clear();
+                }
+                server.setRunning(running);
+                changed = true;
+            }
+            if (server.getFlag() != flag) {
+                server.setFlag(flag);
+                changed = true;
+            }
+            if (suspendState == null ? server.getSuspendState() != null :
+                    !suspendState.equals(server.getSuspendState())) {
+                server.setSuspendState(suspendState);
+                changed = true;
+            }
+            if (changed) {
+                delta.changed.add(server);
+            }
+        }
+        return delta;
+    }
+
+    static String key(String host, String server) {
+        return host + "/" + server;
+    }
+
+    /**
+     * @return the suspend state or {@code null} if the server is running: Only suspending or suspended servers are
+     * worth mentioning.
+     */
+    static String suspendState(String suspendState) {
+        return RUNNING.equalsIgnoreCase(suspendState) ? null : suspendState;
+    }
+
+
+    static class Delta {
+
+        final List<ServerInstance> changed = new ArrayList<ServerInstance>();
+        final List<ServerInstance> started = new ArrayList<ServerInstance>();
+    }
+}
@@ -20,71 +20,65 @@ package org.jboss.as.console.client.domain.topology;
 
 import org.jboss.as.console.client.domain.model.SimpleCallback;
 import org.jboss.as.console.client.domain.model.impl.LifecycleOperation;
-import org.jboss.gwt.flow.client.Outcome;
-import org.jboss.gwt.flow.client.Precondition;
+import org.jboss.as.console.client.v3.stores.domain.ServerRef;
+
+import java.util.List;
 
 /**
+ * Executes a lifecycle operation and waits using the {@link ServerLifecycleMonitor} until the affected servers have
+ * reached the target status.
+ *
  * @author Harald Pehl
  */
 public abstract class TopologyOp {
 
-    protected final int timeout;
     protected final LifecycleOperation op;
     protected final LifecycleCallback callback;
-    protected boolean lifecycleReached;
-    protected long start;
+    protected final ServerLifecycleMonitor monitor;
+    private ServerLifecycleMonitor.Waiter waiter;
 
-    protected TopologyOp(final LifecycleOperation op, final LifecycleCallback callback) {
+    protected TopologyOp(final LifecycleOperation op, final LifecycleCallback callback,
+            final ServerLifecycleMonitor monitor) {
         this.op = op;
-        this.timeout = op.limit();
         this.callback = callback;
-        lifecycleReached = false;
-        start = System.currentTimeMillis();
+        this.monitor = monitor;
     }
 
     public abstract void run();
 
-    protected boolean timeout() {
-        long elapsed = (System.currentTimeMillis() - start) / 1000;
-        return elapsed > op.limit();
+    /**
+     * Starts waiting for the servers. Must be called before the operation is dispatched, so that a failure of the
+     * operation stops waiting.
+     */
+    protected void await(final List<ServerRef> servers) {
+        waiter = monitor.await(op, servers, callback);
     }
 
+    protected void unsupported(final String target) {
+        callback.onError(new UnsupportedOperationException(op + " is not supported for " + target));
+    }
 
-    public class BooleanCallback extends SimpleCallback<Boolean> {
-
-        @Override
-        public void onSuccess(final Boolean result) {
-            // nop
-        }
-
-        @Override
-        public void onFailure(final Throwable caught) {
+    private void failed(final Throwable caught) {
+        if (waiter != null) {
+            waiter.fail(caught);
+        } else {
             callback.onError(caught);
         }
     }
 
-    public class KeepGoing implements Precondition {
-
-        @Override
-        public boolean isMet() {
-            return !timeout() && !lifecycleReached;
-        }
-    }
 
-    public class Finish implements Outcome {
+    public class BooleanCallback extends SimpleCallback<Boolean> {
 
         @Override
-        public void onFailure(final Object context) {
-            callback.onAbort();
+        public void onSuccess(final Boolean result) {
+            if (!result) {
+                failed(new RuntimeException("Operation " + op + " failed"));
+            }
         }
 
         @Override
-        public void onSuccess(final Object context) {
-            if (lifecycleReached) {
-                callback.onSuccess();
-            } else if (timeout()) {
-                callback.onTimeout();
-            }
+        public void onFailure(final Throwable caught) {
+            failed(caught);
         }
     }
 }
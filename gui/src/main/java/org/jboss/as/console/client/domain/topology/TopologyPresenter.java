@@ -34,6 +34,7 @@ import com.gwtplatform.mvp.client.proxy.Proxy;
 import com.gwtplatform.mvp.client.proxy.RevealContentEvent;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 import org.jboss.as.console.client.Console;
+import org.jboss.as.console.client.core.BootstrapContext;
 import org.jboss.as.console.client.core.Footer;
 import org.jboss.as.console.client.core.MainLayoutPresenter;
 import org.jboss.as.console.client.core.NameTokens;
@@ -85,6 +86,7 @@ public class TopologyPresenter extends Presenter<TopologyPresenter.MyView, Topol
     public interface MyView extends SuspendableView {
         void setPresenter(TopologyPresenter presenter);
         void updateHosts(final SortedSet<ServerGroup> groups, final int hostIndex);
+        void updateServers(final List<ServerInstance> servers);
         void setExtensions(List<Extension> extensions);
     }
 
@@ -98,7 +100,10 @@ public class TopologyPresenter extends Presenter<TopologyPresenter.MyView, Topol
     private final HostInformationStore hostInfoStore;
     private final BeanFactory beanFactory;
     private final DispatchAsync dispatcher;
+    private final ServerLifecycleMonitor lifecycleMonitor;
     private final Map<String, ServerGroup> serverGroups;
+    private final TopologyModel model;
+    private final BootstrapContext bootstrap;
     private LoadExtensionCmd loadExtensionCmd;
     private boolean fake;
     private int hostIndex;
@@ -107,7 +112,8 @@ public class TopologyPresenter extends Presenter<TopologyPresenter.MyView, Topol
     public TopologyPresenter(final EventBus eventBus, final MyView view,
             final MyProxy proxy, final RevealStrategy revealStrategy, final PlaceManager placeManager,
             final HostInformationStore hostInfoStore, final ServerGroupDAO serverGroupStore,
-            final BeanFactory beanFactory, DispatchAsync dispatcher, org.jboss.gwt.circuit.Dispatcher circuit) {
+            final BeanFactory beanFactory, DispatchAsync dispatcher, org.jboss.gwt.circuit.Dispatcher circuit,
+            final ServerLifecycleMonitor lifecycleMonitor, final BootstrapContext bootstrap) {
         super(eventBus, view, proxy);
         this.revealStrategy = revealStrategy;
         this.placeManager = placeManager;
@@ -116,9 +122,12 @@ public class TopologyPresenter extends Presenter<TopologyPresenter.MyView, Topol
         this.beanFactory = beanFactory;
         this.dispatcher = dispatcher;
         this.circuit = circuit;
+        this.lifecycleMonitor = lifecycleMonitor;
 
         this.loadExtensionCmd = new LoadExtensionCmd(dispatcher, beanFactory);
         this.serverGroups = new HashMap<String, ServerGroup>();
+        this.model = new TopologyModel();
+        this.bootstrap = bootstrap;
         this.fake = false;
         this.hostIndex = 0;
     }
@@ -152,7 +161,11 @@ public class TopologyPresenter extends Presenter<TopologyPresenter.MyView, Topol
 
     // ------------------------------------------------------ presenter lifecycle
 
+    /**
+     * Loads the topology from scratch.
+     */
     public void loadTopology() {
+        model.clear();
         if (fake) {
             getView().updateHosts(deriveGroups(generateFakeDomain()), hostIndex);
         } else {
@@ -165,14 +178,59 @@ public class TopologyPresenter extends Presenter<TopologyPresenter.MyView, Topol
                 @Override
                 public void onSuccess(final FunctionContext context) {
                     List<HostInfo> hosts = context.pop();
+                    Map<String, String> groupToProfile = context.get(TopologyFunctions.GROUP_TO_PROFILE_KEY);
+                    model.reset(hosts, groupToProfile.keySet());
                     getView().updateHosts(deriveGroups(hosts), hostIndex);
                 }
             };
             new Async<FunctionContext>(Footer.PROGRESS_ELEMENT).waterfall(new FunctionContext(), outcome,
                     new TopologyFunctions.HostsAndGroups(dispatcher),
                     new TopologyFunctions.ServerConfigs(dispatcher, beanFactory),
-                    new TopologyFunctions.RunningServerInstances(dispatcher));
+                    new TopologyFunctions.RunningServerInstances(dispatcher, supportsSuspendState()));
+        }
+    }
+
+    /**
+     * Reads only the runtime states of the servers and updates the changed servers. Falls back to {@link
+     * #loadTopology()} if there's no previous topology or if hosts, groups or servers were added or removed.
+     */
+    public void refreshTopology() {
+        if (fake || !model.hasSnapshot()) {
+            loadTopology();
+        } else {
+            Outcome<FunctionContext> outcome = new Outcome<FunctionContext>() {
+                @Override
+                public void onFailure(final FunctionContext context) {
+                    loadTopology();
+                }
+
+                @Override
+                public void onSuccess(final FunctionContext context) {
+                    TopologyModel.Delta delta = context.get(TopologyFunctions.DELTA_KEY);
+                    if (delta == null) {
+                        loadTopology();
+                    } else if (!delta.changed.isEmpty()) {
+                        getView().updateServers(delta.changed);
+                    }
+                }
+            };
+            new Async<FunctionContext>(Footer.PROGRESS_ELEMENT).waterfall(new FunctionContext(), outcome,
+                    new TopologyFunctions.RuntimeStates(dispatcher, model, supportsSuspendState()),
+                    new TopologyFunctions.StartedServerSockets(dispatcher));
+        }
+    }
+
+    private boolean supportsSuspendState() {
+        // the suspend state was introduced with management version 3.0.0 (WildFly 9)
+        String version = bootstrap.getManagementVersion();
+        if (version != null) {
+            try {
+                return Integer.parseInt(version.split("\\.")[0]) >= 3;
+            } catch (NumberFormatException e) {
+                return false;
+            }
         }
+        return false;
     }
 
     public void requestHostIndex(int hostIndex) {
@@ -186,7 +244,7 @@ public class TopologyPresenter extends Presenter<TopologyPresenter.MyView, Topol
     }
 
     public void onServerInstanceLifecycle(final String host, final String server, final LifecycleOperation op) {
-        ServerInstanceOp serverInstanceOp = new ServerInstanceOp(op, new TopologyCallback(), dispatcher, hostInfoStore,
+        ServerInstanceOp serverInstanceOp = new ServerInstanceOp(op, new TopologyCallback(), lifecycleMonitor, hostInfoStore,
                 host, server);
         serverInstanceOp.run();
 
@@ -195,7 +253,7 @@ public class TopologyPresenter extends Presenter<TopologyPresenter.MyView, Topol
     public void onGroupLifecycle(final String group, final LifecycleOperation op) {
         ServerGroup serverGroup = serverGroups.get(group);
         if (serverGroup != null) {
-            ServerGroupOp serverGroupOp = new ServerGroupOp(op, new TopologyCallback(), dispatcher, serverGroupStore, group,
+            ServerGroupOp serverGroupOp = new ServerGroupOp(op, new TopologyCallback(), lifecycleMonitor, serverGroupStore, group,
                     serverGroup.serversPerHost);
             serverGroupOp.run();
         }
@@ -315,14 +373,14 @@ public class TopologyPresenter extends Presenter<TopologyPresenter.MyView, Topol
         @Override
         public void onSuccess() {
             Console.info("Operation successful");
-            loadTopology();
+            refreshTopology();
             circuit.dispatch(new RefreshHosts());
             circuit.dispatch(new RefreshServer());
         }
         @Override
         public void onTimeout() {
             Console.warning("Your request timed out.");
-            loadTopology();
+            refreshTopology();
             circuit.dispatch(new RefreshHosts());
             circuit.dispatch(new RefreshServer());
         }
@@ -330,7 +388,7 @@ public class TopologyPresenter extends Presenter<TopologyPresenter.MyView, Topol
         @Override
         public void onAbort() {
             Console.warning("Operation canceled.");
-            loadTopology();
+            refreshTopology();
             circuit.dispatch(new RefreshHosts());
             circuit.dispatch(new RefreshServer());
         }
@@ -338,7 +396,7 @@ public class TopologyPresenter extends Presenter<TopologyPresenter.MyView, Topol
         @Override
         public void onError(final Throwable caught) {
             Console.warning("Operation failed.");
-            loadTopology();
+            refreshTopology();
             circuit.dispatch(new RefreshHosts());
             circuit.dispatch(new RefreshServer());
         }
@@ -74,6 +74,7 @@ public class TopologyView extends SuspendableViewImpl implements TopologyPresent
     private HostsDisplay display;
     private LifecycleLinkListener lifecycleLinkListener;
     private FlowPanel container;
+    private HTMLPanel panel;
     private ExtensionView extensions = new ExtensionView();
     private HostsPager pager;
 
@@ -134,6 +135,7 @@ public class TopologyView extends SuspendableViewImpl implements TopologyPresent
             HTML blank = new HTML("There don't seem to be any servers configured on this system.");
             container.clear();
             container.add(blank);
+            panel = null;
             return;
         }
 
@@ -187,7 +189,35 @@ public class TopologyView extends SuspendableViewImpl implements TopologyPresent
         html.appendHtmlConstant("</tbody>").endTable();
 
         // create html panel and register events
-        HTMLPanel panel = html.createPanel();
+        panel = html.createPanel();
+        registerLifecycleLinks(html);
+        container.clear();
+        container.add(panel);
+        container.add(pager);
+
+        // update navigation
+        RowCountChangeEvent.fire(display, hostSize, true);
+    }
+
+    @Override
+    public void updateServers(final List<ServerInstance> servers) {
+        if (panel == null) {
+            return;
+        }
+        for (ServerInstance server : servers) {
+            // servers of hosts on other pages are not rendered
+            Element cell = panel.getElementById(serverCellId(server.getHost(), server.getName()));
+            if (cell != null) {
+                HtmlGenerator html = new HtmlGenerator();
+                html.appendServerContent(server.getHost(), server);
+                cell.setTitle(tooltip(server));
+                cell.setInnerHTML(html.toSafeHtml().asString());
+                registerLifecycleLinks(html);
+            }
+        }
+    }
+
+    private void registerLifecycleLinks(final HtmlGenerator html) {
         for (String id : html.getLifecycleIds()) {
             com.google.gwt.user.client.Element element = panel.getElementById(id);
             if (element != null) {
@@ -195,12 +225,6 @@ public class TopologyView extends SuspendableViewImpl implements TopologyPresent
                 DOM.sinkEvents(element, ONCLICK);
             }
         }
-        container.clear();
-        container.add(panel);
-        container.add(pager);
-
-        // update navigation
-        RowCountChangeEvent.fire(display, hostSize, true);
     }
 
     private void assignColors(SortedSet<ServerGroup> serverGroups) {
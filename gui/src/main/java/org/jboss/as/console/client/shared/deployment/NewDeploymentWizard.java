@@ -22,15 +22,20 @@ package org.jboss.as.console.client.shared.deployment;
 import com.allen_sauer.gwt.log.client.Log;
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.dom.client.Document;
+import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.http.client.*;
+import com.google.gwt.json.client.JSONArray;
 import com.google.gwt.json.client.JSONObject;
 import com.google.gwt.json.client.JSONParser;
+import com.google.gwt.json.client.JSONValue;
 import com.google.gwt.user.client.ui.*;
 import org.jboss.as.console.client.Console;
 import org.jboss.as.console.client.core.BootstrapContext;
+import org.jboss.as.console.client.core.Footer;
 import org.jboss.as.console.client.shared.BeanFactory;
 import org.jboss.as.console.client.shared.deployment.model.DeploymentRecord;
 import org.jboss.as.console.client.widgets.forms.UploadForm;
+import org.jboss.as.console.client.widgets.forms.XhrUpload;
 import org.jboss.ballroom.client.widgets.window.DefaultWindow;
 import org.jboss.ballroom.client.widgets.window.Feedback;
 
@@ -54,6 +59,10 @@ public class NewDeploymentWizard {
     private final DeploymentStep1 step1;
     private DeploymentStep2 step2;
 
+    // state of the current upload
+    private HandlerRegistration uploadRegistration;
+    private boolean cancelled;
+
     /**
      * @param isUpdate      Are we updating content that is already in the repository?
      * @param oldDeployment The original deployment.  If isUpdate == false, this should be null.
@@ -102,16 +111,47 @@ public class NewDeploymentWizard {
         presenter.onCreateUnmanaged(entity);
     }
 
+    /**
+     * Uploads the selected file and assigns the deployment. If the browser can calculate the SHA-1 hash of the file
+     * and an existing deployment already refers to that hash, the deployment is assigned without uploading the
+     * content again.
+     */
     public void upload() {
+        cancelled = false;
+        final DeploymentReference deploymentReference = step2.getDeploymentReference();
         final PopupPanel loading = Feedback.loading(
                 Console.CONSTANTS.common_label_plaseWait(),
                 Console.CONSTANTS.common_label_requestProcessed(), new Feedback.LoadingCallback() {
                     @Override
                     public void onCancel() {
+                        cancelled = true;
+                        step1.getManagedForm().cancel();
                     }
                 });
 
-        step1.getManagedForm().addUploadCompleteHandler(new UploadForm.UploadCompleteHandler() {
+        XhrUpload.digest(step1.getFileUpload().getElement(), new XhrUpload.DigestCallback() {
+            @Override
+            public void onDigest(String hex, String base64) {
+                if (!cancelled) {
+                    precheckContent(deploymentReference, loading, base64);
+                }
+            }
+
+            @Override
+            public void onUnavailable() {
+                if (!cancelled) {
+                    uploadContent(deploymentReference, loading);
+                }
+            }
+        });
+    }
+
+    private void uploadContent(final DeploymentReference deploymentReference, final PopupPanel loading) {
+        UploadForm managedForm = step1.getManagedForm();
+        if (uploadRegistration != null) {
+            uploadRegistration.removeHandler();
+        }
+        uploadRegistration = managedForm.addUploadCompleteHandler(new UploadForm.UploadCompleteHandler() {
             @Override
             public void onUploadComplete(UploadForm.UploadCompleteEvent event) {
                 String json = event.getPayload();
@@ -119,7 +159,6 @@ public class NewDeploymentWizard {
                     JSONObject response = JSONParser.parseLenient(json).isObject();
                     JSONObject result = response.get("result").isObject();
                     String hash = result.get("BYTES_VALUE").isString().stringValue();
-                    DeploymentReference deploymentReference = step2.getDeploymentReference();
                     deploymentReference.setHash(hash);
                     assignDeployment(deploymentReference, loading);
                 } catch (Exception e) {
@@ -128,7 +167,76 @@ public class NewDeploymentWizard {
                 }
             }
         });
-        step1.getManagedForm().upload(step1.getFileUpload());
+        managedForm.setProgress(Footer.PROGRESS_ELEMENT);
+        managedForm.upload(step1.getFileUpload());
+    }
+
+    /**
+     * Reads the content of all deployments and assigns the deployment using the given hash if one of them refers
+     * to it. Otherwise, or if the content cannot be read, the content is uploaded.
+     *
+     * @param hash the base64 encoded SHA-1 hash of the selected file
+     */
+    private void precheckContent(final DeploymentReference deployment, final PopupPanel loading, final String hash) {
+        RequestBuilder rb = new RequestBuilder(
+                RequestBuilder.POST,
+                Console.getBootstrapContext().getProperty(BootstrapContext.DOMAIN_API)
+        );
+        rb.setIncludeCredentials(true);
+        rb.setHeader(HEADER_CONTENT_TYPE, APPLICATION_JSON);
+
+        try {
+            rb.sendRequest(makeReadContentJSO(), new RequestCallback() {
+                @Override
+                public void onResponseReceived(Request request, Response response) {
+                    if (cancelled) {
+                        return;
+                    }
+                    if (200 == response.getStatusCode() && containsHash(response.getText(), hash)) {
+                        deployment.setHash(hash);
+                        assignDeployment(deployment, loading);
+                    } else {
+                        uploadContent(deployment, loading);
+                    }
+                }
+
+                @Override
+                public void onError(Request request, Throwable exception) {
+                    if (!cancelled) {
+                        uploadContent(deployment, loading);
+                    }
+                }
+            });
+        } catch (RequestException e) {
+            uploadContent(deployment, loading);
+        }
+    }
+
+    /**
+     * @return whether the content of one of the deployments in the response to {@link #makeReadContentJSO()} has
+     * the given hash
+     */
+    private boolean containsHash(String json, String hash) {
+        try {
+            JSONArray deployments = JSONParser.parseLenient(json).isObject().get("result").isArray();
+            for (int i = 0; i < deployments.size(); i++) {
+                JSONValue content = deployments.get(i).isObject().get("result");
+                if (content == null || content.isArray() == null) {
+                    continue;
+                }
+                for (int j = 0; j < content.isArray().size(); j++) {
+                    JSONObject item = content.isArray().get(j).isObject();
+                    JSONValue bytes = item != null && item.get("hash") != null && item.get("hash").isObject() != null
+                            ? item.get("hash").isObject().get("BYTES_VALUE") : null;
+                    if (bytes != null && bytes.isString() != null && hash.equals(bytes.isString().stringValue())) {
+                        return true;
+                    }
+                }
+            }
+        } catch (Exception e) {
+            Log.error(Console.CONSTANTS.common_error_failedToDecode() + ": " + json, e);
+        }
+        return false;
     }
 
     private void assignDeployment(final DeploymentReference deployment, final PopupPanel loading) {
@@ -144,6 +252,9 @@ public class NewDeploymentWizard {
             rb.sendRequest(requestJSO, new RequestCallback() {
                 @Override
                 public void onResponseReceived(Request request, Response response) {
+                    if (cancelled) {
+                        return;
+                    }
                     if (200 != response.getStatusCode()) {
                         loading.hide();
                         onDeploymentFailed(deployment, response);
@@ -172,6 +283,16 @@ public class NewDeploymentWizard {
         }
     }
 
+    private String makeReadContentJSO() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        sb.append("\"address\":[").append("{\"deployment\":\"*\"}],");
+        sb.append("\"operation\":\"read-attribute\",");
+        sb.append("\"name\":\"content\"");
+        sb.append("}");
+        return sb.toString();
+    }
+
     private String makeAddJSO(DeploymentReference deployment) {
         StringBuilder sb = new StringBuilder();
         sb.append("{");
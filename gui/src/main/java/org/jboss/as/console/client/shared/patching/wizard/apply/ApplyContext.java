@@ -18,6 +18,7 @@
  */
 package org.jboss.as.console.client.shared.patching.wizard.apply;
 
+import com.google.gwt.user.client.ui.FileUpload;
 import com.google.gwt.user.client.ui.FormPanel;
 import com.google.gwt.user.client.ui.Hidden;
 import org.jboss.as.console.client.shared.patching.PatchInfo;
@@ -38,6 +39,7 @@ public class ApplyContext extends CommonPatchContext {
     // process slip
     FormPanel form;
     Hidden operation;
+    FileUpload upload;
     String filename;
     PatchInfo patchInfo;
     boolean conflict;
@@ -53,6 +55,7 @@ public class ApplyContext extends CommonPatchContext {
 
         this.form = null;
         this.operation = null;
+        this.upload = null;
         this.patchInfo = null;
         this.conflict = false;
         this.patchFailed = false;
@@ -33,6 +33,8 @@ import org.jboss.as.console.client.shared.patching.ui.Pending;
 import org.jboss.as.console.client.shared.patching.wizard.PatchWizard;
 import org.jboss.as.console.client.shared.patching.wizard.PatchWizardStep;
 import org.jboss.as.console.client.shared.patching.wizard.WizardButton;
+import org.jboss.as.console.client.widgets.forms.XhrUpload;
+import org.jboss.as.console.client.widgets.progress.ProgressElement;
 import org.jboss.dmr.client.ModelNode;
 
 import static org.jboss.dmr.client.ModelDescriptionConstants.OP;
@@ -44,7 +46,9 @@ public class ApplyingStep extends PatchWizardStep<ApplyContext, ApplyState> {
 
     private final PatchManager patchManager;
     private Pending pending;
+    private ProgressElement progress;
     private PatchAppliedHandler patchAppliedHandler;
+    private XhrUpload xhrUpload;
 
     public ApplyingStep(final PatchWizard<ApplyContext, ApplyState> wizard, PatchManager patchManager) {
         super(wizard, null, new WizardButton(false), new WizardButton(Console.CONSTANTS.common_label_cancel()));
@@ -56,6 +60,8 @@ public class ApplyingStep extends PatchWizardStep<ApplyContext, ApplyState> {
         FlowPanel body = new FlowPanel();
         pending = new Pending("");
         body.add(pending);
+        progress = new ProgressElement();
+        body.add(progress);
         return body;
     }
 
@@ -77,7 +83,14 @@ public class ApplyingStep extends PatchWizardStep<ApplyContext, ApplyState> {
             context.form.addSubmitCompleteHandler(patchAppliedHandler);
         }
         patchAppliedHandler.context = context;
-        context.form.submit();
+        if (XhrUpload.isSupported()) {
+            // streams the patch with progress and allows to cancel the upload
+            xhrUpload = new XhrUpload(context.patchUrl, progress);
+            xhrUpload.param(context.operation.getName(), context.operation.getValue());
+            xhrUpload.send(context.upload.getElement(), patchAppliedHandler);
+        } else {
+            context.form.submit();
+        }
 
         // reset old state
         context.restartToUpdate = true;
@@ -89,13 +102,37 @@ public class ApplyingStep extends PatchWizardStep<ApplyContext, ApplyState> {
     }
 
 
-    class PatchAppliedHandler implements FormPanel.SubmitCompleteHandler {
+    @Override
+    protected void onCancel(final ApplyContext context) {
+        if (xhrUpload != null) {
+            xhrUpload.cancel();
+        }
+        super.onCancel(context);
+    }
+
+
+    class PatchAppliedHandler implements FormPanel.SubmitCompleteHandler, XhrUpload.Callback {
 
         ApplyContext context;
 
         @Override
         public void onSubmitComplete(final FormPanel.SubmitCompleteEvent event) {
-            String html = event.getResults();
+            onResult(event.getResults());
+        }
+
+        @Override
+        public void onComplete(final int status, final String payload) {
+            onResult(payload);
+        }
+
+        @Override
+        public void onError() {
+            context.patchFailed = true;
+            context.patchFailedDetails = "Upload of " + context.filename + " failed.";
+            wizard.next();
+        }
+
+        private void onResult(final String html) {
             String json = html;
             if (html.indexOf('<') != -1) {
                 json = html.substring(html.indexOf(">") + 1, html.lastIndexOf("<"));
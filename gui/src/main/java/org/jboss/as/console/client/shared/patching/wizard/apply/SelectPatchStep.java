@@ -80,6 +80,7 @@ public class SelectPatchStep extends PatchWizardStep<ApplyContext, ApplyState> {
         upload.getElement().setId(asId(PREFIX, getClass(), "_Upload"));
         uploadPanel.add(upload);
         panel.add(uploadPanel);
+        context.upload = upload;
 
         errorMessages = new HTML(
                 "<i class=\"icon-exclamation-sign\"></i> " + Console.CONSTANTS.patch_manager_select_file());
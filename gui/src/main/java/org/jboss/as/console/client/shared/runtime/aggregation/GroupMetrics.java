@@ -0,0 +1,62 @@
+package org.jboss.as.console.client.shared.runtime.aggregation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The values of a set of attributes read from all running servers of a server group together with their
+ * {@link MetricStatistics}.
+ */
+public class GroupMetrics {
+
+    private final String group;
+    private final List<String> attributes;
+    private final List<ServerMetrics> servers;
+    private final Map<String, MetricStatistics> statistics;
+
+    public GroupMetrics(String group, List<String> attributes, List<ServerMetrics> servers) {
+        this.group = group;
+        this.attributes = attributes;
+        this.servers = servers;
+        this.statistics = new LinkedHashMap<String, MetricStatistics>();
+
+        for (String attribute : attributes) {
+            List<Double> defined = new ArrayList<Double>();
+            for (ServerMetrics server : servers) {
+                Double value = server.get(attribute);
+                if (value != null) {
+                    defined.add(value);
+                }
+            }
+            double[] values = new double[defined.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = defined.get(i);
+            }
+            statistics.put(attribute, new MetricStatistics(values));
+        }
+    }
+
+    public boolean isOutlier(ServerMetrics server, String attribute) {
+        Double value = server.get(attribute);
+        MetricStatistics s = statistics.get(attribute);
+        return value != null && s != null && s.isOutlier(value);
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public List<String> getAttributes() {
+        return attributes;
+    }
+
+    public List<ServerMetrics> getServers() {
+        return servers;
+    }
+
+    public MetricStatistics getStatistics(String attribute) {
+        return statistics.get(attribute);
+    }
+}
@@ -0,0 +1,184 @@
+package org.jboss.as.console.client.shared.runtime.aggregation;
+
+import com.google.gwt.cell.client.Cell;
+import com.google.gwt.i18n.client.NumberFormat;
+import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
+import com.google.gwt.user.cellview.client.ColumnSortEvent;
+import com.google.gwt.user.cellview.client.TextColumn;
+import com.google.gwt.user.client.ui.FlexTable;
+import com.google.gwt.user.client.ui.HTML;
+import com.google.gwt.user.client.ui.VerticalPanel;
+import com.google.gwt.user.client.ui.Widget;
+import com.google.gwt.view.client.ListDataProvider;
+import com.google.gwt.view.client.ProvidesKey;
+import org.jboss.as.console.client.shared.runtime.charts.Column;
+import org.jboss.ballroom.client.widgets.tables.DefaultCellTable;
+import org.jboss.ballroom.client.widgets.tables.DefaultPager;
+
+import java.util.Comparator;
+
+/**
+ * Shows the {@link GroupMetrics} of a server group: A summary with sum, avg, min, max and percentiles per attribute
+ * and a sortable table with the values of each server. Outliers are highlighted.
+ */
+public class GroupMetricsView {
+
+    private static final String[] SUMMARY = {"Sum", "Avg", "Min", "Max", "50th Percentile", "90th Percentile",
+            "99th Percentile"};
+
+    private final String title;
+    private final Column[] columns;
+    private final NumberFormat format;
+    private HTML header;
+    private FlexTable summary;
+    private DefaultCellTable<ServerMetrics> table;
+    private ListDataProvider<ServerMetrics> dataProvider;
+    private GroupMetrics metrics;
+
+    /**
+     * @param columns the attributes to show. Uses {@link Column#getDeytpedName()} as attribute name.
+     */
+    public GroupMetricsView(String title, Column[] columns) {
+        this.title = title;
+        this.columns = columns;
+        this.format = NumberFormat.getFormat("#,##0.##");
+    }
+
+    public Widget asWidget() {
+        VerticalPanel panel = new VerticalPanel();
+        panel.addStyleName("metric-container");
+        panel.add(new HTML("<h3 class='metric-label-embedded'>" + title + "</h3>"));
+
+        header = new HTML();
+        panel.add(header);
+
+        summary = new FlexTable();
+        summary.addStyleName("metric-grid");
+        summary.addStyleName("fill-layout-width");
+        panel.add(summary);
+
+        table = new DefaultCellTable<ServerMetrics>(10, new ProvidesKey<ServerMetrics>() {
+            @Override
+            public Object getKey(ServerMetrics item) {
+                return item.getHost() + "/" + item.getServer();
+            }
+        });
+        dataProvider = new ListDataProvider<ServerMetrics>();
+        dataProvider.addDataDisplay(table);
+        ColumnSortEvent.ListHandler<ServerMetrics> sortHandler =
+                new ColumnSortEvent.ListHandler<ServerMetrics>(dataProvider.getList());
+        table.addColumnSortHandler(sortHandler);
+
+        TextColumn<ServerMetrics> serverColumn = new TextColumn<ServerMetrics>() {
+            @Override
+            public String getValue(ServerMetrics object) {
+                return object.getHost() + " / " + object.getServer();
+            }
+        };
+        serverColumn.setSortable(true);
+        sortHandler.setComparator(serverColumn, new Comparator<ServerMetrics>() {
+            @Override
+            public int compare(ServerMetrics o1, ServerMetrics o2) {
+                int result = o1.getHost().compareTo(o2.getHost());
+                return result != 0 ? result : o1.getServer().compareTo(o2.getServer());
+            }
+        });
+        table.addColumn(serverColumn, "Server");
+
+        for (Column column : columns) {
+            final String attribute = column.getDeytpedName();
+            TextColumn<ServerMetrics> valueColumn = new TextColumn<ServerMetrics>() {
+                @Override
+                public String getValue(ServerMetrics object) {
+                    Double value = object.get(attribute);
+                    return value != null ? format.format(value) : "-";
+                }
+
+                @Override
+                public String getCellStyleNames(Cell.Context context, ServerMetrics object) {
+                    return metrics != null && metrics.isOutlier(object, attribute) ? "metric-outlier" : null;
+                }
+            };
+            valueColumn.setSortable(true);
+            sortHandler.setComparator(valueColumn, new Comparator<ServerMetrics>() {
+                @Override
+                public int compare(ServerMetrics o1, ServerMetrics o2) {
+                    Double v1 = o1.get(attribute);
+                    Double v2 = o2.get(attribute);
+                    if (v1 == null || v2 == null) {
+                        return v1 == null ? (v2 == null ? 0 : -1) : 1;
+                    }
+                    return Double.compare(v1, v2);
+                }
+            });
+            table.addColumn(valueColumn, column.getLabel());
+        }
+        panel.add(table);
+
+        DefaultPager pager = new DefaultPager();
+        pager.setDisplay(table);
+        panel.add(pager);
+
+        clearSamples();
+        return panel;
+    }
+
+    public void update(GroupMetrics metrics) {
+        this.metrics = metrics;
+        if (table == null) {
+            return;
+        }
+
+        int outliers = 0;
+        for (ServerMetrics server : metrics.getServers()) {
+            for (Column column : columns) {
+                if (metrics.isOutlier(server, column.getDeytpedName())) {
+                    outliers++;
+                }
+            }
+        }
+        header.setHTML(new SafeHtmlBuilder()
+                .appendEscaped("Server group ")
+                .appendHtmlConstant("<b>").appendEscaped(metrics.getGroup()).appendHtmlConstant("</b>")
+                .appendEscaped(": " + metrics.getServers().size() + " running server(s), " + outliers + " outlier(s)")
+                .toSafeHtml());
+
+        for (int i = 0; i < columns.length; i++) {
+            MetricStatistics statistics = metrics.getStatistics(columns[i].getDeytpedName());
+            double[] values = {statistics.getSum(), statistics.getAvg(), statistics.getMin(),
+                    statistics.getMax(), statistics.percentile(50), statistics.percentile(90),
+                    statistics.percentile(99)};
+            for (int row = 0; row < values.length; row++) {
+                summary.setText(row + 1, i + 1, statistics.getCount() > 0 ? format.format(values[row]) : "-");
+            }
+        }
+
+        dataProvider.getList().clear();
+        dataProvider.getList().addAll(metrics.getServers());
+        ColumnSortEvent.fire(table, table.getColumnSortList());
+    }
+
+    public void clearSamples() {
+        this.metrics = null;
+        if (table == null) {
+            return;
+        }
+
+        header.setHTML("");
+        summary.removeAllRows();
+        summary.setText(0, 0, "");
+        for (int i = 0; i < columns.length; i++) {
+            summary.setText(0, i + 1, columns[i].getLabel());
+            summary.getCellFormatter().addStyleName(0, i + 1, "numerical");
+        }
+        for (int row = 0; row < SUMMARY.length; row++) {
+            summary.setText(row + 1, 0, SUMMARY[row]);
+            summary.getCellFormatter().addStyleName(row + 1, 0, "nominal");
+            for (int i = 0; i < columns.length; i++) {
+                summary.setText(row + 1, i + 1, "-");
+                summary.getCellFormatter().addStyleName(row + 1, i + 1, "numerical");
+            }
+        }
+        dataProvider.getList().clear();
+    }
+}
@@ -0,0 +1,156 @@
+package org.jboss.as.console.client.shared.runtime.aggregation;
+
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import org.jboss.dmr.client.ModelNode;
+import org.jboss.dmr.client.Property;
+import org.jboss.dmr.client.dispatch.AsyncCommand;
+import org.jboss.dmr.client.dispatch.DispatchAsync;
+import org.jboss.dmr.client.dispatch.impl.DMRAction;
+import org.jboss.dmr.client.dispatch.impl.DMRResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.jboss.dmr.client.ModelDescriptionConstants.*;
+
+/**
+ * Reads a set of runtime attributes from all running servers of the server group of the selected server. Uses one
+ * composite with two wildcard steps: The first step reads the group of all server configs
+ * ({@code host=*&#47;server-config=*}), the second step reads the resource from all running servers
+ * ({@code host=*&#47;server=*&#47;<resource>}). The results of the second step are then filtered by the group of
+ * the selected server.
+ */
+public class LoadGroupMetricsCmd implements AsyncCommand<GroupMetrics> {
+
+    private final DispatchAsync dispatcher;
+    private final String host;
+    private final String server;
+    private final ModelNode resource;
+    private final List<String> attributes;
+
+    /**
+     * @param host       the selected host
+     * @param server     the selected server
+     * @param resource   the address of the resource relative to the server
+     * @param attributes the attributes to read
+     */
+    public LoadGroupMetricsCmd(DispatchAsync dispatcher, String host, String server, ModelNode resource,
+            List<String> attributes) {
+        this.dispatcher = dispatcher;
+        this.host = host;
+        this.server = server;
+        this.resource = resource;
+        this.attributes = attributes;
+    }
+
+    @Override
+    public void execute(final AsyncCallback<GroupMetrics> callback) {
+        dispatcher.execute(new DMRAction(operation()), new AsyncCallback<DMRResponse>() {
+            @Override
+            public void onFailure(Throwable caught) {
+                callback.onFailure(caught);
+            }
+
+            @Override
+            public void onSuccess(DMRResponse result) {
+                ModelNode response = result.get();
+                try {
+                    callback.onSuccess(parse(response.get(RESULT)));
+                } catch (IllegalStateException e) {
+                    callback.onFailure(new RuntimeException(
+                            "Failed to read group metrics: " + e.getMessage() + " " + response.getFailureDescription()));
+                }
+            }
+        });
+    }
+
+    ModelNode operation() {
+        ModelNode groups = new ModelNode();
+        groups.get(ADDRESS).add("host", "*");
+        groups.get(ADDRESS).add("server-config", "*");
+        groups.get(OP).set(READ_ATTRIBUTE_OPERATION);
+        groups.get(NAME).set("group");
+
+        ModelNode metrics = new ModelNode();
+        metrics.get(ADDRESS).add("host", "*");
+        metrics.get(ADDRESS).add("server", "*");
+        for (ModelNode segment : resource.asList()) {
+            metrics.get(ADDRESS).add(segment);
+        }
+        metrics.get(OP).set(READ_RESOURCE_OPERATION);
+        metrics.get(INCLUDE_RUNTIME).set(true);
+
+        List<ModelNode> steps = new ArrayList<ModelNode>();
+        steps.add(groups);
+        steps.add(metrics);
+
+        ModelNode composite = new ModelNode();
+        composite.get(ADDRESS).setEmptyList();
+        composite.get(OP).set(COMPOSITE);
+        composite.get(STEPS).set(steps);
+        return composite;
+    }
+
+    /**
+     * @throws IllegalStateException if the group of the selected server cannot be determined
+     */
+    GroupMetrics parse(ModelNode compositeResult) {
+        Map<String, String> groups = new HashMap<String, String>();
+        for (ModelNode node : results(compositeResult.get("step-1"))) {
+            Map<String, String> address = address(node);
+            groups.put(address.get("host") + "/" + address.get("server-config"), node.get(RESULT).asString());
+        }
+        String group = groups.get(host + "/" + server);
+        if (group == null) {
+            throw new IllegalStateException("No server group found for " + host + "/" + server);
+        }
+
+        List<ServerMetrics> servers = new ArrayList<ServerMetrics>();
+        for (ModelNode node : results(compositeResult.get("step-2"))) {
+            Map<String, String> address = address(node);
+            String key = address.get("host") + "/" + address.get("server");
+            if (group.equals(groups.get(key)) && SUCCESS.equals(node.get(OUTCOME).asString())) {
+                ServerMetrics metrics = new ServerMetrics(address.get("host"), address.get("server"));
+                ModelNode result = node.get(RESULT);
+                for (String attribute : attributes) {
+                    if (result.hasDefined(attribute)) {
+                        try {
+                            metrics.put(attribute, result.get(attribute).asDouble());
+                        } catch (IllegalArgumentException e) {
+                            // not a number
+                        }
+                    }
+                }
+                servers.add(metrics);
+            }
+        }
+        Collections.sort(servers, new Comparator<ServerMetrics>() {
+            @Override
+            public int compare(ServerMetrics s1, ServerMetrics s2) {
+                int result = s1.getHost().compareTo(s2.getHost());
+                return result != 0 ? result : s1.getServer().compareTo(s2.getServer());
+            }
+        });
+        return new GroupMetrics(group, attributes, servers);
+    }
+
+    private List<ModelNode> results(ModelNode step) {
+        if (!SUCCESS.equals(step.get(OUTCOME).asString()) || !step.hasDefined(RESULT)) {
+            throw new IllegalStateException(step.get(FAILURE_DESCRIPTION).asString());
+        }
+        return step.get(RESULT).asList();
+    }
+
+    private Map<String, String> address(ModelNode node) {
+        Map<String, String> address = new HashMap<String, String>();
+        for (ModelNode segment : node.get(ADDRESS).asList()) {
+            Property property = segment.asProperty();
+            address.put(property.getName(), property.getValue().asString());
+        }
+        return address;
+    }
+}
@@ -0,0 +1,82 @@
+package org.jboss.as.console.client.shared.runtime.aggregation;
+
+import java.util.Arrays;
+
+/**
+ * Statistics of one attribute across the servers of a server group. Percentiles use the nearest rank method.
+ * Outliers are values outside of the Tukey fences, that is more than 1.5 times the interquartile range below the
+ * first or above the third quartile. Outliers are only reported for four or more values.
+ */
+public class MetricStatistics {
+
+    static final int MIN_OUTLIER_SAMPLES = 4;
+
+    private final double[] sorted;
+    private final double sum;
+    private final double lowerFence;
+    private final double upperFence;
+
+    public MetricStatistics(double[] values) {
+        this.sorted = Arrays.copyOf(values, values.length);
+        Arrays.sort(sorted);
+
+        double sum = 0;
+        for (double value : sorted) {
+            sum += value;
+        }
+        this.sum = sum;
+
+        if (sorted.length >= MIN_OUTLIER_SAMPLES) {
+            double q1 = percentile(25);
+            double q3 = percentile(75);
+            double iqr = q3 - q1;
+            this.lowerFence = q1 - 1.5 * iqr;
+            this.upperFence = q3 + 1.5 * iqr;
+        } else {
+            this.lowerFence = -Double.MAX_VALUE;
+            this.upperFence = Double.MAX_VALUE;
+        }
+    }
+
+    /**
+     * @param percent the percentile in the range (0, 100]
+     * @return the value or 0 if there are no values
+     */
+    public double percentile(double percent) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percent / 100 * sorted.length);
+        return sorted[Math.min(sorted.length, Math.max(1, rank)) - 1];
+    }
+
+    public boolean isOutlier(double value) {
+        return value < lowerFence || value > upperFence;
+    }
+
+    public int getCount() {
+        return sorted.length;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    public double getMin() {
+        return sorted.length == 0 ? 0 : sorted[0];
+    }
+
+    public double getMax() {
+        return sorted.length == 0 ? 0 : sorted[sorted.length - 1];
+    }
+
+    public double getAvg() {
+        return sorted.length == 0 ? 0 : sum / sorted.length;
+    }
+
+    @Override
+    public String toString() {
+        return "MetricStatistics(count=" + sorted.length + ", sum=" + sum + ", min=" + getMin() + ", max=" +
+                getMax() + ")";
+    }
+}
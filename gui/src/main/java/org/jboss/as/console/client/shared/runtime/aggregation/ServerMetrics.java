@@ -0,0 +1,44 @@
+package org.jboss.as.console.client.shared.runtime.aggregation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The attribute values of one running server.
+ */
+public class ServerMetrics {
+
+    private final String host;
+    private final String server;
+    private final Map<String, Double> values;
+
+    public ServerMetrics(String host, String server) {
+        this.host = host;
+        this.server = server;
+        this.values = new LinkedHashMap<String, Double>();
+    }
+
+    void put(String attribute, double value) {
+        values.put(attribute, value);
+    }
+
+    /**
+     * @return the value or null if the attribute is not defined for this server
+     */
+    public Double get(String attribute) {
+        return values.get(attribute);
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public String getServer() {
+        return server;
+    }
+
+    @Override
+    public String toString() {
+        return host + "/" + server + " " + values;
+    }
+}
@@ -19,9 +19,14 @@ import org.jboss.as.console.client.shared.BeanFactory;
 import org.jboss.as.console.client.shared.model.ResponseWrapper;
 import org.jboss.as.console.client.shared.runtime.Metric;
 import org.jboss.as.console.client.shared.runtime.RuntimeBaseAddress;
+import org.jboss.as.console.client.shared.runtime.aggregation.GroupMetrics;
+import org.jboss.as.console.client.shared.runtime.aggregation.LoadGroupMetricsCmd;
+import org.jboss.as.console.client.shared.runtime.sampling.MetricSampler;
+import org.jboss.as.console.client.shared.runtime.sampling.MetricSeries;
 import org.jboss.as.console.client.shared.subsys.RevealStrategy;
 import org.jboss.as.console.client.shared.subsys.jca.ConnectionWindow;
 import org.jboss.as.console.client.shared.subsys.jca.model.DataSource;
+import org.jboss.as.console.client.v3.stores.domain.HostStore;
 import org.jboss.as.console.client.v3.stores.domain.ServerStore;
 import org.jboss.as.console.client.widgets.forms.ApplicationMetaData;
 import org.jboss.as.console.client.widgets.forms.EntityAdapter;
@@ -34,6 +39,7 @@ import org.jboss.dmr.client.dispatch.impl.DMRResponse;
 import org.jboss.gwt.circuit.Action;
 import org.jboss.gwt.circuit.Dispatcher;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -62,8 +68,13 @@ public class DataSourceMetricPresenter extends CircuitPresenter<DataSourceMetric
         void setDatasources(List<DataSource> datasources, boolean isXA);
         void setDSPoolMetric(Metric poolMetric, boolean isXA);
         void setDSCacheMetric(Metric metric, boolean isXA);
+        void setDSPoolTrend(List<MetricSeries> series, boolean isXA);
+        void setDSGroupMetrics(GroupMetrics metrics, boolean isXA);
     }
 
+    static final List<String> POOL_ATTRIBUTES = Arrays.asList(
+            "ActiveCount", "InUseCount", "AvailableCount", "WaitCount", "MaxUsedCount");
+
 
     private final PlaceManager placeManager;
     private DispatchAsync dispatcher;
@@ -75,6 +86,8 @@ public class DataSourceMetricPresenter extends CircuitPresenter<DataSourceMetric
     private LoadDataSourceCmd loadDSCmd;
     private DataSource selectedXA;
     private final ServerStore serverStore;
+    private final MetricSampler sampler;
+    private boolean samplingXA;
 
 
     @Inject
@@ -94,10 +107,18 @@ public class DataSourceMetricPresenter extends CircuitPresenter<DataSourceMetric
 
         this.loadDSCmd = new LoadDataSourceCmd(dispatcher, metaData);
 
+        this.sampler = new MetricSampler(dispatcher);
+        this.sampler.addListener(new MetricSampler.Listener() {
+            @Override
+            public void onSample(List<MetricSeries> series) {
+                getView().setDSPoolTrend(series, samplingXA);
+            }
+        });
     }
 
     public void refreshDatasources() {
 
+        sampler.clear();
         getView().clearSamples();
         getView().setDatasources(Collections.EMPTY_LIST, true);
         getView().setDatasources(Collections.EMPTY_LIST, false);
@@ -156,6 +177,12 @@ public class DataSourceMetricPresenter extends CircuitPresenter<DataSourceMetric
         refreshDatasources();
     }
 
+    @Override
+    protected void onHide() {
+        super.onHide();
+        sampler.stop();
+    }
+
     @Override
     protected void revealInParent() {
         revealStrategy.revealInRuntimeParent(this);
@@ -166,6 +193,7 @@ public class DataSourceMetricPresenter extends CircuitPresenter<DataSourceMetric
         if(!currentSelection.isEnabled())
         {
             Console.error(Console.MESSAGES.subsys_jca_err_ds_notEnabled(currentSelection.getName()));
+            sampler.clear();
             getView().clearSamples();
             return;
         }
@@ -185,6 +213,60 @@ public class DataSourceMetricPresenter extends CircuitPresenter<DataSourceMetric
     private void loadMetrics(boolean isXA) {
         loadDSPoolMetrics(isXA);
         loadDSCacheMetrics(isXA);
+        samplePoolMetrics(isXA);
+        if(!Console.getBootstrapContext().isStandalone())
+            loadGroupPoolMetrics(isXA);
+    }
+
+    /**
+     * Reads the pool usage of the selected data source from all running servers of the selected server's group.
+     */
+    private void loadGroupPoolMetrics(final boolean isXA) {
+
+        DataSource target = isXA ? selectedXA : selectedDS;
+
+        ModelNode resource = new ModelNode();
+        resource.add("subsystem", "datasources");
+        resource.add(isXA ? "xa-data-source" : "data-source", target.getName());
+        resource.add("statistics", "pool");
+
+        HostStore hostStore = Console.MODULES.getHostStore();
+        new LoadGroupMetricsCmd(dispatcher, hostStore.getSelectedHost(), hostStore.getSelectedServer(), resource,
+                POOL_ATTRIBUTES).execute(new AsyncCallback<GroupMetrics>() {
+            @Override
+            public void onFailure(Throwable caught) {
+                Log.error(caught.getMessage());
+            }
+
+            @Override
+            public void onSuccess(GroupMetrics result) {
+                getView().setDSGroupMetrics(result, isXA);
+            }
+        });
+    }
+
+    /**
+     * Samples the pool usage of the selected data source, so that the view can show the trend of the pool.
+     */
+    private void samplePoolMetrics(boolean isXA) {
+
+        DataSource target = isXA ? selectedXA : selectedDS;
+
+        ModelNode address = RuntimeBaseAddress.get();
+        address.add("subsystem", "datasources");
+        address.add(isXA ? "xa-data-source" : "data-source", target.getName());
+        address.add("statistics", "pool");
+
+        if (!sampler.samples(address)) {
+            sampler.clear();
+            samplingXA = isXA;
+            sampler.register(address, "ActiveCount", "Active");
+            sampler.register(address, "InUseCount", "In Use");
+            sampler.register(address, "AvailableCount", "Available");
+            sampler.register(address, "WaitCount", "Waiting");
+            sampler.register(address, "TimedOut", "Timed Out", true);
+        }
+        sampler.start();
     }
 
     private void loadDSPoolMetrics(final boolean isXA) {
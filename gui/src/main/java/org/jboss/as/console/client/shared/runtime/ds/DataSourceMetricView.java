@@ -4,6 +4,8 @@ import com.google.gwt.dom.client.Style;
 import com.google.gwt.user.client.ui.Widget;
 import org.jboss.as.console.client.core.SuspendableViewImpl;
 import org.jboss.as.console.client.shared.runtime.Metric;
+import org.jboss.as.console.client.shared.runtime.aggregation.GroupMetrics;
+import org.jboss.as.console.client.shared.runtime.sampling.MetricSeries;
 import org.jboss.as.console.client.shared.subsys.jca.model.DataSource;
 import org.jboss.as.console.client.widgets.tabs.DefaultTabLayoutPanel;
 
@@ -74,4 +76,20 @@ public class DataSourceMetricView extends SuspendableViewImpl implements DataSou
         else
             dsMetrics.setDSCacheMetric(metric);
     }
+
+    @Override
+    public void setDSGroupMetrics(GroupMetrics metrics, boolean isXA) {
+        if(isXA)
+            xaMetrics.setDSGroupMetrics(metrics);
+        else
+            dsMetrics.setDSGroupMetrics(metrics);
+    }
+
+    @Override
+    public void setDSPoolTrend(List<MetricSeries> series, boolean isXA) {
+        if(isXA)
+            xaMetrics.setDSPoolTrend(series);
+        else
+            dsMetrics.setDSPoolTrend(series);
+    }
 }
@@ -19,10 +19,14 @@ import org.jboss.as.console.client.shared.help.HelpSystem;
 import org.jboss.as.console.client.shared.runtime.Metric;
 import org.jboss.as.console.client.shared.runtime.RuntimeBaseAddress;
 import org.jboss.as.console.client.shared.runtime.Sampler;
+import org.jboss.as.console.client.shared.runtime.aggregation.GroupMetrics;
+import org.jboss.as.console.client.shared.runtime.aggregation.GroupMetricsView;
 import org.jboss.as.console.client.shared.runtime.charts.BulletGraphView;
 import org.jboss.as.console.client.shared.runtime.charts.Column;
 import org.jboss.as.console.client.shared.runtime.charts.NumberColumn;
 import org.jboss.as.console.client.shared.runtime.plain.PlainColumnView;
+import org.jboss.as.console.client.shared.runtime.sampling.MetricSeries;
+import org.jboss.as.console.client.shared.runtime.sampling.TrendView;
 import org.jboss.as.console.client.shared.subsys.jca.model.DataSource;
 import org.jboss.ballroom.client.widgets.common.ButtonDropdown;
 import org.jboss.ballroom.client.widgets.tables.DefaultCellTable;
@@ -50,6 +54,8 @@ public class DataSourceMetrics {
     private ListDataProvider<DataSource> dataProvider;
     private Sampler poolSampler;
     private Sampler cacheSampler;
+    private TrendView poolTrend;
+    private GroupMetricsView groupMetrics;
     private boolean isXA;
 
     public DataSourceMetrics(DataSourceMetricPresenter presenter, boolean isXA) {
@@ -195,6 +201,16 @@ public class DataSourceMetrics {
         }
 
 
+        poolTrend = new TrendView(title + " Trend");
+
+        groupMetrics = new GroupMetricsView(title + " across Server Group", new Column[] {
+                new NumberColumn("ActiveCount", "Active"),
+                new NumberColumn("InUseCount", "In Use"),
+                new NumberColumn("AvailableCount", "Available"),
+                new NumberColumn("WaitCount", "Waiting"),
+                new NumberColumn("MaxUsedCount", "Max Used")
+        });
+
         // ----
 
         DefaultPager pager = new DefaultPager();
@@ -265,8 +281,12 @@ public class DataSourceMetrics {
                 .addContent("Datasource", tablePanel)
                 .addContent("", refreshBtn)
                 .addContent("Pool Usage", poolSampler.asWidget())
+                .addContent("Pool Trend", poolTrend.asWidget())
                 .addContent("Prepared Statement Cache", cacheSampler.asWidget());
 
+        if(!Console.getBootstrapContext().isStandalone())
+            layout.addContent("Server Group", groupMetrics.asWidget());
+
         Widget root = layout.build();
         refreshBtn.getElement().getParentElement().getStyle().setTextAlign(RIGHT);
         return root;
@@ -279,6 +299,8 @@ public class DataSourceMetrics {
     public void clearSamples() {
         poolSampler.clearSamples();
         cacheSampler.clearSamples();
+        poolTrend.clearSamples();
+        groupMetrics.clearSamples();
 
     }
 
@@ -294,4 +316,12 @@ public class DataSourceMetrics {
     public void setDSCacheMetric(Metric metric) {
         cacheSampler.addSample(metric);
     }
+
+    public void setDSGroupMetrics(GroupMetrics metrics) {
+        groupMetrics.update(metrics);
+    }
+
+    public void setDSPoolTrend(List<MetricSeries> series) {
+        poolTrend.update(series);
+    }
 }
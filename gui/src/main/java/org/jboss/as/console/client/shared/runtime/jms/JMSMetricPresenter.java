@@ -18,11 +18,16 @@ import org.jboss.as.console.client.domain.model.LoggingCallback;
 import org.jboss.as.console.client.domain.model.SimpleCallback;
 import org.jboss.as.console.client.shared.BeanFactory;
 import org.jboss.as.console.client.shared.runtime.RuntimeBaseAddress;
+import org.jboss.as.console.client.shared.runtime.aggregation.GroupMetrics;
+import org.jboss.as.console.client.shared.runtime.aggregation.LoadGroupMetricsCmd;
+import org.jboss.as.console.client.shared.runtime.sampling.MetricSampler;
+import org.jboss.as.console.client.shared.runtime.sampling.MetricSeries;
 import org.jboss.as.console.client.shared.subsys.RevealStrategy;
 import org.jboss.as.console.client.shared.subsys.messaging.AggregatedJMSModel;
 import org.jboss.as.console.client.shared.subsys.messaging.LoadJMSCmd;
 import org.jboss.as.console.client.shared.subsys.messaging.model.JMSEndpoint;
 import org.jboss.as.console.client.shared.subsys.messaging.model.Queue;
+import org.jboss.as.console.client.v3.stores.domain.HostStore;
 import org.jboss.as.console.client.v3.stores.domain.ServerStore;
 import org.jboss.as.console.client.widgets.forms.ApplicationMetaData;
 import org.jboss.as.console.spi.AccessControl;
@@ -35,6 +40,8 @@ import org.jboss.dmr.client.dispatch.impl.DMRResponse;
 import org.jboss.gwt.circuit.Action;
 import org.jboss.gwt.circuit.Dispatcher;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -67,8 +74,15 @@ public class JMSMetricPresenter extends CircuitPresenter<JMSMetricPresenter.MyVi
         void updateProvider(List<Property> provider);
 
         void setSelectedProvider(String name);
+
+        void updateQueueTrend(List<MetricSeries> series);
+
+        void updateQueueGroupMetrics(GroupMetrics metrics);
     }
 
+    static final List<String> QUEUE_ATTRIBUTES = Arrays.asList(
+            "message-count", "delivering-count", "consumer-count", "messages-added", "scheduled-count");
+
     private final PlaceManager placemanager;
     private DispatchAsync dispatcher;
     private RevealStrategy revealStrategy;
@@ -77,6 +91,7 @@ public class JMSMetricPresenter extends CircuitPresenter<JMSMetricPresenter.MyVi
     private Queue selectedQueue;
     private final ServerStore serverStore;
     private String currentServer;
+    private final MetricSampler sampler;
 
     @Inject
     public JMSMetricPresenter(
@@ -91,6 +106,14 @@ public class JMSMetricPresenter extends CircuitPresenter<JMSMetricPresenter.MyVi
         this.serverStore = serverStore;
         this.placemanager = placemanager;
         this.loadJMSCmd = new LoadJMSCmd(dispatcher, factory, metaData);
+
+        this.sampler = new MetricSampler(dispatcher);
+        this.sampler.addListener(new MetricSampler.Listener() {
+            @Override
+            public void onSample(List<MetricSeries> series) {
+                getView().updateQueueTrend(series);
+            }
+        });
     }
 
     @Override
@@ -107,8 +130,12 @@ public class JMSMetricPresenter extends CircuitPresenter<JMSMetricPresenter.MyVi
 
     public void setSelectedQueue(Queue queue) {
         this.selectedQueue = queue;
-        if(queue!=null)
+        if(queue!=null) {
             loadQueueMetrics();
+            sampleQueueMetrics();
+            if(!Console.getBootstrapContext().isStandalone())
+                loadGroupQueueMetrics();
+        }
 
     }
 
@@ -199,6 +226,52 @@ public class JMSMetricPresenter extends CircuitPresenter<JMSMetricPresenter.MyVi
         });
     }
 
+    /**
+     * Samples the depth of the selected queue, so that the view can show the trend of the queue.
+     */
+    private void sampleQueueMetrics() {
+
+        ModelNode address = RuntimeBaseAddress.get();
+        address.add("subsystem", "messaging");
+        address.add("hornetq-server", "default");
+        address.add("jms-queue", selectedQueue.getName());
+
+        if (!sampler.samples(address)) {
+            sampler.clear();
+            getView().updateQueueTrend(new ArrayList<MetricSeries>());
+            sampler.register(address, "message-count", "Message Count");
+            sampler.register(address, "delivering-count", "Delivering Count");
+            sampler.register(address, "consumer-count", "Consumer Count");
+            sampler.register(address, "messages-added", "Messages Added", true);
+        }
+        sampler.start();
+    }
+
+    /**
+     * Reads the depth of the selected queue from all running servers of the selected server's group.
+     */
+    private void loadGroupQueueMetrics() {
+
+        ModelNode resource = new ModelNode();
+        resource.add("subsystem", "messaging");
+        resource.add("hornetq-server", "default");
+        resource.add("jms-queue", selectedQueue.getName());
+
+        HostStore hostStore = Console.MODULES.getHostStore();
+        new LoadGroupMetricsCmd(dispatcher, hostStore.getSelectedHost(), hostStore.getSelectedServer(), resource,
+                QUEUE_ATTRIBUTES).execute(new SimpleCallback<GroupMetrics>() {
+            @Override
+            public void onFailure(Throwable caught) {
+                Log.error(caught.getMessage());
+            }
+
+            @Override
+            public void onSuccess(GroupMetrics result) {
+                getView().updateQueueGroupMetrics(result);
+            }
+        });
+    }
+
     private void loadTopicMetrics() {
 
         if(null==selectedTopic)
@@ -257,6 +330,12 @@ public class JMSMetricPresenter extends CircuitPresenter<JMSMetricPresenter.MyVi
         loadProvider();
     }
 
+    @Override
+    protected void onHide() {
+        super.onHide();
+        sampler.stop();
+    }
+
     @Override
     protected void revealInParent() {
         revealStrategy.revealInRuntimeParent(this);
@@ -13,6 +13,8 @@ import org.jboss.as.console.client.Console;
 import org.jboss.as.console.client.core.NameTokens;
 import org.jboss.as.console.client.core.SuspendableViewImpl;
 import org.jboss.as.console.client.layout.SimpleLayout;
+import org.jboss.as.console.client.shared.runtime.aggregation.GroupMetrics;
+import org.jboss.as.console.client.shared.runtime.sampling.MetricSeries;
 import org.jboss.as.console.client.shared.subsys.messaging.model.JMSEndpoint;
 import org.jboss.as.console.client.shared.subsys.messaging.model.Queue;
 import org.jboss.as.console.client.widgets.pages.PagedView;
@@ -160,4 +162,14 @@ public class JMSMetricView extends SuspendableViewImpl implements JMSMetricPrese
     public void updateTopicMetrics(ModelNode result) {
         topicMetrics.updateFrom(result);
     }
+
+    @Override
+    public void updateQueueGroupMetrics(GroupMetrics metrics) {
+        queueMetrics.updateGroupMetrics(metrics);
+    }
+
+    @Override
+    public void updateQueueTrend(List<MetricSeries> series) {
+        queueMetrics.updateTrend(series);
+    }
 }
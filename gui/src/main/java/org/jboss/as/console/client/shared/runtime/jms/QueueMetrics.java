@@ -14,8 +14,12 @@ import com.google.gwt.view.client.SelectionChangeEvent;
 import com.google.gwt.view.client.SingleSelectionModel;
 import org.jboss.as.console.client.Console;
 import org.jboss.as.console.client.layout.SimpleLayout;
+import org.jboss.as.console.client.shared.runtime.aggregation.GroupMetrics;
+import org.jboss.as.console.client.shared.runtime.aggregation.GroupMetricsView;
 import org.jboss.as.console.client.shared.runtime.charts.Column;
 import org.jboss.as.console.client.shared.runtime.charts.NumberColumn;
+import org.jboss.as.console.client.shared.runtime.sampling.MetricSeries;
+import org.jboss.as.console.client.shared.runtime.sampling.TrendView;
 import org.jboss.as.console.client.shared.subsys.messaging.JMSEndpointJndiColumn;
 import org.jboss.as.console.client.shared.subsys.messaging.model.Queue;
 import org.jboss.ballroom.client.widgets.ContentHeaderLabel;
@@ -42,6 +46,8 @@ public class QueueMetrics {
     private Grid grid;
     private Column[] columns;
     private ContentHeaderLabel headline;
+    private TrendView trend;
+    private GroupMetricsView groupMetrics;
 
     public QueueMetrics(JMSMetricPresenter presenter) {
         this.presenter = presenter;
@@ -134,6 +140,16 @@ public class QueueMetrics {
         desc.add(new HTML("<h3 class='metric-label-embedded'>Queue Metrics</h3>"));
         desc.add(grid);
 
+        trend = new TrendView("Queue Trend");
+
+        groupMetrics = new GroupMetricsView("Queue Metrics across Server Group", new Column[] {
+                new NumberColumn("message-count", "Message Count"),
+                new NumberColumn("delivering-count", "Delivering Count"),
+                new NumberColumn("consumer-count", "Consumer Count"),
+                new NumberColumn("messages-added", "Messages Added"),
+                new NumberColumn("scheduled-count", "Scheduled Count")
+        });
+
         // init
         clearSamples();
 
@@ -161,7 +177,11 @@ public class QueueMetrics {
                 .setDescription(Console.CONSTANTS.subsys_messaging_queue_metric_desc())
                 .addContent("Queue Selection", tablePanel)
                 .addContent("", refreshBtn)
-                .addContent("Metrics", desc);
+                .addContent("Metrics", desc)
+                .addContent("Trend", trend.asWidget());
+
+        if(!Console.getBootstrapContext().isStandalone())
+            layout.addContent("Server Group", groupMetrics.asWidget());
 
         return layout.build();
     }
@@ -204,6 +224,14 @@ public class QueueMetrics {
 
     }
 
+    public void updateGroupMetrics(GroupMetrics metrics) {
+        groupMetrics.update(metrics);
+    }
+
+    public void updateTrend(List<MetricSeries> series) {
+        trend.update(series);
+    }
+
     public void setProviderName(String providerName) {
         headline.setText("JMS Queue Metrics: Provider '"+providerName+"'");
     }
@@ -0,0 +1,168 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2010, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.console.client.shared.runtime.logging.store;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded ring buffer which holds the most recent lines of a log file. The buffer is used to follow a log file
+ * incrementally (only newly appended lines are read) and to scroll back near the end of the log file without
+ * reading the lines again.
+ */
+class LogBuffer {
+
+    private final String[] lines;
+    private int start;
+    private int size;
+    private long chars;
+    private int fileSize;
+
+    LogBuffer(int capacity) {
+        this.lines = new String[capacity];
+        clear();
+    }
+
+    /**
+     * Merges the last lines of the log file into the buffer. The lines are expected to overlap with the buffered
+     * lines. Only the lines after the overlapping part are appended.
+     *
+     * @param tail     the last lines of the log file
+     * @param fileSize the size of the log file when the lines were read
+     *
+     * @return the number of appended lines or -1 if the lines don't overlap with the buffered lines. In that case
+     * the buffer is reset to the given lines.
+     */
+    int merge(List<String> tail, int fileSize) {
+        if (fileSize < this.fileSize) {
+            // log file was truncated or rotated
+            clear();
+        }
+        int appended;
+        if (size == 0) {
+            appended = append(tail, 0);
+        } else {
+            int overlap = overlap(tail);
+            if (overlap == 0 && !tail.isEmpty()) {
+                clear();
+                append(tail, 0);
+                appended = -1;
+            } else {
+                appended = append(tail, overlap);
+            }
+        }
+        this.fileSize = fileSize;
+        return appended;
+    }
+
+    /**
+     * Estimates the number of lines which have to be read in order to merge the lines appended since the last
+     * merge. The estimate is based on the average line length and includes some lines to detect the overlap.
+     */
+    int linesToRead(int fileSize, int minLines, int overlap) {
+        if (size < minLines || this.fileSize < 0 || fileSize < this.fileSize) {
+            return Math.max(minLines, overlap);
+        }
+        long averageLength = chars / size + 1; // +1 for the line separator
+        long estimate = (fileSize - this.fileSize + averageLength - 1) / averageLength;
+        return (int) Math.min(lines.length, estimate + overlap);
+    }
+
+    /**
+     * Returns {@code count} lines ending {@code skip} lines before the last buffered line.
+     */
+    List<String> fromTail(int skip, int count) {
+        List<String> result = new ArrayList<>();
+        int from = Math.max(0, size - skip - count);
+        int to = Math.max(0, size - skip);
+        for (int i = from; i < to; i++) {
+            result.add(get(i));
+        }
+        return result;
+    }
+
+    boolean contains(int skip, int count) {
+        return skip >= 0 && skip + count <= size;
+    }
+
+    void clear() {
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = null;
+        }
+        start = 0;
+        size = 0;
+        chars = 0;
+        fileSize = -1;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int getFileSize() {
+        return fileSize;
+    }
+
+    private String get(int index) {
+        return lines[(start + index) % lines.length];
+    }
+
+    /**
+     * Returns the largest number of lines at the end of the buffer which match the lines at the beginning of the
+     * given tail.
+     */
+    private int overlap(List<String> tail) {
+        for (int length = Math.min(size, tail.size()); length > 0; length--) {
+            boolean match = true;
+            for (int i = 0; i < length && match; i++) {
+                match = get(size - length + i).equals(tail.get(i));
+            }
+            if (match) {
+                return length;
+            }
+        }
+        return 0;
+    }
+
+    private int append(List<String> tail, int from) {
+        if (lines.length == 0) {
+            return 0;
+        }
+        for (int i = from; i < tail.size(); i++) {
+            String line = tail.get(i);
+            if (size == lines.length) {
+                chars -= lines[start].length();
+                lines[start] = line;
+                start = (start + 1) % lines.length;
+            } else {
+                lines[(start + size) % lines.length] = line;
+                size++;
+            }
+            chars += line.length();
+        }
+        return tail.size() - from;
+    }
+}
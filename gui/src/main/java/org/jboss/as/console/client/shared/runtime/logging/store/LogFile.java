@@ -38,9 +38,15 @@ public class LogFile {
 
     public final static LogFile NULL = new LogFile("n/a", Arrays.asList("n/a"), 0);
 
+    /**
+     * The number of recent lines which are kept in the {@link LogBuffer}.
+     */
+    final static int BUFFER_SIZE = 1000;
+
     private final String name;
     private final List<String> lines;
     private final String content;
+    private final LogBuffer buffer;
     private int fileSize;
 
     private Position position;
@@ -53,6 +59,7 @@ public class LogFile {
         this.name = name;
         this.lines = new ArrayList<>();
         this.content = null;
+        this.buffer = new LogBuffer(BUFFER_SIZE);
         this.lines.addAll(lines);
         this.fileSize = fileSize;
 
@@ -67,6 +74,7 @@ public class LogFile {
         this.name = name;
         this.lines = Collections.emptyList();
         this.content = content;
+        this.buffer = new LogBuffer(0);
         this.fileSize = getNumBytes();
 
         this.position = Position.TAIL;
@@ -188,6 +196,13 @@ public class LogFile {
         return subList;
     }
 
+    /**
+     * The most recent lines of this log file, used for incremental follow and to scroll back near the end.
+     */
+    LogBuffer getBuffer() {
+        return buffer;
+    }
+
     public boolean isFollow() {
         return follow;
     }
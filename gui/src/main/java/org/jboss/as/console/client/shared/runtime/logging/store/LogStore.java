@@ -55,6 +55,7 @@ import java.util.Set;
 
 import static com.google.gwt.http.client.URL.encode;
 import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static org.jboss.as.console.client.shared.runtime.logging.viewer.Direction.TAIL;
 import static org.jboss.dmr.client.ModelDescriptionConstants.*;
 
@@ -72,6 +73,9 @@ public class LogStore extends ChangeSupport {
 
     private final static int PAGE_SIZE = 25;
     private final static int FOLLOW_INTERVAL = 1200; // ms
+    private final static int MIN_FOLLOW_INTERVAL = 500; // ms
+    private final static int MAX_FOLLOW_INTERVAL = 10000; // ms
+    private final static int OVERLAP = 5; // lines used to align newly read lines with the buffer
 
     private final HostStore hostStore;
     private final DispatchAsync dispatcher;
@@ -118,6 +122,11 @@ public class LogStore extends ChangeSupport {
      */
     protected boolean pauseFollow;
 
+    /**
+     * The command which follows the active log file.
+     */
+    protected RefreshLogFile refreshLogFile;
+
     @Inject
     public LogStore(HostStore hostStore, DispatchAsync dispatcher, Scheduler scheduler, BootstrapContext bootstrap) {
         this.hostStore = hostStore;
@@ -160,10 +169,16 @@ public class LogStore extends ChangeSupport {
                         logFiles.add(node);
                     }
 
-                    // mark outdated log views as stale
+                    // mark outdated log views as stale and drop buffers of log files which have changed
                     Set<String> names = new HashSet<>();
                     for (ModelNode logFile : logFiles) {
-                        names.add(logFile.get(FILE_NAME).asString());
+                        String name = logFile.get(FILE_NAME).asString();
+                        names.add(name);
+                        LogFile state = states.get(name);
+                        if (state != null && logFile.hasDefined(FILE_SIZE) &&
+                                logFile.get(FILE_SIZE).asInt() != state.getBuffer().getFileSize()) {
+                            state.getBuffer().clear();
+                        }
                     }
                     for (Map.Entry<String, LogFile> entry : states.entrySet()) {
                         if (!names.contains(entry.getKey())) {
@@ -197,8 +212,10 @@ public class LogStore extends ChangeSupport {
                                 response.getFailureDescription()));
                     } else {
                         ModelNode compResult = response.get(RESULT);
-                        LogFile newLogFile = new LogFile(action.getName(), readLines(compResult), 
-                                readFileSize(action.getName(), compResult));
+                        List<String> lines = readLines(compResult);
+                        int fileSize = readFileSize(action.getName(), compResult);
+                        LogFile newLogFile = new LogFile(action.getName(), lines, fileSize);
+                        newLogFile.getBuffer().merge(lines, fileSize);
                         newLogFile.setFollow(true);
                         states.put(action.getName(), newLogFile);
                         activate(newLogFile);
@@ -292,6 +309,10 @@ public class LogStore extends ChangeSupport {
             channel.nack(new IllegalStateException("Unable to navigate: No active log file!"));
             return;
         }
+        if (navigateInBuffer(activeLogFile, action.getDirection())) {
+            channel.ack();
+            return;
+        }
 
         final int skipped;
         final ModelNode op = readLogFileOp(activeLogFile.getName());
@@ -324,6 +345,35 @@ public class LogStore extends ChangeSupport {
         }
     }
 
+    /**
+     * Serves back scrolling near the end of the log file from the {@link LogBuffer}. Returns {@code false} if the
+     * requested page is not buffered or if the buffer does not reflect the last known size of the log file. In
+     * that case the lines would be counted from a different tail and the page has to be read from the server.
+     */
+    private boolean navigateInBuffer(final LogFile logFile, final Direction direction) {
+        int skip;
+        if (logFile.getReadFrom() != Position.TAIL) {
+            return false;
+        }
+        switch (direction) {
+            case PREVIOUS:
+                skip = logFile.getSkipped() + pageSize;
+                break;
+            case NEXT:
+                skip = max(0, logFile.getSkipped() - pageSize);
+                break;
+            default:
+                return false;
+        }
+        LogBuffer buffer = logFile.getBuffer();
+        if (buffer.getFileSize() != logFile.getFileSize() || !buffer.contains(skip, pageSize)) {
+            return false;
+        }
+        logFile.setLines(buffer.fromTail(skip, pageSize));
+        logFile.goTo(skip);
+        return true;
+    }
+
     private boolean prepareNavigation(final LogFile logFile, final Direction direction, final ModelNode op) {
         int skip = 0;
         boolean validOp = true;
@@ -398,6 +448,7 @@ public class LogStore extends ChangeSupport {
                 break;
             case TAIL:
                 logFile.goTo(Position.TAIL);
+                logFile.getBuffer().merge(lines, fileSize);
                 break;
         }
         logFile.setLines(lines);
@@ -444,6 +495,9 @@ public class LogStore extends ChangeSupport {
                             List<String> lines = readLines(compResult);
                             activeLogFile.setFileSize(fileSize);
                             activeLogFile.setLines(lines);
+                            if (activeLogFile.isTail()) {
+                                activeLogFile.getBuffer().merge(lines, fileSize);
+                            }
                             channel.ack();
                         }
                     }
@@ -498,7 +552,11 @@ public class LogStore extends ChangeSupport {
     }
 
     private void startFollowing(LogFile logFile) {
-        scheduler.scheduleFixedDelay(new RefreshLogFile(logFile.getName()), FOLLOW_INTERVAL);
+        if (refreshLogFile != null) {
+            refreshLogFile.cancel();
+        }
+        refreshLogFile = new RefreshLogFile(logFile.getName());
+        refreshLogFile.schedule();
     }
 
     private String streamUrl(final String name) {
@@ -542,6 +600,15 @@ public class LogStore extends ChangeSupport {
         return op;
     }
 
+    private ModelNode readFileSizeOp(String logFile) {
+        final ModelNode op = new ModelNode();
+        op.get(ADDRESS).set(baseAddress());
+        op.get(ADDRESS).add("log-file", logFile);
+        op.get(OP).set(READ_ATTRIBUTE_OPERATION);
+        op.get(NAME).set(FILE_SIZE);
+        return op;
+    }
+
     private ModelNode wrapInComposite(ModelNode readLogFileOp) {
         final ModelNode comp = new ModelNode();
         comp.get(ADDRESS).setEmptyList();
@@ -631,49 +698,112 @@ public class LogStore extends ChangeSupport {
 
     // ------------------------------------------------------ polling
 
-    private class RefreshLogFile implements Scheduler.RepeatingCommand {
+    /**
+     * Follows a log file incrementally: Each poll reads the file size only. The lines are read just if the file
+     * has grown, and only as many as were appended (plus some lines to align them with the {@link LogBuffer}).
+     * The poll interval shrinks while lines are appended and backs off while the log file is idle.
+     */
+    protected class RefreshLogFile implements Scheduler.RepeatingCommand {
 
         private final String name;
+        private int interval;
+        private boolean cancelled;
 
         private RefreshLogFile(String name) {
             this.name = name;
+            this.interval = FOLLOW_INTERVAL;
         }
 
         @Override
         public boolean execute() {
             if (isValid()) {
-                final ModelNode op = readLogFileOp(name);
-                op.get("tail").set(true);
-                dispatcher.execute(new DMRAction(wrapInComposite(op)), new AsyncCallback<DMRResponse>() {
+                final ModelNode op = readFileSizeOp(name);
+                dispatcher.execute(new DMRAction(op), new AsyncCallback<DMRResponse>() {
                     @Override
                     public void onFailure(Throwable caught) {
-                        // noop
+                        next(0);
                     }
 
                     @Override
                     public void onSuccess(DMRResponse result) {
                         ModelNode response = result.get();
-                        if (!response.isFailure()) {
-                            if (isValid()) {
-                                ModelNode compResult = response.get(RESULT);
-                                int fileSize = readFileSize(name, compResult);
-                                List<String> lines = readLines(compResult);
-                                LogFile logFile = states.get(name);
-                                logFile.setFileSize(fileSize);
-                                logFile.setLines(lines);
-                                logFile.goTo(Position.TAIL);
-                                fireChange(new FollowLogFile());
+                        if (response.isFailure() || !isValid()) {
+                            next(0);
+                        } else {
+                            int fileSize = max(1, response.get(RESULT).asInt());
+                            LogBuffer buffer = states.get(name).getBuffer();
+                            if (fileSize == buffer.getFileSize()) {
+                                next(0);
+                            } else {
+                                readAppendedLines(fileSize, buffer.linesToRead(fileSize, pageSize, OVERLAP));
                             }
                         }
                     }
                 });
             }
-            return isValid();
+            // rescheduled by next() with the adapted interval
+            return false;
+        }
+
+        private void readAppendedLines(final int fileSize, final int lines) {
+            final ModelNode op = readLogFileOp(name);
+            op.get("lines").set(lines);
+            op.get("tail").set(true);
+            dispatcher.execute(new DMRAction(op), new AsyncCallback<DMRResponse>() {
+                @Override
+                public void onFailure(Throwable caught) {
+                    next(0);
+                }
+
+                @Override
+                public void onSuccess(DMRResponse result) {
+                    ModelNode response = result.get();
+                    if (response.isFailure() || !isValid()) {
+                        next(0);
+                    } else {
+                        List<String> tail = new ArrayList<>();
+                        for (ModelNode node : response.get(RESULT).asList()) {
+                            tail.add(node.asString());
+                        }
+                        LogFile logFile = states.get(name);
+                        LogBuffer buffer = logFile.getBuffer();
+                        int appended = buffer.merge(tail, fileSize);
+                        if (appended < 0 && tail.size() < pageSize) {
+                            // lines are missing between the buffer and the tail: read a full page next time
+                            buffer.clear();
+                        }
+                        logFile.setFileSize(fileSize);
+                        logFile.setLines(buffer.isEmpty() ? tail : buffer.fromTail(0, pageSize));
+                        logFile.goTo(Position.TAIL);
+                        fireChange(new FollowLogFile());
+                        next(appended < 0 ? tail.size() : appended);
+                    }
+                }
+            });
+        }
+
+        private void next(int appended) {
+            if (appended > 0) {
+                interval = max(MIN_FOLLOW_INTERVAL, min(interval, FOLLOW_INTERVAL) / 2);
+            } else {
+                interval = min(MAX_FOLLOW_INTERVAL, interval * 3 / 2);
+            }
+            if (isValid()) {
+                schedule();
+            }
+        }
+
+        void schedule() {
+            scheduler.scheduleFixedDelay(this, interval);
+        }
+
+        void cancel() {
+            cancelled = true;
         }
 
         private boolean isValid() {
             LogFile logFile = states.get(name);
-            return logFile != null && logFile == activeLogFile && logFile.isFollow() && !pauseFollow;
+            return !cancelled && logFile != null && logFile == activeLogFile && logFile.isFollow() && !pauseFollow;
         }
     }
 }
@@ -18,26 +18,30 @@
  */
 package org.jboss.as.console.client.shared.runtime.naming;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * @author Heiko Braun
  * @author David Bosschaert
  */
 class JndiEntry {
     private static final String JAVA_LANG_STRING = "java.lang.String";
+    private final int id;
     private final String dataType;
     private final String name;
     private String value ="";
     private final String uri;
-    private final List<JndiEntry> children;
 
-    JndiEntry(String name, String uri, String dataType) {
+    JndiEntry(int id, String name, String uri, String dataType) {
+        this.id = id;
         this.name = name;
         this.uri = uri;
         this.dataType = dataType;
-        this.children = new ArrayList<JndiEntry>();
+    }
+
+    /**
+     * @return the id of this entry in the {@link JndiIndex}
+     */
+    public int getId() {
+        return id;
     }
 
     public String getValue() {
@@ -59,10 +63,6 @@ class JndiEntry {
         this.value = value;
     }
 
-    public List<JndiEntry> getChildren() {
-        return children;
-    }
-
     public String getName() {
         return name;
     }
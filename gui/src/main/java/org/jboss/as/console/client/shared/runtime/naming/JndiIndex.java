@@ -0,0 +1,213 @@
+package org.jboss.as.console.client.shared.runtime.naming;
+
+import org.jboss.dmr.client.ModelNode;
+import org.jboss.dmr.client.ModelType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact index of the {@code jndi-view} result. The response is walked once and each binding is stored as an int
+ * id with its name, URI, parent and child ids. The attributes of a binding (class name and value) are not copied,
+ * but read from the original model node when a {@link JndiEntry} is created, which happens only for the children
+ * of expanded tree nodes and for search hits.
+ * <p/>
+ * The root (id {@value #ROOT}) contains the bindings of {@code java: contexts} followed by an {@code applications}
+ * node if the result contains deployments.
+ */
+class JndiIndex {
+
+    static final int ROOT = 0;
+
+    private static final String CHILDREN = "children";
+    private static final String CLASS_NAME = "class-name";
+    private static final String VALUE = "value";
+    private static final int[] NO_CHILDREN = new int[0];
+
+    private final List<String> names;
+    private final List<String> uris;
+    private final List<ModelNode> nodes;
+    private final List<int[]> children;
+    private int[] parents;
+    private final String[] keys;
+
+    JndiIndex(ModelNode jndiView) {
+        this.names = new ArrayList<String>();
+        this.uris = new ArrayList<String>();
+        this.nodes = new ArrayList<ModelNode>();
+        this.children = new ArrayList<int[]>();
+        this.parents = new int[16];
+
+        int root = add(-1, "JNDI", "", null);
+        List<Integer> rootChildren = new ArrayList<Integer>();
+        if (jndiView.hasDefined("java: contexts")) {
+            collect(root, jndiView.get("java: contexts"), "", rootChildren);
+        }
+        if (jndiView.hasDefined("applications")) {
+            ModelNode applications = jndiView.get("applications");
+            int id = add(root, "applications", "", applications);
+            rootChildren.add(id);
+            index(id, applications, "/applications");
+        }
+        children.set(root, toArray(rootChildren));
+
+        this.keys = new String[size()];
+        for (int id = 0; id < keys.length; id++) {
+            String uri = uris.get(id);
+            keys[id] = (uri.length() != 0 ? uri : names.get(id)).toLowerCase();
+        }
+    }
+
+    private void index(int id, ModelNode context, String path) {
+        List<Integer> ids = new ArrayList<Integer>();
+        collect(id, context, path, ids);
+        children.set(id, toArray(ids));
+    }
+
+    /**
+     * Adds the nested contexts of {@code context} as children of {@code parent}. Wrapping {@code children} nodes are
+     * transparent, simple attributes like {@code class-name} or {@code value} are skipped.
+     */
+    private void collect(int parent, ModelNode context, String path, List<Integer> ids) {
+        for (String name : context.keys()) {
+            ModelNode node = context.get(name);
+            if (node.getType() != ModelType.OBJECT) {
+                continue;
+            }
+            if (CHILDREN.equals(name)) {
+                collect(parent, node, path, ids);
+            } else {
+                String uri = "";
+                if (node.hasDefined(CLASS_NAME)) {
+                    uri = uri(path + "/" + name);
+                }
+                int id = add(parent, name, uri, node);
+                ids.add(id);
+                index(id, node, path + "/" + name);
+            }
+        }
+    }
+
+    private int add(int parent, String name, String uri, ModelNode node) {
+        int id = names.size();
+        names.add(name);
+        uris.add(uri);
+        nodes.add(node);
+        children.add(NO_CHILDREN);
+        if (id == parents.length) {
+            int[] grown = new int[parents.length * 2];
+            System.arraycopy(parents, 0, grown, 0, parents.length);
+            parents = grown;
+        }
+        parents[id] = parent;
+        return id;
+    }
+
+    /**
+     * Strips the path in front of the JNDI namespace, e.g. {@code /applications/foo.war/java:module/Bar} becomes
+     * {@code java:module/Bar}.
+     */
+    static String uri(String path) {
+        String uri = path;
+        int idx = uri.indexOf(':');
+        if (idx > 0) {
+            int idx2 = uri.lastIndexOf('/', idx);
+            if (idx2 >= 0 && (idx2 + 1) < uri.length()) {
+                uri = uri.substring(idx2 + 1);
+            }
+        }
+        return uri;
+    }
+
+    private static int[] toArray(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return NO_CHILDREN;
+        }
+        int[] array = new int[ids.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = ids.get(i);
+        }
+        return array;
+    }
+
+    /**
+     * @return the number of indexed bindings including the root
+     */
+    int size() {
+        return names.size();
+    }
+
+    boolean isLeaf(int id) {
+        return children.get(id).length == 0;
+    }
+
+    int getParent(int id) {
+        return parents[id];
+    }
+
+    /**
+     * @return the position of {@code child} among the children of {@code parent} or -1 if it's not a child
+     */
+    int indexOf(int parent, int child) {
+        int[] ids = children.get(parent);
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == child) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Creates the entries for the direct children of the given id.
+     */
+    List<JndiEntry> children(int id) {
+        int[] ids = children.get(id);
+        List<JndiEntry> entries = new ArrayList<JndiEntry>(ids.length);
+        for (int child : ids) {
+            entries.add(entry(child));
+        }
+        return entries;
+    }
+
+    JndiEntry entry(int id) {
+        ModelNode node = nodes.get(id);
+        String dataType = node != null && node.hasDefined(CLASS_NAME) ? node.get(CLASS_NAME).asString() : null;
+        JndiEntry entry = new JndiEntry(id, names.get(id), uris.get(id), dataType);
+        if (node != null && node.hasDefined(VALUE)) {
+            entry.setValue(node.get(VALUE).asString());
+        }
+        return entry;
+    }
+
+    /**
+     * @return the ids from the root (exclusive) down to the given id (inclusive)
+     */
+    List<Integer> path(int id) {
+        List<Integer> path = new ArrayList<Integer>();
+        for (int current = id; current > ROOT; current = parents[current]) {
+            path.add(0, current);
+        }
+        return path;
+    }
+
+    /**
+     * Case insensitive search in the flat list of bindings. Matches the URI or the name if the binding has no URI.
+     *
+     * @param query the search term
+     * @param limit the max. number of hits
+     */
+    List<JndiEntry> search(String query, int limit) {
+        List<JndiEntry> hits = new ArrayList<JndiEntry>();
+        String term = query.trim().toLowerCase();
+        if (term.length() == 0) {
+            return hits;
+        }
+        for (int id = ROOT + 1; id < keys.length && hits.size() < limit; id++) {
+            if (keys[id].contains(term)) {
+                hits.add(entry(id));
+            }
+        }
+        return hits;
+    }
+}
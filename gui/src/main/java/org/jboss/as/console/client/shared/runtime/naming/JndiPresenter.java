@@ -20,7 +20,6 @@ package org.jboss.as.console.client.shared.runtime.naming;
 
 import com.allen_sauer.gwt.log.client.Log;
 import com.google.gwt.user.cellview.client.CellTree;
-import com.google.gwt.view.client.SingleSelectionModel;
 import com.google.inject.Inject;
 import com.google.web.bindery.event.shared.EventBus;
 import com.gwtplatform.mvp.client.View;
@@ -65,7 +64,7 @@ public class JndiPresenter extends CircuitPresenter<JndiPresenter.MyView, JndiPr
 
     public interface MyView extends View {
         void setPresenter(JndiPresenter presenter);
-        void setJndiTree(CellTree tree, SingleSelectionModel<JndiEntry> selectionModel);
+        void setJndiTree(CellTree tree, JndiTreeParser parser);
         void clearValues();
     }
 
@@ -134,20 +133,10 @@ public class JndiPresenter extends CircuitPresenter<JndiPresenter.MyView, JndiPr
                 {
                     ModelNode model = result.get(RESULT);
 
-                    CellTree cellTree = null;
                     JndiTreeParser parser = new JndiTreeParser();
-                    if(model.hasDefined("java: contexts"))
-                        cellTree = parser.parse(model.get("java: contexts").asPropertyList());
-
-                    if(model.hasDefined("applications")) {
-                        ModelNode tempParent = new ModelNode();
-                        ModelNode apps = model.get("applications");
-                        tempParent.get("applications").set(apps);
-                        cellTree = parser.parse(tempParent.asPropertyList());
-                    }
-
+                    CellTree cellTree = parser.parse(model);
                     if(cellTree != null)
-                        getView().setJndiTree(cellTree, parser.getSelectionModel());
+                        getView().setJndiTree(cellTree, parser);
 
                 }
             }
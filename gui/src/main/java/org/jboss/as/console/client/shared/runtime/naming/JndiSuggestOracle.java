@@ -0,0 +1,53 @@
+package org.jboss.as.console.client.shared.runtime.naming;
+
+import com.google.gwt.safehtml.shared.SafeHtmlUtils;
+import com.google.gwt.user.client.ui.MultiWordSuggestOracle;
+import com.google.gwt.user.client.ui.SuggestOracle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Suggests JNDI bindings using the flat search of a {@link JndiIndex}, so a binding can be found without expanding
+ * the tree.
+ */
+class JndiSuggestOracle extends SuggestOracle {
+
+    static class JndiSuggestion extends MultiWordSuggestOracle.MultiWordSuggestion {
+
+        private final JndiEntry entry;
+
+        JndiSuggestion(JndiEntry entry, String replacementString, String displayString) {
+            super(replacementString, displayString);
+            this.entry = entry;
+        }
+
+        JndiEntry getEntry() {
+            return entry;
+        }
+    }
+
+
+    private JndiIndex index;
+
+    void setIndex(JndiIndex index) {
+        this.index = index;
+    }
+
+    @Override
+    public boolean isDisplayStringHTML() {
+        return true;
+    }
+
+    @Override
+    public void requestSuggestions(final Request request, final Callback callback) {
+        List<JndiSuggestion> suggestions = new ArrayList<JndiSuggestion>();
+        if (index != null && request.getQuery() != null) {
+            for (JndiEntry hit : index.search(request.getQuery(), request.getLimit())) {
+                String replacement = hit.getURI().length() != 0 ? hit.getURI() : hit.getName();
+                suggestions.add(new JndiSuggestion(hit, replacement, SafeHtmlUtils.htmlEscape(replacement)));
+            }
+        }
+        callback.onSuggestionsReady(request, new Response(suggestions));
+    }
+}
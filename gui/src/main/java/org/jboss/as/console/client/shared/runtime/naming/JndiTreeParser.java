@@ -18,123 +18,120 @@
  */
 package org.jboss.as.console.client.shared.runtime.naming;
 
+import com.allen_sauer.gwt.log.client.Log;
 import com.google.gwt.cell.client.AbstractCell;
 import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
 import com.google.gwt.user.cellview.client.CellTree;
 import com.google.gwt.user.cellview.client.HasKeyboardSelectionPolicy;
-import com.google.gwt.user.client.Command;
+import com.google.gwt.user.cellview.client.TreeNode;
+import com.google.gwt.view.client.HasData;
 import com.google.gwt.view.client.ListDataProvider;
+import com.google.gwt.view.client.ProvidesKey;
+import com.google.gwt.view.client.Range;
 import com.google.gwt.view.client.SingleSelectionModel;
 import com.google.gwt.view.client.TreeViewModel;
 import org.jboss.as.console.client.widgets.tree.DefaultCellTree;
-import org.jboss.dmr.client.Property;
+import org.jboss.dmr.client.ModelNode;
 
+import java.util.HashMap;
 import java.util.List;
-import java.util.Stack;
+import java.util.Map;
 
 /**
- * really awkward jndi parsing routine.
+ * Builds the JNDI tree from the result of the {@code jndi-view} operation. The result is indexed once using a
+ * {@link JndiIndex}, the tree nodes are created lazily when the user expands a node.
  *
  * @author Heiko Braun
  * @author David Bosschaert
  * @date 7/21/11
  */
 public class JndiTreeParser {
-    private Stack<JndiEntry> stack = new Stack<JndiEntry>();
-    private JndiEntry root = new JndiEntry("JNDI", "", null);
-    private TreeViewModel treeModel = new JndiTreeModel(root);
-
-    private static Command finishCmd = null;
-    private SingleSelectionModel<JndiEntry> selectionModel = new SingleSelectionModel<JndiEntry>();
+    private JndiIndex index;
+    private SingleSelectionModel<JndiEntry> selectionModel;
     private DefaultCellTree cellTree;
+    // data providers of the opened nodes by entry id
+    private final Map<Integer, ListDataProvider<JndiEntry>> providers;
 
     public JndiTreeParser() {
-        cellTree = new DefaultCellTree(treeModel, "root");
-        cellTree.setStyleName("jndi-tree");
-        cellTree.setKeyboardSelectionPolicy(HasKeyboardSelectionPolicy.KeyboardSelectionPolicy.ENABLED);
+        providers = new HashMap<Integer, ListDataProvider<JndiEntry>>();
+        selectionModel = new SingleSelectionModel<JndiEntry>(new ProvidesKey<JndiEntry>() {
+            @Override
+            public Object getKey(JndiEntry item) {
+                return item.getId();
+            }
+        });
     }
 
     SingleSelectionModel<JndiEntry> getSelectionModel() {
         return selectionModel;
     }
 
-    public CellTree parse(List<Property> model) {
-        stack.push(root);
-        parseSiblings(model, "");
-        return cellTree;
+    JndiIndex getIndex() {
+        return index;
     }
 
-    private void parseSiblings(List<Property> siblings, String parentURI) {
-        boolean skipped = false;
-        for (Property sibling : siblings) {
-            try {
-                List<Property> children = sibling.getValue().asPropertyList();
-                skipped = createChild(sibling, parentURI);
-                parseSiblings(children, skipped ? parentURI : parentURI + "/" + sibling.getName());
-            } catch (IllegalArgumentException e) {
-                continue;
-            }
+    /**
+     * @param model the result of the {@code jndi-view} operation
+     * @return the tree or {@code null} if the model contains no bindings
+     */
+    public CellTree parse(ModelNode model) {
+        index = new JndiIndex(model);
+        providers.clear();
+        if (index.isLeaf(JndiIndex.ROOT)) {
+            return null;
         }
 
-        dec(skipped);
-    }
-
-    private void dec(boolean skipped) {
-        if (!skipped)
-            stack.pop();
-
-        if (stack.empty()) {
-            assert finishCmd!=null;
-            finishCmd.execute();
-        }
+        cellTree = new DefaultCellTree(new JndiTreeModel(), "root");
+        cellTree.setStyleName("jndi-tree");
+        cellTree.setKeyboardSelectionPolicy(HasKeyboardSelectionPolicy.KeyboardSelectionPolicy.ENABLED);
+        return cellTree;
     }
 
     /**
-     * create actual children
+     * Opens the parent nodes of the given entry and selects it. A node shows only the first page of its children,
+     * so the visible range of each node along the path is extended up to the next entry.
      *
-     * @param sibling
-     * @return
+     * @return {@code false} if a node along the path could not be opened
      */
-    private boolean createChild(Property sibling, String parentURI) {
-        boolean skipped = sibling.getName().equals("children");
-
-        if (!skipped) {
-            //dump(sibling);
-            String dataType = null;
-            String uri = "";
-            if (sibling.getValue().hasDefined("class-name")) {
-                dataType = sibling.getValue().get("class-name").asString();
-                uri = parentURI + "/" + sibling.getName();
-
-                int idx = uri.indexOf(':');
-                if (idx > 0) {
-                    int idx2 = uri.lastIndexOf('/', idx);
-                    if (idx2 >= 0 && (idx2 + 1) < uri.length())
-                        uri = uri.substring(idx2 + 1);
-                }
+    boolean reveal(JndiEntry entry) {
+        TreeNode node = cellTree.getRootTreeNode();
+        int parent = JndiIndex.ROOT;
+        List<Integer> path = index.path(entry.getId());
+        for (int i = 0; i < path.size() - 1; i++) {
+            node = openChild(node, parent, path.get(i));
+            if (node == null) {
+                Log.warn("Unable to reveal " + entry.getURI() + ": Cannot open " + index.entry(path.get(i)).getName());
+                return false;
             }
-
-            JndiEntry next = new JndiEntry(sibling.getName(), uri, dataType);
-            if (sibling.getValue().hasDefined("value"))
-                next.setValue(sibling.getValue().get("value").asString());
-
-            stack.peek().getChildren().add(next);
-            stack.push(next);
+            parent = path.get(i);
         }
-
-        return skipped;
+        showChild(parent, entry.getId());
+        selectionModel.setSelected(entry, true);
+        return true;
     }
 
-    /*
-    private void dump(Property sibling) {
-        StringBuffer sb = new StringBuffer();
-        for (int i=0; i<stack.size(); i++)
-            sb.append("\t");
+    private TreeNode openChild(TreeNode node, int parent, int id) {
+        showChild(parent, id);
+        for (int i = 0; i < node.getChildCount(); i++) {
+            if (((JndiEntry) node.getChildValue(i)).getId() == id) {
+                return node.setChildOpen(i, true);
+            }
+        }
+        return null;
+    }
 
-        sb.append(sibling.getName());
-        System.out.println(sb.toString());
+    private void showChild(int parent, int id) {
+        int position = index.indexOf(parent, id);
+        ListDataProvider<JndiEntry> provider = providers.get(parent);
+        if (provider != null && position >= 0) {
+            for (HasData<JndiEntry> display : provider.getDataDisplays()) {
+                Range range = display.getVisibleRange();
+                if (position >= range.getStart() + range.getLength()) {
+                    display.setVisibleRange(range.getStart(), position + 1 - range.getStart());
+                }
+            }
+        }
     }
-    */
 
     class JndiEntryCell extends AbstractCell<JndiEntry> {
         @Override
@@ -155,32 +152,15 @@ public class JndiTreeParser {
     }
 
     class JndiTreeModel implements TreeViewModel {
-        JndiEntry rootEntry;
-
-        JndiTreeModel(JndiEntry root) {
-            this.rootEntry = root;
-        }
 
         /**
          * Get the {@link NodeInfo} that provides the children
-         * of the specified value.
+         * of the specified value. The entries are created when the node is opened.
          */
         public <T> NodeInfo<?> getNodeInfo(T value) {
-
-            final ListDataProvider<JndiEntry> dataProvider = new ListDataProvider<JndiEntry>();
-
-            if (value instanceof JndiEntry) {
-                JndiEntry entry = (JndiEntry)value;
-                dataProvider.setList(entry.getChildren());
-            } else {
-                setFinish(new Command() {
-                    @Override
-                    public void execute() {
-                        dataProvider.setList(rootEntry.getChildren());
-                    }
-                });
-            }
-
+            int id = value instanceof JndiEntry ? ((JndiEntry) value).getId() : JndiIndex.ROOT;
+            ListDataProvider<JndiEntry> dataProvider = new ListDataProvider<JndiEntry>(index.children(id));
+            providers.put(id, dataProvider);
             return new DefaultNodeInfo<JndiEntry>(dataProvider, new JndiEntryCell(), selectionModel, null);
         }
 
@@ -191,16 +171,9 @@ public class JndiTreeParser {
         public boolean isLeaf(Object value) {
 
             if(value instanceof JndiEntry)
-                return ((JndiEntry)value).getChildren().isEmpty();
+                return index.isLeaf(((JndiEntry)value).getId());
             else
                 return false;
         }
     }
-
-
-    private static void setFinish(Command cmd) {
-        finishCmd = cmd;
-    }
 }
-
-
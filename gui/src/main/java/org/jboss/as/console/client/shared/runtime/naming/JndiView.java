@@ -18,9 +18,13 @@
  */
 package org.jboss.as.console.client.shared.runtime.naming;
 
+import com.google.gwt.event.logical.shared.SelectionEvent;
+import com.google.gwt.event.logical.shared.SelectionHandler;
 import com.google.gwt.user.cellview.client.CellTree;
 import com.google.gwt.user.cellview.client.TreeNode;
 import com.google.gwt.user.client.ui.HTML;
+import com.google.gwt.user.client.ui.SuggestBox;
+import com.google.gwt.user.client.ui.SuggestOracle;
 import com.google.gwt.user.client.ui.VerticalPanel;
 import com.google.gwt.user.client.ui.Widget;
 import com.google.gwt.view.client.SelectionChangeEvent;
@@ -39,6 +43,8 @@ public class JndiView extends DisposableViewImpl implements JndiPresenter.MyView
 
     private VerticalPanel container;
     private HTML uriLabel;
+    private JndiSuggestOracle oracle;
+    private JndiTreeParser parser;
 
     @Override
     public void setPresenter(JndiPresenter presenter) {
@@ -58,16 +64,38 @@ public class JndiView extends DisposableViewImpl implements JndiPresenter.MyView
         layout.addContent("", uriLabel);
         uriLabel.getElement().setAttribute("style", "margin-bottom:10px");
 
+        oracle = new JndiSuggestOracle();
+        final SuggestBox search = new SuggestBox(oracle);
+        search.getElement().setAttribute("placeholder", Console.CONSTANTS.subsys_naming_searchBinding());
+        search.getElement().setAttribute("style", "margin-bottom:10px; width:300px");
+        search.addSelectionHandler(new SelectionHandler<SuggestOracle.Suggestion>() {
+            @Override
+            public void onSelection(SelectionEvent<SuggestOracle.Suggestion> event) {
+                if (parser != null) {
+                    JndiEntry entry = ((JndiSuggestOracle.JndiSuggestion) event.getSelectedItem()).getEntry();
+                    if (!parser.reveal(entry)) {
+                        Console.warning(Console.CONSTANTS.subsys_naming_bindingNotRevealed(), entry.getURI());
+                    }
+                }
+                search.setText("");
+            }
+        });
+        layout.addContent("", search);
+
         layout.addContent("", container);
 
         return layout.build();
     }
 
     @Override
-    public void setJndiTree(CellTree tree, final SingleSelectionModel<JndiEntry> selectionModel) {
+    public void setJndiTree(CellTree tree, JndiTreeParser parser) {
+        this.parser = parser;
+        oracle.setIndex(parser.getIndex());
         container.clear();
         container.add(tree);
 
+        final SingleSelectionModel<JndiEntry> selectionModel = parser.getSelectionModel();
+
         selectionModel.addSelectionChangeHandler(new SelectionChangeEvent.Handler() {
             @Override
             public void onSelectionChange(SelectionChangeEvent event) {
@@ -113,6 +141,8 @@ public class JndiView extends DisposableViewImpl implements JndiPresenter.MyView
     @Override
     public void clearValues() {
         container.clear();
+        parser = null;
+        oracle.setIndex(null);
 
 
         /*Element div = DOM.createDiv();
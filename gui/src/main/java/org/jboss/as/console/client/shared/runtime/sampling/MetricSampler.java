@@ -0,0 +1,230 @@
+package org.jboss.as.console.client.shared.runtime.sampling;
+
+import com.allen_sauer.gwt.log.client.Log;
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import org.jboss.dmr.client.ModelNode;
+import org.jboss.dmr.client.dispatch.DispatchAsync;
+import org.jboss.dmr.client.dispatch.impl.DMRAction;
+import org.jboss.dmr.client.dispatch.impl.DMRResponse;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.jboss.dmr.client.ModelDescriptionConstants.*;
+
+/**
+ * Polls a set of runtime attributes in a fixed interval and keeps the samples in a {@link SampleBuffer} per
+ * {@link MetricSeries}. All attributes are read using one composite operation per tick with one
+ * {@code read-resource} step per distinct address. A tick is skipped if the response of the previous tick is still
+ * pending.
+ * <p/>
+ * Presenters create a sampler, register the series when the selection changes and {@linkplain #stop() stop} the
+ * sampler when they are hidden.
+ */
+public class MetricSampler {
+
+    public static final int DEFAULT_CAPACITY = 120;
+    public static final int DEFAULT_INTERVAL = 5000;
+    public static final int MIN_INTERVAL = 1000;
+
+
+    public interface Listener {
+
+        void onSample(List<MetricSeries> series);
+    }
+
+
+    private final DispatchAsync dispatcher;
+    private final int capacity;
+    private final Map<String, MetricSeries> series;
+    private final List<Listener> listeners;
+    private int interval;
+    private int generation;
+    private int schedule;
+    private boolean running;
+    private boolean pending;
+
+    public MetricSampler(DispatchAsync dispatcher) {
+        this(dispatcher, DEFAULT_CAPACITY, DEFAULT_INTERVAL);
+    }
+
+    public MetricSampler(DispatchAsync dispatcher, int capacity, int interval) {
+        this.dispatcher = dispatcher;
+        this.capacity = capacity;
+        this.interval = Math.max(MIN_INTERVAL, interval);
+        this.series = new LinkedHashMap<String, MetricSeries>();
+        this.listeners = new ArrayList<Listener>();
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public MetricSeries register(ModelNode address, String attribute, String label) {
+        return register(address, attribute, label, false);
+    }
+
+    /**
+     * Registers a series. Registering the same address and attribute twice returns the existing series.
+     */
+    public MetricSeries register(ModelNode address, String attribute, String label, boolean counter) {
+        String key = MetricSeries.key(address, attribute);
+        MetricSeries existing = series.get(key);
+        if (existing == null) {
+            existing = new MetricSeries(address.clone(), attribute, label, counter, capacity);
+            series.put(key, existing);
+        }
+        return existing;
+    }
+
+    /**
+     * Removes all series. Responses of pending ticks are discarded.
+     */
+    public void clear() {
+        series.clear();
+        generation++;
+        pending = false;
+    }
+
+    /**
+     * @return true if at least one series is registered for the given address
+     */
+    public boolean samples(ModelNode address) {
+        return addresses().containsKey(address.toString());
+    }
+
+    public List<MetricSeries> getSeries() {
+        return new ArrayList<MetricSeries>(series.values());
+    }
+
+    /**
+     * Takes a sample immediately and then in the configured interval until {@link #stop()} is called.
+     */
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        final int started = ++schedule;
+        tick();
+        Scheduler.get().scheduleFixedDelay(new Scheduler.RepeatingCommand() {
+            @Override
+            public boolean execute() {
+                if (!running || started != schedule) {
+                    return false;
+                }
+                tick();
+                return true;
+            }
+        }, interval);
+    }
+
+    public void stop() {
+        running = false;
+        schedule++;
+        generation++;
+        pending = false;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    /**
+     * Changes the interval. A running sampler is restarted using the new interval.
+     */
+    public void setInterval(int interval) {
+        this.interval = Math.max(MIN_INTERVAL, interval);
+        if (running) {
+            stop();
+            start();
+        }
+    }
+
+    private void tick() {
+        if (pending || series.isEmpty()) {
+            return;
+        }
+        pending = true;
+        final int sent = generation;
+        dispatcher.execute(new DMRAction(operation()), new AsyncCallback<DMRResponse>() {
+            @Override
+            public void onFailure(Throwable caught) {
+                if (sent == generation) {
+                    pending = false;
+                }
+                Log.error("Failed to sample metrics: " + caught.getMessage());
+            }
+
+            @Override
+            public void onSuccess(DMRResponse result) {
+                if (sent == generation) {
+                    pending = false;
+                    process(result.get(), System.currentTimeMillis());
+                }
+            }
+        });
+    }
+
+    ModelNode operation() {
+        List<ModelNode> steps = new ArrayList<ModelNode>();
+        for (ModelNode address : addresses().values()) {
+            ModelNode step = new ModelNode();
+            step.get(ADDRESS).set(address);
+            step.get(OP).set(READ_RESOURCE_OPERATION);
+            step.get(INCLUDE_RUNTIME).set(true);
+            steps.add(step);
+        }
+
+        ModelNode composite = new ModelNode();
+        composite.get(ADDRESS).setEmptyList();
+        composite.get(OP).set(COMPOSITE);
+        composite.get(STEPS).set(steps);
+        return composite;
+    }
+
+    /**
+     * Adds the attributes of the composite response to the series and notifies the listeners. Failed steps (e.g.
+     * a resource which was removed in the meantime) are skipped, the other steps are processed nevertheless.
+     */
+    void process(ModelNode response, double timestamp) {
+        ModelNode result = response.get(RESULT);
+        int index = 1;
+        for (String address : addresses().keySet()) {
+            ModelNode step = result.get("step-" + index++);
+            if (SUCCESS.equals(step.get(OUTCOME).asString()) && step.hasDefined(RESULT)) {
+                ModelNode resource = step.get(RESULT);
+                for (MetricSeries s : series.values()) {
+                    if (address.equals(s.getAddress().toString())) {
+                        s.sample(resource, timestamp);
+                    }
+                }
+            } else {
+                Log.debug("Skip sampling of " + address + ": " + step.get(FAILURE_DESCRIPTION).asString());
+            }
+        }
+
+        List<MetricSeries> snapshot = getSeries();
+        for (Listener listener : listeners) {
+            listener.onSample(snapshot);
+        }
+    }
+
+    private Map<String, ModelNode> addresses() {
+        Map<String, ModelNode> addresses = new LinkedHashMap<String, ModelNode>();
+        for (MetricSeries s : series.values()) {
+            String key = s.getAddress().toString();
+            if (!addresses.containsKey(key)) {
+                addresses.put(key, s.getAddress());
+            }
+        }
+        return addresses;
+    }
+}
@@ -0,0 +1,79 @@
+package org.jboss.as.console.client.shared.runtime.sampling;
+
+import org.jboss.dmr.client.ModelNode;
+
+/**
+ * The samples of one runtime attribute. Nested attributes like {@code heap-memory-usage.used} are addressed using
+ * a dot separated path.
+ */
+public class MetricSeries {
+
+    private final ModelNode address;
+    private final String attribute;
+    private final String label;
+    private final boolean counter;
+    private final SampleBuffer buffer;
+
+    MetricSeries(ModelNode address, String attribute, String label, boolean counter, int capacity) {
+        this.address = address;
+        this.attribute = attribute;
+        this.label = label;
+        this.counter = counter;
+        this.buffer = new SampleBuffer(capacity);
+    }
+
+    static String key(ModelNode address, String attribute) {
+        return address.toString() + "#" + attribute;
+    }
+
+    /**
+     * Reads the attribute from the given resource and adds it as sample.
+     *
+     * @return false if the attribute is not defined or not numeric
+     */
+    boolean sample(ModelNode resource, double timestamp) {
+        ModelNode node = resource;
+        for (String name : attribute.split("\\.")) {
+            if (!node.hasDefined(name)) {
+                return false;
+            }
+            node = node.get(name);
+        }
+        try {
+            buffer.add(timestamp, node.asDouble());
+            return true;
+        } catch (IllegalArgumentException e) {
+            // not a number
+            return false;
+        }
+    }
+
+    public ModelNode getAddress() {
+        return address;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * @return true if the attribute is an ever increasing counter. For counters the rate is more meaningful than
+     * the absolute value.
+     */
+    public boolean isCounter() {
+        return counter;
+    }
+
+    public SampleBuffer getBuffer() {
+        return buffer;
+    }
+
+    @Override
+    public String toString() {
+        return "MetricSeries(" + label + ": " + attribute + ", samples=" + buffer.size() + ")";
+    }
+}
@@ -0,0 +1,135 @@
+package org.jboss.as.console.client.shared.runtime.sampling;
+
+/**
+ * Fixed size ring of samples. Values and timestamps are kept in primitive arrays, so adding a sample never
+ * allocates. Once the buffer is full, the oldest sample is overwritten. Index 0 always refers to the oldest
+ * sample which is still in the buffer.
+ */
+public class SampleBuffer {
+
+    private final double[] values;
+    private final double[] timestamps;
+    private int head;
+    private int size;
+
+    public SampleBuffer(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Capacity must be at least 2: " + capacity);
+        }
+        this.values = new double[capacity];
+        this.timestamps = new double[capacity];
+    }
+
+    /**
+     * Adds a sample.
+     *
+     * @param timestamp the time of the sample in milliseconds
+     * @param value     the sampled value
+     */
+    public void add(double timestamp, double value) {
+        int index = (head + size) % values.length;
+        values[index] = value;
+        timestamps[index] = timestamp;
+        if (size < values.length) {
+            size++;
+        } else {
+            head = (head + 1) % values.length;
+        }
+    }
+
+    public double value(int index) {
+        return values[physical(index)];
+    }
+
+    public double timestamp(int index) {
+        return timestamps[physical(index)];
+    }
+
+    public double latest() {
+        return value(size - 1);
+    }
+
+    public double min() {
+        checkNotEmpty();
+        double min = Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            min = Math.min(min, values[(head + i) % values.length]);
+        }
+        return min;
+    }
+
+    public double max() {
+        checkNotEmpty();
+        double max = -Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, values[(head + i) % values.length]);
+        }
+        return max;
+    }
+
+    public double avg() {
+        checkNotEmpty();
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += values[(head + i) % values.length];
+        }
+        return sum / size;
+    }
+
+    /**
+     * The change per second between the two most recent samples. Use this for counters like the number of
+     * requests or added messages.
+     *
+     * @return the rate or 0 if there are less than two samples
+     */
+    public double rate() {
+        if (size < 2) {
+            return 0;
+        }
+        double millis = timestamp(size - 1) - timestamp(size - 2);
+        return millis > 0 ? (value(size - 1) - value(size - 2)) * 1000 / millis : 0;
+    }
+
+    /**
+     * The average change per second over all samples in the buffer.
+     *
+     * @return the rate or 0 if there are less than two samples
+     */
+    public double avgRate() {
+        if (size < 2) {
+            return 0;
+        }
+        double millis = timestamp(size - 1) - timestamp(0);
+        return millis > 0 ? (value(size - 1) - value(0)) * 1000 / millis : 0;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return values.length;
+    }
+
+    private int physical(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return (head + index) % values.length;
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new IllegalStateException("No samples");
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package org.jboss.as.console.client.shared.runtime.sampling;
+
+import com.google.gwt.canvas.client.Canvas;
+import com.google.gwt.canvas.dom.client.Context2d;
+import com.google.gwt.i18n.client.NumberFormat;
+import com.google.gwt.user.client.ui.FlexTable;
+import com.google.gwt.user.client.ui.HTML;
+import com.google.gwt.user.client.ui.VerticalPanel;
+import com.google.gwt.user.client.ui.Widget;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shows the trend of a set of {@link MetricSeries}: One row per series with a sparkline of the buffered samples,
+ * the current value, min, max, avg and the rate per second for counters. The sparkline is omitted in browsers
+ * without canvas support.
+ */
+public class TrendView {
+
+    private static final int WIDTH = 240;
+    private static final int HEIGHT = 24;
+    private static final int SPARKLINE = 1;
+
+    private final String title;
+    private final NumberFormat format;
+    private final List<Canvas> sparklines;
+    private FlexTable grid;
+
+    public TrendView(String title) {
+        this.title = title;
+        this.format = NumberFormat.getFormat("#,##0.##");
+        this.sparklines = new ArrayList<Canvas>();
+    }
+
+    public Widget asWidget() {
+        VerticalPanel panel = new VerticalPanel();
+        panel.addStyleName("metric-container");
+        panel.add(new HTML("<h3 class='metric-label-embedded'>" + title + "</h3>"));
+
+        grid = new FlexTable();
+        grid.addStyleName("metric-grid");
+        grid.addStyleName("fill-layout-width");
+        panel.add(grid);
+
+        clearSamples();
+        return panel;
+    }
+
+    public void update(List<MetricSeries> series) {
+        if (grid == null) {
+            return;
+        }
+        if (grid.getRowCount() != series.size() + 1) {
+            layout(series);
+        }
+        int row = 1;
+        for (MetricSeries s : series) {
+            SampleBuffer buffer = s.getBuffer();
+            grid.setText(row, 0, s.getLabel());
+            if (buffer.isEmpty()) {
+                for (int column = 2; column < 7; column++) {
+                    grid.setText(row, column, "-");
+                }
+            } else {
+                grid.setText(row, 2, format.format(buffer.latest()));
+                grid.setText(row, 3, format.format(buffer.min()));
+                grid.setText(row, 4, format.format(buffer.max()));
+                grid.setText(row, 5, format.format(buffer.avg()));
+                grid.setText(row, 6, s.isCounter() ? format.format(buffer.rate()) : "-");
+            }
+            Canvas canvas = sparklines.get(row - 1);
+            if (canvas != null) {
+                draw(canvas.getContext2d(), buffer);
+            }
+            row++;
+        }
+    }
+
+    public void clearSamples() {
+        if (grid != null) {
+            layout(new ArrayList<MetricSeries>());
+        }
+    }
+
+    private void layout(List<MetricSeries> series) {
+        grid.removeAllRows();
+        sparklines.clear();
+
+        String[] header = {"", "Trend", "Current", "Min", "Max", "Avg", "Rate/s"};
+        for (int column = 0; column < header.length; column++) {
+            grid.setText(0, column, header[column]);
+            grid.getCellFormatter().addStyleName(0, column, column < 2 ? "nominal" : "numerical");
+        }
+        grid.getRowFormatter().addStyleName(0, "baseline");
+
+        int row = 1;
+        for (MetricSeries s : series) {
+            grid.setText(row, 0, s.getLabel());
+            grid.getCellFormatter().addStyleName(row, 0, "nominal");
+            Canvas canvas = Canvas.createIfSupported();
+            if (canvas != null) {
+                canvas.setCoordinateSpaceWidth(WIDTH);
+                canvas.setCoordinateSpaceHeight(HEIGHT);
+                canvas.setPixelSize(WIDTH, HEIGHT);
+                grid.setWidget(row, SPARKLINE, canvas);
+            }
+            sparklines.add(canvas);
+            for (int column = 2; column < header.length; column++) {
+                grid.getCellFormatter().addStyleName(row, column, "numerical");
+            }
+            row++;
+        }
+    }
+
+    private void draw(Context2d context, SampleBuffer buffer) {
+        context.clearRect(0, 0, WIDTH, HEIGHT);
+        if (buffer.size() < 2) {
+            return;
+        }
+
+        double min = buffer.min();
+        double range = buffer.max() - min;
+        double step = (double) WIDTH / (buffer.capacity() - 1);
+        double offset = WIDTH - (buffer.size() - 1) * step;
+
+        context.beginPath();
+        for (int i = 0; i < buffer.size(); i++) {
+            double x = offset + i * step;
+            double y = range > 0 ? HEIGHT - 2 - (buffer.value(i) - min) / range * (HEIGHT - 4) : HEIGHT / 2;
+            if (i == 0) {
+                context.moveTo(x, y);
+            } else {
+                context.lineTo(x, y);
+            }
+        }
+        context.setStrokeStyle("#666666");
+        context.setLineWidth(1);
+        context.stroke();
+    }
+}
@@ -0,0 +1,34 @@
+package org.jboss.as.console.client.shared.runtime.vm;
+
+import org.jboss.as.console.client.shared.runtime.sampling.MetricSampler;
+import org.jboss.dmr.client.ModelNode;
+
+/**
+ * The VM attributes which are sampled by the standalone and the domain VM presenters.
+ */
+public final class VMTrends {
+
+    private VMTrends() {}
+
+    /**
+     * Registers the VM series unless they are already registered for the given server.
+     */
+    public static void register(MetricSampler sampler, ModelNode baseAddress) {
+        ModelNode memory = baseAddress.clone();
+        memory.add("core-service", "platform-mbean");
+        memory.add("type", "memory");
+
+        ModelNode threading = baseAddress.clone();
+        threading.add("core-service", "platform-mbean");
+        threading.add("type", "threading");
+
+        if (sampler.samples(memory)) {
+            return;
+        }
+        sampler.clear();
+        sampler.register(memory, "heap-memory-usage.used", "Heap Used (bytes)");
+        sampler.register(memory, "non-heap-memory-usage.used", "Non Heap Used (bytes)");
+        sampler.register(threading, "thread-count", "Threads");
+        sampler.register(threading, "daemon-thread-count", "Daemon Threads");
+    }
+}
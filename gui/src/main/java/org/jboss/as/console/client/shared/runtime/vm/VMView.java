@@ -4,6 +4,9 @@ import com.gwtplatform.mvp.client.View;
 import org.jboss.as.console.client.shared.jvm.model.OSMetric;
 import org.jboss.as.console.client.shared.jvm.model.RuntimeMetric;
 import org.jboss.as.console.client.shared.runtime.Metric;
+import org.jboss.as.console.client.shared.runtime.sampling.MetricSeries;
+
+import java.util.List;
 
 /**
  * @author Heiko Braun
@@ -18,6 +21,7 @@ public interface VMView extends View {
     void setThreads(Metric thread);
     void setOSMetric(OSMetric osMetric);
     void setRuntimeMetric(RuntimeMetric runtime);
+    void setTrend(List<MetricSeries> series);
 
     void clearSamples();
 }
@@ -16,6 +16,8 @@ import org.jboss.as.console.client.domain.model.LoggingCallback;
 import org.jboss.as.console.client.shared.BeanFactory;
 import org.jboss.as.console.client.shared.runtime.Metric;
 import org.jboss.as.console.client.shared.runtime.RuntimeBaseAddress;
+import org.jboss.as.console.client.shared.runtime.sampling.MetricSampler;
+import org.jboss.as.console.client.shared.runtime.sampling.MetricSeries;
 import org.jboss.as.console.client.shared.subsys.RevealStrategy;
 import org.jboss.as.console.client.shared.subsys.web.LoadConnectorCmd;
 import org.jboss.as.console.client.shared.subsys.web.model.HttpConnector;
@@ -29,6 +31,7 @@ import org.jboss.dmr.client.dispatch.impl.DMRResponse;
 import org.jboss.gwt.circuit.Action;
 import org.jboss.gwt.circuit.Dispatcher;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -52,6 +55,7 @@ public class WebMetricPresenter extends CircuitPresenter<WebMetricPresenter.MyVi
         void clearSamples();
         void setConnectorMetric(Metric metric);
         void setConnectors(List<HttpConnector> list);
+        void setConnectorTrend(List<MetricSeries> series);
     }
 
 
@@ -60,6 +64,7 @@ public class WebMetricPresenter extends CircuitPresenter<WebMetricPresenter.MyVi
     private HttpConnector selectedConnector;
     private BeanFactory factory;
     private final LoadConnectorCmd cmd;
+    private final MetricSampler sampler;
 
 
     @Inject
@@ -74,12 +79,22 @@ public class WebMetricPresenter extends CircuitPresenter<WebMetricPresenter.MyVi
         this.revealStrategy = revealStrategy;
         this.factory = factory;
         this.cmd = new LoadConnectorCmd(dispatcher, factory, true);
+
+        this.sampler = new MetricSampler(dispatcher);
+        this.sampler.addListener(new MetricSampler.Listener() {
+            @Override
+            public void onSample(List<MetricSeries> series) {
+                getView().setConnectorTrend(series);
+            }
+        });
     }
 
     public void setSelectedConnector(HttpConnector selection) {
         this.selectedConnector = selection;
-        if(selection!=null)
+        if(selection!=null) {
             loadConnectorMetrics();
+            sampleConnectorMetrics();
+        }
 
     }
 
@@ -143,6 +158,26 @@ public class WebMetricPresenter extends CircuitPresenter<WebMetricPresenter.MyVi
         });
     }
 
+    /**
+     * Samples the request and error counters of the selected connector, so that the view can show the request rate.
+     */
+    private void sampleConnectorMetrics() {
+
+        ModelNode address = RuntimeBaseAddress.get();
+        address.add("subsystem", "web");
+        address.add("connector", selectedConnector.getName());
+
+        if (!sampler.samples(address)) {
+            sampler.clear();
+            getView().setConnectorTrend(new ArrayList<MetricSeries>());
+            sampler.register(address, "requestCount", "Requests", true);
+            sampler.register(address, "errorCount", "Errors", true);
+            sampler.register(address, "bytesSent", "Bytes Sent", true);
+            sampler.register(address, "bytesReceived", "Bytes Received", true);
+        }
+        sampler.start();
+    }
+
     @Override
     protected void onBind() {
         super.onBind();
@@ -167,6 +202,12 @@ public class WebMetricPresenter extends CircuitPresenter<WebMetricPresenter.MyVi
         refresh();
     }
 
+    @Override
+    protected void onHide() {
+        super.onHide();
+        sampler.stop();
+    }
+
     @Override
     protected void revealInParent() {
         revealStrategy.revealInRuntimeParent(this);
@@ -21,6 +21,8 @@ import org.jboss.as.console.client.shared.runtime.charts.BulletGraphView;
 import org.jboss.as.console.client.shared.runtime.charts.Column;
 import org.jboss.as.console.client.shared.runtime.charts.NumberColumn;
 import org.jboss.as.console.client.shared.runtime.plain.PlainColumnView;
+import org.jboss.as.console.client.shared.runtime.sampling.MetricSeries;
+import org.jboss.as.console.client.shared.runtime.sampling.TrendView;
 import org.jboss.as.console.client.shared.subsys.web.model.HttpConnector;
 import org.jboss.ballroom.client.widgets.tables.DefaultCellTable;
 import org.jboss.ballroom.client.widgets.tools.ToolButton;
@@ -38,6 +40,7 @@ public class WebMetricView extends SuspendableViewImpl implements WebMetricPrese
 
     private WebMetricPresenter presenter;
     private Sampler sampler;
+    private TrendView trend;
     private DefaultCellTable<HttpConnector> connectorTable;
     private ListDataProvider<HttpConnector> connectorProvider;
 
@@ -147,6 +150,8 @@ public class WebMetricView extends SuspendableViewImpl implements WebMetricPrese
             }
         });
 
+        trend = new TrendView("Connector Trend");
+
         // ----
 
         SimpleLayout layout = new SimpleLayout()
@@ -155,7 +160,8 @@ public class WebMetricView extends SuspendableViewImpl implements WebMetricPrese
                 .setDescription(Console.CONSTANTS.subys_web_metric_desc())
                 .addContent("Connector Selection", connectorTable)
                 .addContent("", refreshBtn)
-                .addContent("Connector Metrics", sampler.asWidget());
+                .addContent("Connector Metrics", sampler.asWidget())
+                .addContent("Connector Trend", trend.asWidget());
 
         return layout.build();
     }
@@ -172,6 +178,7 @@ public class WebMetricView extends SuspendableViewImpl implements WebMetricPrese
     @Override
     public void clearSamples() {
         sampler.clearSamples();
+        trend.clearSamples();
     }
 
     @Override
@@ -179,6 +186,11 @@ public class WebMetricView extends SuspendableViewImpl implements WebMetricPrese
         sampler.addSample(metric);
     }
 
+    @Override
+    public void setConnectorTrend(List<MetricSeries> series) {
+        trend.update(series);
+    }
+
     @Override
     public void setConnectors(List<HttpConnector> list) {
         connectorProvider.setList(list);
@@ -15,7 +15,11 @@ import org.jboss.as.console.client.shared.BeanFactory;
 import org.jboss.as.console.client.shared.jvm.LoadJVMMetricsCmd;
 import org.jboss.as.console.client.shared.jvm.model.CompositeVMMetric;
 import org.jboss.as.console.client.shared.runtime.Metric;
+import org.jboss.as.console.client.shared.runtime.RuntimeBaseAddress;
+import org.jboss.as.console.client.shared.runtime.sampling.MetricSampler;
+import org.jboss.as.console.client.shared.runtime.sampling.MetricSeries;
 import org.jboss.as.console.client.shared.runtime.vm.VMMetricsManagement;
+import org.jboss.as.console.client.shared.runtime.vm.VMTrends;
 import org.jboss.as.console.client.shared.runtime.vm.VMView;
 import org.jboss.as.console.client.widgets.forms.ApplicationMetaData;
 import org.jboss.as.console.spi.AccessControl;
@@ -25,6 +29,8 @@ import org.jboss.dmr.client.dispatch.DispatchAsync;
 import org.jboss.gwt.circuit.Action;
 import org.jboss.gwt.circuit.Dispatcher;
 
+import java.util.List;
+
 import static org.jboss.as.console.spi.OperationMode.Mode.STANDALONE;
 
 /**
@@ -37,6 +43,7 @@ public class VMMetricsPresenter
 
     private ApplicationMetaData metaData;
     private LoadJVMMetricsCmd loadMetricCmd;
+    private final MetricSampler sampler;
 
     @ProxyCodeSplit
     @NameToken(NameTokens.VirtualMachine)
@@ -63,6 +70,14 @@ public class VMMetricsPresenter
 
         this.metaData = propertyMetaData;
         this.loadMetricCmd = new LoadJVMMetricsCmd(dispatcher, factory, new ModelNode(), metaData);
+
+        this.sampler = new MetricSampler(dispatcher);
+        this.sampler.addListener(new MetricSampler.Listener() {
+            @Override
+            public void onSample(List<MetricSeries> series) {
+                getView().setTrend(series);
+            }
+        });
     }
 
     @Override
@@ -80,6 +95,7 @@ public class VMMetricsPresenter
     @Override
     protected void onHide() {
         super.onHide();
+        sampler.stop();
     }
 
 
@@ -88,6 +104,8 @@ public class VMMetricsPresenter
         super.onReset();
         loadVMStatus();
 
+        VMTrends.register(sampler, RuntimeBaseAddress.get());
+        sampler.start();
     }
 
     @Override
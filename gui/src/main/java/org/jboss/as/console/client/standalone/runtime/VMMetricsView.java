@@ -4,6 +4,8 @@ import org.jboss.as.console.client.core.SuspendableViewImpl;
 import org.jboss.as.console.client.shared.jvm.model.OSMetric;
 import org.jboss.as.console.client.shared.jvm.model.RuntimeMetric;
 import org.jboss.as.console.client.shared.runtime.Metric;
+import org.jboss.as.console.client.shared.runtime.sampling.MetricSeries;
+import org.jboss.as.console.client.shared.runtime.sampling.TrendView;
 import org.jboss.as.console.client.shared.runtime.vm.HeapChartView;
 import org.jboss.as.console.client.shared.runtime.vm.ThreadChartView;
 import org.jboss.as.console.client.shared.runtime.vm.VMMetricsManagement;
@@ -20,6 +22,8 @@ import com.google.gwt.user.client.ui.ScrollPanel;
 import com.google.gwt.user.client.ui.VerticalPanel;
 import com.google.gwt.user.client.ui.Widget;
 
+import java.util.List;
+
 /**
  * @author Heiko Braun
  * @date 9/28/11
@@ -33,6 +37,7 @@ public class VMMetricsView extends SuspendableViewImpl implements VMMetricsPrese
     private HeapChartView heapChart;
     private HeapChartView nonHeapChart;
     private ThreadChartView threadChart;
+    private TrendView trend;
 
     private ContentHeaderLabel vmName;
 
@@ -120,6 +125,9 @@ public class VMMetricsView extends SuspendableViewImpl implements VMMetricsPrese
 
         threadChart = new ThreadChartView("Thread Usage");
         vpanel.add(threadChart.asWidget());
+
+        trend = new TrendView("Trend");
+        vpanel.add(trend.asWidget());
         //threadPanel.add(osPanel);
 
         return layout;
@@ -152,6 +160,12 @@ public class VMMetricsView extends SuspendableViewImpl implements VMMetricsPrese
             threadChart.addSample(metric);
     }
 
+    @Override
+    public void setTrend(List<MetricSeries> series) {
+        if(trend!=null)
+            trend.update(series);
+    }
+
     @Override
     public void setRuntimeMetric(RuntimeMetric runtime) {
         vmName.setText(runtime.getVmName());
@@ -0,0 +1,130 @@
+package org.jboss.as.console.client.tools;
+
+import com.google.gwt.debugpanel.common.Utils;
+import com.google.gwt.debugpanel.widgets.DebugPanelWidget;
+import com.google.gwt.event.dom.client.ClickEvent;
+import com.google.gwt.event.dom.client.ClickHandler;
+import com.google.gwt.i18n.client.DateTimeFormat;
+import com.google.gwt.i18n.client.NumberFormat;
+import com.google.gwt.user.client.ui.FlexTable;
+import com.google.gwt.user.client.ui.Label;
+import com.google.gwt.user.client.ui.VerticalPanel;
+import com.google.gwt.user.client.ui.Widget;
+import org.jboss.ballroom.client.widgets.tools.ToolButton;
+import org.jboss.ballroom.client.widgets.tools.ToolStrip;
+import org.jboss.dmr.client.dispatch.DispatchStatistics;
+
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Debug panel component which shows the {@link DispatchStatistics}: The operations which took the most time in total
+ * and the slowest single requests.
+ */
+public class DispatchStatisticsView implements DebugPanelWidget.Component {
+
+    private static final int MAX_ROWS = 50;
+
+    private static final Comparator<DispatchStatistics.Series> BY_TOTAL_LATENCY =
+            new Comparator<DispatchStatistics.Series>() {
+                @Override
+                public int compare(DispatchStatistics.Series s1, DispatchStatistics.Series s2) {
+                    return Double.compare(s2.getLatency().getSum(), s1.getLatency().getSum());
+                }
+            };
+
+    private final DispatchStatistics statistics = DispatchStatistics.INSTANCE;
+    private final NumberFormat millis = NumberFormat.getFormat("#,##0");
+    private final NumberFormat kilo = NumberFormat.getFormat("#,##0.0");
+    private final DateTimeFormat time = DateTimeFormat.getFormat("HH:mm:ss");
+    private FlexTable operations;
+    private FlexTable slowOperations;
+
+    @Override
+    public String getName() {
+        return "DMR";
+    }
+
+    @Override
+    public boolean isVisibleOnStartup() {
+        return false;
+    }
+
+    @Override
+    public Widget getWidget() {
+        VerticalPanel panel = new VerticalPanel();
+        panel.setStyleName("fill-layout-width");
+
+        ToolStrip tools = new ToolStrip();
+        tools.addToolButtonRight(new ToolButton("Refresh", new ClickHandler() {
+            @Override
+            public void onClick(ClickEvent event) {
+                refresh();
+            }
+        }));
+        tools.addToolButtonRight(new ToolButton("Reset", new ClickHandler() {
+            @Override
+            public void onClick(ClickEvent event) {
+                statistics.reset();
+                refresh();
+            }
+        }));
+        panel.add(tools);
+
+        operations = table();
+        slowOperations = table();
+        panel.add(new Label("Operations (by total latency)"));
+        panel.add(operations);
+        panel.add(new Label("Slowest requests"));
+        panel.add(slowOperations);
+
+        refresh();
+        return panel;
+    }
+
+    private FlexTable table() {
+        FlexTable table = new FlexTable();
+        table.setStyleName(Utils.style() + "-TreeTable");
+        return table;
+    }
+
+    private void refresh() {
+        operations.removeAllRows();
+        header(operations, "Operation", "Address", "Count", "p50 ms", "p95 ms", "Max ms", "Avg k chars", "Decode p95 ms");
+        List<DispatchStatistics.Series> series = statistics.getSeries(BY_TOTAL_LATENCY);
+        for (int i = 0; i < series.size() && i < MAX_ROWS; i++) {
+            DispatchStatistics.Series s = series.get(i);
+            int row = i + 1;
+            operations.setText(row, 0, s.getOperation());
+            operations.setText(row, 1, s.getTemplate());
+            operations.setText(row, 2, String.valueOf(s.getLatency().getCount()));
+            operations.setText(row, 3, millis.format(s.getLatency().getPercentile(50)));
+            operations.setText(row, 4, millis.format(s.getLatency().getPercentile(95)));
+            operations.setText(row, 5, millis.format(s.getLatency().getMax()));
+            operations.setText(row, 6, kilo.format(s.getResponseChars().getMean() / 1000));
+            operations.setText(row, 7, s.getDecode().getCount() == 0 ? "-" :
+                    millis.format(s.getDecode().getPercentile(95)));
+        }
+
+        slowOperations.removeAllRows();
+        header(slowOperations, "Time", "Operation", "Address", "Latency ms", "k chars", "Decode ms");
+        int row = 1;
+        for (DispatchStatistics.Sample sample : statistics.getSlowOperations()) {
+            slowOperations.setText(row, 0, time.format(new Date((long) sample.getStart())));
+            slowOperations.setText(row, 1, sample.getOperation());
+            slowOperations.setText(row, 2, sample.getAddress());
+            slowOperations.setText(row, 3, millis.format(sample.getLatency()));
+            slowOperations.setText(row, 4, kilo.format(sample.getResponseChars() / 1000.0));
+            slowOperations.setText(row, 5, sample.isDecoded() ? millis.format(sample.getDecodeMillis()) : "-");
+            row++;
+        }
+    }
+
+    private void header(FlexTable table, String... columns) {
+        for (int i = 0; i < columns.length; i++) {
+            table.setText(0, i, columns[i]);
+        }
+        table.getRowFormatter().setStyleName(0, Utils.style() + "-TreeTable-header");
+    }
+}
@@ -1,7 +1,12 @@
 package org.jboss.as.console.client.tools;
 
 import com.google.gwt.debugpanel.client.DebugPanel;
+import com.google.gwt.dom.client.Style;
+import com.google.gwt.event.dom.client.ClickEvent;
+import com.google.gwt.event.dom.client.ClickHandler;
 import com.google.gwt.event.shared.GwtEvent;
+import com.google.gwt.user.client.ui.Anchor;
+import com.google.gwt.user.client.ui.DockLayoutPanel;
 import com.google.gwt.user.client.ui.ScrollPanel;
 import com.google.gwt.user.client.ui.Widget;
 import com.google.inject.Inject;
@@ -21,6 +26,7 @@ import com.gwtplatform.mvp.client.proxy.RevealRootPopupContentEvent;
 import org.jboss.as.console.client.Console;
 import org.jboss.as.console.client.core.BootstrapContext;
 import org.jboss.as.console.client.core.NameTokens;
+import org.jboss.as.console.client.core.bootstrap.StartupMetrics;
 import org.jboss.as.console.client.domain.model.SimpleCallback;
 import org.jboss.as.console.client.rbac.AccessLogView;
 import org.jboss.as.console.client.rbac.StandardRole;
@@ -49,6 +55,7 @@ public class ToolsPresenter extends Presenter<ToolsPresenter.MyView, ToolsPresen
     private final PlaceManager placeManager;
     private final DispatchAsync dispatcher;
     private final BootstrapContext context;
+    private final StartupMetrics startupMetrics;
     private BrowserPresenter browser;
 
     private String requestedTool;
@@ -73,13 +80,15 @@ public class ToolsPresenter extends Presenter<ToolsPresenter.MyView, ToolsPresen
     @Inject
     public ToolsPresenter(
             EventBus eventBus, MyView view, MyProxy proxy,
-            PlaceManager placeManager, BrowserPresenter browser, DispatchAsync dispatcher, BootstrapContext context) {
+            PlaceManager placeManager, BrowserPresenter browser, DispatchAsync dispatcher, BootstrapContext context,
+            StartupMetrics startupMetrics) {
         super(eventBus, view, proxy);
         this.placeManager = placeManager;
         //this.debug = debug;
         this.browser = browser;
         this.dispatcher = dispatcher;
         this.context = context;
+        this.startupMetrics = startupMetrics;
     }
 
     @Override
@@ -107,11 +116,21 @@ public class ToolsPresenter extends Presenter<ToolsPresenter.MyView, ToolsPresen
                 window.setHeight(360);
 
 
-                DebugPanel debugPanel = new DebugPanel();
+                DebugPanel debugPanel = new DebugPanel(new DispatchStatisticsView());
                 Widget debugWidget = debugPanel.asWidget();
-                window.setWidget(
-                        new ScrollPanel(debugWidget)
-                );
+
+                Anchor report = new Anchor("Download startup report");
+                report.addClickHandler(new ClickHandler() {
+                    @Override
+                    public void onClick(ClickEvent event) {
+                        startupMetrics.download();
+                    }
+                });
+
+                DockLayoutPanel layout = new DockLayoutPanel(Style.Unit.PX);
+                layout.addSouth(report, 25);
+                layout.add(new ScrollPanel(debugWidget));
+                window.setWidget(layout);
 
                 window.setModal(false);
                 //window.setGlassEnabled(true);
@@ -0,0 +1,269 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2010, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.console.client.v3;
+
+import com.allen_sauer.gwt.log.client.Log;
+import com.google.gwt.core.client.JavaScriptException;
+import com.google.gwt.storage.client.Storage;
+import org.jboss.dmr.client.ModelNode;
+import org.jboss.dmr.client.ModelType;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persists resource descriptions in the local storage. The access control meta data is never persisted: It depends on
+ * the user and its roles and must be read from the server in each session. All keys start with a prefix which is
+ * derived from the product and management version. Entries of other prefixes are removed when the storage is used
+ * for the first time.
+ * <p>
+ * The storage keeps an index of the stored descriptions, their sizes and when they were stored. Descriptions older
+ * than {@link #MAX_AGE} are dropped. If the size of all descriptions exceeds {@link #MAX_SIZE}, the least recently
+ * stored descriptions are removed.
+ */
+class DescriptionStorage {
+
+    static final String ROOT_PREFIX = "hal_rd_";
+
+    /**
+     * Maximum number of characters used for descriptions.
+     */
+    static final int MAX_SIZE = 2 * 1024 * 1024;
+
+    /**
+     * Maximum age of a stored description in ms.
+     */
+    static final long MAX_AGE = 7 * 24 * 60 * 60 * 1000L;
+
+    private static final String ACCESS_CONTROL = "access-control";
+
+    // version of the storage format, part of the prefix
+    private static final String FORMAT = "2";
+
+    private final Storage localStorage;
+    private final String prefix;
+    private Map<String, Entry> index;
+    private int size;
+
+    /**
+     * @param identity the parts the prefix is derived from, e.g. product and management version
+     * @return the storage or {@code null} if one of the parts is {@code null} or empty, e.g. because the bootstrap
+     * has not finished yet
+     */
+    static DescriptionStorage create(final String... identity) {
+        StringBuilder builder = new StringBuilder();
+        for (String part : identity) {
+            if (part == null || part.length() == 0 || "null".equals(part)) {
+                return null;
+            }
+            builder.append(part).append('|');
+        }
+        return new DescriptionStorage(FORMAT + "_" + Math.abs(builder.toString().hashCode()));
+    }
+
+    private DescriptionStorage(final String prefix) {
+        this.localStorage = Storage.getLocalStorageIfSupported();
+        this.prefix = ROOT_PREFIX + prefix + "_";
+    }
+
+    ModelNode get(final String key) {
+        if (localStorage == null) {
+            return null;
+        }
+        init();
+        Entry entry = index.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.stored + MAX_AGE < System.currentTimeMillis()) {
+            remove(key);
+            saveIndex();
+            return null;
+        }
+        String value = localStorage.getItem(itemKey(key));
+        if (value != null) {
+            try {
+                return ModelNode.fromBase64(value);
+            } catch (Throwable t) {
+                Log.error("Failed to decode stored description for " + key + ": " + t.getMessage());
+            }
+        }
+        remove(key);
+        saveIndex();
+        return null;
+    }
+
+    /**
+     * Stores the description without its access control meta data.
+     */
+    void put(final String key, final ModelNode description) {
+        if (localStorage == null) {
+            return;
+        }
+        init();
+        ModelNode stripped = description.clone();
+        stripAccessControl(stripped);
+        String value = stripped.toBase64String();
+        if (value.length() > MAX_SIZE) {
+            return;
+        }
+
+        remove(key);
+        evict(MAX_SIZE - value.length());
+        try {
+            localStorage.setItem(itemKey(key), value);
+            index.put(key, new Entry(value.length(), System.currentTimeMillis()));
+            size += value.length();
+        } catch (JavaScriptException e) {
+            // quota exceeded: make room for the next attempt
+            Log.error("Failed to store description for " + key + ": " + e.getMessage());
+            evict(size / 2);
+        }
+        saveIndex();
+    }
+
+    void clear() {
+        if (localStorage == null) {
+            return;
+        }
+        init();
+        for (String key : new ArrayList<>(index.keySet())) {
+            remove(key);
+        }
+        saveIndex();
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Removes all {@code access-control} nodes, incl. the ones of nested child descriptions.
+     */
+    static void stripAccessControl(final ModelNode node) {
+        if (node.getType() == ModelType.OBJECT) {
+            if (node.has(ACCESS_CONTROL)) {
+                node.remove(ACCESS_CONTROL);
+            }
+            for (String key : node.keys()) {
+                stripAccessControl(node.get(key));
+            }
+        } else if (node.getType() == ModelType.LIST) {
+            for (ModelNode item : node.asList()) {
+                stripAccessControl(item);
+            }
+        }
+    }
+
+    /**
+     * Reads the index on first access and removes descriptions which belong to other prefixes.
+     */
+    private void init() {
+        if (index != null) {
+            return;
+        }
+        index = new LinkedHashMap<>();
+        size = 0;
+
+        List<String> foreign = new ArrayList<>();
+        for (int i = 0; i < localStorage.getLength(); i++) {
+            String key = localStorage.key(i);
+            if (key != null && key.startsWith(ROOT_PREFIX) && !key.startsWith(prefix)) {
+                foreign.add(key);
+            }
+        }
+        for (String key : foreign) {
+            localStorage.removeItem(key);
+        }
+
+        String value = localStorage.getItem(indexKey());
+        if (value != null) {
+            for (String line : value.split("\n")) {
+                // <length>:<stored>:<key>
+                String[] parts = line.split(":", 3);
+                if (parts.length == 3) {
+                    try {
+                        Entry entry = new Entry(Integer.parseInt(parts[0]), Long.parseLong(parts[1]));
+                        index.put(parts[2], entry);
+                        size += entry.length;
+                    } catch (NumberFormatException ignored) {
+                        // skip broken entries
+                    }
+                }
+            }
+        }
+        if (!foreign.isEmpty() || !index.isEmpty()) {
+            Log.info("Loaded index of " + index.size() + " stored descriptions at " + indexKey() + ", removed " +
+                    foreign.size() + " outdated entries");
+        }
+    }
+
+    private void evict(final int maxSize) {
+        for (Iterator<Map.Entry<String, Entry>> iterator = index.entrySet().iterator();
+             iterator.hasNext() && size > maxSize; ) {
+            Map.Entry<String, Entry> entry = iterator.next();
+            localStorage.removeItem(itemKey(entry.getKey()));
+            size -= entry.getValue().length;
+            iterator.remove();
+        }
+    }
+
+    private void remove(final String key) {
+        Entry entry = index.remove(key);
+        if (entry != null) {
+            size -= entry.length;
+        }
+        localStorage.removeItem(itemKey(key));
+    }
+
+    private void saveIndex() {
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, Entry> entry : index.entrySet()) {
+            builder.append(entry.getValue().length).append(':').append(entry.getValue().stored).append(':')
+                    .append(entry.getKey()).append('\n');
+        }
+        try {
+            localStorage.setItem(indexKey(), builder.toString());
+        } catch (JavaScriptException e) {
+            Log.error("Failed to store description index: " + e.getMessage());
+        }
+    }
+
+    private String indexKey() {return prefix + "idx";}
+
+    private String itemKey(final String key) {return prefix + "desc_" + key;}
+
+
+    private static class Entry {
+
+        final int length;
+        final long stored;
+
+        Entry(final int length, final long stored) {
+            this.length = length;
+            this.stored = stored;
+        }
+    }
+}
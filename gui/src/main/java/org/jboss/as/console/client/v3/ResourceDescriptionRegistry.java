@@ -21,9 +21,12 @@
  */
 package org.jboss.as.console.client.v3;
 
+import org.jboss.as.console.client.core.BootstrapContext;
 import org.jboss.as.console.client.v3.dmr.AddressTemplate;
 import org.jboss.as.console.client.v3.dmr.ResourceDescription;
+import org.jboss.dmr.client.ModelNode;
 
+import javax.inject.Inject;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -32,10 +35,14 @@ import java.util.Map;
  */
 public class ResourceDescriptionRegistry {
 
+    private final BootstrapContext bootstrapContext;
     private final Map<AddressTemplate, ResourceDescription> registry;
+    private DescriptionStorage storage;
 
-    public ResourceDescriptionRegistry() {
-        registry = new HashMap<>();
+    @Inject
+    public ResourceDescriptionRegistry(BootstrapContext bootstrapContext) {
+        this.bootstrapContext = bootstrapContext;
+        this.registry = new HashMap<>();
     }
 
     public void add(AddressTemplate addressTemplate, ResourceDescription description) {
@@ -58,4 +65,39 @@ public class ResourceDescriptionRegistry {
     public boolean contains(AddressTemplate addressTemplate) {
         return registry.containsKey(addressTemplate);
     }
+
+    /**
+     * Persists a raw description so that it survives the current session. The access control meta data is not
+     * persisted.
+     *
+     * @param key the key of the description, e.g. the resolved address and the options of the r-r-d operation
+     */
+    public void store(String key, ModelNode description) {
+        DescriptionStorage storage = storage();
+        if (storage != null) {
+            storage.put(key, description);
+        }
+    }
+
+    /**
+     * Returns a description persisted in an earlier session or {@code null}. The returned description contains no
+     * access control meta data. The persisted descriptions are loaded lazily when this method is called for the
+     * first time.
+     */
+    public ModelNode restore(String key) {
+        DescriptionStorage storage = storage();
+        return storage != null ? storage.get(key) : null;
+    }
+
+    /**
+     * The storage is created on first use after the bootstrap has finished, because the versions are not known
+     * before. Returns {@code null} as long as the versions are unknown.
+     */
+    private DescriptionStorage storage() {
+        if (storage == null) {
+            storage = DescriptionStorage.create(bootstrapContext.getProductName(),
+                    bootstrapContext.getProductVersion(), bootstrapContext.getManagementVersion());
+        }
+        return storage;
+    }
 }
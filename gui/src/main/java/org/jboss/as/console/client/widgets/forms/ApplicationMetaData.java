@@ -38,4 +38,11 @@ public interface ApplicationMetaData {
     <T> EntityFactory<T> getFactory(Class<T> type);
 
     FormMetaData getFormMetaData(Class<?> type);
+
+    /**
+     * @return a generated converter for the given type or <code>null</code> if none is available
+     */
+    default <T> EntityConverter<T> getConverter(Class<T> type) {
+        return null;
+    }
 }
@@ -40,10 +40,16 @@ public class EntityAdapter<T> {
     private ApplicationMetaData metaData;
     private KeyAssignment keyAssignment = null;
 
+    // generated straight-line conversion, null if the type needs the metadata based mapping
+    private final EntityConverter<T> converter;
+    private BeanMetaData beanMetaData;
+    private Mutator mutator;
+
     public EntityAdapter(Class<?> type, ApplicationMetaData metaData) {
         this.type = type;
         this.metaData = metaData;
         this.propertyRecordFactory = metaData.getFactory(PropertyRecord.class);
+        this.converter = isBaseType(type) ? null : (EntityConverter<T>) metaData.getConverter(type);
     }
 
     public EntityAdapter<T> with(KeyAssignment keyAssignment)
@@ -56,6 +62,20 @@ public class EntityAdapter<T> {
         return type;
     }
 
+    private BeanMetaData getBeanMetaData() {
+        if (beanMetaData == null) {
+            beanMetaData = metaData.getBeanMetaData(getType());
+        }
+        return beanMetaData;
+    }
+
+    private Mutator getMutator() {
+        if (mutator == null) {
+            mutator = metaData.getMutator(getType());
+        }
+        return mutator;
+    }
+
     /**
      * Determine if this is an EntityAdapter for a one of the supported ModelNode
      * base classes (String, Long, BigDecimal, etc).
@@ -148,8 +168,14 @@ public class EntityAdapter<T> {
             throw new IllegalArgumentException("Unknown ModelType "+dmr.getType()+": "+dmr);
         }
 
-        BeanMetaData beanMetaData = metaData.getBeanMetaData(getType());
-        Mutator mutator = metaData.getMutator(getType());
+        if(converter!=null)
+        {
+            converter.fromDMR(entity, actualPayload, keyDelegation != null ? keyDelegation : keyAssignment);
+            return entity;
+        }
+
+        BeanMetaData beanMetaData = getBeanMetaData();
+        Mutator mutator = getMutator();
 
         //final List<ModelNode> filteredDMRNames = actualPayload.hasDefined("_filtered-attributes") ?
         //                actualPayload.get("_filtered-attributes").asList() : Collections.EMPTY_LIST;
@@ -176,7 +202,7 @@ public class EntityAdapter<T> {
 
 
 
-            String[] splitDetypedName = propBinding.getDetypedName().split("/");
+            String[] splitDetypedName = propBinding.getDetypedPath();
             ModelNode propValue = actualPayload.get(splitDetypedName);
             Object value = null;
 
@@ -364,14 +390,16 @@ public class EntityAdapter<T> {
      */
     public ModelNode fromEntity(T entity)
     {
+        if(converter!=null)
+            return converter.fromEntity(entity);
 
         ModelNode operation = new ModelNode();
-        List<PropertyBinding> properties = metaData.getBeanMetaData(getType()).getProperties();
-        Mutator mutator = metaData.getMutator(getType());
+        List<PropertyBinding> properties = getBeanMetaData().getProperties();
+        Mutator mutator = getMutator();
 
         for(PropertyBinding property : properties)
         {
-            String[] splitDetypedName = property.getDetypedName().split("/");
+            String[] splitDetypedName = property.getDetypedPath();
 
             /**
              * KEYS
@@ -524,7 +552,7 @@ public class EntityAdapter<T> {
 
         List<ModelNode> steps = new ArrayList<ModelNode>();
 
-        List<PropertyBinding> propertyBindings = metaData.getBeanMetaData(type).getProperties();
+        List<PropertyBinding> propertyBindings = getBeanMetaData().getProperties();
 
         Map<String, ModelNode> flattenedSteps = new HashMap<String, ModelNode>();
         for(PropertyBinding binding : propertyBindings)
@@ -536,7 +564,7 @@ public class EntityAdapter<T> {
 
             // account for flattened sub-attribute paths
             String detypedName = binding.getDetypedName();
-            String[] splitDetypedName = detypedName.split("/");
+            String[] splitDetypedName = binding.getDetypedPath().clone();
 
             step.get(NAME).set(splitDetypedName[0]);
             splitDetypedName[0] = VALUE;
@@ -0,0 +1,50 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2010, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.console.client.widgets.forms;
+
+import org.jboss.dmr.client.ModelNode;
+
+/**
+ * Straight-line conversion between an entity and its DMR representation.<p/>
+ * Implementations are generated per bean type by the {@link ApplicationMetaData} generator
+ * and are used by {@link EntityAdapter} in place of the runtime metadata lookups.
+ * Bean types whose bindings can't be expressed this way don't have a converter.
+ *
+ * @see ApplicationMetaData#getConverter(Class)
+ */
+public interface EntityConverter<T> {
+
+    /**
+     * Populates an entity from a payload of type {@link org.jboss.dmr.client.ModelType#OBJECT}.
+     *
+     * @param entity the entity to populate
+     * @param payload the attributes
+     * @param keys resolves key properties, may be <code>null</code>
+     */
+    void fromDMR(T entity, ModelNode payload, KeyAssignment keys);
+
+    /**
+     * Create a plain DMR representation of an entity.
+     */
+    ModelNode fromEntity(T entity);
+}
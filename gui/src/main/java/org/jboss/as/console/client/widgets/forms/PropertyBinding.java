@@ -31,6 +31,7 @@ import java.util.Collections;
  */
 public class PropertyBinding {
     private String detypedName;
+    private String[] detypedPath;
     private String javaName;
     private String javaTypeName;
     private Class<?> listType;
@@ -94,8 +95,20 @@ public class PropertyBinding {
         return detypedName.contains("/");
     }
 
+    /**
+     * The detyped name split into its (flattened) path segments.
+     * The returned array is shared and must not be modified.
+     */
+    public String[] getDetypedPath() {
+        if (detypedPath == null) {
+            detypedPath = detypedName.split("/");
+        }
+        return detypedPath;
+    }
+
     public void setDetypedName(String detypedName) {
         this.detypedName = detypedName;
+        this.detypedPath = null;
     }
 
     public String getJavaName() {
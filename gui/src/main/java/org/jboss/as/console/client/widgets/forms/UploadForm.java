@@ -23,18 +23,20 @@ package org.jboss.as.console.client.widgets.forms;
 
 import com.allen_sauer.gwt.log.client.Log;
 import com.google.gwt.core.client.GWT;
-import com.google.gwt.dom.client.Element;
 import com.google.gwt.event.shared.EventHandler;
 import com.google.gwt.event.shared.GwtEvent;
 import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.user.client.ui.FileUpload;
 import com.google.gwt.user.client.ui.FormPanel;
 import org.jboss.as.console.client.Console;
+import org.jboss.gwt.flow.client.Progress;
 
 /**
- * A {@link FormPanel} to be used for file uploads within HAL. It uses the GWT approach with a hidden iframe when
- * running in "same-origin-mode" and the new HTML5 FormData interface and XMLHttpRequest otherwise (due to CORS
- * restrictions). Please not that the latter require a <a href="http://caniuse.com/#search=FormData">modern browser</a>.
+ * A {@link FormPanel} to be used for file uploads within HAL. It uses the new HTML5 FormData interface and
+ * XMLHttpRequest (see {@link XhrUpload}) if supported by the browser, which allows to report the progress and to
+ * cancel the upload. Older browsers fall back to the GWT approach with a hidden iframe when running in
+ * "same-origin-mode". Please not that the former require a <a href="http://caniuse.com/#search=FormData">modern
+ * browser</a>.
  *
  * @author Harald Pehl
  * @see <a href="https://dvcs.w3.org/hg/xhr/raw-file/tip/Overview.html#formdata">https://dvcs.w3.org/hg/xhr/raw-file/tip/Overview.html#formdata</a>
@@ -45,6 +47,8 @@ public class UploadForm extends FormPanel {
 
     private final boolean sameOrigin;
     private HandlerRegistration handlerRegistration;
+    private Progress progress;
+    private XhrUpload xhrUpload;
 
     public UploadForm() {
         sameOrigin = Console.getBootstrapContext().isSameOrigin();
@@ -167,38 +171,43 @@ public class UploadForm extends FormPanel {
 
     // ------------------------------------------------------ upload methods
 
+    /**
+     * Sets the progress which reflects uploads using XMLHttpRequest.
+     */
+    public void setProgress(Progress progress) {
+        this.progress = progress;
+    }
+
     public void upload(FileUpload fileInput) {
-        if (sameOrigin) {
+        if (sameOrigin && !XhrUpload.isSupported()) {
             submit();
         } else {
-            uploadUsingFormData(getAction(), fileInput.getElement());
+            xhrUpload = new XhrUpload(getAction(), progress);
+            xhrUpload.send(fileInput.getElement(), new XhrUpload.Callback() {
+                @Override
+                public void onComplete(int status, String payload) {
+                    if (status != 200) {
+                        Log.error("Upload to " + getAction() + " failed with status " + status + ": " + payload);
+                    }
+                    fireUploadComplete(payload);
+                }
+
+                @Override
+                public void onError() {
+                    Log.error("Upload to " + getAction() + " failed");
+                    fireUploadComplete(null);
+                }
+            });
         }
     }
 
-    private native void uploadUsingFormData(String action, Element fileInput) /*-{
-        var that = this;
-
-        var file = fileInput.files[0];
-        var formData = new FormData();
-        formData.append(fileInput.name, file);
-
-        var xhr = new XMLHttpRequest();
-        xhr.withCredentials = true;
-        xhr.onreadystatechange = $entry(function (evt) {
-            var status, text, readyState;
-            try {
-                readyState = evt.target.readyState;
-                text = evt.target.responseText;
-                status = evt.target.status;
-            }
-            catch (e) {
-                return;
-            }
-            if (readyState == 4 && status == '200' && text) {
-                that.@org.jboss.as.console.client.widgets.forms.UploadForm::fireUploadComplete(Ljava/lang/String;)(text);
-            }
-        });
-        xhr.open('POST', action, true);
-        xhr.send(formData);
-    }-*/;
+    /**
+     * Cancels a running upload. Uploads using the hidden iframe cannot be cancelled.
+     */
+    public void cancel() {
+        if (xhrUpload != null) {
+            xhrUpload.cancel();
+            xhrUpload = null;
+        }
+    }
 }
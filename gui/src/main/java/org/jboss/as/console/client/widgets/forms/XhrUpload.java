@@ -0,0 +1,230 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2010, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.console.client.widgets.forms;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.dom.client.Element;
+import org.jboss.gwt.flow.client.Progress;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Uploads a file using XMLHttpRequest level 2 and the HTML5 FormData interface. Unlike a form submit through a
+ * hidden iframe, the upload reports its progress and can be cancelled.
+ * <p/>
+ * Use {@link #digest(Element, DigestCallback)} to calculate the SHA-1 hash of the selected file before uploading it.
+ * The management content repository addresses its content by the same hash, so callers can skip the upload if the
+ * content is already known to the server.
+ *
+ * @see <a href="https://xhr.spec.whatwg.org/#interface-formdata">https://xhr.spec.whatwg.org/#interface-formdata</a>
+ */
+public class XhrUpload {
+
+    /**
+     * Files larger than this are not hashed: The web crypto API cannot hash incrementally, so the whole file has to
+     * be read into memory.
+     */
+    public static final double MAX_DIGEST_SIZE = 32 * 1024 * 1024;
+
+    public interface Callback {
+
+        /**
+         * The upload has finished.
+         *
+         * @param status  the HTTP status code
+         * @param payload the response text
+         */
+        void onComplete(int status, String payload);
+
+        /**
+         * The upload failed because of a network error.
+         */
+        void onError();
+    }
+
+    public interface DigestCallback {
+
+        /**
+         * @param hex    the SHA-1 hash as lower case hex string
+         * @param base64 the SHA-1 hash base64 encoded (as used for DMR bytes values)
+         */
+        void onDigest(String hex, String base64);
+
+        /**
+         * The hash could not be calculated, e.g. because the browser does not support the web crypto API.
+         */
+        void onUnavailable();
+    }
+
+    public static native boolean isSupported() /*-{
+        return typeof FormData !== 'undefined' && typeof XMLHttpRequest !== 'undefined' &&
+            'upload' in new XMLHttpRequest();
+    }-*/;
+
+    private final String action;
+    private final Progress progress;
+    private final Map<String, String> parameters;
+    private JavaScriptObject xhr;
+    private int percent;
+
+    public XhrUpload(String action, Progress progress) {
+        this.action = action;
+        this.progress = progress != null ? progress : new Progress.Nop();
+        this.parameters = new LinkedHashMap<String, String>();
+    }
+
+    /**
+     * Adds a form parameter which is sent before the file.
+     */
+    public XhrUpload param(String name, String value) {
+        parameters.put(name, value);
+        return this;
+    }
+
+    /**
+     * Uploads the file selected in the given file input. A running upload is cancelled first.
+     */
+    public void send(Element fileInput, Callback callback) {
+        cancel();
+        JavaScriptObject formData = createFormData();
+        for (Map.Entry<String, String> parameter : parameters.entrySet()) {
+            append(formData, parameter.getKey(), parameter.getValue());
+        }
+        appendFile(formData, fileInput);
+
+        percent = 0;
+        progress.reset(100);
+        xhr = send(action, formData, callback);
+    }
+
+    /**
+     * Aborts the running upload if any. The callback is not notified.
+     */
+    public void cancel() {
+        if (xhr != null) {
+            abort(xhr);
+            xhr = null;
+            progress.finish();
+        }
+    }
+
+    public boolean isRunning() {
+        return xhr != null;
+    }
+
+    private void onProgress(double loaded, double total) {
+        if (total > 0) {
+            int current = (int) (loaded * 100 / total);
+            while (percent < current) {
+                progress.tick();
+                percent++;
+            }
+        }
+    }
+
+    private void onComplete(int status, String payload, Callback callback) {
+        xhr = null;
+        progress.finish();
+        callback.onComplete(status, payload);
+    }
+
+    private void onError(Callback callback) {
+        xhr = null;
+        progress.finish();
+        callback.onError();
+    }
+
+    private native JavaScriptObject createFormData() /*-{
+        return new FormData();
+    }-*/;
+
+    private native void append(JavaScriptObject formData, String name, String value) /*-{
+        formData.append(name, value);
+    }-*/;
+
+    private native void appendFile(JavaScriptObject formData, Element fileInput) /*-{
+        formData.append(fileInput.name, fileInput.files[0]);
+    }-*/;
+
+    private native JavaScriptObject send(String action, JavaScriptObject formData, Callback callback) /*-{
+        var that = this;
+        var xhr = new XMLHttpRequest();
+        var aborted = false;
+        xhr.withCredentials = true;
+        xhr.upload.onprogress = $entry(function (evt) {
+            if (evt.lengthComputable) {
+                that.@org.jboss.as.console.client.widgets.forms.XhrUpload::onProgress(DD)(evt.loaded, evt.total);
+            }
+        });
+        xhr.onabort = function () {
+            aborted = true;
+        };
+        xhr.onload = $entry(function () {
+            that.@org.jboss.as.console.client.widgets.forms.XhrUpload::onComplete(ILjava/lang/String;Lorg/jboss/as/console/client/widgets/forms/XhrUpload$Callback;)(xhr.status, xhr.responseText, callback);
+        });
+        xhr.onerror = $entry(function () {
+            if (!aborted) {
+                that.@org.jboss.as.console.client.widgets.forms.XhrUpload::onError(Lorg/jboss/as/console/client/widgets/forms/XhrUpload$Callback;)(callback);
+            }
+        });
+        xhr.open('POST', action, true);
+        xhr.send(formData);
+        return xhr;
+    }-*/;
+
+    private native void abort(JavaScriptObject xhr) /*-{
+        xhr.abort();
+    }-*/;
+
+    /**
+     * Calculates the SHA-1 hash of the file selected in the given file input using the web crypto API.
+     */
+    public static native void digest(Element fileInput, DigestCallback callback) /*-{
+        var file = fileInput.files && fileInput.files[0];
+        var subtle = typeof crypto !== 'undefined' && crypto.subtle;
+        if (!file || !subtle || typeof FileReader === 'undefined' ||
+            file.size > @org.jboss.as.console.client.widgets.forms.XhrUpload::MAX_DIGEST_SIZE) {
+            callback.@org.jboss.as.console.client.widgets.forms.XhrUpload$DigestCallback::onUnavailable()();
+            return;
+        }
+
+        var unavailable = $entry(function () {
+            callback.@org.jboss.as.console.client.widgets.forms.XhrUpload$DigestCallback::onUnavailable()();
+        });
+        var reader = new FileReader();
+        reader.onerror = unavailable;
+        reader.onload = function () {
+            subtle.digest('SHA-1', reader.result).then($entry(function (buffer) {
+                var bytes = new Uint8Array(buffer);
+                var hex = '';
+                var binary = '';
+                for (var i = 0; i < bytes.length; i++) {
+                    hex += (bytes[i] < 16 ? '0' : '') + bytes[i].toString(16);
+                    binary += String.fromCharCode(bytes[i]);
+                }
+                callback.@org.jboss.as.console.client.widgets.forms.XhrUpload$DigestCallback::onDigest(Ljava/lang/String;Ljava/lang/String;)(hex, btoa(binary));
+            }), unavailable);
+        };
+        reader.readAsArrayBuffer(file);
+    }-*/;
+}
@@ -10,16 +10,23 @@ import com.google.gwt.dom.client.Style;
 import com.google.gwt.dom.client.TableRowElement;
 import com.google.gwt.event.dom.client.ClickEvent;
 import com.google.gwt.event.dom.client.ClickHandler;
+import com.google.gwt.event.dom.client.KeyCodes;
+import com.google.gwt.event.dom.client.KeyDownEvent;
+import com.google.gwt.event.dom.client.KeyDownHandler;
+import com.google.gwt.event.dom.client.ScrollEvent;
+import com.google.gwt.event.dom.client.ScrollHandler;
 import com.google.gwt.event.logical.shared.AttachEvent;
 import com.google.gwt.safehtml.shared.SafeHtml;
 import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
 import com.google.gwt.user.cellview.client.CellTable;
 import com.google.gwt.user.cellview.client.Column;
+import com.google.gwt.user.cellview.client.HasKeyboardSelectionPolicy.KeyboardSelectionPolicy;
 import com.google.gwt.user.cellview.client.RowHoverEvent;
 import com.google.gwt.user.cellview.client.RowStyles;
 import com.google.gwt.user.client.Command;
 import com.google.gwt.user.client.Window;
 import com.google.gwt.user.client.rpc.AsyncCallback;
+import com.google.gwt.user.client.ui.FlowPanel;
 import com.google.gwt.user.client.ui.HTML;
 import com.google.gwt.user.client.ui.HorizontalPanel;
 import com.google.gwt.user.client.ui.LayoutPanel;
@@ -37,6 +44,7 @@ import org.jboss.as.console.client.Console;
 import org.jboss.as.console.client.domain.model.SimpleCallback;
 import org.jboss.ballroom.client.widgets.tables.DefaultCellTable;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -47,6 +55,12 @@ public class FinderColumn<T> {
 
 
     private static final String CLICK = "click";
+    private static final int PAGE_SIZE = 200;
+    // lists above the page size are always rendered virtually
+    private static final int VIRTUAL_THRESHOLD = PAGE_SIZE;
+    private static final int OVERSCAN = 20;
+    private static final int DEFAULT_ROW_HEIGHT = 32;
+    private static final int DEFAULT_VISIBLE_ROWS = 30;
     private final SingleSelectionModel<T> selectionModel;
     private final CellTable<T> cellTable;
     private final FinderId correlationId;
@@ -64,6 +78,17 @@ public class FinderColumn<T> {
     public enum FinderId { CONFIGURATION, RUNTIME}
     private boolean showSize = false;
 
+    // virtual scrolling
+    private boolean virtualScrolling = false;
+    private boolean virtual = false;
+    private List<T> records = Collections.emptyList();
+    private int windowStart;
+    private int rowHeight = DEFAULT_ROW_HEIGHT;
+    private boolean rowHeightMeasured = false;
+    private final HTML topSpacer = new HTML();
+    private final HTML bottomSpacer = new HTML();
+    private ScrollPanel scroll;
+
     /**
      * Thje default finder preview
      */
@@ -87,7 +112,7 @@ public class FinderColumn<T> {
         this.keyProvider = keyProvider;
         selectionModel = new SingleSelectionModel<T>(keyProvider);
 
-        cellTable = new CellTable<T>(200, DefaultCellTable.DEFAULT_CELL_TABLE_RESOURCES , keyProvider);
+        cellTable = new CellTable<T>(PAGE_SIZE, DefaultCellTable.DEFAULT_CELL_TABLE_RESOURCES , keyProvider);
         cellTable.setStyleName("navigation-cell-table");
         cellTable.getElement().setAttribute("style", "border:none!important");
         cellTable.setLoadingIndicator(new HTML());
@@ -341,6 +366,17 @@ public class FinderColumn<T> {
         return this;
     }
 
+    /**
+     * renders only the visible rows plus some overscan and replaces them while scrolling.
+     * columns with more than 200 items are always rendered this way.
+     * @param virtualScrolling
+     * @return
+     */
+    public FinderColumn<T> setVirtualScrolling(boolean virtualScrolling) {
+        this.virtualScrolling = virtualScrolling;
+        return this;
+    }
+
     /**
      * renders the column without a header
      * @param plain
@@ -395,6 +431,21 @@ public class FinderColumn<T> {
         return selectionModel.getSelectedObject();
     }
 
+    /**
+     * @return the items within the visible part of the column (estimated if the column is not attached yet)
+     */
+    public List<T> getVisibleItems() {
+        int visibleRows = DEFAULT_VISIBLE_ROWS;
+        int first = 0;
+        if(scroll!=null && scroll.getOffsetHeight()>0) {
+            visibleRows = scroll.getOffsetHeight() / rowHeight + 1;
+            first = scroll.getVerticalScrollPosition() / rowHeight;
+        }
+        int start = Math.min(first, records.size());
+        int end = Math.min(records.size(), start + visibleRows);
+        return records.subList(start, end);
+    }
+
     public Widget asWidget() {
 
         LayoutPanel layout = new LayoutPanel();
@@ -410,8 +461,7 @@ public class FinderColumn<T> {
             headerTitle = new HTML(title);
             headerTitle.addStyleName("finder-col-title");
             header.add(headerTitle);
-            ScrollPanel nav = new ScrollPanel(cellTable);
-            nav.getElement().getStyle().setOverflowX(Style.Overflow.HIDDEN);
+            ScrollPanel nav = createScrollPanel();
 
 
             for (final MenuDelegate menuItem : topMenuItems) {
@@ -437,8 +487,7 @@ public class FinderColumn<T> {
         }
         else            // embedded mode, w/o header
         {
-            ScrollPanel nav = new ScrollPanel(cellTable);
-            nav.getElement().getStyle().setOverflowX(Style.Overflow.HIDDEN);
+            ScrollPanel nav = createScrollPanel();
 
             layout.add(nav);
             layout.setWidgetTopHeight(nav, 0, Style.Unit.PX, 100, Style.Unit.PCT);
@@ -454,8 +503,24 @@ public class FinderColumn<T> {
 
     public void updateFrom(final List<T> records, final boolean selectDefault) {
         selectionModel.clear();
-        cellTable.setRowCount(records.size(), true);
-        cellTable.setRowData(0, records);
+        this.records = records;
+        this.virtual = virtualScrolling || records.size() > VIRTUAL_THRESHOLD;
+
+        if(virtual) {
+            // keyboard navigation works on the backing list (see onKeyDown())
+            cellTable.setKeyboardSelectionPolicy(KeyboardSelectionPolicy.DISABLED);
+            if(scroll!=null)
+                scroll.setVerticalScrollPosition(0);
+            renderWindow(true);
+        }
+        else {
+            cellTable.setKeyboardSelectionPolicy(KeyboardSelectionPolicy.ENABLED);
+            topSpacer.setHeight("0px");
+            bottomSpacer.setHeight("0px");
+            cellTable.setVisibleRange(0, PAGE_SIZE);
+            cellTable.setRowCount(records.size(), true);
+            cellTable.setRowData(0, records);
+        }
 
         if(!plain) {
             if(showSize)
@@ -475,6 +540,129 @@ public class FinderColumn<T> {
         }
     }
 
+    private ScrollPanel createScrollPanel() {
+        // the spacers stand in for the rows outside the rendered window
+        FlowPanel body = new FlowPanel();
+        body.add(topSpacer);
+        body.add(cellTable);
+        body.add(bottomSpacer);
+
+        scroll = new ScrollPanel(body);
+        scroll.getElement().getStyle().setOverflowX(Style.Overflow.HIDDEN);
+        scroll.getElement().setTabIndex(0);
+        scroll.addScrollHandler(new ScrollHandler() {
+            @Override
+            public void onScroll(ScrollEvent event) {
+                if(virtual)
+                    renderWindow(false);
+            }
+        });
+        scroll.addDomHandler(new KeyDownHandler() {
+            @Override
+            public void onKeyDown(KeyDownEvent event) {
+                FinderColumn.this.onKeyDown(event);
+            }
+        }, KeyDownEvent.getType());
+        return scroll;
+    }
+
+    /**
+     * Renders the rows around the current scroll position. Nothing happens if the rendered window still covers the
+     * visible rows with some overscan, unless forced.
+     */
+    private void renderWindow(boolean force) {
+        int size = records.size();
+        int visibleRows = DEFAULT_VISIBLE_ROWS;
+        int first = 0;
+        if(scroll!=null && scroll.getOffsetHeight()>0) {
+            visibleRows = scroll.getOffsetHeight() / rowHeight + 1;
+            first = scroll.getVerticalScrollPosition() / rowHeight;
+        }
+        int windowSize = visibleRows + 2 * OVERSCAN;
+
+        if(!force && first - OVERSCAN / 2 >= windowStart
+                && first + visibleRows + OVERSCAN / 2 <= windowStart + windowSize)
+            return;
+
+        int start = Math.max(0, Math.min(first - OVERSCAN, size - windowSize));
+        int end = Math.min(size, start + windowSize);
+        windowStart = start;
+
+        topSpacer.setHeight(start * rowHeight + "px");
+        bottomSpacer.setHeight((size - end) * rowHeight + "px");
+        cellTable.setVisibleRange(start, end - start);
+        cellTable.setRowCount(size, true);
+        cellTable.setRowData(start, records.subList(start, end));
+
+        if(!rowHeightMeasured && end > start) {
+            Scheduler.get().scheduleDeferred(new Scheduler.ScheduledCommand() {
+                @Override
+                public void execute() {
+                    measureRowHeight();
+                }
+            });
+        }
+    }
+
+    private void measureRowHeight() {
+        if(!rowHeightMeasured && virtual && cellTable.getVisibleItemCount() > 0) {
+            int height = cellTable.getRowElement(0).getOffsetHeight();
+            if(height > 0) {
+                rowHeightMeasured = true;
+                if(height != rowHeight) {
+                    rowHeight = height;
+                    renderWindow(true);
+                }
+            }
+        }
+    }
+
+    /**
+     * up / down select the previous / next item of the backing list
+     */
+    private void onKeyDown(KeyDownEvent event) {
+        int code = event.getNativeKeyCode();
+        if(!virtual || records.isEmpty() || (code != KeyCodes.KEY_UP && code != KeyCodes.KEY_DOWN))
+            return;
+
+        event.preventDefault();
+        int index = indexOf(selectionModel.getSelectedObject());
+        int next;
+        if(index == -1)
+            next = 0;
+        else if(code == KeyCodes.KEY_DOWN)
+            next = Math.min(records.size() - 1, index + 1);
+        else
+            next = Math.max(0, index - 1);
+
+        selectionModel.setSelected(records.get(next), true);
+        scrollTo(next);
+    }
+
+    private int indexOf(T item) {
+        if(item!=null) {
+            Object key = keyProvider.getKey(item);
+            for (int i = 0; i < records.size(); i++) {
+                if(key.equals(keyProvider.getKey(records.get(i))))
+                    return i;
+            }
+        }
+        return -1;
+    }
+
+    private void scrollTo(int index) {
+        if(scroll==null)
+            return;
+        int top = index * rowHeight;
+        int position = scroll.getVerticalScrollPosition();
+        int height = scroll.getOffsetHeight();
+        if(top < position)
+            scroll.setVerticalScrollPosition(top);
+        else if(top + rowHeight > position + height)
+            scroll.setVerticalScrollPosition(top + rowHeight - height);
+        renderWindow(false);
+    }
+
     /**
      * renderer for the column content
      * @param <T>
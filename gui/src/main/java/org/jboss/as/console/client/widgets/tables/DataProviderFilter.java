@@ -22,11 +22,15 @@ import java.util.List;
  */
 public class DataProviderFilter<T> {
 
+    // delay between the last keystroke and filtering
+    private static final int DEBOUNCE = 150;
+
     private ListDataProvider<T> delegate;
     private ArrayList<T> origValues = new ArrayList<T>();
-    private Predicate predicate;
+    private FilterIndex<T> index;
     private TextBox filter;
     private Range origVisibleRange;
+    private int keystrokes;
 
 
     public interface Predicate<T> {
@@ -34,13 +38,28 @@ public class DataProviderFilter<T> {
         boolean apply(String prefix, T candiate);
     }
 
+    /**
+     * A predicate which matches if the text of a candidate contains the prefix (ignoring case). The texts are
+     * indexed, so filtering large tables stays fast.
+     */
+    public interface TextPredicate<T> extends Predicate<T> {
+
+        String text(T candidate);
+
+        @Override
+        default boolean apply(String prefix, T candidate) {
+            String text = text(candidate);
+            return text != null && text.toLowerCase().contains(prefix.toLowerCase());
+        }
+    }
+
     /**
      * @param delegate
      * @param predicate
      */
     public DataProviderFilter(ListDataProvider<T> delegate, Predicate<T> predicate) {
         this.delegate = delegate;
-        this.predicate = predicate;
+        this.index = new FilterIndex<T>(predicate);
         this.filter = new TextBox();
     }
 
@@ -75,6 +94,7 @@ public class DataProviderFilter<T> {
         // backup original
         origValues.clear();
         origValues.addAll(delegate.getList());
+        index.reset(origValues);
         origVisibleRange = delegate.getDataDisplays().iterator().next().getVisibleRange();
     }
 
@@ -89,21 +109,26 @@ public class DataProviderFilter<T> {
             @Override
             public void onKeyUp(KeyUpEvent keyUpEvent) {
 
-                Scheduler.get().scheduleDeferred(new Scheduler.ScheduledCommand() {
+                // only filter when the user stops typing
+                final int keystroke = ++keystrokes;
+                Scheduler.get().scheduleFixedDelay(new Scheduler.RepeatingCommand() {
 
                     @Override
-                    public void execute() {
-                        String prefix = filter.getText();
-
-                        if (prefix != null && !prefix.equals("")) {
-                            // filter by prefix
-                            filterByPrefix(prefix);
-                        } else {
-                            clearFilter();
+                    public boolean execute() {
+                        if (keystroke == keystrokes) {
+                            String prefix = filter.getText();
+
+                            if (prefix != null && !prefix.equals("")) {
+                                // filter by prefix
+                                filterByPrefix(prefix);
+                            } else {
+                                clearFilter();
+                            }
                         }
+                        return false;
                     }
 
-                });
+                }, DEBOUNCE);
             }
         });
         HorizontalPanel panel = new HorizontalPanel();
@@ -117,14 +142,14 @@ public class DataProviderFilter<T> {
 
     private void filterByPrefix(String prefix) {
 
+        final List<T> next = index.filter(prefix);
+        if (next.equals(delegate.getList())) {
+            return; // nothing changed
+        }
+
         clearSelection();
         delegate.getDataDisplays().iterator().next().setVisibleRange(origVisibleRange);
 
-        final List<T> next = new ArrayList<T>();
-        for (T item : origValues) {
-            if (predicate.apply(prefix, item)) { next.add(item); }
-        }
-
 
         delegate.getList().clear(); // cannot call setList() as that breaks the sort handler
         delegate.getList().addAll(next);
@@ -139,6 +164,7 @@ public class DataProviderFilter<T> {
     }
 
     public void clearFilter() {
+        index.filter(null);
         delegate.getList().clear(); // cannot call setList() as that breaks the sort handler
         delegate.getList().addAll(origValues);
         if (origVisibleRange != null) {
@@ -0,0 +1,133 @@
+package org.jboss.as.console.client.widgets.tables;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds the items which match a filter query. The result of a query is kept, so that a query which extends the
+ * previous one only checks the previous result. If the predicate is a {@link DataProviderFilter.TextPredicate}, an
+ * index of the trigrams of each item is built once per {@link #reset(List)}. Longer queries then only check the
+ * items which share the rarest trigram of the query.
+ * <p>
+ * The predicate is expected to be monotonic: An item which matches a query also matches every prefix of the query.
+ */
+public class FilterIndex<T> {
+
+    static final int GRAM = 3;
+
+    private final DataProviderFilter.Predicate<T> predicate;
+    private final List<T> items;
+    private final Map<String, List<Integer>> grams;
+    private String lastQuery;
+    private List<Integer> lastResult;
+
+    public FilterIndex(DataProviderFilter.Predicate<T> predicate) {
+        this.predicate = predicate;
+        this.items = new ArrayList<T>();
+        this.grams = new HashMap<String, List<Integer>>();
+    }
+
+    public void reset(List<T> values) {
+        items.clear();
+        items.addAll(values);
+        grams.clear();
+        lastQuery = null;
+        lastResult = null;
+
+        if (predicate instanceof DataProviderFilter.TextPredicate) {
+            DataProviderFilter.TextPredicate<T> textPredicate = (DataProviderFilter.TextPredicate<T>) predicate;
+            for (int i = 0; i < items.size(); i++) {
+                String text = textPredicate.text(items.get(i));
+                if (text != null) {
+                    for (String gram : grams(text.toLowerCase())) {
+                        List<Integer> positions = grams.get(gram);
+                        if (positions == null) {
+                            positions = new ArrayList<Integer>();
+                            grams.put(gram, positions);
+                        }
+                        positions.add(i);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the matching items in their original order
+     */
+    public List<T> filter(String query) {
+        if (query == null || query.isEmpty()) {
+            lastQuery = null;
+            lastResult = null;
+            return new ArrayList<T>(items);
+        }
+
+        List<Integer> candidates;
+        if (lastQuery != null && query.startsWith(lastQuery)) {
+            candidates = lastResult;
+        } else {
+            candidates = lookup(query);
+        }
+
+        List<Integer> result = new ArrayList<Integer>();
+        if (candidates == null) {
+            for (int i = 0; i < items.size(); i++) {
+                if (predicate.apply(query, items.get(i))) {
+                    result.add(i);
+                }
+            }
+        } else {
+            for (Integer i : candidates) {
+                if (predicate.apply(query, items.get(i))) {
+                    result.add(i);
+                }
+            }
+        }
+        lastQuery = query;
+        lastResult = result;
+
+        List<T> matches = new ArrayList<T>(result.size());
+        for (Integer i : result) {
+            matches.add(items.get(i));
+        }
+        return matches;
+    }
+
+    /**
+     * @return the positions of the rarest trigram of the query or {@code null} if the index can't narrow the
+     * candidates
+     */
+    private List<Integer> lookup(String query) {
+        if (grams.isEmpty() || query.length() < GRAM) {
+            return null;
+        }
+        List<Integer> rarest = null;
+        for (String gram : grams(query.toLowerCase())) {
+            List<Integer> positions = grams.get(gram);
+            if (positions == null) {
+                return Collections.emptyList();
+            }
+            if (rarest == null || positions.size() < rarest.size()) {
+                rarest = positions;
+            }
+        }
+        return rarest;
+    }
+
+    int size() {
+        return items.size();
+    }
+
+    static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<String>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+}
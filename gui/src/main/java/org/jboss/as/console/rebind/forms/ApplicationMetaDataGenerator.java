@@ -38,8 +38,10 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Heiko Braun
@@ -48,6 +50,21 @@ import java.util.List;
 public class ApplicationMetaDataGenerator extends Generator{
 
     private static final String BEAN_FACTORY_NAME = "org.jboss.as.console.client.shared.BeanFactory";
+
+    /**
+     * Java types for which a straight-line {@link org.jboss.as.console.client.widgets.forms.EntityConverter}
+     * is generated: type -> { ModelNode accessor, default value, unboxing suffix }
+     */
+    private static final Map<String, String[]> CONVERTER_TYPES = new HashMap<String, String[]>();
+
+    static {
+        CONVERTER_TYPES.put("java.lang.String", new String[]{"asString()", "\"\"", ""});
+        CONVERTER_TYPES.put("java.lang.Boolean", new String[]{"asBoolean()", "false", ".booleanValue()"});
+        CONVERTER_TYPES.put("java.lang.Long", new String[]{"asLong()", "-1L", ".longValue()"});
+        CONVERTER_TYPES.put("java.lang.Integer", new String[]{"asInt()", "-1", ".intValue()"});
+        CONVERTER_TYPES.put("java.lang.Double", new String[]{"asDouble()", "-1.0", ".doubleValue()"});
+    }
+
     /**
      * Simple name of class to be generated
      */
@@ -115,6 +132,10 @@ public class ApplicationMetaDataGenerator extends Generator{
         // Imports
         composerFactory.addImport("org.jboss.as.console.client.Console");
         composerFactory.addImport("org.jboss.as.console.client.widgets.forms.*");
+        composerFactory.addImport("org.jboss.as.console.client.shared.expr.ExpressionAdapter");
+        composerFactory.addImport("org.jboss.dmr.client.ModelNode");
+        composerFactory.addImport("org.jboss.dmr.client.ModelType");
+        composerFactory.addImport("com.allen_sauer.gwt.log.client.Log");
         composerFactory.addImport("java.util.*");
 
         // Interfaces
@@ -145,6 +166,7 @@ public class ApplicationMetaDataGenerator extends Generator{
         sourceWriter.println("private static Map<Class<?>, AddressBinding> addressing= new HashMap<Class<?>, AddressBinding>();");
         sourceWriter.println("private static Map<Class<?>, Mutator> mutators = new HashMap<Class<?>, Mutator>();");
         sourceWriter.println("private static Map<Class<?>, EntityFactory> factories = new HashMap<Class<?>, EntityFactory>();");
+        sourceWriter.println("private static Map<Class<?>, EntityConverter> converters = new HashMap<Class<?>, EntityConverter>();");
         sourceWriter.println("private static "+BEAN_FACTORY_NAME+" beanFactory = com.google.gwt.core.client.GWT.create("+BEAN_FACTORY_NAME+".class);");
     }
 
@@ -378,6 +400,12 @@ public class ApplicationMetaDataGenerator extends Generator{
         sourceWriter.outdent();
         sourceWriter.println("}");
 
+        sourceWriter.println("public <T> EntityConverter<T> getConverter(Class<T> type) {");
+        sourceWriter.indent();
+        sourceWriter.println("return converters.get(type);");
+        sourceWriter.outdent();
+        sourceWriter.println("}");
+
         generateMethodMethods(sourceWriter);
     }
 
@@ -512,6 +540,10 @@ public class ApplicationMetaDataGenerator extends Generator{
                                 "}\n"+
                                 "});\n");
 
+                        // -----------------------------
+                        // Converter
+
+                        generateConverter(sourceWriter, beanTypeClass, bindings);
 
                         sourceWriter.println("// ---- End " +beanTypeClass.getName() +" ----");
 
@@ -530,4 +562,111 @@ public class ApplicationMetaDataGenerator extends Generator{
         }
     }
 
+    /**
+     * Generates an {@link org.jboss.as.console.client.widgets.forms.EntityConverter} which reads and writes
+     * the bound properties without any runtime metadata lookups. It mirrors the conversion rules of
+     * {@link org.jboss.as.console.client.widgets.forms.EntityAdapter}. Bean types with properties other
+     * than the simple types in {@link #CONVERTER_TYPES} (i.e. lists) are left to the <code>EntityAdapter</code>.
+     */
+    private void generateConverter(SourceWriter sourceWriter, Class beanTypeClass, List<PropBindingDeclarations> bindings) {
+
+        List<BindingDeclaration> properties = new ArrayList<BindingDeclaration>();
+        for(PropBindingDeclarations binding : bindings)
+        {
+            BindingDeclaration bindDecl = binding.getBindingDeclaration();
+            if(bindDecl.skip()) continue;
+            if(!CONVERTER_TYPES.containsKey(bindDecl.getJavaTypeName())) return;
+            properties.add(bindDecl);
+        }
+
+        String beanType = beanTypeClass.getName();
+        sourceWriter.println("converters.put("+beanType+".class, new EntityConverter<"+beanType+">() {");
+        sourceWriter.indent();
+
+        // DMR -> entity
+        sourceWriter.println("public void fromDMR("+beanType+" entity, ModelNode payload, KeyAssignment keys) {");
+        sourceWriter.indent();
+        sourceWriter.println("ModelNode value;");
+        sourceWriter.println("Object key;");
+        for(BindingDeclaration bindDecl : properties)
+        {
+            String[] conversion = CONVERTER_TYPES.get(bindDecl.getJavaTypeName());
+            String setter = "entity.set" + bindDecl.getPropertyName();
+            String path = makePathString(bindDecl.getDetypedName());
+
+            if(bindDecl.expr())
+            {
+                sourceWriter.println("value = payload.get(" + path + ");");
+                sourceWriter.println("if(value.isDefined() && value.getType() == ModelType.EXPRESSION) {");
+                sourceWriter.indent();
+                sourceWriter.println("ExpressionAdapter.setExpressionValue(entity, \"" + bindDecl.getJavaName() + "\", value.asString());");
+                sourceWriter.outdent();
+                sourceWriter.println("} else {");
+            }
+            else
+            {
+                sourceWriter.println("{");
+            }
+            sourceWriter.indent();
+
+            if(bindDecl.key())
+            {
+                sourceWriter.println("key = keys != null ? keys.valueForKey(\"" + bindDecl.getJavaName() + "\") : " +
+                        "payload.hasDefined(\"" + bindDecl.getDetypedName() + "\") ? payload.get(\"" + bindDecl.getDetypedName() + "\").asString() : null;");
+                sourceWriter.println("if(key != null) " + setter + "((" + bindDecl.getJavaTypeName() + ") key);");
+                sourceWriter.println("else if(keys == null) Log.warn(\"Key property declared, but no key assignment available: " + bindDecl.getJavaName() + "\");");
+            }
+            else
+            {
+                if(!bindDecl.expr())
+                    sourceWriter.println("value = payload.get(" + path + ");");
+                sourceWriter.println(setter + "(value.isDefined() ? value." + conversion[0] + " : " + conversion[1] + ");");
+            }
+
+            sourceWriter.outdent();
+            sourceWriter.println("}");
+        }
+        sourceWriter.outdent();
+        sourceWriter.println("}");
+
+        // entity -> DMR
+        sourceWriter.println("public ModelNode fromEntity("+beanType+" entity) {");
+        sourceWriter.indent();
+        sourceWriter.println("ModelNode node = new ModelNode();");
+        sourceWriter.println("String expr;");
+        int idx = 0;
+        for(BindingDeclaration bindDecl : properties)
+        {
+            String[] conversion = CONVERTER_TYPES.get(bindDecl.getJavaTypeName());
+            String prefix = bindDecl.getJavaTypeName().equals("java.lang.Boolean") ? "is" : "get";
+            String path = makePathString(bindDecl.getDetypedName());
+            String local = "v_" + idx++;
+
+            sourceWriter.println(bindDecl.getJavaTypeName() + " " + local + " = entity." + prefix + bindDecl.getPropertyName() + "();");
+            if(bindDecl.expr())
+            {
+                sourceWriter.println("expr = ExpressionAdapter.getExpressionValue(entity, \"" + bindDecl.getJavaName() + "\");");
+                sourceWriter.println("if(expr != null) node.get(" + path + ").setExpression(expr);");
+                sourceWriter.print("else ");
+            }
+            sourceWriter.println("if(" + local + " != null) node.get(" + path + ").set(" + local + conversion[2] + ");");
+        }
+        sourceWriter.println("return node;");
+        sourceWriter.outdent();
+        sourceWriter.println("}");
+
+        sourceWriter.outdent();
+        sourceWriter.println("});");
+    }
+
+    private String makePathString(String detypedName) {
+        StringBuilder builder = new StringBuilder();
+        for (String segment : detypedName.split("/")) {
+            if (builder.length() > 0) {
+                builder.append(", ");
+            }
+            builder.append("\"").append(segment).append("\"");
+        }
+        return builder.toString();
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011 Red Hat Inc. and/or its affiliates and other contributors
+ * as indicated by the @author tags. All rights reserved.
+ * See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This copyrighted material is made available to anyone wishing to use,
+ * modify, copy, or redistribute it subject to the terms and conditions
+ * of the GNU Lesser General Public License, v. 2.1.
+ * This program is distributed in the hope that it will be useful, but WITHOUT A
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License,
+ * v.2.1 along with this distribution; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA  02110-1301, USA.
+ */
+
+package org.jboss.as.console.server.proxy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of fixed-size buffers used to stream request and response bodies through the proxy, so that the memory
+ * used per request stays constant regardless of the payload size.
+ */
+final class BufferPool {
+
+    static final int BUFFER_SIZE = 16 * 1024;
+    private static final int MAX_POOLED = 64;
+
+    private static final ConcurrentLinkedQueue<byte[]> buffers = new ConcurrentLinkedQueue<byte[]>();
+    private static final AtomicInteger pooled = new AtomicInteger();
+
+    private BufferPool() {}
+
+    static byte[] acquire() {
+        byte[] buffer = buffers.poll();
+        if (buffer != null) {
+            pooled.decrementAndGet();
+            return buffer;
+        }
+        return new byte[BUFFER_SIZE];
+    }
+
+    static void release(byte[] buffer) {
+        if (pooled.incrementAndGet() <= MAX_POOLED) {
+            buffers.offer(buffer);
+        } else {
+            pooled.decrementAndGet();
+        }
+    }
+
+    /**
+     * Copies the input to the output using a pooled buffer. Neither stream is closed.
+     *
+     * @return the number of bytes copied
+     */
+    static long copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = acquire();
+        try {
+            long count = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+                count += read;
+            }
+            return count;
+        } finally {
+            release(buffer);
+        }
+    }
+
+    /**
+     * Reads the remaining input and closes it. A fully consumed response allows the JDK to return the underlying
+     * connection to its keep-alive cache.
+     */
+    static void discard(InputStream in) {
+        if (in == null) {
+            return;
+        }
+        byte[] buffer = acquire();
+        try {
+            while (in.read(buffer) != -1) {
+                // drain
+            }
+        } catch (IOException e) {
+            // connection won't be reused
+        } finally {
+            release(buffer);
+            try {
+                in.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+}
@@ -19,6 +19,7 @@
 
 package org.jboss.as.console.server.proxy;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -29,6 +30,7 @@ import java.security.Security;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.Semaphore;
 import java.util.logging.Logger;
 
 /**
@@ -40,7 +42,10 @@ import java.util.logging.Logger;
  */
 public class HttpClient {
 
+    public static final int DEFAULT_MAX_CONNECTIONS = 20;
+
     private static Logger logger;
+    private static volatile Semaphore connectionPermits = new Semaphore(DEFAULT_MAX_CONNECTIONS, true);
     private String proxyHost = null;
     private int proxyPort = -1;
     private boolean isHttps = false;
@@ -271,7 +276,7 @@ public class HttpClient {
                     HttpClient redirectClient =
                             new HttpClient(proxyHost,proxyPort, urlConnection.getHeaderField("Location"),
                                     headers, urlConnection.getRequestMethod(), callback, authHeader);
-                    redirectClient.getInputStream().close();
+                    BufferPool.discard(redirectClient.getInputStream());
                 }
             }
             catch (Throwable e)
@@ -313,15 +318,33 @@ public class HttpClient {
      * @return InputStream input stream from URLConnection
      */
     public InputStream doPost(byte[] postData, String contentType) {
+        return doPost(new ByteArrayInputStream(postData), postData.length, contentType);
+    }
+
+    /**
+     * Streams the data to the connection and returns the InputStream. Unless a streaming mode is set,
+     * the URLConnection buffers the complete body in memory before sending it.
+     *
+     * @param postData data to be posted
+     * @param contentLength the length of the data or -1 if unknown, in which case chunked encoding is used.
+     * @param contentType allows you to set the contentType of the request.
+     * @return InputStream input stream from URLConnection
+     */
+    public InputStream doPost(InputStream postData, long contentLength, String contentType) {
         this.urlConnection.setDoOutput(true);
         if (contentType != null) this.urlConnection.setRequestProperty( "Content-type", contentType );
+        if (contentLength >= 0) {
+            this.urlConnection.setFixedLengthStreamingMode(contentLength);
+        } else {
+            this.urlConnection.setChunkedStreamingMode(BufferPool.BUFFER_SIZE);
+        }
 
         OutputStream out = null;
         try {
             out = this.getOutputStream();
             if(out!=null)
             {
-                out.write(postData);
+                BufferPool.copy(postData, out);
                 out.flush();
             }
         } catch (IOException e) {
@@ -371,5 +394,17 @@ public class HttpClient {
         return logger;
     }
 
+    /**
+     * Bounds the number of concurrent requests to the backend. Idle connections are kept alive and reused by the
+     * JDK as long as responses are fully consumed.
+     */
+    public static void setMaxConnections(int maxConnections) {
+        connectionPermits = new Semaphore(maxConnections, true);
+    }
+
+    static Semaphore getConnectionPermits() {
+        return connectionPermits;
+    }
+
 
 }
\ No newline at end of file
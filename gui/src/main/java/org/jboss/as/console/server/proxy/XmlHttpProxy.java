@@ -23,8 +23,10 @@ package org.jboss.as.console.server.proxy;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.util.ArrayList;
@@ -32,6 +34,8 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javax.xml.transform.Transformer;
@@ -50,6 +54,11 @@ public class XmlHttpProxy {
     public static String DELETE = "DELETE";
     public static String PUT = "PUT";
 
+    /**
+     * How long to wait for a free backend connection before answering with 503
+     */
+    private static final long CONNECTION_TIMEOUT = 30;
+
     private String userName = null;
     private String password = null;
     private static Logger logger;
@@ -80,6 +89,18 @@ public class XmlHttpProxy {
         Map<String, Cookie> getCookies();
     }
 
+    /**
+     * Receives the response meta data before the payload is written to the output stream.
+     */
+    public interface ResponseCallback
+    {
+        /**
+         * @param contentEncoding the content encoding of the payload, which is passed through untouched (i.e. gzip)
+         * @param contentLength the length of the payload or -1 if unknown
+         */
+        void onResponse(int status, String contentType, String contentEncoding, int contentLength);
+    }
+
     public XmlHttpProxy(String proxyHost, int proxyPort) {
         this.proxyHost = proxyHost;
         this.proxyPort = proxyPort;
@@ -137,6 +158,36 @@ public class XmlHttpProxy {
         doProcess(urlString, out, xslInputStream, paramsMap, headers, XmlHttpProxy.POST, postData, postContentType, userName, password);
     }
 
+    /**
+     * Streams the request body (if any) to the backend and the response payload to the given output stream without
+     * buffering either of them.
+     *
+     * @param urlString - The URL which you are looking up
+     * @param out - The OutputStream to which the resulting document is written
+     * @param paramsMap - A Map of parameters. This may be set to null if no parameters are necessary.
+     * @param method - the HTTP method used.
+     * @param body - The request body. If not null, the body is posted.
+     * @param contentLength - The length of the body or -1 if unknown.
+     * @param contentType - The request contentType used when posting data.
+     * @param responseCallback - Notified about the response before the payload is written.
+     */
+    public void processRequest(String urlString,
+                               OutputStream out,
+                               Map paramsMap,
+                               Map headers,
+                               String method,
+                               InputStream body,
+                               long contentLength,
+                               String contentType,
+                               String userName,
+                               String password,
+                               String authHeader,
+                               ResponseCallback responseCallback) throws IOException, MalformedURLException {
+        this.authHeader = authHeader;
+        process(urlString, out, null, paramsMap, headers, method, body, contentLength, contentType, userName, password,
+                responseCallback);
+    }
+
     /**
      * This method will go out and make the call and it will apply an XSLT Transformation with the
      * set of parameters provided.
@@ -162,6 +213,55 @@ public class XmlHttpProxy {
                           String userName,
                           String password) throws IOException, MalformedURLException {
 
+        InputStream body = postData != null ? new ByteArrayInputStream(postData) : null;
+        long contentLength = postData != null ? postData.length : -1;
+        process(urlString, out, xslInputStream, paramsMap, headers, method, body, contentLength, postContentType,
+                userName, password, null);
+    }
+
+    private void process(String urlString,
+                         OutputStream out,
+                         InputStream xslInputStream,
+                         Map paramsMap,
+                         Map headers,
+                         String method,
+                         InputStream postData,
+                         long contentLength,
+                         String postContentType,
+                         String userName,
+                         String password,
+                         ResponseCallback responseCallback) throws IOException, MalformedURLException {
+
+        Semaphore permits = HttpClient.getConnectionPermits();
+        try {
+            if (!permits.tryAcquire(CONNECTION_TIMEOUT, TimeUnit.SECONDS)) {
+                throw new ServiceUnavailableException("2");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a backend connection");
+        }
+        try {
+            processWithPermit(urlString, out, xslInputStream, paramsMap, headers, method, postData, contentLength,
+                    postContentType, userName, password, responseCallback);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void processWithPermit(String urlString,
+                                   OutputStream out,
+                                   InputStream xslInputStream,
+                                   Map paramsMap,
+                                   Map headers,
+                                   String method,
+                                   InputStream postData,
+                                   long contentLength,
+                                   String postContentType,
+                                   String userName,
+                                   String password,
+                                   ResponseCallback responseCallback) throws IOException, MalformedURLException {
+
         if (paramsMap == null) {
             paramsMap = new HashMap();
         }
@@ -198,7 +298,7 @@ public class XmlHttpProxy {
         if (postData == null) {
             in = httpclient.getInputStream();
         } else {
-            in = httpclient.doPost(postData, postContentType);
+            in = httpclient.doPost(postData, contentLength, postContentType);
         }
 
         // Set-Cookie header
@@ -252,6 +352,9 @@ public class XmlHttpProxy {
 
         if(responseCode != 200)
         {
+            // consume the error payload to keep the connection alive
+            BufferPool.discard(in);
+
             if(401== responseCode || 403==responseCode)
             {
                 // authentication required
@@ -298,12 +401,13 @@ public class XmlHttpProxy {
             }
         }
 
-        pipeResponsePayload(out, xslInputStream, paramsMap, in, httpclient);
+        pipeResponsePayload(out, xslInputStream, paramsMap, in, httpclient, responseCallback);
 
 
     }
 
-    private void pipeResponsePayload(OutputStream out, InputStream xslInputStream, Map paramsMap, InputStream in, HttpClient httpclient) {
+    private void pipeResponsePayload(OutputStream out, InputStream xslInputStream, Map paramsMap, InputStream in,
+            HttpClient httpclient, ResponseCallback responseCallback) {
         // read the encoding from the incoming document and default to UTF-8
         // if an encoding is not provided
         String ce = httpclient.getContentEncoding();
@@ -323,6 +427,12 @@ public class XmlHttpProxy {
         // get the content type
         this.contentType = httpclient.getContentType();
         this.status = httpclient.getResponseCode();
+        if (responseCallback != null) {
+            // the payload is passed through as is, so is the content encoding (unless it's transformed)
+            boolean transform = xslInputStream != null;
+            responseCallback.onResponse(status, contentType, transform ? null : httpclient.getContentEncoding(),
+                    transform ? -1 : httpclient.getContentLength());
+        }
 
         // write out the content type
         //http://www.ietf.org/rfc/rfc4627.txt
@@ -331,14 +441,8 @@ public class XmlHttpProxy {
 
             // response stream
 
-            byte[] buffer = new byte[1024];
-            int read = 0;
             if (xslInputStream == null) {
-                while (true) {
-                    read = in.read(buffer);
-                    if (read <= 0) break;
-                    out.write(buffer, 0, read );
-                }
+                BufferPool.copy(in, out);
             } else {
                 transform(in, xslInputStream, paramsMap, out, ce);
             }
@@ -27,8 +27,6 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
-import java.io.BufferedInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -80,6 +78,9 @@ import java.util.logging.Logger;
  *    service.passThrough=true
  * </pre>
  *
+ * Request and response bodies are streamed. The number of concurrent backend connections is bounded by the
+ * <code>maxConnections</code> init parameter (defaults to {@link HttpClient#DEFAULT_MAX_CONNECTIONS}).
+ *
  * @author Greg Murray
  * @author Heiko Braun
  */
@@ -185,6 +186,18 @@ public class XmlHttpProxyServlet extends HttpServlet
             xhp = new XmlHttpProxy();
         }
 
+        // bound the backend connections
+        int maxConnections = HttpClient.DEFAULT_MAX_CONNECTIONS;
+        String maxConnectionsString = config.getInitParameter("maxConnections");
+        if (maxConnectionsString != null) {
+            try {
+                maxConnections = Integer.parseInt(maxConnectionsString);
+            } catch (NumberFormatException nfe) {
+                throw new ServletException("XmlHttpProxyServlet: intialization error. The maxConnections must be a number");
+            }
+        }
+        HttpClient.setMaxConnections(maxConnections);
+
         // config override
         String servletName = config.getServletName();
         String configName = config.getInitParameter("config.name");
@@ -233,32 +246,14 @@ public class XmlHttpProxyServlet extends HttpServlet
         doProcess(req,res, XmlHttpProxy.PUT);
     }
 
-    public void doProcess(HttpServletRequest req, HttpServletResponse res, String method)
+    public void doProcess(HttpServletRequest req, final HttpServletResponse res, String method)
     {
 
         boolean isPost = XmlHttpProxy.POST.equals(method);
 
-        ByteArrayOutputStream bos = new ByteArrayOutputStream();
-        byte[] bodyContent = null;
-
         OutputStream out = null;
         PrintWriter writer = null;
 
-        try {
-
-            BufferedInputStream in = new BufferedInputStream(req.getInputStream());
-            int next = in.read();
-            while (next > -1) {
-                bos.write(next);
-                next = in.read();
-            }
-
-            bodyContent = bos.toByteArray();
-
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-
         try
         {
             HttpSession session = null;
@@ -321,7 +316,7 @@ public class XmlHttpProxyServlet extends HttpServlet
                     String sname = name.substring(headerToken.length(), name.length());
                     headers.put(sname,value);
                 }
-                else if (name.equals("Accept"))
+                else if (name.equals("Accept") || name.equals("Accept-Encoding"))
                 {
                     if (headers == null) headers = new HashMap();
 
@@ -456,8 +451,6 @@ public class XmlHttpProxyServlet extends HttpServlet
                 paramsMap.put("count", countString);
             }
 
-            InputStream xslInputStream = null;
-
             if (urlString == null) {
                 writer = res.getWriter();
                 writer.write("XmlHttpProxyServlet parameters:  id[Required] urlparams[Optional] format[Optional] callback[Optional]");
@@ -471,19 +464,23 @@ public class XmlHttpProxyServlet extends HttpServlet
 
             out = res.getOutputStream();
 
-            if (!isPost)
-            {
-                xhp.processRequest(urlString, out, xslInputStream, paramsMap, headers, method, userName, password, authHeader);
-            }
-            else
-            {
-                if (bodyContent == null)
-                    getLogger().info("XmlHttpProxyServlet attempting to post to url " + urlString + " with no body content");
-                xhp.doPost(urlString, out, xslInputStream, paramsMap, headers, bodyContent, req.getContentType(), userName, password, authHeader);
-            }
-
-            res.setContentType(xhp.getContentType());
-            res.setStatus(xhp.getStatus());
+            // stream the request body to the backend and the response back to the client
+            xhp.processRequest(urlString, out, paramsMap, headers, method,
+                    isPost ? req.getInputStream() : null, req.getContentLength(), req.getContentType(),
+                    userName, password, authHeader, new XmlHttpProxy.ResponseCallback() {
+                        @Override
+                        public void onResponse(int status, String contentType, String contentEncoding,
+                                int contentLength) {
+                            res.setStatus(status);
+                            res.setContentType(contentType);
+                            if (contentEncoding != null) {
+                                res.setHeader("Content-Encoding", contentEncoding);
+                            }
+                            if (contentLength >= 0) {
+                                res.setContentLength(contentLength);
+                            }
+                        }
+                    });
 
         }
         catch (Exception iox)
@@ -0,0 +1,181 @@
+package org.jboss.as.console.client.core.bootstrap.hal;
+
+import org.jboss.as.console.client.core.BootstrapContext;
+import org.jboss.gwt.flow.client.Control;
+import org.jboss.gwt.flow.client.Outcome;
+import org.jboss.gwt.flow.client.TestScheduler;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class BootstrapGraphTest {
+
+    /**
+     * Logs its execution and keeps its control for the test to complete it.
+     */
+    static abstract class TestStep implements BootstrapStep {
+
+        private final List<Class<? extends BootstrapStep>> prerequisites;
+        Control<BootstrapContext> control;
+
+        @SafeVarargs
+        TestStep(Class<? extends BootstrapStep>... prerequisites) {
+            this.prerequisites = Arrays.asList(prerequisites);
+        }
+
+        @Override
+        public void execute(Control<BootstrapContext> control) {
+            this.control = control;
+            log.add(getClass().getSimpleName());
+        }
+
+        @Override
+        public List<Class<? extends BootstrapStep>> prerequisites() {
+            return prerequisites;
+        }
+
+        boolean started() {
+            return control != null;
+        }
+    }
+
+
+    static class A extends TestStep {}
+
+    static class B extends TestStep {}
+
+    static class C extends TestStep {
+        @SuppressWarnings("unchecked")
+        C() {super(A.class, B.class);}
+    }
+
+    static class D extends TestStep {
+        @SuppressWarnings("unchecked")
+        D() {super(C.class);}
+    }
+
+    static class Cyclic1 extends TestStep {
+        @SuppressWarnings("unchecked")
+        Cyclic1() {super(Cyclic2.class);}
+    }
+
+    static class Cyclic2 extends TestStep {
+        @SuppressWarnings("unchecked")
+        Cyclic2() {super(Cyclic1.class);}
+    }
+
+
+    static List<String> log;
+    private TestScheduler scheduler;
+    private int success;
+    private int failure;
+    private Outcome<BootstrapContext> outcome;
+
+    @Before
+    public void setUp() {
+        log = new ArrayList<>();
+        scheduler = new TestScheduler();
+        success = 0;
+        failure = 0;
+        outcome = new Outcome<BootstrapContext>() {
+            @Override
+            public void onFailure(BootstrapContext context) {
+                failure++;
+            }
+
+            @Override
+            public void onSuccess(BootstrapContext context) {
+                success++;
+            }
+        };
+    }
+
+
+    // ------------------------------------------------------ test methods
+
+    @Test
+    public void dependencyOrder() {
+        A a = new A();
+        B b = new B();
+        C c = new C();
+        D d = new D();
+        BootstrapGraph graph = new BootstrapGraph(scheduler).add("D", d).add("C", c).add("B", b).add("A", a);
+        graph.execute(new BootstrapContext(), outcome);
+        scheduler.flush();
+
+        // independent steps run concurrently
+        assertEquals(Arrays.asList("B", "A"), log);
+
+        a.control.proceed();
+        assertFalse(c.started());
+        b.control.proceed();
+        assertTrue(c.started());
+        assertFalse(d.started());
+
+        c.control.proceed();
+        assertTrue(d.started());
+        d.control.proceed();
+        scheduler.flush();
+
+        assertEquals(Arrays.asList("B", "A", "C", "D"), log);
+        assertEquals(1, success);
+        assertEquals(0, failure);
+
+        List<BootstrapGraph.Timing> timings = graph.getTimings();
+        assertEquals(4, timings.size());
+        for (BootstrapGraph.Timing timing : timings) {
+            assertTrue(timing.getEnd() >= timing.getStart());
+            assertFalse(timing.isAborted());
+            assertNotNull(timing.getDispatch());
+        }
+    }
+
+    @Test
+    public void failure() {
+        A a = new A();
+        B b = new B();
+        C c = new C();
+        BootstrapGraph graph = new BootstrapGraph(scheduler).add("A", a).add("B", b).add("C", c);
+        graph.execute(new BootstrapContext(), outcome);
+        scheduler.flush();
+
+        a.control.abort();
+        // late completions are ignored and dependent steps are not started
+        b.control.proceed();
+        scheduler.flush();
+
+        assertFalse(c.started());
+        assertEquals(0, success);
+        assertEquals(1, failure);
+
+        List<BootstrapGraph.Timing> timings = graph.getTimings();
+        assertEquals(2, timings.size());
+        assertTrue(timings.get(0).isAborted());
+        assertFalse(timings.get(1).isAborted());
+    }
+
+    @Test
+    public void noSteps() {
+        new BootstrapGraph(scheduler).execute(new BootstrapContext(), outcome);
+        scheduler.flush();
+        assertEquals(1, success);
+        assertEquals(Collections.emptyList(), log);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownPrerequisite() {
+        new BootstrapGraph(scheduler).add("C", new C()).add("A", new A()).execute(new BootstrapContext(), outcome);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cyclicPrerequisites() {
+        new BootstrapGraph(scheduler).add("A", new A()).add("Cyclic1", new Cyclic1()).add("Cyclic2", new Cyclic2())
+                .execute(new BootstrapContext(), outcome);
+    }
+}
@@ -0,0 +1,205 @@
+package org.jboss.as.console.client.domain.topology;
+
+import org.jboss.as.console.client.domain.model.ServerInstance;
+import org.jboss.as.console.client.domain.model.impl.LifecycleOperation;
+import org.jboss.as.console.client.v3.stores.domain.ServerRef;
+import org.jboss.dmr.client.ModelNode;
+import org.jboss.dmr.client.StaticDispatcher;
+import org.jboss.dmr.client.StaticDmrResponse;
+import org.jboss.gwt.flow.client.Progress;
+import org.jboss.gwt.flow.client.TestScheduler;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.jboss.as.console.client.domain.topology.ServerLifecycleMonitor.*;
+import static org.jboss.dmr.client.ModelDescriptionConstants.*;
+import static org.junit.Assert.*;
+
+public class ServerLifecycleMonitorTest {
+
+    static class CountingCallback implements LifecycleCallback {
+
+        int success;
+        int timeout;
+        int abort;
+        int error;
+        Throwable caught;
+
+        @Override
+        public void onSuccess() {
+            success++;
+        }
+
+        @Override
+        public void onTimeout() {
+            timeout++;
+        }
+
+        @Override
+        public void onAbort() {
+            abort++;
+        }
+
+        @Override
+        public void onError(final Throwable caught) {
+            this.caught = caught;
+            error++;
+        }
+
+        int calls() {
+            return success + timeout + abort + error;
+        }
+    }
+
+
+    private static final List<ServerRef> SERVERS = Arrays.asList(new ServerRef("master", "server-one"),
+            new ServerRef("master", "server-two"));
+
+    private StaticDispatcher dispatcher;
+    private TestScheduler scheduler;
+    private ServerLifecycleMonitor monitor;
+    private CountingCallback callback;
+
+    @Before
+    public void setUp() {
+        dispatcher = new StaticDispatcher();
+        scheduler = new TestScheduler();
+        monitor = new ServerLifecycleMonitor(dispatcher, new Progress.Nop(), scheduler);
+        callback = new CountingCallback();
+    }
+
+
+    // ------------------------------------------------------ test methods
+
+    @Test
+    public void settled() {
+        monitor.await(LifecycleOperation.START, SERVERS, callback);
+
+        dispatcher.push(status("started", "starting"));
+        scheduler.advance(MIN_DELAY);
+        assertEquals(0, callback.calls());
+
+        dispatcher.push(status("started", "started"));
+        scheduler.advance(MIN_DELAY);
+        assertEquals(1, callback.success);
+        assertEquals(1, callback.calls());
+        assertEquals(0, scheduler.pendingTimers());
+    }
+
+    @Test
+    public void backoff() {
+        monitor.await(LifecycleOperation.STOP, SERVERS, callback);
+
+        // the first reading is a change
+        dispatcher.push(status("started", "started"));
+        scheduler.advance(MIN_DELAY);
+        assertEquals(MIN_DELAY, monitor.getDelay());
+
+        dispatcher.push(status("started", "started"));
+        scheduler.advance(MIN_DELAY);
+        assertEquals((int) (MIN_DELAY * BACKOFF), monitor.getDelay());
+
+        for (int i = 0; i < 10; i++) {
+            dispatcher.push(status("started", "started"));
+            scheduler.advance(monitor.getDelay());
+        }
+        assertEquals(MAX_DELAY, monitor.getDelay());
+
+        // a status change resets the delay
+        dispatcher.push(status("stopped", "started"));
+        scheduler.advance(monitor.getDelay());
+        assertEquals(MIN_DELAY, monitor.getDelay());
+        assertEquals(0, callback.calls());
+    }
+
+    @Test
+    public void readFailure() {
+        monitor.await(LifecycleOperation.START, SERVERS, callback);
+
+        // the status can't be read: keep waiting, but back off
+        dispatcher.setFailure(new RuntimeException("busy"));
+        scheduler.advance(MIN_DELAY);
+        assertEquals((int) (MIN_DELAY * BACKOFF), monitor.getDelay());
+        assertEquals(0, callback.calls());
+
+        dispatcher.clearFailure();
+        dispatcher.push(status("started", "started"));
+        scheduler.advance(monitor.getDelay());
+        assertEquals(1, callback.success);
+    }
+
+    @Test
+    public void cancel() {
+        ServerLifecycleMonitor.Waiter waiter = monitor.await(LifecycleOperation.START, SERVERS, callback);
+        waiter.cancel();
+        waiter.cancel();
+
+        // the status is not read anymore (the dispatcher would fail w/o results)
+        scheduler.advance(MAX_DELAY);
+        assertEquals(1, callback.abort);
+        assertEquals(1, callback.calls());
+        assertEquals(0, scheduler.pendingTimers());
+    }
+
+    @Test
+    public void operationFailure() {
+        TopologyOp op = new TopologyOp(LifecycleOperation.START, callback, monitor) {
+            @Override
+            public void run() {
+                await(SERVERS);
+                new BooleanCallback().onFailure(new RuntimeException("failed"));
+            }
+        };
+        op.run();
+        scheduler.advance(MAX_DELAY);
+
+        assertEquals(1, callback.error);
+        assertEquals(1, callback.calls());
+        assertEquals(0, scheduler.pendingTimers());
+    }
+
+    @Test
+    public void operationFailureResponse() {
+        TopologyOp op = new TopologyOp(LifecycleOperation.STOP, callback, monitor) {
+            @Override
+            public void run() {
+                await(SERVERS);
+                new BooleanCallback().onSuccess(false);
+            }
+        };
+        op.run();
+        scheduler.advance(MAX_DELAY);
+
+        assertEquals(1, callback.error);
+        assertEquals(1, callback.calls());
+    }
+
+    @Test
+    public void unsupportedOperations() {
+        new ServerGroupOp(LifecycleOperation.KILL, callback, monitor, null, "main-server-group",
+                Collections.<HostInfo, List<ServerInstance>>emptyMap()).run();
+        new ServerGroupOpV3(LifecycleOperation.RELOAD, callback, monitor, null, "main-server-group",
+                Collections.<org.jboss.as.console.client.domain.model.Server>emptyList()).run();
+        new ServerInstanceOp(LifecycleOperation.RESTART, callback, monitor, null, "master", "server-one").run();
+
+        // nothing is dispatched and nobody waits
+        assertEquals(0, scheduler.pendingTimers());
+        assertEquals(3, callback.error);
+        assertEquals(3, callback.calls());
+        assertTrue(callback.caught instanceof UnsupportedOperationException);
+    }
+
+    private StaticDmrResponse status(String... values) {
+        ModelNode result = new ModelNode();
+        for (int i = 0; i < values.length; i++) {
+            ModelNode step = result.get("step-" + (i + 1));
+            step.get(OUTCOME).set(SUCCESS);
+            step.get(RESULT).set(values[i]);
+        }
+        return (StaticDmrResponse) StaticDmrResponse.ok(result);
+    }
+}
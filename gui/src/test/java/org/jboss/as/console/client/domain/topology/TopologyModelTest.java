@@ -0,0 +1,181 @@
+package org.jboss.as.console.client.domain.topology;
+
+import org.jboss.as.console.client.domain.model.ServerFlag;
+import org.jboss.as.console.client.domain.model.ServerInstance;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.singletonMap;
+import static org.jboss.as.console.client.domain.topology.TopologyModel.key;
+import static org.junit.Assert.*;
+
+public class TopologyModelTest {
+
+    static class TestServer implements ServerInstance {
+
+        private String name;
+        private boolean running;
+        private String server;
+        private String group;
+        private ServerFlag flag;
+        private String host;
+        private Map<String, String> interfaces = new HashMap<String, String>();
+        private Map<String, String> socketBindings = new HashMap<String, String>();
+        private String profile;
+        private String suspendState;
+
+        TestServer(String host, String name, String group, boolean running) {
+            this.host = host;
+            this.name = name;
+            this.server = name;
+            this.group = group;
+            this.running = running;
+        }
+
+        @Override public String getName() { return name; }
+        @Override public void setName(String name) { this.name = name; }
+        @Override public boolean isRunning() { return running; }
+        @Override public void setRunning(boolean b) { this.running = b; }
+        @Override public String getServer() { return server; }
+        @Override public void setServer(String server) { this.server = server; }
+        @Override public String getGroup() { return group; }
+        @Override public void setGroup(String group) { this.group = group; }
+        @Override public ServerFlag getFlag() { return flag; }
+        @Override public void setFlag(ServerFlag state) { this.flag = state; }
+        @Override public String getHost() { return host; }
+        @Override public void setHost(String hostName) { this.host = hostName; }
+        @Override public Map<String, String> getInterfaces() { return interfaces; }
+        @Override public void setInterfaces(Map<String, String> interfaces) { this.interfaces = interfaces; }
+        @Override public Map<String, String> getSocketBindings() { return socketBindings; }
+        @Override public void setSocketBindings(Map<String, String> sockets) { this.socketBindings = sockets; }
+        @Override public String getProfile() { return profile; }
+        @Override public void setProfile(String name) { this.profile = name; }
+        @Override public String getSuspendState() { return suspendState; }
+        @Override public void setSuspendState(String suspendState) { this.suspendState = suspendState; }
+    }
+
+
+    private TopologyModel model;
+    private TestServer one;
+    private TestServer two;
+    private Set<String> hosts;
+    private Set<String> groups;
+    private Map<String, String> status;
+    private Map<String, String> assignments;
+
+    @Before
+    public void setUp() {
+        one = new TestServer("master", "server-one", "main-server-group", true);
+        two = new TestServer("master", "server-two", "other-server-group", false);
+        HostInfo master = new HostInfo("master", true);
+        master.setServerInstances(Arrays.<ServerInstance>asList(one, two));
+
+        hosts = new HashSet<String>(Arrays.asList("master"));
+        groups = new HashSet<String>(Arrays.asList("main-server-group", "other-server-group"));
+        model = new TopologyModel();
+        model.reset(Arrays.asList(master), groups);
+
+        status = new HashMap<String, String>();
+        status.put(key("master", "server-one"), "STARTED");
+        status.put(key("master", "server-two"), "STOPPED");
+        assignments = new HashMap<String, String>();
+        assignments.put(key("master", "server-one"), "main-server-group");
+        assignments.put(key("master", "server-two"), "other-server-group");
+    }
+
+
+    // ------------------------------------------------------ test methods
+
+    @Test
+    public void noSnapshot() {
+        model.clear();
+        assertNull(apply(noStates(), noStates()));
+    }
+
+    @Test
+    public void unchanged() {
+        TopologyModel.Delta delta = apply(noStates(), noStates());
+        assertNotNull(delta);
+        assertTrue(delta.changed.isEmpty());
+        assertTrue(delta.started.isEmpty());
+    }
+
+    @Test
+    public void structuralChange() {
+        assertNull(model.apply(new HashSet<String>(Arrays.asList("master", "slave")), groups, status, assignments,
+                noStates(), noStates()));
+        assertNull(model.apply(hosts, new HashSet<String>(Arrays.asList("main-server-group")), status, assignments,
+                noStates(), noStates()));
+
+        status.put(key("master", "server-three"), "STOPPED");
+        assertNull(apply(noStates(), noStates()));
+    }
+
+    @Test
+    public void groupReassignment() {
+        assignments.put(key("master", "server-two"), "main-server-group");
+        assertNull(apply(noStates(), noStates()));
+    }
+
+    @Test
+    public void started() {
+        status.put(key("master", "server-two"), "STARTED");
+        TopologyModel.Delta delta = apply(noStates(), noStates());
+
+        assertEquals(Arrays.<ServerInstance>asList(two), delta.started);
+        assertEquals(Arrays.<ServerInstance>asList(two), delta.changed);
+        assertTrue(two.isRunning());
+    }
+
+    @Test
+    public void stopped() {
+        one.getSocketBindings().put("standard-sockets", "0");
+        status.put(key("master", "server-one"), "STOPPED");
+        TopologyModel.Delta delta = apply(noStates(), noStates());
+
+        assertTrue(delta.started.isEmpty());
+        assertEquals(Arrays.<ServerInstance>asList(one), delta.changed);
+        assertFalse(one.isRunning());
+        assertTrue(one.getSocketBindings().isEmpty());
+    }
+
+    @Test
+    public void flagAndSuspendState() {
+        TopologyModel.Delta delta = apply(singletonMap(key("master", "server-one"), "reload-required"),
+                singletonMap(key("master", "server-one"), "SUSPENDED"));
+
+        assertEquals(Arrays.<ServerInstance>asList(one), delta.changed);
+        assertEquals(ServerFlag.RELOAD_REQUIRED, one.getFlag());
+        assertEquals("SUSPENDED", one.getSuspendState());
+
+        delta = apply(singletonMap(key("master", "server-one"), "running"),
+                singletonMap(key("master", "server-one"), "RUNNING"));
+        assertEquals(Arrays.<ServerInstance>asList(one), delta.changed);
+        assertNull(one.getFlag());
+        assertNull(one.getSuspendState());
+    }
+
+    @Test
+    public void suspendState() {
+        assertNull(TopologyModel.suspendState("RUNNING"));
+        assertNull(TopologyModel.suspendState(null));
+        assertEquals("PRE_SUSPEND", TopologyModel.suspendState("PRE_SUSPEND"));
+    }
+
+
+    // ------------------------------------------------------ helper methods
+
+    private TopologyModel.Delta apply(Map<String, String> serverStates, Map<String, String> suspendStates) {
+        return model.apply(hosts, groups, status, assignments, serverStates, suspendStates);
+    }
+
+    private Map<String, String> noStates() {
+        return new HashMap<String, String>();
+    }
+}
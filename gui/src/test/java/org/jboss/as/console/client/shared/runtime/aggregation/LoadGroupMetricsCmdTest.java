@@ -0,0 +1,126 @@
+package org.jboss.as.console.client.shared.runtime.aggregation;
+
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import org.jboss.dmr.client.ModelNode;
+import org.jboss.dmr.client.StaticDispatcher;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.jboss.dmr.client.ModelDescriptionConstants.*;
+import static org.junit.Assert.*;
+
+public class LoadGroupMetricsCmdTest {
+
+    private static final double DELTA = 0.0001;
+
+    private LoadGroupMetricsCmd cmd;
+
+    @Before
+    public void setUp() {
+        ModelNode resource = new ModelNode();
+        resource.add("subsystem", "datasources");
+        resource.add("data-source", "ExampleDS");
+        resource.add("statistics", "pool");
+        cmd = new LoadGroupMetricsCmd(null, "master", "server-one", resource,
+                Arrays.asList("ActiveCount", "WaitCount"));
+    }
+
+
+    // ------------------------------------------------------ test methods
+
+    @Test
+    public void operation() {
+        ModelNode operation = cmd.operation();
+        assertEquals(COMPOSITE, operation.get(OP).asString());
+
+        List<ModelNode> steps = operation.get(STEPS).asList();
+        assertEquals(2, steps.size());
+        assertEquals("group", steps.get(0).get(NAME).asString());
+        assertEquals("*", steps.get(0).get(ADDRESS).asList().get(1).asProperty().getValue().asString());
+
+        List<ModelNode> address = steps.get(1).get(ADDRESS).asList();
+        assertEquals(5, address.size());
+        assertEquals("server", address.get(1).asProperty().getName());
+        assertEquals("pool", address.get(4).asProperty().getValue().asString());
+        assertTrue(steps.get(1).get(INCLUDE_RUNTIME).asBoolean());
+    }
+
+    @Test
+    public void parseFiltersGroup() {
+        ModelNode result = new ModelNode();
+        group(result, "master", "server-one", "main-server-group");
+        group(result, "master", "server-two", "other-server-group");
+        group(result, "slave", "server-three", "main-server-group");
+        pool(result, "slave", "server-three", 7);
+        pool(result, "master", "server-one", 3);
+        pool(result, "master", "server-two", 100);
+
+        GroupMetrics metrics = cmd.parse(result);
+
+        assertEquals("main-server-group", metrics.getGroup());
+        assertEquals(2, metrics.getServers().size());
+        assertEquals("server-one", metrics.getServers().get(0).getServer());
+        assertEquals("server-three", metrics.getServers().get(1).getServer());
+        assertEquals(10, metrics.getStatistics("ActiveCount").getSum(), DELTA);
+        assertNull(metrics.getServers().get(0).get("WaitCount"));
+        assertEquals(0, metrics.getStatistics("WaitCount").getCount());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void unknownServer() {
+        ModelNode result = new ModelNode();
+        group(result, "master", "server-two", "other-server-group");
+        result.get("step-2").get(OUTCOME).set(SUCCESS);
+        result.get("step-2").get(RESULT).setEmptyList();
+        cmd.parse(result);
+    }
+
+    @Test
+    public void failureIsForwarded() {
+        StaticDispatcher dispatcher = new StaticDispatcher();
+        RuntimeException failure = new RuntimeException("network down");
+        dispatcher.setFailure(failure);
+        final Throwable[] caught = new Throwable[1];
+
+        new LoadGroupMetricsCmd(dispatcher, "master", "server-one", new ModelNode().setEmptyList(),
+                Arrays.asList("ActiveCount")).execute(new AsyncCallback<GroupMetrics>() {
+            @Override
+            public void onFailure(Throwable throwable) {
+                caught[0] = throwable;
+            }
+
+            @Override
+            public void onSuccess(GroupMetrics result) {
+                fail("Failure expected");
+            }
+        });
+        assertSame(failure, caught[0]);
+    }
+
+    private void group(ModelNode result, String host, String server, String group) {
+        ModelNode node = new ModelNode();
+        node.get(ADDRESS).add("host", host);
+        node.get(ADDRESS).add("server-config", server);
+        node.get(OUTCOME).set(SUCCESS);
+        node.get(RESULT).set(group);
+        result.get("step-1").get(OUTCOME).set(SUCCESS);
+        result.get("step-1").get(RESULT).add(node);
+    }
+
+    private void pool(ModelNode result, String host, String server, int active) {
+        ModelNode node = new ModelNode();
+        node.get(ADDRESS).add("host", host);
+        node.get(ADDRESS).add("server", server);
+        node.get(ADDRESS).add("subsystem", "datasources");
+        node.get(ADDRESS).add("data-source", "ExampleDS");
+        node.get(ADDRESS).add("statistics", "pool");
+        node.get(OUTCOME).set(SUCCESS);
+        node.get(RESULT).get("ActiveCount").set(active);
+        node.get(RESULT).get("WaitCount");
+        result.get("step-2").get(OUTCOME).set(SUCCESS);
+        result.get("step-2").get(RESULT).add(node);
+    }
+}
@@ -0,0 +1,30 @@
+package org.jboss.as.console.client.shared.runtime.aggregation;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MetricStatisticsTest {
+
+    private static final double DELTA = 0.0001;
+
+    @Test
+    public void statistics() {
+        MetricStatistics statistics = new MetricStatistics(new double[]{5, 1, 4, 2, 3, 50});
+
+        assertEquals(6, statistics.getCount());
+        assertEquals(65, statistics.getSum(), DELTA);
+        assertEquals(1, statistics.getMin(), DELTA);
+        assertEquals(50, statistics.getMax(), DELTA);
+        assertEquals(3, statistics.percentile(50), DELTA);
+        assertEquals(50, statistics.percentile(90), DELTA);
+        assertTrue(statistics.isOutlier(50));
+        assertFalse(statistics.isOutlier(5));
+    }
+
+    @Test
+    public void noOutliersForFewValues() {
+        MetricStatistics statistics = new MetricStatistics(new double[]{1, 2, 100});
+        assertFalse(statistics.isOutlier(100));
+    }
+}
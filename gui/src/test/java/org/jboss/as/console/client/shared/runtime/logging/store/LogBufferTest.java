@@ -0,0 +1,93 @@
+package org.jboss.as.console.client.shared.runtime.logging.store;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class LogBufferTest {
+
+    private LogBuffer buffer;
+
+    @Before
+    public void setUp() {
+        buffer = new LogBuffer(10);
+    }
+
+
+    // ------------------------------------------------------ test methods
+
+    @Test
+    public void mergeIntoEmpty() {
+        assertEquals(3, buffer.merge(lines(0, 3), 30));
+        assertEquals(3, buffer.size());
+        assertEquals(30, buffer.getFileSize());
+        assertEquals(lines(0, 3), buffer.fromTail(0, 3));
+    }
+
+    @Test
+    public void mergeOverlapping() {
+        buffer.merge(lines(0, 5), 50);
+        assertEquals(2, buffer.merge(lines(3, 7), 70));
+        assertEquals(7, buffer.size());
+        assertEquals(lines(0, 7), buffer.fromTail(0, 7));
+    }
+
+    @Test
+    public void mergeUnchanged() {
+        buffer.merge(lines(0, 5), 50);
+        assertEquals(0, buffer.merge(lines(2, 5), 50));
+        assertEquals(5, buffer.size());
+    }
+
+    @Test
+    public void mergeWithGap() {
+        buffer.merge(lines(0, 5), 50);
+        assertEquals(-1, buffer.merge(lines(8, 10), 100));
+        assertEquals(lines(8, 10), buffer.fromTail(0, 10));
+    }
+
+    @Test
+    public void mergeTruncated() {
+        buffer.merge(lines(0, 5), 50);
+        assertEquals(2, buffer.merge(lines(3, 5), 20));
+        assertEquals(lines(3, 5), buffer.fromTail(0, 10));
+    }
+
+    @Test
+    public void wrapAround() {
+        buffer.merge(lines(0, 8), 80);
+        buffer.merge(lines(6, 15), 150);
+        assertEquals(10, buffer.size());
+        assertEquals(lines(5, 15), buffer.fromTail(0, 10));
+        assertEquals(lines(8, 12), buffer.fromTail(3, 4));
+        assertTrue(buffer.contains(6, 4));
+        assertFalse(buffer.contains(7, 4));
+    }
+
+    @Test
+    public void linesToRead() {
+        // no lines yet: read a full page
+        assertEquals(25, buffer.linesToRead(100, 25, 5));
+
+        buffer.merge(lines(0, 10), 70); // "line N" has 6 characters + line separator
+        assertEquals(5, buffer.linesToRead(70, 5, 5));
+        assertEquals(7, buffer.linesToRead(84, 5, 5));
+        // never more than the capacity
+        assertEquals(10, buffer.linesToRead(7000, 5, 5));
+    }
+
+
+    // ------------------------------------------------------ helper methods
+
+    private List<String> lines(int from, int to) {
+        List<String> lines = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            lines.add("line " + i);
+        }
+        return lines;
+    }
+}
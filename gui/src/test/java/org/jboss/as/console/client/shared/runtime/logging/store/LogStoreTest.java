@@ -220,6 +220,61 @@ public class LogStoreTest {
         assertFalse(activeLogFile.isStale());
     }
 
+    @Test
+    public void navigatePrevNextInBuffer() {
+        LogFile logFile = new LogFile("server.log", lines(2), 42);
+        logFile.getBuffer().merge(lines(6), 42);
+        store.pageSize = 2;
+        store.states.put(logFile.getName(), logFile);
+        store.activate(logFile);
+
+        // Must not dispatch a DMR operation
+        store.navigate(new NavigateInLogFile(PREVIOUS), NoopChannel.INSTANCE);
+        assertNull(dispatcher.getLastOperation());
+
+        LogFile activeLogFile = store.getActiveLogFile();
+        assertLines(activeLogFile.getContent(), 2, 3);
+        assertFalse(activeLogFile.isTail());
+        assertEquals(Position.TAIL, activeLogFile.getReadFrom());
+        assertEquals(2, activeLogFile.getSkipped());
+
+        store.navigate(new NavigateInLogFile(NEXT), NoopChannel.INSTANCE);
+        assertNull(dispatcher.getLastOperation());
+
+        assertLines(activeLogFile.getContent(), 4, 5);
+        assertTrue(activeLogFile.isTail());
+        assertEquals(0, activeLogFile.getSkipped());
+    }
+
+    @Test
+    public void navigatePrevWithOutdatedBuffer() {
+        LogFile logFile = new LogFile("server.log", lines(2), 50);
+        logFile.getBuffer().merge(lines(6), 42);
+        store.pageSize = 2;
+        store.states.put(logFile.getName(), logFile);
+        store.activate(logFile);
+
+        // the log file has grown since the lines were buffered: must be read from the server
+        dispatcher.push(StaticDmrResponse.ok(comp(logFileNodes("server.log"), linesNode(2))));
+        store.navigate(new NavigateInLogFile(PREVIOUS), NoopChannel.INSTANCE);
+        assertNotNull(dispatcher.getLastOperation());
+    }
+
+    @Test
+    public void readLogFilesClearsOutdatedBuffer() {
+        LogFile logFile = new LogFile("server.log", lines(2), 10);
+        logFile.getBuffer().merge(lines(6), 10);
+        store.states.put(logFile.getName(), logFile);
+
+        ModelNode logFiles = new ModelNode();
+        logFiles.get("server.log").get("file-size").set(42);
+        dispatcher.push(StaticDmrResponse.ok(logFiles));
+        store.readLogFiles(NoopChannel.INSTANCE);
+
+        // "server.log" has grown to 42 bytes
+        assertTrue(logFile.getBuffer().isEmpty());
+    }
+
     @Test
     public void navigatePrevPrevNext() {
         LogFile logFile = new LogFile("server.log", lines(2), 0);
@@ -0,0 +1,88 @@
+package org.jboss.as.console.client.shared.runtime.naming;
+
+import org.jboss.dmr.client.ModelNode;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class JndiIndexTest {
+
+    private JndiIndex index;
+
+    @Before
+    public void setUp() {
+        ModelNode model = new ModelNode();
+        ModelNode java = model.get("java: contexts", "java:");
+        java.get("TransactionManager", "class-name").set("com.arjuna.ats.jbossatx.jta.TransactionManagerDelegate");
+        java.get("TransactionManager", "value").set("com.arjuna.ats.jbossatx.jta.TransactionManagerDelegate@1234");
+        java.get("jboss", "class-name").set("javax.naming.Context");
+        java.get("jboss", "children", "datasources", "class-name").set("javax.naming.Context");
+        java.get("jboss", "children", "datasources", "children", "ExampleDS", "class-name")
+                .set("org.jboss.jca.adapters.jdbc.WrapperDataSource");
+        ModelNode app = model.get("applications", "test.war");
+        app.get("java:module", "Foo", "class-name").set("java.lang.String");
+        app.get("java:module", "Foo", "value").set("bar");
+        index = new JndiIndex(model);
+    }
+
+
+    // ------------------------------------------------------ test methods
+
+    @Test
+    public void root() {
+        List<JndiEntry> roots = index.children(JndiIndex.ROOT);
+        assertEquals(2, roots.size());
+        assertEquals("java:", roots.get(0).getName());
+        assertEquals("applications", roots.get(1).getName());
+        assertEquals("", roots.get(1).getURI());
+        assertEquals(10, index.size());
+    }
+
+    @Test
+    public void childrenAreSkipped() {
+        JndiEntry java = index.children(JndiIndex.ROOT).get(0);
+        List<JndiEntry> children = index.children(java.getId());
+        assertEquals(2, children.size());
+
+        JndiEntry tm = children.get(0);
+        assertEquals("java:/TransactionManager", tm.getURI());
+        assertEquals("TransactionManagerDelegate@1234", tm.getValue());
+        assertTrue(index.isLeaf(tm.getId()));
+
+        JndiEntry jboss = children.get(1);
+        assertFalse(index.isLeaf(jboss.getId()));
+        JndiEntry datasources = index.children(jboss.getId()).get(0);
+        assertEquals("datasources", datasources.getName());
+        assertEquals("java:/jboss/datasources", datasources.getURI());
+    }
+
+    @Test
+    public void applicationUri() {
+        List<JndiEntry> hits = index.search("foo", 10);
+        assertEquals(1, hits.size());
+        assertEquals("java:module/Foo", hits.get(0).getURI());
+        assertEquals("bar", hits.get(0).getValue());
+    }
+
+    @Test
+    public void search() {
+        List<JndiEntry> hits = index.search("ExampleDS", 10);
+        assertEquals(1, hits.size());
+        JndiEntry ds = hits.get(0);
+        assertEquals("java:/jboss/datasources/ExampleDS", ds.getURI());
+
+        List<Integer> path = index.path(ds.getId());
+        assertEquals(4, path.size());
+        assertEquals(ds.getId(), (int) path.get(3));
+        assertEquals(path.get(2).intValue(), index.getParent(ds.getId()));
+        assertEquals(0, index.indexOf(path.get(2), ds.getId()));
+        assertEquals(1, index.indexOf(JndiIndex.ROOT, index.children(JndiIndex.ROOT).get(1).getId()));
+        assertEquals(-1, index.indexOf(JndiIndex.ROOT, ds.getId()));
+
+        assertEquals(1, index.search("java:/jboss", 1).size());
+        assertTrue(index.search(" ", 10).isEmpty());
+    }
+}
@@ -0,0 +1,123 @@
+package org.jboss.as.console.client.shared.runtime.sampling;
+
+import org.jboss.dmr.client.ModelNode;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.jboss.dmr.client.ModelDescriptionConstants.*;
+import static org.junit.Assert.*;
+
+public class MetricSamplerTest {
+
+    private static final double DELTA = 0.0001;
+
+    private MetricSampler sampler;
+    private ModelNode pool;
+    private ModelNode memory;
+
+    @Before
+    public void setUp() {
+        sampler = new MetricSampler(null, 10, MetricSampler.DEFAULT_INTERVAL);
+
+        pool = new ModelNode();
+        pool.add("subsystem", "datasources");
+        pool.add("data-source", "ExampleDS");
+        pool.add("statistics", "pool");
+
+        memory = new ModelNode();
+        memory.add("core-service", "platform-mbean");
+        memory.add("type", "memory");
+    }
+
+
+    // ------------------------------------------------------ test methods
+
+    @Test
+    public void oneStepPerAddress() {
+        sampler.register(pool, "ActiveCount", "Active");
+        sampler.register(pool, "InUseCount", "In Use");
+        sampler.register(memory, "heap-memory-usage.used", "Heap Used");
+
+        ModelNode operation = sampler.operation();
+        assertEquals(COMPOSITE, operation.get(OP).asString());
+        List<ModelNode> steps = operation.get(STEPS).asList();
+        assertEquals(2, steps.size());
+        assertEquals(pool, steps.get(0).get(ADDRESS));
+        assertEquals(READ_RESOURCE_OPERATION, steps.get(0).get(OP).asString());
+        assertTrue(steps.get(0).get(INCLUDE_RUNTIME).asBoolean());
+        assertEquals(memory, steps.get(1).get(ADDRESS));
+    }
+
+    @Test
+    public void registerTwice() {
+        MetricSeries first = sampler.register(pool, "ActiveCount", "Active");
+        MetricSeries second = sampler.register(pool, "ActiveCount", "Active");
+        assertSame(first, second);
+        assertEquals(1, sampler.getSeries().size());
+        assertTrue(sampler.samples(pool));
+        assertFalse(sampler.samples(memory));
+    }
+
+    @Test
+    public void process() {
+        MetricSeries active = sampler.register(pool, "ActiveCount", "Active");
+        MetricSeries heap = sampler.register(memory, "heap-memory-usage.used", "Heap Used");
+
+        final int[] notified = {0};
+        sampler.addListener(new MetricSampler.Listener() {
+            @Override
+            public void onSample(List<MetricSeries> series) {
+                notified[0]++;
+            }
+        });
+
+        sampler.process(response(3, 1024), 1000);
+        sampler.process(response(5, 2048), 2000);
+
+        assertEquals(2, notified[0]);
+        assertEquals(2, active.getBuffer().size());
+        assertEquals(5, active.getBuffer().latest(), DELTA);
+        assertEquals(2, active.getBuffer().rate(), DELTA);
+        assertEquals(2048, heap.getBuffer().latest(), DELTA);
+    }
+
+    @Test
+    public void skipFailedStep() {
+        MetricSeries active = sampler.register(pool, "ActiveCount", "Active");
+        MetricSeries heap = sampler.register(memory, "heap-memory-usage.used", "Heap Used");
+
+        ModelNode response = response(3, 1024);
+        ModelNode step = response.get(RESULT).get("step-1");
+        step.get(OUTCOME).set(FAILED);
+        step.get(FAILURE_DESCRIPTION).set("not found");
+        step.remove(RESULT);
+        sampler.process(response, 1000);
+
+        assertTrue(active.getBuffer().isEmpty());
+        assertEquals(1, heap.getBuffer().size());
+    }
+
+    @Test
+    public void skipUndefinedAttribute() {
+        MetricSeries waiting = sampler.register(pool, "WaitCount", "Waiting");
+        sampler.process(response(3, 1024), 1000);
+        assertTrue(waiting.getBuffer().isEmpty());
+    }
+
+    private ModelNode response(int active, long heap) {
+        ModelNode response = new ModelNode();
+        response.get(OUTCOME).set(SUCCESS);
+
+        ModelNode step1 = response.get(RESULT).get("step-1");
+        step1.get(OUTCOME).set(SUCCESS);
+        step1.get(RESULT).get("ActiveCount").set(active);
+        step1.get(RESULT).get("WaitCount");
+
+        ModelNode step2 = response.get(RESULT).get("step-2");
+        step2.get(OUTCOME).set(SUCCESS);
+        step2.get(RESULT).get("heap-memory-usage").get("used").set(heap);
+        return response;
+    }
+}
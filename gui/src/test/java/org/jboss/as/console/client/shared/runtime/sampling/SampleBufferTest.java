@@ -0,0 +1,86 @@
+package org.jboss.as.console.client.shared.runtime.sampling;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SampleBufferTest {
+
+    private static final double DELTA = 0.0001;
+
+    private SampleBuffer buffer;
+
+    @Before
+    public void setUp() {
+        buffer = new SampleBuffer(4);
+    }
+
+
+    // ------------------------------------------------------ test methods
+
+    @Test
+    public void empty() {
+        assertTrue(buffer.isEmpty());
+        assertEquals(0, buffer.size());
+        assertEquals(0, buffer.rate(), DELTA);
+        assertEquals(0, buffer.avgRate(), DELTA);
+    }
+
+    @Test
+    public void addBelowCapacity() {
+        buffer.add(1000, 1);
+        buffer.add(2000, 5);
+        buffer.add(3000, 3);
+
+        assertEquals(3, buffer.size());
+        assertEquals(1, buffer.value(0), DELTA);
+        assertEquals(3, buffer.latest(), DELTA);
+        assertEquals(1, buffer.min(), DELTA);
+        assertEquals(5, buffer.max(), DELTA);
+        assertEquals(3, buffer.avg(), DELTA);
+    }
+
+    @Test
+    public void overwriteOldest() {
+        for (int i = 1; i <= 6; i++) {
+            buffer.add(i * 1000, i);
+        }
+
+        assertEquals(4, buffer.size());
+        assertEquals(3, buffer.value(0), DELTA);
+        assertEquals(3000, buffer.timestamp(0), DELTA);
+        assertEquals(6, buffer.latest(), DELTA);
+        assertEquals(3, buffer.min(), DELTA);
+        assertEquals(6, buffer.max(), DELTA);
+        assertEquals(4.5, buffer.avg(), DELTA);
+    }
+
+    @Test
+    public void rate() {
+        buffer.add(0, 100);
+        buffer.add(2000, 110);
+        buffer.add(2500, 120);
+
+        assertEquals(20, buffer.rate(), DELTA);
+        assertEquals(8, buffer.avgRate(), DELTA);
+    }
+
+    @Test
+    public void clear() {
+        buffer.add(1000, 1);
+        buffer.add(2000, 2);
+        buffer.clear();
+
+        assertTrue(buffer.isEmpty());
+        buffer.add(3000, 3);
+        assertEquals(1, buffer.size());
+        assertEquals(3, buffer.value(0), DELTA);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void outOfBounds() {
+        buffer.add(1000, 1);
+        buffer.value(1);
+    }
+}
@@ -0,0 +1,94 @@
+package org.jboss.as.console.client.widgets.tables;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FilterIndexTest {
+
+    private static final List<String> NAMES = asList("test.war", "Hello.WAR", "app.ear", "testsuite.jar", "other.jar");
+
+    private int checks;
+    private FilterIndex<String> index;
+
+    @Before
+    public void setUp() {
+        checks = 0;
+        index = new FilterIndex<String>(new DataProviderFilter.TextPredicate<String>() {
+            @Override
+            public String text(String candidate) {
+                checks++;
+                return candidate;
+            }
+        });
+        index.reset(NAMES);
+        checks = 0;
+    }
+
+    @Test
+    public void empty() {
+        assertEquals(NAMES, index.filter(""));
+        assertEquals(NAMES, index.filter(null));
+    }
+
+    @Test
+    public void matchesIgnoringCase() {
+        assertEquals(asList("test.war", "Hello.WAR"), index.filter("war"));
+        assertEquals(asList("test.war", "testsuite.jar"), index.filter("TEST"));
+        assertEquals(asList("test.war", "Hello.WAR", "app.ear", "testsuite.jar", "other.jar"), index.filter("."));
+    }
+
+    @Test
+    public void noMatch() {
+        assertTrue(index.filter("xyz").isEmpty());
+        assertEquals(0, checks);
+    }
+
+    @Test
+    public void indexNarrowsCandidates() {
+        assertEquals(asList("app.ear"), index.filter("app"));
+        assertEquals(1, checks);
+    }
+
+    @Test
+    public void extendedQueryNarrowsPreviousResult() {
+        assertEquals(asList("test.war", "testsuite.jar"), index.filter("te"));
+        checks = 0;
+        assertEquals(asList("testsuite.jar"), index.filter("tests"));
+        assertEquals(2, checks);
+    }
+
+    @Test
+    public void shorterQueryStartsOver() {
+        index.filter("testsuite");
+        assertEquals(asList("test.war", "testsuite.jar"), index.filter("test"));
+    }
+
+    @Test
+    public void reset() {
+        index.filter("war");
+        List<String> names = new ArrayList<String>(NAMES);
+        names.add("another.war");
+        index.reset(names);
+        assertEquals(asList("test.war", "Hello.WAR", "another.war"), index.filter("war"));
+    }
+
+    @Test
+    public void plainPredicate() {
+        FilterIndex<String> plain = new FilterIndex<String>(new DataProviderFilter.Predicate<String>() {
+            @Override
+            public boolean apply(String prefix, String candiate) {
+                return candiate.startsWith(prefix);
+            }
+        });
+        plain.reset(NAMES);
+        assertEquals(asList("test.war", "testsuite.jar"), plain.filter("test"));
+        assertEquals(asList("testsuite.jar"), plain.filter("tests"));
+    }
+}